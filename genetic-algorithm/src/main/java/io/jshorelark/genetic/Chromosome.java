@@ -6,12 +6,14 @@
  */
 package io.jshorelark.genetic;
 
+import java.nio.FloatBuffer;
 import java.util.Arrays;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.speciation.GenomeDistance;
 
 /**
  * A chromosome containing genes.
@@ -35,11 +37,10 @@ public class Chromosome {
    * @return a {@link io.jshorelark.genetic.Chromosome} object
    */
   public static Chromosome fromStream(Stream<Float> genes) {
-    final var list = genes.mapToDouble(Float::doubleValue).toArray();
-    float[] result = new float[list.length];
-    int i = 0;
-    for (final var f : list) {
-      result[i++] = (float) f;
+    final var boxed = genes.toArray(Float[]::new);
+    final float[] result = new float[boxed.length];
+    for (int i = 0; i < boxed.length; i++) {
+      result[i] = boxed[i];
     }
     return new Chromosome(result);
   }
@@ -92,7 +93,8 @@ public class Chromosome {
   }
 
   /**
-   * Returns a stream of genes.
+   * Returns a stream of genes. Every gene is boxed; prefer {@link #forEach}, {@link #reduce} or
+   * {@link #copyInto} on hot paths.
    *
    * @return a {@link java.util.stream.Stream} object
    */
@@ -100,6 +102,76 @@ public class Chromosome {
     return IntStream.range(0, genes.length).mapToObj(i -> genes[i]);
   }
 
+  /**
+   * Calls the action with every gene and its index, in order.
+   *
+   * @param action the action
+   */
+  public void forEach(GeneConsumer action) {
+    for (int i = 0; i < genes.length; i++) {
+      action.accept(i, genes[i]);
+    }
+  }
+
+  /**
+   * Folds the genes into a single value, in order.
+   *
+   * @param identity the initial value
+   * @param operator combines the value so far with the next gene
+   * @return the folded value, {@code identity} if the chromosome is empty
+   */
+  public float reduce(float identity, GeneOperator operator) {
+    float result = identity;
+    for (final float gene : genes) {
+      result = operator.apply(result, gene);
+    }
+    return result;
+  }
+
+  /**
+   * Sums the genes.
+   *
+   * @return a float
+   */
+  public float sum() {
+    float sum = 0;
+    for (final float gene : genes) {
+      sum += gene;
+    }
+    return sum;
+  }
+
+  /**
+   * Copies the genes into an array.
+   *
+   * @param target the array to copy into
+   * @param offset index in the target of the first gene
+   * @throws java.lang.IndexOutOfBoundsException if the genes don't fit in the target at offset
+   */
+  public void copyInto(float[] target, int offset) {
+    System.arraycopy(genes, 0, target, offset, genes.length);
+  }
+
+  /**
+   * Computes the squared Euclidean distance to another chromosome, without copying either.
+   *
+   * @param other a chromosome of the same length
+   * @return a float
+   * @throws java.lang.IllegalArgumentException if the lengths differ
+   */
+  public float squaredDistance(Chromosome other) {
+    return GenomeDistance.squared(genes, other.genes);
+  }
+
+  /**
+   * Returns a read-only view of the genes, without copying them.
+   *
+   * @return a {@link java.nio.FloatBuffer} object positioned at the first gene
+   */
+  public FloatBuffer asBuffer() {
+    return FloatBuffer.wrap(genes).asReadOnlyBuffer();
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean equals(Object obj) {
@@ -128,6 +200,28 @@ public class Chromosome {
     return Arrays.hashCode(genes);
   }
 
+  /**
+   * Returns a 64-bit hash of the exact gene bits. Unlike {@link #equals(Object)}, which tolerates
+   * tiny differences, two chromosomes only share a content hash when their genes are bit-for-bit
+   * identical (modulo hash collisions).
+   *
+   * @return a long
+   */
+  public long contentHash() {
+    // FNV-1a over the raw gene words, finished with the MurmurHash3 avalanche step
+    long hash = 0xCBF29CE484222325L;
+    for (final float gene : genes) {
+      hash ^= Float.floatToIntBits(gene) & 0xFFFFFFFFL;
+      hash *= 0x100000001B3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
   /**
    * Mutates this chromosome using the given mutation method.
    *
@@ -135,7 +229,7 @@ public class Chromosome {
    * @param random the random number generator to use
    * @return the mutated chromosome
    */
-  public Chromosome mutate(final MutationMethod mutationMethod, final Random random) {
+  public Chromosome mutate(final MutationMethod mutationMethod, final RandomGenerator random) {
     mutationMethod.mutate(random, this.genes);
     return this;
   }
@@ -149,4 +243,29 @@ public class Chromosome {
     float[] result = Arrays.copyOf(genes, genes.length);
     return result;
   }
+
+  /** Receives genes without boxing them. */
+  @FunctionalInterface
+  public interface GeneConsumer {
+    /**
+     * Accepts a gene.
+     *
+     * @param index the gene's index
+     * @param gene the gene
+     */
+    void accept(int index, float gene);
+  }
+
+  /** Combines a running value with a gene without boxing either. */
+  @FunctionalInterface
+  public interface GeneOperator {
+    /**
+     * Combines the value so far with the next gene.
+     *
+     * @param value the value so far
+     * @param gene the next gene
+     * @return the combined value
+     */
+    float apply(float value, float gene);
+  }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Produces the next population from an evaluated one.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface EvolutionEngine<I extends Individual> {
+  /**
+   * Evolves a population of individuals.
+   *
+   * @param random random number generator
+   * @param population current, evaluated population
+   * @return pair of the next population and statistics about the current one
+   * @throws java.lang.IllegalArgumentException if the population is empty
+   */
+  Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population);
+}
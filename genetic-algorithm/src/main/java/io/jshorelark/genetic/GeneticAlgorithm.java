@@ -6,25 +6,43 @@
  */
 package io.jshorelark.genetic;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import io.jshorelark.genetic.checkpoint.Checkpointable;
+import io.jshorelark.genetic.checkpoint.IndividualCodec;
 import io.jshorelark.genetic.crossover.CrossoverMethod;
+import io.jshorelark.genetic.evaluation.FitnessEvaluator;
+import io.jshorelark.genetic.lineage.Lineage;
+import io.jshorelark.genetic.mutation.AdaptiveMutation;
 import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.replacement.ReplacementStrategy;
+import io.jshorelark.genetic.selection.Elites;
 import io.jshorelark.genetic.selection.SelectionMethod;
 import io.jshorelark.genetic.statistics.Statistics;
+import io.jshorelark.genetic.surrogate.SurrogateFilter;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Genetic algorithm implementation.
  *
+ * <p>Its checkpointed state covers the survivors kept by a replacement strategy, an adaptive
+ * mutation's parameters and a surrogate's archive; a lineage is a file of its own and isn't part of
+ * it.
+ *
  * @author Jose
  * @version $Id: $Id
  */
 @RequiredArgsConstructor
-public class GeneticAlgorithm<I extends Individual> {
+public class GeneticAlgorithm<I extends Individual>
+    implements EvolutionEngine<I>, Checkpointable<I> {
   /** Selection method. */
   private final SelectionMethod selectionMethod;
 
@@ -37,8 +55,29 @@ public class GeneticAlgorithm<I extends Individual> {
   /** Factory for creating new individuals. */
   private final Individual.Factory<I> factory;
 
+  /** Evaluates each bred generation as a batch. */
+  private final FitnessEvaluator<I> evaluator;
+
+  /** Records how each generation was bred, or null. */
+  private final Lineage lineage;
+
+  /** Discards unpromising offspring before evaluation, or null. */
+  private final SurrogateFilter surrogate;
+
+  /** Number of fittest individuals carried over unchanged into each generation. */
+  private final int elites;
+
+  /** Chooses which individuals breed the next generation, or null to breed from all of them. */
+  private final ReplacementStrategy replacement;
+
+  /** Number of survivors kept by the replacement strategy. */
+  private final int survivors;
+
+  /** Survivors of the previous generation, guarded by this algorithm's lock. */
+  private List<I> parents = List.of();
+
   /**
-   * Creates a new genetic algorithm.
+   * Creates a new genetic algorithm that evaluates offspring sequentially.
    *
    * @param selectionMethod selection method
    * @param crossoverMethod crossover method
@@ -52,38 +91,378 @@ public class GeneticAlgorithm<I extends Individual> {
       CrossoverMethod crossoverMethod,
       MutationMethod mutationMethod,
       Individual.Factory<I> factory) {
-    return new GeneticAlgorithm<>(selectionMethod, crossoverMethod, mutationMethod, factory);
+    return create(
+        selectionMethod, crossoverMethod, mutationMethod, factory, FitnessEvaluator.sequential());
+  }
+
+  /**
+   * Creates a new genetic algorithm. The whole next generation is bred first and then handed to the
+   * evaluator as one batch, so parallel evaluators see every offspring at once.
+   *
+   * @param selectionMethod selection method
+   * @param crossoverMethod crossover method
+   * @param mutationMethod mutation method
+   * @param factory factory for creating new individuals
+   * @param evaluator evaluates each bred generation
+   * @return new genetic algorithm
+   * @param <I> a I class
+   */
+  public static <I extends Individual> GeneticAlgorithm<I> create(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      FitnessEvaluator<I> evaluator) {
+    return new GeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        evaluator,
+        null,
+        null,
+        0,
+        null,
+        0);
   }
 
   /**
-   * Evolves a population of individuals.
+   * Returns a copy of this algorithm that appends a record to the lineage for every generation it
+   * breeds. Parents are identified by their position in the population passed to {@link #evolve}.
    *
-   * @param random random number generator
-   * @param population current population
-   * @return pair of evolved population and statistics
+   * @param lineage the lineage to record into
+   * @return a new genetic algorithm
    */
+  public GeneticAlgorithm<I> withLineage(Lineage lineage) {
+    return new GeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        evaluator,
+        lineage,
+        surrogate,
+        elites,
+        replacement,
+        survivors);
+  }
+
+  /**
+   * Returns a copy of this algorithm that breeds more offspring than it needs and lets the filter
+   * pick the ones worth evaluating. Each population passed to {@link #evolve} is observed by the
+   * filter first, training its surrogate.
+   *
+   * @param surrogate the filter screening offspring
+   * @return a new genetic algorithm
+   */
+  public GeneticAlgorithm<I> withSurrogate(SurrogateFilter surrogate) {
+    return new GeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        evaluator,
+        lineage,
+        surrogate,
+        elites,
+        replacement,
+        survivors);
+  }
+
+  /**
+   * Gets the filter screening offspring.
+   *
+   * @return the filter, null if offspring aren't screened
+   */
+  public SurrogateFilter getSurrogate() {
+    return surrogate;
+  }
+
+  /**
+   * Returns whether this algorithm carries state from one generation to the next: survivors of a
+   * replacement strategy, an adaptive mutation or a surrogate. A stateful algorithm, and any copy
+   * of it sharing the same mutation or surrogate, must only evolve a single run.
+   *
+   * @return a boolean
+   */
+  public boolean isStateful() {
+    return replacement != null || mutationMethod instanceof AdaptiveMutation || surrogate != null;
+  }
+
+  /**
+   * Returns a copy of this algorithm that carries the fittest individuals of each population over
+   * into the next one. They are found by partial selection and passed on by reference, so they keep
+   * their chromosome, any state built from it and their fitness; the rest of the generation is bred
+   * as usual.
+   *
+   * @param elites number of individuals carried over, capped at the population size
+   * @return a new genetic algorithm
+   * @throws java.lang.IllegalArgumentException if elites is negative
+   */
+  public GeneticAlgorithm<I> withElitism(int elites) {
+    if (elites < 0) {
+      throw new IllegalArgumentException("Number of elites cannot be negative");
+    }
+    return new GeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        evaluator,
+        lineage,
+        surrogate,
+        elites,
+        replacement,
+        survivors);
+  }
+
+  /**
+   * Returns a copy of this algorithm that breeds from {@code survivors} parents chosen by the
+   * replacement strategy, turning it into a {@code (μ+λ)} or {@code (μ,λ)} evolution strategy with
+   * {@code μ = survivors} and {@code λ} the size of the populations passed to {@link #evolve}. The
+   * previous survivors are kept between generations and swapped under a lock, so concurrent calls
+   * can't tear them, but a copy must still only evolve a single run. With a lineage, parents are
+   * identified by their position among the survivors.
+   *
+   * @param replacement chooses the survivors
+   * @param survivors number of survivors
+   * @return a new genetic algorithm
+   * @throws java.lang.IllegalArgumentException if survivors is less than 1
+   */
+  public GeneticAlgorithm<I> withReplacement(ReplacementStrategy replacement, int survivors) {
+    if (survivors < 1) {
+      throw new IllegalArgumentException("Number of survivors must be at least 1");
+    }
+    return new GeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        evaluator,
+        lineage,
+        surrogate,
+        elites,
+        replacement,
+        survivors);
+  }
+
+  /** {@inheritDoc} */
+  @Override
   @SuppressWarnings("unchecked")
-  public Pair<List<I>, Statistics> evolve(Random random, List<I> population) {
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
     if (population.isEmpty()) {
       throw new IllegalArgumentException("Population cannot be empty");
     }
 
-    var newPopulation = new ArrayList<I>();
+    final var adaptive = mutationMethod instanceof AdaptiveMutation adaptation ? adaptation : null;
+    if (adaptive != null) {
+      adaptive.adapt(population);
+    }
+
+    if (surrogate != null) {
+      surrogate.observe(population);
+    }
 
-    // Create new individuals
-    for (int i = 0; i < population.size(); i++) {
+    // Choose who breeds
+    final List<I> breeders = replacement == null ? population : replace(population);
+
+    final int[] elite = Elites.top(fitness(breeders), Math.min(elites, breeders.size()));
+    final int bred = Math.max(0, population.size() - elite.length);
+    final int candidates = surrogate == null ? bred : surrogate.candidates(bred);
+    var children = new ArrayList<Chromosome>(candidates);
+    var record = lineage == null ? null : new LineageRecord(breeders, candidates);
+    var parentFitness = adaptive == null ? null : new float[candidates];
+
+    // Breed the next generation
+    final var selection = selectionMethod.prepare(breeders);
+    for (int i = 0; i < candidates; i++) {
       // Select parents
-      var parentA = selectionMethod.select(random, population).getChromosome();
-      var parentB = selectionMethod.select(random, population).getChromosome();
+      var selectedA = selection.select(random, breeders);
+      var selectedB = selection.select(random, breeders);
+      var parentA = selectedA.getChromosome();
+      var parentB = selectedB.getChromosome();
+      if (parentFitness != null) {
+        parentFitness[i] = Math.max(selectedA.getFitness(), selectedB.getFitness());
+      }
 
       // Create child through crossover and mutation
       var child = crossoverMethod.crossover(random, parentA, parentB);
-      var mutated = child.mutate(mutationMethod, random);
+      if (record == null) {
+        children.add(child.mutate(mutationMethod, random));
+      } else {
+        var crossed = child.toArray();
+        children.add(child.mutate(mutationMethod, random));
+        record.add(i, selectedA, selectedB, parentA, crossed, child);
+      }
+    }
+    if (surrogate != null) {
+      // Keep only the offspring the surrogate expects to do best
+      final int[] kept = surrogate.screen(children, bred);
+      var screened = new ArrayList<Chromosome>(kept.length);
+      for (final int index : kept) {
+        screened.add(children.get(index));
+      }
+      children = screened;
+      if (record != null) {
+        record.retain(kept);
+      }
+      if (parentFitness != null) {
+        final float[] candidateFitness = parentFitness;
+        parentFitness = new float[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+          parentFitness[i] = candidateFitness[kept[i]];
+        }
+      }
+    }
+    if (adaptive != null) {
+      // Elites lead the next population and weren't bred
+      final float[] targets = new float[elite.length + parentFitness.length];
+      Arrays.fill(targets, 0, elite.length, Float.NaN);
+      System.arraycopy(parentFitness, 0, targets, elite.length, parentFitness.length);
+      adaptive.bred(targets);
+    }
+    if (record != null) {
+      record.prependElites(elite);
+      lineage.append(record.firstParents, record.secondParents, record.points, record.mutations);
+    }
 
-      // Create new individual using the factory
-      newPopulation.add(factory.create(mutated));
+    // Evaluate it as one batch, behind the elites
+    var next = new ArrayList<I>(population.size());
+    for (final int index : elite) {
+      next.add(breeders.get(index));
     }
+    next.addAll(evaluator.evaluate(children, factory));
+    return new Pair<>(next, Statistics.of(population));
+  }
+
+  /** Replaces the previous survivors with the ones chosen from them and the given offspring. */
+  private synchronized List<I> replace(List<I> offspring) {
+    parents = List.copyOf(replacement.replace(parents, offspring, survivors));
+    return parents;
+  }
 
-    return new Pair<>(newPopulation, Statistics.of(population));
+  /** {@inheritDoc} */
+  @Override
+  public void writeState(DataOutput out, IndividualCodec<I> codec) throws IOException {
+    final List<I> survivors;
+    synchronized (this) {
+      survivors = parents;
+    }
+    out.writeInt(survivors.size());
+    for (final var survivor : survivors) {
+      codec.write(out, survivor);
+    }
+    if (mutationMethod instanceof AdaptiveMutation adaptive) {
+      adaptive.writeState(out);
+    }
+    if (surrogate != null) {
+      surrogate.writeState(out);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void readState(DataInput in, IndividualCodec<I> codec) throws IOException {
+    final int count = in.readInt();
+    final var survivors = new ArrayList<I>(count);
+    for (int i = 0; i < count; i++) {
+      survivors.add(codec.read(in));
+    }
+    synchronized (this) {
+      parents = List.copyOf(survivors);
+    }
+    if (mutationMethod instanceof AdaptiveMutation adaptive) {
+      adaptive.readState(in);
+    }
+    if (surrogate != null) {
+      surrogate.readState(in);
+    }
+  }
+
+  private static float[] fitness(List<? extends Individual> population) {
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < fitness.length; i++) {
+      fitness[i] = population.get(i).getFitness();
+    }
+    return fitness;
+  }
+
+  /** Lineage columns of the generation being bred. */
+  private static final class LineageRecord {
+    private final IdentityHashMap<Individual, Integer> indices = new IdentityHashMap<>();
+    private int[] firstParents;
+    private int[] secondParents;
+    private int[] points;
+    private int[] mutations;
+
+    LineageRecord(List<? extends Individual> population, int children) {
+      for (int i = 0; i < population.size(); i++) {
+        indices.putIfAbsent(population.get(i), i);
+      }
+      firstParents = new int[children];
+      secondParents = new int[children];
+      points = new int[children];
+      mutations = new int[children];
+    }
+
+    /** Drops the records of children that were not kept. */
+    void retain(int[] kept) {
+      firstParents = select(firstParents, kept);
+      secondParents = select(secondParents, kept);
+      points = select(points, kept);
+      mutations = select(mutations, kept);
+    }
+
+    /** Records elites as unchanged copies of themselves ahead of the bred children. */
+    void prependElites(int[] elite) {
+      if (elite.length == 0) {
+        return;
+      }
+      final int[] none = new int[elite.length];
+      Arrays.fill(none, -1);
+      firstParents = concat(elite, firstParents);
+      secondParents = concat(elite, secondParents);
+      points = concat(none, points);
+      mutations = concat(new int[elite.length], mutations);
+    }
+
+    private static int[] concat(int[] head, int[] tail) {
+      final int[] joined = Arrays.copyOf(head, head.length + tail.length);
+      System.arraycopy(tail, 0, joined, head.length, tail.length);
+      return joined;
+    }
+
+    private static int[] select(int[] column, int[] kept) {
+      final int[] selected = new int[kept.length];
+      for (int i = 0; i < kept.length; i++) {
+        selected[i] = column[kept[i]];
+      }
+      return selected;
+    }
+
+    void add(
+        int child,
+        Individual selectedA,
+        Individual selectedB,
+        Chromosome parentA,
+        float[] crossed,
+        Chromosome mutated) {
+      firstParents[child] = indices.getOrDefault(selectedA, Lineage.UNKNOWN_PARENT);
+      secondParents[child] = indices.getOrDefault(selectedB, Lineage.UNKNOWN_PARENT);
+      points[child] = -1;
+      for (int g = 0; g < crossed.length; g++) {
+        if (Float.floatToIntBits(crossed[g]) != Float.floatToIntBits(parentA.get(g))) {
+          points[child] = g;
+          break;
+        }
+      }
+      int changed = 0;
+      for (int g = 0; g < crossed.length; g++) {
+        if (Float.floatToIntBits(crossed[g]) != Float.floatToIntBits(mutated.get(g))) {
+          changed++;
+        }
+      }
+      mutations[child] = changed;
+    }
   }
 }
@@ -27,6 +27,16 @@ public interface Individual {
    */
   float getFitness();
 
+  /**
+   * Returns the individual's objectives for multi-objective optimization, all of them maximized.
+   * Single-objective individuals need not override this.
+   *
+   * @return the objective values, never empty; callers must not modify the array
+   */
+  default float[] getObjectives() {
+    return new float[] {getFitness()};
+  }
+
   /** Factory for creating individuals. */
   interface Factory<I extends Individual> {
     /** Creates a new individual from a chromosome. */
@@ -44,7 +44,7 @@ public class TestIndividual implements Individual {
    * @return a {@link io.jshorelark.genetic.Individual} object
    */
   public static Individual create(Chromosome chromosome) {
-    return new TestIndividual(chromosome, chromosome.stream().reduce(0f, Float::sum));
+    return new TestIndividual(chromosome, chromosome.sum());
   }
 
   /** {@inheritDoc} */
@@ -56,6 +56,6 @@ public class TestIndividual implements Individual {
   /** {@inheritDoc} */
   @Override
   public float getFitness() {
-    return chromosome.stream().reduce(0f, Float::sum);
+    return chromosome.sum();
   }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+
+import lombok.Value;
+
+/**
+ * Snapshot of an evolution run: the population's genes and fitness, the generation counter, the
+ * state of the random number generator driving the run and, optionally, an opaque section holding
+ * whatever else the run needs to resume exactly, such as its engine's state.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Value
+public class Checkpoint {
+  /** The generation the snapshot was taken at. */
+  long generation;
+
+  /** Chromosomes of the population, all of the same length. */
+  List<Chromosome> chromosomes;
+
+  /** Fitness of each individual, in population order. */
+  float[] fitness;
+
+  /** State of the random number generator, empty if it wasn't captured. */
+  long[] randomState;
+
+  /** Further state of the run, empty if there is none. */
+  byte[] state;
+
+  /**
+   * Creates a new checkpoint without further state.
+   *
+   * @param generation the generation the snapshot was taken at
+   * @param chromosomes chromosomes of the population
+   * @param fitness fitness of each individual
+   * @param randomState state of the random number generator
+   * @throws java.lang.IllegalArgumentException if fitness and chromosomes differ in size, or the
+   *     chromosomes differ in length
+   */
+  public Checkpoint(
+      long generation, List<Chromosome> chromosomes, float[] fitness, long[] randomState) {
+    this(generation, chromosomes, fitness, randomState, new byte[0]);
+  }
+
+  /**
+   * Creates a new checkpoint.
+   *
+   * @param generation the generation the snapshot was taken at
+   * @param chromosomes chromosomes of the population
+   * @param fitness fitness of each individual
+   * @param randomState state of the random number generator
+   * @param state further state of the run
+   * @throws java.lang.IllegalArgumentException if fitness and chromosomes differ in size, or the
+   *     chromosomes differ in length
+   */
+  public Checkpoint(
+      long generation,
+      List<Chromosome> chromosomes,
+      float[] fitness,
+      long[] randomState,
+      byte[] state) {
+    if (chromosomes.size() != fitness.length) {
+      throw new IllegalArgumentException("Expected one fitness value per chromosome");
+    }
+    if (chromosomes.stream().mapToInt(Chromosome::length).distinct().count() > 1) {
+      throw new IllegalArgumentException("Chromosomes must all have the same length");
+    }
+    this.generation = generation;
+    this.chromosomes = List.copyOf(chromosomes);
+    this.fitness = fitness.clone();
+    this.randomState = randomState.clone();
+    this.state = state.clone();
+  }
+
+  /**
+   * Takes a snapshot of a population.
+   *
+   * @param generation the current generation
+   * @param population the current population
+   * @param randomState state of the random number generator
+   * @param <I> type of individuals in the population
+   * @return a new checkpoint
+   */
+  public static <I extends Individual> Checkpoint of(
+      long generation, List<I> population, long... randomState) {
+    final var chromosomes = new ArrayList<Chromosome>(population.size());
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < population.size(); i++) {
+      // Chromosomes can be mutated in place, so snapshot the genes
+      chromosomes.add(Chromosome.of(population.get(i).getChromosome().getGenes()));
+      fitness[i] = population.get(i).getFitness();
+    }
+    return new Checkpoint(generation, chromosomes, fitness, randomState);
+  }
+
+  /**
+   * Gets the fitness of each individual.
+   *
+   * @return a copy of the fitness values
+   */
+  public float[] getFitness() {
+    return fitness.clone();
+  }
+
+  /**
+   * Gets the state of the random number generator.
+   *
+   * @return a copy of the state
+   */
+  public long[] getRandomState() {
+    return randomState.clone();
+  }
+
+  /**
+   * Gets the further state of the run.
+   *
+   * @return a copy of the state, empty if there is none
+   */
+  public byte[] getState() {
+    return state.clone();
+  }
+
+  /**
+   * Gets the number of genes per chromosome.
+   *
+   * @return a int
+   */
+  public int getChromosomeLength() {
+    return chromosomes.isEmpty() ? 0 : chromosomes.get(0).length();
+  }
+
+  /**
+   * Rebuilds the population through the given factory.
+   *
+   * @param factory factory for creating individuals
+   * @param <I> type of individuals in the population
+   * @return the restored population
+   */
+  public <I extends Individual> List<I> population(Individual.Factory<I> factory) {
+    final var population = new ArrayList<I>(chromosomes.size());
+    for (final var chromosome : chromosomes) {
+      population.add(factory.create(Chromosome.of(chromosome.getGenes())));
+    }
+    return population;
+  }
+}
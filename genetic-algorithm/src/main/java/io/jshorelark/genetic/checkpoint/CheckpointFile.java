@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+import io.jshorelark.genetic.Chromosome;
+
+/**
+ * Reads and writes {@link Checkpoint}s in a compact, versioned binary layout.
+ *
+ * <p>All values are big-endian:
+ *
+ * <pre>
+ * int    magic ("JSCK")
+ * int    version
+ * long   generation
+ * int    individuals
+ * int    genes per individual
+ * int    random state words
+ * int    further state bytes
+ * long[] random state
+ * float[individuals] fitness
+ * float[individuals * genes] genes, one individual after another
+ * byte[] further state
+ * int    CRC32 of everything above
+ * </pre>
+ *
+ * <p>Writes go to a sibling temporary file which is forced to disk and then atomically renamed over
+ * the target, so a crash mid-write never leaves a torn checkpoint behind.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class CheckpointFile {
+  /** "JSCK" in ASCII. */
+  static final int MAGIC = 0x4A53434B;
+
+  /** Current layout version. */
+  static final int VERSION = 2;
+
+  /** Size of the fixed header in bytes. */
+  private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4 + 4 + 4;
+
+  private CheckpointFile() {
+    // Utility class
+  }
+
+  /**
+   * Atomically writes a checkpoint.
+   *
+   * @param path target file
+   * @param checkpoint the checkpoint
+   * @throws java.io.IOException if the checkpoint cannot be written
+   */
+  public static void write(Path path, Checkpoint checkpoint) throws IOException {
+    final var buffer = encode(checkpoint);
+    final var temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (var channel =
+        FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+    try {
+      Files.move(
+          temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Reads a checkpoint.
+   *
+   * @param path the file to read
+   * @return the checkpoint
+   * @throws java.io.IOException if the file cannot be read, is not a checkpoint, has an unsupported
+   *     version or is corrupted
+   */
+  public static Checkpoint read(Path path) throws IOException {
+    final ByteBuffer buffer;
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final long size = channel.size();
+      if (size < HEADER_SIZE + 4 || size > Integer.MAX_VALUE) {
+        throw new IOException("Not a checkpoint: " + path);
+      }
+      buffer = ByteBuffer.allocate((int) size);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer) < 0) {
+          throw new IOException("Unexpected end of checkpoint: " + path);
+        }
+      }
+    }
+    buffer.flip();
+    return decode(buffer, path);
+  }
+
+  /** Serializes a checkpoint into a buffer ready to be written. */
+  private static ByteBuffer encode(Checkpoint checkpoint) {
+    final var chromosomes = checkpoint.getChromosomes();
+    final int individuals = chromosomes.size();
+    final int genes = checkpoint.getChromosomeLength();
+    final long[] randomState = checkpoint.getRandomState();
+    final byte[] state = checkpoint.getState();
+    final long size =
+        HEADER_SIZE
+            + 8L * randomState.length
+            + 4L * individuals
+            + 4L * individuals * genes
+            + state.length
+            + 4;
+    if (size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Checkpoint is too large");
+    }
+
+    final var buffer = ByteBuffer.allocate((int) size);
+    buffer
+        .putInt(MAGIC)
+        .putInt(VERSION)
+        .putLong(checkpoint.getGeneration())
+        .putInt(individuals)
+        .putInt(genes)
+        .putInt(randomState.length)
+        .putInt(state.length);
+    for (final long word : randomState) {
+      buffer.putLong(word);
+    }
+    for (final float fitness : checkpoint.getFitness()) {
+      buffer.putFloat(fitness);
+    }
+    for (final var chromosome : chromosomes) {
+      for (int i = 0; i < genes; i++) {
+        buffer.putFloat(chromosome.get(i));
+      }
+    }
+    buffer.put(state);
+
+    final var crc = new CRC32();
+    crc.update(buffer.array(), 0, buffer.position());
+    buffer.putInt((int) crc.getValue());
+    return buffer.flip();
+  }
+
+  /** Deserializes a checkpoint, validating its header and checksum. */
+  private static Checkpoint decode(ByteBuffer buffer, Path path) throws IOException {
+    final int payload = buffer.limit() - 4;
+    final var crc = new CRC32();
+    crc.update(buffer.array(), 0, payload);
+    if (buffer.getInt(payload) != (int) crc.getValue()) {
+      throw new IOException("Checkpoint is corrupted: " + path);
+    }
+
+    if (buffer.getInt() != MAGIC) {
+      throw new IOException("Not a checkpoint: " + path);
+    }
+    final int version = buffer.getInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported checkpoint version " + version + ": " + path);
+    }
+    final long generation = buffer.getLong();
+    final int individuals = buffer.getInt();
+    final int genes = buffer.getInt();
+    final int stateWords = buffer.getInt();
+    final int stateBytes = buffer.getInt();
+    final long expected =
+        HEADER_SIZE
+            + 8L * stateWords
+            + 4L * individuals
+            + 4L * individuals * genes
+            + stateBytes
+            + 4;
+    if (individuals < 0
+        || genes < 0
+        || stateWords < 0
+        || stateBytes < 0
+        || expected != buffer.limit()) {
+      throw new IOException("Checkpoint is corrupted: " + path);
+    }
+
+    final long[] randomState = new long[stateWords];
+    for (int i = 0; i < stateWords; i++) {
+      randomState[i] = buffer.getLong();
+    }
+    final float[] fitness = new float[individuals];
+    for (int i = 0; i < individuals; i++) {
+      fitness[i] = buffer.getFloat();
+    }
+    final var chromosomes = new ArrayList<Chromosome>(individuals);
+    for (int i = 0; i < individuals; i++) {
+      final float[] values = new float[genes];
+      buffer.asFloatBuffer().get(values);
+      buffer.position(buffer.position() + 4 * genes);
+      chromosomes.add(Chromosome.of(values));
+    }
+    final byte[] state = new byte[stateBytes];
+    buffer.get(state);
+    return new Checkpoint(generation, chromosomes, fitness, randomState, state);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Writes a checkpoint every N generations on a background thread.
+ *
+ * <p>The snapshot itself is taken on the calling thread, which only costs a copy of the genes; the
+ * encoding, disk write and rename happen in the background. If evolution outpaces the disk, pending
+ * snapshots are coalesced and only the most recent one is written.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class CheckpointWriter implements AutoCloseable {
+  /** Target file. */
+  private final Path path;
+
+  /** Number of generations between checkpoints. */
+  private final int interval;
+
+  /** Single background thread performing the writes. */
+  private final ExecutorService executor;
+
+  /** Most recent snapshot not yet picked up by the background thread. */
+  private final AtomicReference<Checkpoint> pending = new AtomicReference<>();
+
+  /** Number of checkpoints written so far. */
+  private final AtomicInteger written = new AtomicInteger();
+
+  /** First write failure, reported on {@link #flush()} or {@link #close()}. */
+  private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+  /** Private constructor - use {@link #create} instead. */
+  private CheckpointWriter(Path path, int interval) {
+    this.path = path;
+    this.interval = interval;
+    this.executor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              final var thread = new Thread(runnable, "checkpoint-writer");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Creates a new checkpoint writer.
+   *
+   * @param path target file
+   * @param interval number of generations between checkpoints
+   * @return a new CheckpointWriter instance
+   * @throws java.lang.IllegalArgumentException if interval is less than 1
+   */
+  public static CheckpointWriter create(Path path, int interval) {
+    if (interval < 1) {
+      throw new IllegalArgumentException("Checkpoint interval must be at least 1");
+    }
+    return new CheckpointWriter(path, interval);
+  }
+
+  /**
+   * Schedules a checkpoint if the generation is a multiple of the interval.
+   *
+   * @param generation the current generation
+   * @param snapshot takes the snapshot, only called when a checkpoint is due
+   * @return whether a checkpoint was scheduled
+   */
+  public boolean offer(long generation, Supplier<Checkpoint> snapshot) {
+    if (generation % interval != 0) {
+      return false;
+    }
+    if (pending.getAndSet(snapshot.get()) == null) {
+      executor.execute(this::writePending);
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of checkpoints written so far.
+   *
+   * @return a int
+   */
+  public int getWritten() {
+    return written.get();
+  }
+
+  /**
+   * Waits until every scheduled checkpoint has been written.
+   *
+   * @throws java.io.UncheckedIOException if a write failed
+   */
+  public void flush() {
+    try {
+      executor.submit(() -> {}).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while flushing checkpoints", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Checkpoint flush failed", e.getCause());
+    }
+    throwFailure();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Writes any scheduled checkpoint and stops the background thread.
+   *
+   * @throws java.io.UncheckedIOException if a write failed
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while closing checkpoint writer", e);
+    }
+    throwFailure();
+  }
+
+  /** Writes the most recent snapshot, if it hasn't been picked up already. */
+  private void writePending() {
+    final var checkpoint = pending.getAndSet(null);
+    if (checkpoint == null) {
+      return;
+    }
+    try {
+      CheckpointFile.write(path, checkpoint);
+      written.incrementAndGet();
+    } catch (IOException e) {
+      failure.compareAndSet(null, e);
+    }
+  }
+
+  /** Rethrows the first write failure, if any. */
+  private void throwFailure() {
+    final var error = failure.get();
+    if (error != null) {
+      throw new UncheckedIOException("Failed to write checkpoint to " + path, error);
+    }
+  }
+}
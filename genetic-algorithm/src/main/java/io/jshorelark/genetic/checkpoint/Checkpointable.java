@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * An evolution engine whose state between generations can be saved and restored, so a resumed run
+ * breeds exactly what the uninterrupted one would have. State is only read and written between
+ * calls to {@link io.jshorelark.genetic.EvolutionEngine#evolve}.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface Checkpointable<I extends Individual> {
+  /**
+   * Writes the engine's state.
+   *
+   * @param out the output
+   * @param codec writes any individuals the engine keeps
+   * @throws java.io.IOException if the state cannot be written
+   */
+  void writeState(DataOutput out, IndividualCodec<I> codec) throws IOException;
+
+  /**
+   * Replaces the engine's state with one written by {@link #writeState} on an engine configured the
+   * same way.
+   *
+   * @param in the input
+   * @param codec reads any individuals the engine keeps
+   * @throws java.io.IOException if the state cannot be read
+   */
+  void readState(DataInput in, IndividualCodec<I> codec) throws IOException;
+}
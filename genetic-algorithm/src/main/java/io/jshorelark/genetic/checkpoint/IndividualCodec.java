@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Writes and reads whole individuals, fitness included, for engines that keep individuals from one
+ * generation to the next.
+ *
+ * @param <I> type of individuals
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface IndividualCodec<I extends Individual> {
+  /**
+   * Writes an individual.
+   *
+   * @param out the output
+   * @param individual the individual
+   * @throws java.io.IOException if the individual cannot be written
+   */
+  void write(DataOutput out, I individual) throws IOException;
+
+  /**
+   * Reads an individual written by {@link #write}.
+   *
+   * @param in the input
+   * @return the individual, with the fitness it was written with
+   * @throws java.io.IOException if the individual cannot be read
+   */
+  I read(DataInput in) throws IOException;
+}
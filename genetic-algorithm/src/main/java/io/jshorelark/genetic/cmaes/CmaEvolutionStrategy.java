@@ -0,0 +1,585 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.cmaes;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.EigenDecomposition;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.Pair;
+import io.jshorelark.genetic.checkpoint.Checkpointable;
+import io.jshorelark.genetic.checkpoint.IndividualCodec;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.statistics.Statistics;
+
+import lombok.Getter;
+
+/**
+ * Covariance Matrix Adaptation Evolution Strategy (CMA-ES).
+ *
+ * <p>Instead of recombining individual chromosomes, CMA-ES keeps a multivariate normal search
+ * distribution over chromosome space and moves its mean, step size and covariance toward the best
+ * samples of each generation. On smooth, correlated problems such as neural network weights it
+ * typically needs far fewer generations than a crossover and mutation GA.
+ *
+ * <p>The engine is stateful and works ask/tell style: {@link #evolve} takes the previous samples
+ * with their fitness, updates the distribution and returns a freshly sampled population for the
+ * caller to evaluate. The first call only seeds the distribution at the weighted centroid of the
+ * best individuals of the given population. Samples are drawn in parallel, each from its own
+ * generator split off the caller's, so results don't depend on scheduling; the factory must be
+ * thread-safe.
+ *
+ * <p>When the distribution stagnates or degenerates the engine restarts according to its {@link
+ * RestartStrategy}.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class CmaEvolutionStrategy<I extends Individual>
+    implements EvolutionEngine<I>, Checkpointable<I> {
+  /** Largest tolerated ratio between the longest and shortest axis of the distribution. */
+  private static final double MAX_AXIS_RATIO = 1e7;
+
+  /** Step size, relative to the initial one, below which the search is considered converged. */
+  private static final double MIN_RELATIVE_STEP = 1e-12;
+
+  /** Factory for creating new individuals. */
+  private final Individual.Factory<I> factory;
+
+  /** Step size the distribution starts with, and returns to on restart. */
+  private final double initialSigma;
+
+  /** What to do once the search stagnates. */
+  private final RestartStrategy restartStrategy;
+
+  /** Largest population size, which {@link RestartStrategy#IPOP} restarts never exceed. */
+  @Getter private final int maxPopulationSize;
+
+  /** Number of genes, or 0 before the first generation. */
+  private int dimension;
+
+  /** Number of samples per generation (lambda), or 0 before the first generation. */
+  @Getter private int populationSize;
+
+  /** Number of selected samples (mu). */
+  private int parents;
+
+  /** Recombination weights of the selected samples, best first. */
+  private double[] weights;
+
+  /** Variance effective selection mass. */
+  private double effectiveParents;
+
+  /** Learning rates and damping, see Hansen's "The CMA Evolution Strategy: A Tutorial". */
+  private double cc;
+
+  private double cs;
+  private double c1;
+  private double cmu;
+  private double damps;
+
+  /** Expected length of a standard normal vector. */
+  private double expectedNorm;
+
+  /** Mean of the search distribution. */
+  private double[] mean;
+
+  /** Current step size. */
+  @Getter private double sigma;
+
+  /** Evolution path of the covariance matrix. */
+  private double[] covariancePath;
+
+  /** Conjugate evolution path of the step size. */
+  private double[] sigmaPath;
+
+  /** Covariance matrix. */
+  private double[][] covariance;
+
+  /** Eigenvectors of the covariance matrix, one per column. */
+  private double[][] basis;
+
+  /** Square roots of the eigenvalues of the covariance matrix. */
+  private double[] scales;
+
+  /** Samples evaluated since the last (re)start. */
+  private long evaluations;
+
+  /** Number of evaluated samples at which the covariance matrix was last decomposed. */
+  private long decomposedAt;
+
+  /** Best fitness since the last (re)start. */
+  private float bestFitness;
+
+  /** Generations without improvement of {@link #bestFitness}. */
+  private int stagnantGenerations;
+
+  /** Best fitness seen in any generation. */
+  @Getter private float bestEverFitness = Float.NEGATIVE_INFINITY;
+
+  /** Genes of the best individual seen in any generation. */
+  private double[] bestEverGenes;
+
+  /** Total number of generations evolved. */
+  @Getter private int generations;
+
+  /** Number of restarts performed. */
+  @Getter private int restarts;
+
+  /** Private constructor - use {@link #create} instead. */
+  private CmaEvolutionStrategy(
+      Individual.Factory<I> factory,
+      double initialSigma,
+      RestartStrategy restartStrategy,
+      int maxPopulationSize) {
+    this.factory = factory;
+    this.initialSigma = initialSigma;
+    this.restartStrategy = restartStrategy;
+    this.maxPopulationSize = maxPopulationSize;
+  }
+
+  /**
+   * Creates a new CMA-ES engine.
+   *
+   * @param factory thread-safe factory for creating new individuals
+   * @param initialSigma initial step size, roughly a quarter of the expected distance to the
+   *     optimum
+   * @param restartStrategy what to do once the search stagnates
+   * @param <I> type of individuals in the population
+   * @return a new CmaEvolutionStrategy instance
+   * @throws java.lang.IllegalArgumentException if initialSigma is not positive
+   */
+  public static <I extends Individual> CmaEvolutionStrategy<I> create(
+      Individual.Factory<I> factory, double initialSigma, RestartStrategy restartStrategy) {
+    return create(factory, initialSigma, restartStrategy, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new CMA-ES engine whose population never grows past the given size, e.g. the number
+   * of individuals a shared world can evaluate at once.
+   *
+   * @param factory thread-safe factory for creating new individuals
+   * @param initialSigma initial step size, roughly a quarter of the expected distance to the
+   *     optimum
+   * @param restartStrategy what to do once the search stagnates
+   * @param maxPopulationSize largest population size to sample
+   * @param <I> type of individuals in the population
+   * @return a new CmaEvolutionStrategy instance
+   * @throws java.lang.IllegalArgumentException if initialSigma is not positive or maxPopulationSize
+   *     is less than 2
+   */
+  public static <I extends Individual> CmaEvolutionStrategy<I> create(
+      Individual.Factory<I> factory,
+      double initialSigma,
+      RestartStrategy restartStrategy,
+      int maxPopulationSize) {
+    if (!(initialSigma > 0)) {
+      throw new IllegalArgumentException("Initial sigma must be positive");
+    }
+    if (maxPopulationSize < 2) {
+      throw new IllegalArgumentException("Max population size must be at least 2");
+    }
+    return new CmaEvolutionStrategy<>(factory, initialSigma, restartStrategy, maxPopulationSize);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned population has {@link #getPopulationSize()} individuals, which only differs
+   * from the size of the first population after an {@link RestartStrategy#IPOP} restart, and never
+   * exceeds {@link #getMaxPopulationSize()}.
+   *
+   * @throws java.lang.IllegalArgumentException if the population is empty or its chromosomes don't
+   *     match the dimension of the search distribution
+   */
+  @Override
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+
+    final var ranked = new ArrayList<I>(population);
+    ranked.sort(Comparator.<I>comparingDouble(Individual::getFitness).reversed());
+
+    final var best = ranked.get(0);
+    if (best.getFitness() > bestEverFitness || bestEverGenes == null) {
+      bestEverFitness = best.getFitness();
+      bestEverGenes = toDoubles(best.getChromosome());
+    }
+
+    final boolean seeding = mean == null;
+    if (seeding) {
+      dimension = best.getChromosome().length();
+      configure(Math.max(2, Math.min(population.size(), maxPopulationSize)));
+    }
+    for (final var individual : ranked) {
+      if (individual.getChromosome().length() != dimension) {
+        throw new IllegalArgumentException("Chromosome length must be " + dimension);
+      }
+    }
+
+    if (seeding) {
+      resetDistribution(weightedCentroid(ranked));
+    } else {
+      update(ranked);
+      if (shouldRestart()) {
+        restart();
+      }
+    }
+
+    generations++;
+
+    return new Pair<>(sample(random), Statistics.of(population));
+  }
+
+  /**
+   * Returns a copy of the mean of the search distribution.
+   *
+   * @return the mean, or an empty array before the first generation
+   */
+  public double[] getMean() {
+    return mean == null ? new double[0] : mean.clone();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The strategy parameters follow from the dimension and population size, so only those and the
+   * distribution itself are written.
+   */
+  @Override
+  public void writeState(DataOutput out, IndividualCodec<I> codec) throws IOException {
+    out.writeInt(generations);
+    out.writeInt(restarts);
+    out.writeFloat(bestEverFitness);
+    writeDoubles(out, bestEverGenes);
+    out.writeBoolean(mean != null);
+    if (mean == null) {
+      return;
+    }
+    out.writeInt(dimension);
+    out.writeInt(populationSize);
+    writeDoubles(out, mean);
+    out.writeDouble(sigma);
+    writeDoubles(out, covariancePath);
+    writeDoubles(out, sigmaPath);
+    for (int i = 0; i < dimension; i++) {
+      writeDoubles(out, covariance[i]);
+      writeDoubles(out, basis[i]);
+    }
+    writeDoubles(out, scales);
+    out.writeLong(evaluations);
+    out.writeLong(decomposedAt);
+    out.writeFloat(bestFitness);
+    out.writeInt(stagnantGenerations);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void readState(DataInput in, IndividualCodec<I> codec) throws IOException {
+    generations = in.readInt();
+    restarts = in.readInt();
+    bestEverFitness = in.readFloat();
+    bestEverGenes = readDoubles(in);
+    if (!in.readBoolean()) {
+      mean = null;
+      dimension = 0;
+      populationSize = 0;
+      return;
+    }
+    dimension = in.readInt();
+    configure(in.readInt());
+    mean = readDoubles(in);
+    sigma = in.readDouble();
+    covariancePath = readDoubles(in);
+    sigmaPath = readDoubles(in);
+    covariance = new double[dimension][];
+    basis = new double[dimension][];
+    for (int i = 0; i < dimension; i++) {
+      covariance[i] = readDoubles(in);
+      basis[i] = readDoubles(in);
+    }
+    scales = readDoubles(in);
+    evaluations = in.readLong();
+    decomposedAt = in.readLong();
+    bestFitness = in.readFloat();
+    stagnantGenerations = in.readInt();
+  }
+
+  /** Writes a length-prefixed array, -1 for null. */
+  private static void writeDoubles(DataOutput out, double[] values) throws IOException {
+    if (values == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(values.length);
+    for (final double value : values) {
+      out.writeDouble(value);
+    }
+  }
+
+  /** Reads an array written by {@link #writeDoubles}. */
+  private static double[] readDoubles(DataInput in) throws IOException {
+    final int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    final double[] values = new double[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = in.readDouble();
+    }
+    return values;
+  }
+
+  /** Sets the strategy parameters for the given population size. */
+  private void configure(int lambda) {
+    final int n = dimension;
+    populationSize = lambda;
+    parents = lambda / 2;
+
+    weights = new double[parents];
+    double sum = 0;
+    for (int i = 0; i < parents; i++) {
+      weights[i] = Math.log(parents + 0.5) - Math.log(i + 1);
+      sum += weights[i];
+    }
+    double sumSquares = 0;
+    for (int i = 0; i < parents; i++) {
+      weights[i] /= sum;
+      sumSquares += weights[i] * weights[i];
+    }
+    effectiveParents = 1 / sumSquares;
+
+    cc = (4 + effectiveParents / n) / (n + 4 + 2 * effectiveParents / n);
+    cs = (effectiveParents + 2) / (n + effectiveParents + 5);
+    c1 = 2 / ((n + 1.3) * (n + 1.3) + effectiveParents);
+    cmu =
+        Math.min(
+            1 - c1,
+            2
+                * (effectiveParents - 2 + 1 / effectiveParents)
+                / ((n + 2) * (n + 2) + effectiveParents));
+    damps = 1 + 2 * Math.max(0, Math.sqrt((effectiveParents - 1) / (n + 1)) - 1) + cs;
+    expectedNorm = Math.sqrt(n) * (1 - 1.0 / (4 * n) + 1.0 / (21.0 * n * n));
+  }
+
+  /** Resets the distribution to an isotropic one around the given center. */
+  private void resetDistribution(double[] center) {
+    final int n = dimension;
+    mean = center;
+    sigma = initialSigma;
+    covariancePath = new double[n];
+    sigmaPath = new double[n];
+    covariance = new double[n][n];
+    basis = new double[n][n];
+    scales = new double[n];
+    for (int i = 0; i < n; i++) {
+      covariance[i][i] = 1;
+      basis[i][i] = 1;
+      scales[i] = 1;
+    }
+    evaluations = 0;
+    decomposedAt = 0;
+    bestFitness = Float.NEGATIVE_INFINITY;
+    stagnantGenerations = 0;
+  }
+
+  /** Moves the distribution toward the best of the evaluated samples. */
+  private void update(List<I> ranked) {
+    final int n = dimension;
+    final int selected = Math.min(parents, ranked.size());
+    final double[] w = Arrays.copyOf(weights, selected);
+    if (selected < parents) {
+      final double sum = Arrays.stream(w).sum();
+      for (int k = 0; k < selected; k++) {
+        w[k] /= sum;
+      }
+    }
+
+    // Steps of the selected samples away from the old mean, in units of sigma
+    final double[][] steps = new double[selected][n];
+    final double[] weightedStep = new double[n];
+    for (int k = 0; k < selected; k++) {
+      final var chromosome = ranked.get(k).getChromosome();
+      for (int j = 0; j < n; j++) {
+        steps[k][j] = (chromosome.get(j) - mean[j]) / sigma;
+        weightedStep[j] += w[k] * steps[k][j];
+      }
+    }
+    for (int j = 0; j < n; j++) {
+      mean[j] += sigma * weightedStep[j];
+    }
+
+    // Step size path: C^(-1/2) * weightedStep = B * D^-1 * B^T * weightedStep
+    final double[] whitened = new double[n];
+    for (int i = 0; i < n; i++) {
+      double dot = 0;
+      for (int j = 0; j < n; j++) {
+        dot += basis[j][i] * weightedStep[j];
+      }
+      whitened[i] = dot / scales[i];
+    }
+    final double sigmaRate = Math.sqrt(cs * (2 - cs) * effectiveParents);
+    double sigmaPathNorm = 0;
+    for (int i = 0; i < n; i++) {
+      double dot = 0;
+      for (int j = 0; j < n; j++) {
+        dot += basis[i][j] * whitened[j];
+      }
+      sigmaPath[i] = (1 - cs) * sigmaPath[i] + sigmaRate * dot;
+      sigmaPathNorm += sigmaPath[i] * sigmaPath[i];
+    }
+    sigmaPathNorm = Math.sqrt(sigmaPathNorm);
+
+    evaluations += populationSize;
+    final boolean stalled =
+        sigmaPathNorm
+                / Math.sqrt(1 - Math.pow(1 - cs, 2.0 * evaluations / populationSize))
+                / expectedNorm
+            >= 1.4 + 2.0 / (n + 1);
+    final double covarianceRate = stalled ? 0 : Math.sqrt(cc * (2 - cc) * effectiveParents);
+    for (int i = 0; i < n; i++) {
+      covariancePath[i] = (1 - cc) * covariancePath[i] + covarianceRate * weightedStep[i];
+    }
+
+    // Rank-one and rank-mu update of the lower triangle, mirrored to the upper one
+    final double decay = 1 - c1 - cmu + (stalled ? c1 * cc * (2 - cc) : 0);
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j <= i; j++) {
+        double rankMu = 0;
+        for (int k = 0; k < selected; k++) {
+          rankMu += w[k] * steps[k][i] * steps[k][j];
+        }
+        final double value =
+            decay * covariance[i][j] + c1 * covariancePath[i] * covariancePath[j] + cmu * rankMu;
+        covariance[i][j] = value;
+        covariance[j][i] = value;
+      }
+    }
+
+    sigma *= Math.exp(Math.min(1, (cs / damps) * (sigmaPathNorm / expectedNorm - 1)));
+
+    // The decomposition is O(n^3), so refresh it only every lambda / ((c1 + cmu) * n * 10)
+    // evaluations, as often as the covariance meaningfully moves
+    final double gap = populationSize / ((c1 + cmu) * n * 10);
+    if (evaluations - decomposedAt > gap) {
+      decompose();
+    }
+
+    final float best = ranked.get(0).getFitness();
+    if (best > bestFitness) {
+      bestFitness = best;
+      stagnantGenerations = 0;
+    } else {
+      stagnantGenerations++;
+    }
+  }
+
+  /** Refreshes the eigendecomposition of the covariance matrix. */
+  private void decompose() {
+    final var decomposition = new EigenDecomposition(new Array2DRowRealMatrix(covariance, true));
+    final var values = decomposition.getRealEigenvalues();
+    final var vectors = decomposition.getV();
+    for (int j = 0; j < dimension; j++) {
+      scales[j] = Math.sqrt(Math.max(values[j], 1e-20));
+      for (int i = 0; i < dimension; i++) {
+        basis[i][j] = vectors.getEntry(i, j);
+      }
+    }
+    decomposedAt = evaluations;
+  }
+
+  /** Returns whether the distribution has stagnated or degenerated. */
+  private boolean shouldRestart() {
+    if (restartStrategy == RestartStrategy.NONE) {
+      return false;
+    }
+    if (!Double.isFinite(sigma)) {
+      return true;
+    }
+    if (stagnantGenerations >= 10 + (int) Math.ceil(30.0 * dimension / populationSize)) {
+      return true;
+    }
+    final double longest = Arrays.stream(scales).max().orElse(1);
+    final double shortest = Arrays.stream(scales).min().orElse(1);
+    return longest / shortest > MAX_AXIS_RATIO
+        || sigma * longest < MIN_RELATIVE_STEP * initialSigma;
+  }
+
+  /** Restarts the search around the best solution found so far. */
+  private void restart() {
+    restarts++;
+    if (restartStrategy == RestartStrategy.IPOP) {
+      configure((int) Math.min((long) populationSize * 2, maxPopulationSize));
+    }
+    resetDistribution(bestEverGenes.clone());
+  }
+
+  /** Samples a new population in parallel, one split generator per sample. */
+  private List<I> sample(RandomGenerator random) {
+    final var streams = RandomGenerators.streams(RandomGenerators.split(random), populationSize);
+    return IntStream.range(0, populationSize)
+        .parallel()
+        .mapToObj(k -> factory.create(draw(streams.get(k))))
+        .collect(Collectors.toList());
+  }
+
+  /** Draws a single chromosome: mean + sigma * B * D * z with z standard normal. */
+  private Chromosome draw(RandomGenerator random) {
+    final int n = dimension;
+    final double[] scaled = new double[n];
+    for (int i = 0; i < n; i++) {
+      scaled[i] = scales[i] * random.nextGaussian();
+    }
+    final float[] genes = new float[n];
+    for (int i = 0; i < n; i++) {
+      double dot = 0;
+      for (int j = 0; j < n; j++) {
+        dot += basis[i][j] * scaled[j];
+      }
+      genes[i] = (float) (mean[i] + sigma * dot);
+    }
+    return Chromosome.of(genes);
+  }
+
+  /** Returns the recombination-weighted centroid of the best individuals. */
+  private double[] weightedCentroid(List<I> ranked) {
+    final int selected = Math.min(parents, ranked.size());
+    final double total = Arrays.stream(weights, 0, selected).sum();
+    final double[] centroid = new double[dimension];
+    for (int k = 0; k < selected; k++) {
+      final var chromosome = ranked.get(k).getChromosome();
+      for (int j = 0; j < dimension; j++) {
+        centroid[j] += weights[k] / total * chromosome.get(j);
+      }
+    }
+    return centroid;
+  }
+
+  /** Widens a chromosome's genes to doubles. */
+  private static double[] toDoubles(Chromosome chromosome) {
+    final double[] genes = new double[chromosome.length()];
+    for (int j = 0; j < genes.length; j++) {
+      genes[j] = chromosome.get(j);
+    }
+    return genes;
+  }
+}
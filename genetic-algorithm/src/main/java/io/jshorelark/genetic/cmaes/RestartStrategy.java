@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.cmaes;
+
+/**
+ * What {@link CmaEvolutionStrategy} does once its search distribution has stagnated or collapsed.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public enum RestartStrategy {
+  /** Never restart; keep sampling from the collapsed distribution. */
+  NONE,
+
+  /** Restart around the best solution found so far with the initial step size. */
+  RESTART,
+
+  /**
+   * Like {@link #RESTART}, but also double the population size on every restart (IPOP-CMA-ES),
+   * trading convergence speed for a more global search.
+   */
+  IPOP
+}
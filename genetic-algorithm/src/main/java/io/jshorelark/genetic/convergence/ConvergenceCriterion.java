@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.convergence;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Decides from the statistics of every generation so far whether a run has converged.
+ *
+ * <p>Criteria are stateless, so a single instance can be shared by any number of concurrent runs;
+ * the per-run history lives in a {@link ConvergenceMonitor}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@FunctionalInterface
+public interface ConvergenceCriterion {
+  /**
+   * Checks whether the run has converged.
+   *
+   * @param history statistics of every generation so far, oldest first, never empty
+   * @return a human-readable reason if the run has converged, empty otherwise
+   */
+  Optional<String> check(List<Statistics> history);
+
+  /**
+   * Converged once the measure has not improved by more than {@code tolerance} over the best value
+   * seen before the last {@code window} generations.
+   *
+   * @param measure the fitness figure to watch
+   * @param window number of generations without improvement
+   * @param tolerance smallest improvement that counts
+   * @return a new criterion
+   * @throws java.lang.IllegalArgumentException if window is less than 1 or tolerance is negative
+   */
+  static ConvergenceCriterion plateau(FitnessMeasure measure, int window, float tolerance) {
+    if (window < 1) {
+      throw new IllegalArgumentException("Plateau window must be at least 1");
+    }
+    if (tolerance < 0) {
+      throw new IllegalArgumentException("Plateau tolerance cannot be negative");
+    }
+    return history -> {
+      final int size = history.size();
+      if (size <= window) {
+        return Optional.empty();
+      }
+      float before = Float.NEGATIVE_INFINITY;
+      for (int i = 0; i < size - window; i++) {
+        before = Math.max(before, measure.of(history.get(i)));
+      }
+      float recent = Float.NEGATIVE_INFINITY;
+      for (int i = size - window; i < size; i++) {
+        recent = Math.max(recent, measure.of(history.get(i)));
+      }
+      if (recent - before > tolerance) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          String.format(
+              "%s fitness plateaued at %.4f for %d generations",
+              measure.name().toLowerCase(), Math.max(before, recent), window));
+    };
+  }
+
+  /**
+   * Converged once the fitness spread ({@code max - min}) has stayed below {@code relativeSpread}
+   * times the magnitude of the maximum fitness for {@code generations} consecutive generations,
+   * i.e. the population has collapsed onto near-identical individuals. A generation whose maximum
+   * fitness is zero never counts: a population that scored nothing at all is stagnant rather than
+   * collapsed, which {@link #plateau} catches.
+   *
+   * @param relativeSpread largest spread, relative to the maximum fitness, that counts as collapsed
+   * @param generations number of consecutive collapsed generations
+   * @return a new criterion
+   * @throws java.lang.IllegalArgumentException if relativeSpread is negative or generations is less
+   *     than 1
+   */
+  static ConvergenceCriterion diversityCollapse(float relativeSpread, int generations) {
+    if (relativeSpread < 0) {
+      throw new IllegalArgumentException("Relative spread cannot be negative");
+    }
+    if (generations < 1) {
+      throw new IllegalArgumentException("Collapse generations must be at least 1");
+    }
+    return history -> {
+      final int size = history.size();
+      if (size < generations) {
+        return Optional.empty();
+      }
+      for (int i = size - generations; i < size; i++) {
+        final var statistics = history.get(i);
+        final float max = statistics.getMaxFitness();
+        final float spread = max - statistics.getMinFitness();
+        if (max == 0 || spread > relativeSpread * Math.abs(max)) {
+          return Optional.empty();
+        }
+      }
+      return Optional.of(
+          String.format(
+              "fitness spread stayed within %.2f%% of the best for %d generations",
+              relativeSpread * 100, generations));
+    };
+  }
+
+  /**
+   * Converged once the measure reaches {@code target}.
+   *
+   * @param measure the fitness figure to watch
+   * @param target fitness to reach
+   * @return a new criterion
+   */
+  static ConvergenceCriterion targetFitness(FitnessMeasure measure, float target) {
+    return history -> {
+      final float value = measure.of(history.get(history.size() - 1));
+      if (value < target) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          String.format(
+              "%s fitness %.4f reached target %.4f", measure.name().toLowerCase(), value, target));
+    };
+  }
+
+  /**
+   * Converged as soon as any of the criteria is, reporting the first one in order.
+   *
+   * @param criteria the criteria
+   * @return a new criterion
+   */
+  static ConvergenceCriterion anyOf(ConvergenceCriterion... criteria) {
+    final var copy = List.of(criteria);
+    return history -> {
+      for (final var criterion : copy) {
+        final var reason = criterion.check(history);
+        if (reason.isPresent()) {
+          return reason;
+        }
+      }
+      return Optional.empty();
+    };
+  }
+}
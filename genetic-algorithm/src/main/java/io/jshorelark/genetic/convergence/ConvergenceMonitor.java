@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.convergence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Records the statistics of a single run and reports once its criterion finds it has converged.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class ConvergenceMonitor {
+  /** The criterion deciding convergence. */
+  private final ConvergenceCriterion criterion;
+
+  /** Number of generations to record before the criterion is consulted. */
+  private final int minGenerations;
+
+  /** Statistics of every recorded generation, oldest first. */
+  private final List<Statistics> history = new ArrayList<>();
+
+  /** The reason the run converged, once it has. */
+  private ConvergenceReason reason;
+
+  /** Private constructor - use {@link #create} instead. */
+  private ConvergenceMonitor(ConvergenceCriterion criterion, int minGenerations) {
+    this.criterion = criterion;
+    this.minGenerations = minGenerations;
+  }
+
+  /**
+   * Creates a new convergence monitor.
+   *
+   * @param criterion the criterion deciding convergence
+   * @param minGenerations number of generations to record before the criterion is consulted
+   * @return a new ConvergenceMonitor instance
+   * @throws java.lang.IllegalArgumentException if minGenerations is negative
+   */
+  public static ConvergenceMonitor create(ConvergenceCriterion criterion, int minGenerations) {
+    if (minGenerations < 0) {
+      throw new IllegalArgumentException("Minimum generations cannot be negative");
+    }
+    return new ConvergenceMonitor(criterion, minGenerations);
+  }
+
+  /**
+   * Records a generation's statistics and checks for convergence. Once converged, the same reason
+   * is returned for every further generation.
+   *
+   * @param statistics statistics of the generation
+   * @return the reason if the run has converged, empty otherwise
+   */
+  public Optional<ConvergenceReason> record(Statistics statistics) {
+    history.add(statistics);
+    if (reason == null && history.size() >= minGenerations) {
+      final var view = Collections.unmodifiableList(history);
+      criterion
+          .check(view)
+          .ifPresent(description -> reason = new ConvergenceReason(history.size(), description));
+    }
+    return Optional.ofNullable(reason);
+  }
+
+  /**
+   * Returns whether the run has converged.
+   *
+   * @return a boolean
+   */
+  public boolean isConverged() {
+    return reason != null;
+  }
+
+  /**
+   * Gets the reason the run converged.
+   *
+   * @return the reason, empty if the run hasn't converged
+   */
+  public Optional<ConvergenceReason> getReason() {
+    return Optional.ofNullable(reason);
+  }
+
+  /**
+   * Gets the number of recorded generations.
+   *
+   * @return a int
+   */
+  public int getGenerations() {
+    return history.size();
+  }
+}
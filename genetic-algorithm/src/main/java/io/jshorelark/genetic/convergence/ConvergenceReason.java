@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.convergence;
+
+import lombok.Value;
+
+/**
+ * Why and when a run was found to have converged.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Value
+public class ConvergenceReason {
+  /** Number of generations recorded when convergence was detected. */
+  int generation;
+
+  /** Human-readable explanation from the criterion. */
+  String description;
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return description + " (after " + generation + " generations)";
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.convergence;
+
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Which fitness figure of a generation's {@link Statistics} a criterion looks at.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public enum FitnessMeasure {
+  /** Best fitness of the generation. */
+  MAX {
+    @Override
+    public float of(Statistics statistics) {
+      return statistics.getMaxFitness();
+    }
+  },
+
+  /** Average fitness of the generation. */
+  AVG {
+    @Override
+    public float of(Statistics statistics) {
+      return statistics.getAvgFitness();
+    }
+  },
+
+  /** Median fitness of the generation. */
+  MEDIAN {
+    @Override
+    public float of(Statistics statistics) {
+      return statistics.getMedianFitness();
+    }
+  };
+
+  /**
+   * Extracts the measure from a generation's statistics.
+   *
+   * @param statistics a {@link io.jshorelark.genetic.statistics.Statistics} object
+   * @return a float
+   */
+  public abstract float of(Statistics statistics);
+}
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.genetic.crossover;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Chromosome;
 
@@ -27,5 +27,16 @@ public interface CrossoverMethod {
    * @return the child chromosome
    * @throws java.lang.IllegalArgumentException if parents have different lengths or are null
    */
-  Chromosome crossover(Random random, Chromosome parent1, Chromosome parent2);
+  Chromosome crossover(RandomGenerator random, Chromosome parent1, Chromosome parent2);
+
+  /**
+   * Returns whether each child gene only depends on the parents' genes at the same position, so
+   * crossing a genome piece by piece gives the same kind of child as crossing it whole. Methods
+   * that pick crossover points, or treat some genes specially, are not gene-wise.
+   *
+   * @return false by default
+   */
+  default boolean isGeneWise() {
+    return false;
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.crossover;
+
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+
+/**
+ * Crossover for chromosomes that end in a self-adaptive step size, as used by {@link
+ * io.jshorelark.genetic.mutation.SelfAdaptiveMutation}.
+ *
+ * <p>The object genes are crossed by another crossover method and the child's step size is the
+ * geometric mean of its parents', the usual intermediate recombination of evolution strategies. A
+ * parent that has only object genes yet, such as a member of a random initial population, takes
+ * part with the initial step size, so the step gene is introduced on the first crossover.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class StepSizeCrossover implements CrossoverMethod {
+  /** Crosses the object genes. */
+  private final CrossoverMethod objectCrossover;
+
+  /** Number of object genes, excluding the step size. */
+  private final int dimension;
+
+  /** Step size of parents that don't carry one yet. */
+  private final float initialStep;
+
+  /** Private constructor - use {@link #create} instead. */
+  private StepSizeCrossover(CrossoverMethod objectCrossover, int dimension, float initialStep) {
+    this.objectCrossover = objectCrossover;
+    this.dimension = dimension;
+    this.initialStep = initialStep;
+  }
+
+  /**
+   * Creates a new step size crossover.
+   *
+   * @param objectCrossover crosses the object genes
+   * @param dimension number of object genes, excluding the step size
+   * @param initialStep step size of parents that don't carry one yet
+   * @return a new StepSizeCrossover instance
+   * @throws java.lang.IllegalArgumentException if dimension is less than 1 or initialStep is not
+   *     positive
+   */
+  public static StepSizeCrossover create(
+      CrossoverMethod objectCrossover, int dimension, float initialStep) {
+    if (dimension < 1) {
+      throw new IllegalArgumentException("Dimension must be at least 1");
+    }
+    if (!(initialStep > 0)) {
+      throw new IllegalArgumentException("Initial step must be positive");
+    }
+    return new StepSizeCrossover(objectCrossover, dimension, initialStep);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Chromosome crossover(RandomGenerator random, Chromosome parent1, Chromosome parent2) {
+    if (parent1 == null || parent2 == null) {
+      throw new IllegalArgumentException("Parents cannot be null");
+    }
+    final var child = objectCrossover.crossover(random, objectGenes(parent1), objectGenes(parent2));
+    final float[] genes = new float[dimension + 1];
+    child.copyInto(genes, 0);
+    genes[dimension] = (float) Math.sqrt((double) step(parent1) * step(parent2));
+    return Chromosome.of(genes);
+  }
+
+  private Chromosome objectGenes(Chromosome parent) {
+    if (parent.length() == dimension) {
+      return parent;
+    }
+    if (parent.length() != dimension + 1) {
+      throw new IllegalArgumentException(
+          "Parents must have " + dimension + " genes, optionally followed by a step size");
+    }
+    final float[] genes = new float[dimension];
+    System.arraycopy(parent.getGenes(), 0, genes, 0, dimension);
+    return Chromosome.of(genes);
+  }
+
+  private float step(Chromosome parent) {
+    return parent.length() == dimension ? initialStep : parent.get(dimension);
+  }
+}
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.genetic.crossover;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Chromosome;
 
@@ -19,7 +19,7 @@ import io.jshorelark.genetic.Chromosome;
 public class UniformCrossover implements CrossoverMethod {
   /** {@inheritDoc} */
   @Override
-  public Chromosome crossover(Random random, Chromosome parent1, Chromosome parent2) {
+  public Chromosome crossover(RandomGenerator random, Chromosome parent1, Chromosome parent2) {
     if (parent1 == null || parent2 == null) {
       throw new IllegalArgumentException("Parents cannot be null");
     }
@@ -36,4 +36,10 @@ public class UniformCrossover implements CrossoverMethod {
 
     return Chromosome.of(childGenes);
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isGeneWise() {
+    return true;
+  }
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+
+/**
+ * A chromosome of bits packed 64 to a {@code long}, for binary problems where a {@code float} per
+ * gene would take 32 times the memory.
+ *
+ * <p>Bit {@code i} is bit {@code i % 64} of word {@code i / 64}; unused bits of the last word are
+ * always zero, so counting and comparing work a word at a time with {@link Long#bitCount}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class BitChromosome implements DiscreteGenome {
+  /** The packed bits. */
+  private final long[] words;
+
+  /** Number of bits. */
+  private final int length;
+
+  /** Creates a new chromosome over the given words, which must have clear padding. */
+  private BitChromosome(long[] words, int length) {
+    this.words = words;
+    this.length = length;
+  }
+
+  /**
+   * Creates a chromosome from packed words, clearing any bits past the length.
+   *
+   * @param length number of bits
+   * @param words the packed bits
+   * @return a {@link io.jshorelark.genetic.discrete.BitChromosome} object
+   * @throws java.lang.IllegalArgumentException if length is negative or doesn't match the number of
+   *     words
+   */
+  public static BitChromosome of(int length, long... words) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Length cannot be negative");
+    }
+    if (words.length != wordsFor(length)) {
+      throw new IllegalArgumentException(length + " bits need " + wordsFor(length) + " words");
+    }
+    final long[] copy = words.clone();
+    clearPadding(copy, length);
+    return new BitChromosome(copy, length);
+  }
+
+  /**
+   * Creates a chromosome of random bits.
+   *
+   * @param random the random number generator
+   * @param length number of bits
+   * @return a {@link io.jshorelark.genetic.discrete.BitChromosome} object
+   */
+  public static BitChromosome random(RandomGenerator random, int length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("Length cannot be negative");
+    }
+    final long[] words = new long[wordsFor(length)];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = random.nextLong();
+    }
+    clearPadding(words, length);
+    return new BitChromosome(words, length);
+  }
+
+  /** Wraps words built by the operators of this package, clearing their padding. */
+  static BitChromosome wrap(long[] words, int length) {
+    clearPadding(words, length);
+    return new BitChromosome(words, length);
+  }
+
+  /**
+   * Gets the number of bits.
+   *
+   * @return a int
+   */
+  @Override
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Gets a bit.
+   *
+   * @param index the bit
+   * @return a boolean
+   */
+  public boolean get(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException("Bit " + index + " out of " + length);
+    }
+    return (words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Counts the set bits.
+   *
+   * @return a int
+   */
+  public int cardinality() {
+    int count = 0;
+    for (final long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Counts the bits in which this chromosome differs from another.
+   *
+   * @param other a chromosome of the same length
+   * @return a int
+   * @throws java.lang.IllegalArgumentException if the lengths differ
+   */
+  public int hammingDistance(BitChromosome other) {
+    if (other.length != length) {
+      throw new IllegalArgumentException("Chromosomes must have the same length");
+    }
+    int count = 0;
+    for (int i = 0; i < words.length; i++) {
+      count += Long.bitCount(words[i] ^ other.words[i]);
+    }
+    return count;
+  }
+
+  /**
+   * Mutates this chromosome in place using the given mutation method.
+   *
+   * @param mutationMethod the mutation method to use
+   * @param random the random number generator to use
+   * @return this chromosome
+   */
+  public BitChromosome mutate(BitFlipMutation mutationMethod, RandomGenerator random) {
+    mutationMethod.mutate(random, words, length);
+    return this;
+  }
+
+  /**
+   * Returns a copy of the packed bits.
+   *
+   * @return an array of {@link long} objects
+   */
+  public long[] toLongArray() {
+    return words.clone();
+  }
+
+  /**
+   * Expands the bits into a float chromosome of zeros and ones, for code that only handles those.
+   *
+   * @return a {@link io.jshorelark.genetic.Chromosome} object
+   */
+  @Override
+  public Chromosome toChromosome() {
+    final float[] genes = new float[length];
+    for (int i = 0; i < length; i++) {
+      genes[i] = (words[i >>> 6] >>> i) & 1L;
+    }
+    return Chromosome.of(genes);
+  }
+
+  /** The packed bits themselves, for the operators of this package. */
+  long[] words() {
+    return words;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof BitChromosome other
+        && other.length == length
+        && Arrays.equals(other.words, words);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(words) + length;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    final var bits = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      bits.append(get(i) ? '1' : '0');
+    }
+    return bits.toString();
+  }
+
+  /** Number of words holding the given number of bits. */
+  static int wordsFor(int length) {
+    return (length + 63) >>> 6;
+  }
+
+  /** Clears the bits of the last word past the length. */
+  static void clearPadding(long[] words, int length) {
+    if ((length & 63) != 0) {
+      words[words.length - 1] &= -1L >>> (64 - (length & 63));
+    }
+  }
+}
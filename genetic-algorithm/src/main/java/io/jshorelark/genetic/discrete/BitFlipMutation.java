@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Flips each bit of a {@link BitChromosome} independently with a fixed probability.
+ *
+ * <p>Rather than drawing a random number per bit, the gap to the next flipped bit is drawn from the
+ * geometric distribution, so a mutation costs one draw per flipped bit. With the usual small
+ * chances that is a few draws for thousands of bits.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class BitFlipMutation {
+  /** Probability that a bit is flipped. */
+  private final double chance;
+
+  /** {@code log(1 - chance)}, the scale of the geometric gaps. */
+  private final double logMiss;
+
+  /** Private constructor - use {@link #create} instead. */
+  private BitFlipMutation(double chance) {
+    this.chance = chance;
+    this.logMiss = Math.log1p(-chance);
+  }
+
+  /**
+   * Creates a new bit flip mutation.
+   *
+   * @param chance probability that a bit is flipped
+   * @return a new BitFlipMutation instance
+   * @throws java.lang.IllegalArgumentException if chance is not between 0 and 1
+   */
+  public static BitFlipMutation create(float chance) {
+    if (chance < 0.0f || chance > 1.0f) {
+      throw new IllegalArgumentException("Chance must be between 0 and 1");
+    }
+    return new BitFlipMutation(chance);
+  }
+
+  /**
+   * Flips bits of packed words in place.
+   *
+   * @param random the random number generator
+   * @param words the packed bits
+   * @param length number of bits in use
+   */
+  public void mutate(final RandomGenerator random, final long[] words, final int length) {
+    if (chance == 0) {
+      return;
+    }
+    if (chance == 1) {
+      for (int i = 0; i < words.length; i++) {
+        words[i] = ~words[i];
+      }
+      BitChromosome.clearPadding(words, length);
+      return;
+    }
+    long bit = gap(random);
+    while (bit < length) {
+      words[(int) (bit >>> 6)] ^= 1L << bit;
+      bit += 1 + gap(random);
+    }
+  }
+
+  /** Number of bits left alone before the next flip. */
+  private long gap(RandomGenerator random) {
+    return (long) Math.floor(Math.log(1 - random.nextDouble()) / logMiss);
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Creep mutation for integer genes: each gene is, with a fixed probability, moved up or down by a
+ * random step of at most {@code maxStep} and clamped to {@code [min, max]}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class CreepMutation {
+  /** Probability that a gene is mutated. */
+  private final float chance;
+
+  /** Largest step a gene moves by. */
+  private final int maxStep;
+
+  /** Smallest gene. */
+  private final int min;
+
+  /** Largest gene. */
+  private final int max;
+
+  /** Private constructor - use {@link #create} instead. */
+  private CreepMutation(float chance, int maxStep, int min, int max) {
+    this.chance = chance;
+    this.maxStep = maxStep;
+    this.min = min;
+    this.max = max;
+  }
+
+  /**
+   * Creates a new creep mutation. When mutating bytes, the bounds are further limited to the byte
+   * range.
+   *
+   * @param chance probability that a gene is mutated
+   * @param maxStep largest step a gene moves by
+   * @param min smallest gene
+   * @param max largest gene
+   * @return a new CreepMutation instance
+   * @throws java.lang.IllegalArgumentException if chance is not between 0 and 1, maxStep is less
+   *     than 1, or the bounds are out of order or outside the short range
+   */
+  public static CreepMutation create(float chance, int maxStep, int min, int max) {
+    if (chance < 0.0f || chance > 1.0f) {
+      throw new IllegalArgumentException("Chance must be between 0 and 1");
+    }
+    if (maxStep < 1) {
+      throw new IllegalArgumentException("Maximum step must be at least 1");
+    }
+    if (min > max || min < Short.MIN_VALUE || max > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Bounds must be ordered and within the short range");
+    }
+    return new CreepMutation(chance, maxStep, min, max);
+  }
+
+  /**
+   * Mutates byte genes in place.
+   *
+   * @param random the random number generator
+   * @param genes the genes
+   */
+  public void mutate(final RandomGenerator random, final byte[] genes) {
+    final int low = Math.max(min, Byte.MIN_VALUE);
+    final int high = Math.min(max, Byte.MAX_VALUE);
+    for (int i = 0; i < genes.length; i++) {
+      if (random.nextDouble() < chance) {
+        genes[i] = (byte) creep(random, genes[i], low, high);
+      }
+    }
+  }
+
+  /**
+   * Mutates short genes in place.
+   *
+   * @param random the random number generator
+   * @param genes the genes
+   */
+  public void mutate(final RandomGenerator random, final short[] genes) {
+    for (int i = 0; i < genes.length; i++) {
+      if (random.nextDouble() < chance) {
+        genes[i] = (short) creep(random, genes[i], min, max);
+      }
+    }
+  }
+
+  private int creep(RandomGenerator random, int gene, int low, int high) {
+    final int step = 1 + random.nextInt(maxStep);
+    final int moved = random.nextBoolean() ? gene + step : gene - step;
+    return Math.max(low, Math.min(high, moved));
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Crossover methods for the discrete chromosome types.
+ *
+ * <p>Bit chromosomes are crossed a word at a time with masks: uniform crossover draws one random
+ * {@code long} per 64 genes and blends the parents with it, and single-point crossover copies whole
+ * words from either side of the point and masks the word containing it. Byte and short chromosomes
+ * take the same random bits per 64 genes, or copy whole ranges.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public enum DiscreteCrossover {
+  /** Each gene comes from either parent with equal probability. */
+  UNIFORM {
+    @Override
+    public BitChromosome crossover(RandomGenerator random, BitChromosome a, BitChromosome b) {
+      checkLengths(a.length(), b.length());
+      final long[] left = a.words();
+      final long[] right = b.words();
+      final long[] child = new long[left.length];
+      for (int i = 0; i < child.length; i++) {
+        final long mask = random.nextLong();
+        child[i] = (left[i] & mask) | (right[i] & ~mask);
+      }
+      return BitChromosome.wrap(child, a.length());
+    }
+
+    @Override
+    public ByteChromosome crossover(RandomGenerator random, ByteChromosome a, ByteChromosome b) {
+      checkLengths(a.length(), b.length());
+      final byte[] left = a.genes();
+      final byte[] right = b.genes();
+      final byte[] child = new byte[left.length];
+      long mask = 0;
+      for (int i = 0; i < child.length; i++) {
+        if ((i & 63) == 0) {
+          mask = random.nextLong();
+        }
+        child[i] = (mask & (1L << i)) != 0 ? left[i] : right[i];
+      }
+      return ByteChromosome.of(child);
+    }
+
+    @Override
+    public ShortChromosome crossover(RandomGenerator random, ShortChromosome a, ShortChromosome b) {
+      checkLengths(a.length(), b.length());
+      final short[] left = a.genes();
+      final short[] right = b.genes();
+      final short[] child = new short[left.length];
+      long mask = 0;
+      for (int i = 0; i < child.length; i++) {
+        if ((i & 63) == 0) {
+          mask = random.nextLong();
+        }
+        child[i] = (mask & (1L << i)) != 0 ? left[i] : right[i];
+      }
+      return ShortChromosome.of(child);
+    }
+  },
+
+  /** Genes before a random point come from the first parent, the rest from the second. */
+  SINGLE_POINT {
+    @Override
+    public BitChromosome crossover(RandomGenerator random, BitChromosome a, BitChromosome b) {
+      checkLengths(a.length(), b.length());
+      final long[] left = a.words();
+      final long[] right = b.words();
+      if (a.length() < 2) {
+        return BitChromosome.wrap(left.clone(), a.length());
+      }
+      final int point = point(random, a.length());
+      final int word = point >>> 6;
+      final long[] child = right.clone();
+      System.arraycopy(left, 0, child, 0, word);
+      final long low = (1L << point) - 1;
+      if ((point & 63) != 0) {
+        child[word] = (left[word] & low) | (right[word] & ~low);
+      }
+      return BitChromosome.wrap(child, a.length());
+    }
+
+    @Override
+    public ByteChromosome crossover(RandomGenerator random, ByteChromosome a, ByteChromosome b) {
+      checkLengths(a.length(), b.length());
+      final byte[] child = b.toArray();
+      if (child.length > 1) {
+        System.arraycopy(a.genes(), 0, child, 0, point(random, child.length));
+      }
+      return ByteChromosome.of(child);
+    }
+
+    @Override
+    public ShortChromosome crossover(RandomGenerator random, ShortChromosome a, ShortChromosome b) {
+      checkLengths(a.length(), b.length());
+      final short[] child = b.toArray();
+      if (child.length > 1) {
+        System.arraycopy(a.genes(), 0, child, 0, point(random, child.length));
+      }
+      return ShortChromosome.of(child);
+    }
+  };
+
+  /**
+   * Crosses two bit chromosomes.
+   *
+   * @param random the random number generator
+   * @param a the first parent
+   * @param b the second parent
+   * @return the child
+   * @throws java.lang.IllegalArgumentException if the parents differ in length
+   */
+  public abstract BitChromosome crossover(RandomGenerator random, BitChromosome a, BitChromosome b);
+
+  /**
+   * Crosses two byte chromosomes.
+   *
+   * @param random the random number generator
+   * @param a the first parent
+   * @param b the second parent
+   * @return the child
+   * @throws java.lang.IllegalArgumentException if the parents differ in length
+   */
+  public abstract ByteChromosome crossover(
+      RandomGenerator random, ByteChromosome a, ByteChromosome b);
+
+  /**
+   * Crosses two short chromosomes.
+   *
+   * @param random the random number generator
+   * @param a the first parent
+   * @param b the second parent
+   * @return the child
+   * @throws java.lang.IllegalArgumentException if the parents differ in length
+   */
+  public abstract ShortChromosome crossover(
+      RandomGenerator random, ShortChromosome a, ShortChromosome b);
+
+  /** Crossover point from 1 to length - 1, like the float single-point crossover. */
+  private static int point(RandomGenerator random, int length) {
+    return 1 + random.nextInt(length - 1);
+  }
+
+  private static void checkLengths(int a, int b) {
+    if (a != b) {
+      throw new IllegalArgumentException("Parents must have same length");
+    }
+  }
+}
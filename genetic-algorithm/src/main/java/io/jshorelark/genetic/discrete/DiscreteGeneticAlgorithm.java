@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.Pair;
+import io.jshorelark.genetic.selection.Elites;
+import io.jshorelark.genetic.selection.SelectionMethod;
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Genetic algorithm over discrete genomes, breeding them with the operators of this package without
+ * ever widening them to floats.
+ *
+ * <p>Crossover and mutation are given as functions of the genome type, so the overloads of {@link
+ * DiscreteCrossover}, {@link BitFlipMutation} and {@link CreepMutation} plug in directly:
+ *
+ * <pre>{@code
+ * DiscreteGeneticAlgorithm.create(
+ *     new TournamentSelection(2),
+ *     DiscreteCrossover.UNIFORM::crossover,
+ *     (random, genome) -> genome.mutate(BitFlipMutation.create(0.01f), random),
+ *     OneMax::new);
+ * }</pre>
+ *
+ * @param <C> type of the genomes
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class DiscreteGeneticAlgorithm<
+        C extends DiscreteGenome, I extends DiscreteIndividual<C>>
+    implements EvolutionEngine<I> {
+  /** Selection method. */
+  private final SelectionMethod selectionMethod;
+
+  /** Crossover method. */
+  private final Crossover<C> crossoverMethod;
+
+  /** Mutation method. */
+  private final Mutation<C> mutationMethod;
+
+  /** Factory for creating new individuals. */
+  private final DiscreteIndividual.Factory<C, I> factory;
+
+  /** Number of fittest individuals carried over unchanged into each generation. */
+  private final int elites;
+
+  /** Private constructor - use {@link #create} instead. */
+  private DiscreteGeneticAlgorithm(
+      SelectionMethod selectionMethod,
+      Crossover<C> crossoverMethod,
+      Mutation<C> mutationMethod,
+      DiscreteIndividual.Factory<C, I> factory,
+      int elites) {
+    this.selectionMethod = selectionMethod;
+    this.crossoverMethod = crossoverMethod;
+    this.mutationMethod = mutationMethod;
+    this.factory = factory;
+    this.elites = elites;
+  }
+
+  /**
+   * Creates a new discrete genetic algorithm.
+   *
+   * @param selectionMethod selection method
+   * @param crossoverMethod crosses two genomes into a new one
+   * @param mutationMethod mutates a genome, in place or not
+   * @param factory factory for creating new individuals
+   * @param <C> type of the genomes
+   * @param <I> type of individuals in the population
+   * @return a new DiscreteGeneticAlgorithm instance
+   */
+  public static <C extends DiscreteGenome, I extends DiscreteIndividual<C>>
+      DiscreteGeneticAlgorithm<C, I> create(
+          SelectionMethod selectionMethod,
+          Crossover<C> crossoverMethod,
+          Mutation<C> mutationMethod,
+          DiscreteIndividual.Factory<C, I> factory) {
+    return new DiscreteGeneticAlgorithm<>(
+        selectionMethod, crossoverMethod, mutationMethod, factory, 0);
+  }
+
+  /**
+   * Returns a copy of this algorithm that carries the given number of fittest individuals over
+   * unchanged into each generation.
+   *
+   * @param elites number of elites
+   * @return a new discrete genetic algorithm
+   * @throws java.lang.IllegalArgumentException if elites is negative
+   */
+  public DiscreteGeneticAlgorithm<C, I> withElitism(int elites) {
+    if (elites < 0) {
+      throw new IllegalArgumentException("Number of elites cannot be negative");
+    }
+    return new DiscreteGeneticAlgorithm<>(
+        selectionMethod, crossoverMethod, mutationMethod, factory, elites);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < fitness.length; i++) {
+      fitness[i] = population.get(i).getFitness();
+    }
+    final int[] elite = Elites.top(fitness, Math.min(elites, population.size()));
+
+    final var next = new ArrayList<I>(population.size());
+    for (final int index : elite) {
+      next.add(population.get(index));
+    }
+    final var selection = selectionMethod.prepare(population);
+    while (next.size() < population.size()) {
+      final var parentA = (I) selection.select(random, population);
+      final var parentB = (I) selection.select(random, population);
+      final C child = crossoverMethod.crossover(random, parentA.getGenome(), parentB.getGenome());
+      next.add(factory.create(mutationMethod.mutate(random, child)));
+    }
+    return new Pair<>(next, Statistics.of(population));
+  }
+
+  /**
+   * Crosses two discrete genomes.
+   *
+   * @param <C> type of the genomes
+   */
+  @FunctionalInterface
+  public interface Crossover<C> {
+    /**
+     * Combines two parents into a new genome.
+     *
+     * @param random the random number generator to use
+     * @param parentA the first parent
+     * @param parentB the second parent
+     * @return the child, never one of the parents
+     */
+    C crossover(RandomGenerator random, C parentA, C parentB);
+  }
+
+  /**
+   * Mutates a discrete genome.
+   *
+   * @param <C> type of the genomes
+   */
+  @FunctionalInterface
+  public interface Mutation<C> {
+    /**
+     * Mutates a freshly crossed genome.
+     *
+     * @param random the random number generator to use
+     * @param genome the genome, which may be changed in place
+     * @return the mutated genome
+     */
+    C mutate(RandomGenerator random, C genome);
+  }
+}
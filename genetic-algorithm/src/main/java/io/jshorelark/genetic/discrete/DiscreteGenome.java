@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import io.jshorelark.genetic.Chromosome;
+
+/**
+ * A genome of discrete genes: {@link BitChromosome}, {@link ByteChromosome} or {@link
+ * ShortChromosome}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface DiscreteGenome {
+  /**
+   * Gets the number of genes.
+   *
+   * @return a int
+   */
+  int length();
+
+  /**
+   * Widens the genes into a float chromosome, for code that only handles those.
+   *
+   * @return a {@link io.jshorelark.genetic.Chromosome} object
+   */
+  Chromosome toChromosome();
+}
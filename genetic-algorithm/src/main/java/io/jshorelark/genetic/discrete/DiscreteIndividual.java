@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Individual whose genes are discrete. It is still an {@link Individual}, so the existing selection
+ * methods, statistics and convergence criteria apply; only code that reads the genes through {@link
+ * #getChromosome()} pays for widening them to floats.
+ *
+ * @param <C> type of the genome
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface DiscreteIndividual<C extends DiscreteGenome> extends Individual {
+  /**
+   * Returns the individual's discrete genome.
+   *
+   * @return the genome
+   */
+  C getGenome();
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Widens the genome on every call.
+   */
+  @Override
+  default Chromosome getChromosome() {
+    return getGenome().toChromosome();
+  }
+
+  /**
+   * Factory for creating discrete individuals.
+   *
+   * @param <C> type of the genome
+   * @param <I> type of the individuals
+   */
+  @FunctionalInterface
+  interface Factory<C extends DiscreteGenome, I extends DiscreteIndividual<C>> {
+    /**
+     * Creates and evaluates an individual from a genome.
+     *
+     * @param genome the genome
+     * @return the new individual
+     */
+    I create(C genome);
+  }
+}
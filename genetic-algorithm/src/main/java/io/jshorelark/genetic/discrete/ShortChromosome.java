@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+
+/**
+ * A chromosome of integer genes stored as shorts, half the memory of {@link Chromosome}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class ShortChromosome implements DiscreteGenome {
+  /** The genes. */
+  private final short[] genes;
+
+  /** Creates a new chromosome with the given genes. */
+  private ShortChromosome(short[] genes) {
+    this.genes = genes;
+  }
+
+  /**
+   * Creates a chromosome from the given genes.
+   *
+   * @param genes a short
+   * @return a {@link io.jshorelark.genetic.discrete.ShortChromosome} object
+   */
+  public static ShortChromosome of(short... genes) {
+    return new ShortChromosome(genes);
+  }
+
+  /**
+   * Creates a chromosome of genes drawn uniformly from {@code [min, max]}.
+   *
+   * @param random the random number generator
+   * @param length number of genes
+   * @param min smallest gene
+   * @param max largest gene
+   * @return a {@link io.jshorelark.genetic.discrete.ShortChromosome} object
+   * @throws java.lang.IllegalArgumentException if min is greater than max
+   */
+  public static ShortChromosome random(RandomGenerator random, int length, short min, short max) {
+    if (min > max) {
+      throw new IllegalArgumentException("Minimum value must not be greater than maximum value");
+    }
+    final short[] genes = new short[length];
+    for (int i = 0; i < length; i++) {
+      genes[i] = (short) random.nextInt(min, max + 1);
+    }
+    return new ShortChromosome(genes);
+  }
+
+  /**
+   * Gets a gene.
+   *
+   * @param index the gene
+   * @return a short
+   */
+  public short get(int index) {
+    return genes[index];
+  }
+
+  /**
+   * Gets the number of genes.
+   *
+   * @return a int
+   */
+  @Override
+  public int length() {
+    return genes.length;
+  }
+
+  /**
+   * Sums the genes.
+   *
+   * @return a long
+   */
+  public long sum() {
+    long sum = 0;
+    for (final short gene : genes) {
+      sum += gene;
+    }
+    return sum;
+  }
+
+  /**
+   * Mutates this chromosome in place using the given mutation method.
+   *
+   * @param mutationMethod the mutation method to use
+   * @param random the random number generator to use
+   * @return this chromosome
+   */
+  public ShortChromosome mutate(CreepMutation mutationMethod, RandomGenerator random) {
+    mutationMethod.mutate(random, genes);
+    return this;
+  }
+
+  /**
+   * Returns a copy of the genes.
+   *
+   * @return an array of {@link short} objects
+   */
+  public short[] toArray() {
+    return genes.clone();
+  }
+
+  /**
+   * Widens the genes into a float chromosome, for code that only handles those.
+   *
+   * @return a {@link io.jshorelark.genetic.Chromosome} object
+   */
+  @Override
+  public Chromosome toChromosome() {
+    final float[] widened = new float[genes.length];
+    for (int i = 0; i < genes.length; i++) {
+      widened[i] = genes[i];
+    }
+    return Chromosome.of(widened);
+  }
+
+  /** The genes themselves, for the operators of this package. */
+  short[] genes() {
+    return genes;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object obj) {
+    return obj instanceof ShortChromosome other && Arrays.equals(other.genes, genes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(genes);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return Arrays.toString(genes);
+  }
+}
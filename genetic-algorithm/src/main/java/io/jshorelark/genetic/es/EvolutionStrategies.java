@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.es;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.Pair;
+import io.jshorelark.genetic.checkpoint.Checkpointable;
+import io.jshorelark.genetic.checkpoint.IndividualCodec;
+import io.jshorelark.genetic.statistics.Statistics;
+
+import lombok.Getter;
+
+/**
+ * Natural evolution strategies in the style of Salimans et al., "Evolution Strategies as a Scalable
+ * Alternative to Reinforcement Learning".
+ *
+ * <p>The engine keeps a single parameter vector (the center) and estimates the gradient of the
+ * expected fitness from antithetic pairs {@code center ± sigma * noise}. Perturbations come from a
+ * shared {@link NoiseTable}, so an evaluated pair is fully described by a {@link Perturbation}: its
+ * table seed, offset and two fitness values. Fitness values are rank-transformed before the update,
+ * which makes the engine insensitive to the scale of the fitness function and to outliers.
+ *
+ * <p>As an {@link EvolutionEngine} it works ask/tell style: {@link #evolve} expects the population
+ * it returned last time, in the same order, now carrying fitness values. The first call centers the
+ * search on the fittest individual. Distributed workers can instead exchange perturbations and call
+ * {@link #update} directly.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class EvolutionStrategies<I extends Individual>
+    implements EvolutionEngine<I>, Checkpointable<I> {
+  /** Factory for creating new individuals. */
+  private final Individual.Factory<I> factory;
+
+  /** Shared noise table. */
+  private final NoiseTable noise;
+
+  /** Standard deviation of the perturbations. */
+  private final float sigma;
+
+  /** Step size of the gradient ascent. */
+  private final float learningRate;
+
+  /** The current parameter vector, or null before the first generation. */
+  private float[] center;
+
+  /** Offsets of the pairs sampled in the last generation. */
+  private int[] offsets;
+
+  /** Total number of generations evolved. */
+  @Getter private int generations;
+
+  /** Private constructor - use {@link #create} instead. */
+  private EvolutionStrategies(
+      Individual.Factory<I> factory, NoiseTable noise, float sigma, float learningRate) {
+    this.factory = factory;
+    this.noise = noise;
+    this.sigma = sigma;
+    this.learningRate = learningRate;
+  }
+
+  /**
+   * Creates a new evolution strategies engine.
+   *
+   * @param factory thread-safe factory for creating new individuals
+   * @param noise shared noise table
+   * @param sigma standard deviation of the perturbations
+   * @param learningRate step size of the gradient ascent
+   * @param <I> type of individuals in the population
+   * @return a new EvolutionStrategies instance
+   * @throws java.lang.IllegalArgumentException if sigma or learningRate is not positive
+   */
+  public static <I extends Individual> EvolutionStrategies<I> create(
+      Individual.Factory<I> factory, NoiseTable noise, float sigma, float learningRate) {
+    if (!(sigma > 0)) {
+      throw new IllegalArgumentException("Sigma must be positive");
+    }
+    if (!(learningRate > 0)) {
+      throw new IllegalArgumentException("Learning rate must be positive");
+    }
+    return new EvolutionStrategies<>(factory, noise, sigma, learningRate);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Returns {@code 2 * ceil(n / 2)} individuals for a population of {@code n}, as antithetic
+   * pairs: the individuals at {@code 2k} and {@code 2k + 1} are {@code center + sigma * noise} and
+   * {@code center - sigma * noise} for the same offset.
+   *
+   * @throws java.lang.IllegalArgumentException if the population is empty or isn't the one sampled
+   *     by the previous call
+   */
+  @Override
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+
+    if (center == null) {
+      var best = population.get(0);
+      for (final var individual : population) {
+        if (individual.getFitness() > best.getFitness()) {
+          best = individual;
+        }
+      }
+      center = best.getChromosome().getGenes();
+      offsets = new int[(population.size() + 1) / 2];
+    } else {
+      if (population.size() != offsets.length * 2) {
+        throw new IllegalArgumentException(
+            "Population must be the " + offsets.length * 2 + " previously sampled individuals");
+      }
+      final var perturbations = new ArrayList<Perturbation>(offsets.length);
+      for (int k = 0; k < offsets.length; k++) {
+        perturbations.add(
+            new Perturbation(
+                noise.getSeed(),
+                offsets[k],
+                population.get(2 * k).getFitness(),
+                population.get(2 * k + 1).getFitness()));
+      }
+      update(perturbations);
+    }
+    generations++;
+
+    for (int k = 0; k < offsets.length; k++) {
+      offsets[k] = noise.sampleOffset(random, center.length);
+    }
+    final var sampled =
+        IntStream.range(0, offsets.length * 2)
+            .parallel()
+            .mapToObj(
+                i -> {
+                  final float[] genes = new float[center.length];
+                  noise.perturb(center, offsets[i / 2], i % 2 == 0 ? sigma : -sigma, genes);
+                  return factory.create(Chromosome.of(genes));
+                })
+            .collect(Collectors.toList());
+
+    return new Pair<>(sampled, Statistics.of(population));
+  }
+
+  /**
+   * Moves the center along the rank-shaped gradient estimated from evaluated pairs.
+   *
+   * @param perturbations evaluated antithetic pairs
+   * @throws java.lang.IllegalStateException if the engine has no center yet
+   * @throws java.lang.IllegalArgumentException if a perturbation comes from a different noise table
+   */
+  public void update(List<Perturbation> perturbations) {
+    if (center == null) {
+      throw new IllegalStateException("Engine has not been seeded with a population yet");
+    }
+    if (perturbations.isEmpty()) {
+      return;
+    }
+
+    final int pairs = perturbations.size();
+    final float[] fitness = new float[pairs * 2];
+    for (int k = 0; k < pairs; k++) {
+      final var perturbation = perturbations.get(k);
+      if (perturbation.getSeed() != noise.getSeed()) {
+        throw new IllegalArgumentException("Perturbation was drawn from a different noise table");
+      }
+      fitness[2 * k] = perturbation.getPositiveFitness();
+      fitness[2 * k + 1] = perturbation.getNegativeFitness();
+    }
+    final float[] ranks = centeredRanks(fitness);
+
+    final float[] gradient = new float[center.length];
+    for (int k = 0; k < pairs; k++) {
+      noise.accumulate(gradient, perturbations.get(k).getOffset(), ranks[2 * k] - ranks[2 * k + 1]);
+    }
+    final float step = learningRate / (2 * pairs * sigma);
+    for (int i = 0; i < center.length; i++) {
+      center[i] += step * gradient[i];
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void writeState(DataOutput out, IndividualCodec<I> codec) throws IOException {
+    out.writeInt(generations);
+    out.writeBoolean(center != null);
+    if (center == null) {
+      return;
+    }
+    out.writeInt(center.length);
+    for (final float value : center) {
+      out.writeFloat(value);
+    }
+    out.writeInt(offsets.length);
+    for (final int offset : offsets) {
+      out.writeInt(offset);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void readState(DataInput in, IndividualCodec<I> codec) throws IOException {
+    generations = in.readInt();
+    if (!in.readBoolean()) {
+      center = null;
+      offsets = null;
+      return;
+    }
+    center = new float[in.readInt()];
+    for (int i = 0; i < center.length; i++) {
+      center[i] = in.readFloat();
+    }
+    offsets = new int[in.readInt()];
+    for (int k = 0; k < offsets.length; k++) {
+      offsets[k] = in.readInt();
+    }
+  }
+
+  /**
+   * Returns a copy of the current parameter vector.
+   *
+   * @return the center, or an empty chromosome before the first generation
+   */
+  public Chromosome getCenter() {
+    return center == null ? Chromosome.of() : Chromosome.of(center.clone());
+  }
+
+  /**
+   * Maps values to their ranks, scaled to [-0.5, 0.5]. Ties get the mean of their ranks so that
+   * equal fitness never produces a gradient.
+   */
+  static float[] centeredRanks(float[] values) {
+    final int n = values.length;
+    final float[] ranks = new float[n];
+    if (n == 1) {
+      return ranks;
+    }
+    final Integer[] order = new Integer[n];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, (a, b) -> Float.compare(values[a], values[b]));
+
+    int start = 0;
+    while (start < n) {
+      int end = start;
+      while (end + 1 < n && values[order[end + 1]] == values[order[start]]) {
+        end++;
+      }
+      final float rank = (start + end) / 2.0f / (n - 1) - 0.5f;
+      for (int i = start; i <= end; i++) {
+        ranks[order[i]] = rank;
+      }
+      start = end + 1;
+    }
+    return ranks;
+  }
+}
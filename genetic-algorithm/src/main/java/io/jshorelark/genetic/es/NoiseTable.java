@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.es;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import lombok.Getter;
+
+/**
+ * A large, read-only block of standard normal noise shared by every worker.
+ *
+ * <p>A perturbation is identified by its offset into the table alone: workers that hold a table
+ * built from the same seed can reconstruct any perturbation from that offset, so they only need to
+ * exchange offsets and fitness values instead of whole parameter vectors.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class NoiseTable {
+  /** Number of values generated by each parallel task while filling the table. */
+  private static final int BLOCK_SIZE = 1 << 16;
+
+  /** The seed the table was built from. */
+  @Getter private final long seed;
+
+  /** The noise. */
+  private final float[] noise;
+
+  /** Private constructor - use {@link #create} instead. */
+  private NoiseTable(long seed, float[] noise) {
+    this.seed = seed;
+    this.noise = noise;
+  }
+
+  /**
+   * Builds a noise table. The table is filled in parallel, one split generator per block, so the
+   * same seed and size always yield the same table.
+   *
+   * @param seed the seed
+   * @param size number of values in the table
+   * @return a new noise table
+   * @throws java.lang.IllegalArgumentException if size is not positive
+   */
+  public static NoiseTable create(long seed, int size) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Noise table size must be positive");
+    }
+    final float[] noise = new float[size];
+    final int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    final var streams = RandomGenerators.streams(RandomGenerators.fast(seed), blocks);
+    IntStream.range(0, blocks)
+        .parallel()
+        .forEach(
+            block -> {
+              final var random = streams.get(block);
+              final int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+              for (int i = block * BLOCK_SIZE; i < end; i++) {
+                noise[i] = (float) random.nextGaussian();
+              }
+            });
+    return new NoiseTable(seed, noise);
+  }
+
+  /**
+   * Gets the number of values in the table.
+   *
+   * @return a int
+   */
+  public int size() {
+    return noise.length;
+  }
+
+  /**
+   * Gets a single noise value.
+   *
+   * @param index a int
+   * @return a float
+   */
+  public float get(int index) {
+    return noise[index];
+  }
+
+  /**
+   * Draws a random offset at which a perturbation of the given dimension fits in the table.
+   *
+   * @param random random number generator
+   * @param dimension length of the perturbation
+   * @return an offset
+   * @throws java.lang.IllegalArgumentException if the table is smaller than the dimension
+   */
+  public int sampleOffset(RandomGenerator random, int dimension) {
+    if (dimension > noise.length) {
+      throw new IllegalArgumentException("Noise table is smaller than the parameter vector");
+    }
+    return random.nextInt(noise.length - dimension + 1);
+  }
+
+  /**
+   * Writes {@code center + scale * noise[offset..]} into {@code target}.
+   *
+   * @param center the unperturbed parameters
+   * @param offset offset of the perturbation
+   * @param scale scale of the perturbation, negative for the antithetic sample
+   * @param target array receiving the perturbed parameters, at least as long as center
+   */
+  public void perturb(float[] center, int offset, float scale, float[] target) {
+    for (int i = 0; i < center.length; i++) {
+      target[i] = center[i] + scale * noise[offset + i];
+    }
+  }
+
+  /**
+   * Adds {@code weight * noise[offset..]} to {@code accumulator}.
+   *
+   * @param accumulator the array to add to
+   * @param offset offset of the perturbation
+   * @param weight weight of the perturbation
+   */
+  public void accumulate(float[] accumulator, int offset, float weight) {
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] += weight * noise[offset + i];
+    }
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.es;
+
+import lombok.Value;
+
+/**
+ * An evaluated antithetic pair of perturbations, as exchanged between workers. The perturbation
+ * itself is not included: it is {@code noise[offset..]} in the noise table built from {@code seed}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Value
+public class Perturbation {
+  /** Seed of the noise table the perturbation was drawn from. */
+  long seed;
+
+  /** Offset of the perturbation in the noise table. */
+  int offset;
+
+  /** Fitness of {@code center + sigma * noise}. */
+  float positiveFitness;
+
+  /** Fitness of {@code center - sigma * noise}. */
+  float negativeFitness;
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.evaluation;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Content-addressed cache of evaluated individuals. Entries are keyed by the 64-bit {@link
+ * Chromosome#contentHash() content hash} of the genes combined with the evaluation seed, and the
+ * least recently used entry is evicted once the cache is full. Each entry keeps a copy of its genes
+ * and seed, so a hash collision is treated as a miss rather than returning another genome's
+ * fitness.
+ *
+ * <p>With elitism or low mutation rates many offspring are exact copies of existing chromosomes;
+ * when fitness is deterministic for a given seed, the cache hands back the already evaluated
+ * individual instead of running the evaluation again. Cached individuals are shared between
+ * lookups, so this is only appropriate for individuals that are immutable once created.
+ *
+ * <p>This class is thread-safe. Evaluations run outside the cache lock, so concurrent misses on
+ * different keys do not serialize.
+ *
+ * @param <I> type of individuals stored in the cache
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class FitnessCache<I extends Individual> {
+  /** Maximum number of entries. */
+  private final int capacity;
+
+  /** Entries in access order, eldest first. */
+  private final LinkedHashMap<Long, Entry<I>> entries;
+
+  /** Number of lookups served from the cache. */
+  private final LongAdder hits = new LongAdder();
+
+  /** Number of lookups that required an evaluation. */
+  private final LongAdder misses = new LongAdder();
+
+  /** Number of entries evicted to stay within capacity. */
+  private final LongAdder evictions = new LongAdder();
+
+  /** Hashes the genes of a chromosome. */
+  private final ToLongFunction<Chromosome> hash;
+
+  /** Private constructor - use {@link #create(int)} instead. */
+  private FitnessCache(int capacity, ToLongFunction<Chromosome> hash) {
+    this.capacity = capacity;
+    this.hash = hash;
+    this.entries =
+        new LinkedHashMap<>(Math.min(capacity, 1 << 16), 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Entry<I>> eldest) {
+            if (size() > FitnessCache.this.capacity) {
+              evictions.increment();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Creates a new cache holding at most {@code capacity} individuals.
+   *
+   * @param capacity maximum number of cached individuals
+   * @param <I> type of individuals stored in the cache
+   * @return a new FitnessCache instance
+   * @throws java.lang.IllegalArgumentException if capacity is less than 1
+   */
+  public static <I extends Individual> FitnessCache<I> create(int capacity) {
+    return create(capacity, Chromosome::contentHash);
+  }
+
+  /** Creates a cache with a custom gene hash, so tests can force collisions. */
+  static <I extends Individual> FitnessCache<I> create(
+      int capacity, ToLongFunction<Chromosome> hash) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1");
+    }
+    return new FitnessCache<>(capacity, hash);
+  }
+
+  /**
+   * Returns the cached individual for the given chromosome and seed, evaluating it with the factory
+   * on a miss.
+   *
+   * @param chromosome the chromosome to evaluate
+   * @param seed the seed the evaluation is deterministic for
+   * @param factory the factory that evaluates the chromosome on a miss
+   * @return the cached or newly created individual
+   */
+  public I get(Chromosome chromosome, long seed, Individual.Factory<I> factory) {
+    final long key = key(chromosome, seed);
+    final float[] genes = chromosome.toArray();
+
+    synchronized (entries) {
+      final var cached = entries.get(key);
+      if (cached != null && cached.matches(genes, seed)) {
+        hits.increment();
+        return cached.individual();
+      }
+    }
+
+    misses.increment();
+    final var created = factory.create(chromosome);
+    synchronized (entries) {
+      final var raced = entries.get(key);
+      if (raced != null && raced.matches(genes, seed)) {
+        return raced.individual();
+      }
+      // Replaces any entry whose genes merely share the key
+      entries.put(key, new Entry<>(seed, genes, created));
+      return created;
+    }
+  }
+
+  /**
+   * Wraps a factory so that every chromosome it creates goes through this cache with a fixed seed.
+   *
+   * @param factory the factory to wrap
+   * @return a caching factory
+   */
+  public Individual.Factory<I> wrap(Individual.Factory<I> factory) {
+    return wrap(factory, () -> 0L);
+  }
+
+  /**
+   * Wraps a factory so that every chromosome it creates goes through this cache. The seed supplier
+   * is queried on every lookup, so callers that re-seed their evaluation each generation can keep
+   * using the same wrapped factory.
+   *
+   * @param factory the factory to wrap
+   * @param seed supplier of the current evaluation seed
+   * @return a caching factory
+   */
+  public Individual.Factory<I> wrap(Individual.Factory<I> factory, LongSupplier seed) {
+    return chromosome -> get(chromosome, seed.getAsLong(), factory);
+  }
+
+  /**
+   * Gets the number of lookups served from the cache.
+   *
+   * @return a long
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of lookups that required an evaluation.
+   *
+   * @return a long
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of entries evicted to stay within capacity.
+   *
+   * @return a long
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the fraction of lookups served from the cache.
+   *
+   * @return a double between 0 and 1, or 0 if there were no lookups yet
+   */
+  public double getHitRate() {
+    final long h = hits.sum();
+    final long total = h + misses.sum();
+    return total == 0 ? 0.0 : (double) h / total;
+  }
+
+  /**
+   * Gets the number of cached individuals.
+   *
+   * @return a int
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Gets the maximum number of cached individuals.
+   *
+   * @return a int
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /** Removes all cached individuals. Counters are left untouched. */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  /** A cached individual with the exact genes and seed it was evaluated for. */
+  private record Entry<I>(long seed, float[] genes, I individual) {
+    /** Whether this entry was evaluated for exactly these genes and seed. */
+    boolean matches(float[] otherGenes, long otherSeed) {
+      // Bitwise, unlike Chromosome.equals, to agree with the content hash
+      return seed == otherSeed && Arrays.equals(genes, otherGenes);
+    }
+  }
+
+  /** Combines the chromosome's content hash with the evaluation seed. */
+  private long key(Chromosome chromosome, long seed) {
+    long key = hash.applyAsLong(chromosome) ^ (seed * 0x9E3779B97F4A7C15L);
+    key ^= key >>> 31;
+    key *= 0xBF58476D1CE4E5B9L;
+    key ^= key >>> 29;
+    return key;
+  }
+}
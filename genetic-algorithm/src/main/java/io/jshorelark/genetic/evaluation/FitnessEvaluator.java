@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.evaluation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Turns a batch of chromosomes into evaluated individuals.
+ *
+ * <p>Evaluation happens in {@link Individual.Factory#create}; an evaluator only decides where and
+ * how concurrently the factory runs. Parallel evaluators call the factory from several threads at
+ * once, so it must be thread-safe.
+ *
+ * @param <I> type of individuals produced
+ * @author Jose
+ * @version $Id: $Id
+ */
+@FunctionalInterface
+public interface FitnessEvaluator<I extends Individual> {
+  /**
+   * Evaluates a batch of chromosomes.
+   *
+   * @param chromosomes the chromosomes to evaluate
+   * @param factory the factory that creates and evaluates each individual
+   * @return the evaluated individuals, in the order of the chromosomes
+   */
+  List<I> evaluate(List<Chromosome> chromosomes, Individual.Factory<I> factory);
+
+  /**
+   * Evaluates on the calling thread, one chromosome after another.
+   *
+   * @param <I> type of individuals produced
+   * @return a sequential evaluator
+   */
+  static <I extends Individual> FitnessEvaluator<I> sequential() {
+    return (chromosomes, factory) -> {
+      final var individuals = new ArrayList<I>(chromosomes.size());
+      for (final var chromosome : chromosomes) {
+        individuals.add(factory.create(chromosome));
+      }
+      return individuals;
+    };
+  }
+
+  /**
+   * Evaluates in parallel on the common fork/join pool.
+   *
+   * @param <I> type of individuals produced
+   * @return a fork/join evaluator
+   */
+  static <I extends Individual> FitnessEvaluator<I> forkJoin() {
+    return forkJoin(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Evaluates in parallel on the given fork/join pool, splitting the batch recursively so idle
+   * workers steal the remaining chromosomes.
+   *
+   * @param pool the pool to evaluate on
+   * @param <I> type of individuals produced
+   * @return a fork/join evaluator
+   */
+  static <I extends Individual> FitnessEvaluator<I> forkJoin(ForkJoinPool pool) {
+    return (chromosomes, factory) -> {
+      final var individuals = new Individual[chromosomes.size()];
+      final Runnable task =
+          () ->
+              IntStream.range(0, individuals.length)
+                  .parallel()
+                  .forEach(i -> individuals[i] = factory.create(chromosomes.get(i)));
+      if (ForkJoinPool.commonPool() == pool) {
+        task.run();
+      } else {
+        pool.submit(task).join();
+      }
+      return toList(individuals);
+    };
+  }
+
+  /**
+   * Evaluates every chromosome as its own task on the given executor and waits for all of them.
+   * With an executor creating a thread per task this suits evaluations that spend most of their
+   * time blocked, such as remote simulations.
+   *
+   * @param executor the executor to evaluate on
+   * @param <I> type of individuals produced
+   * @return an executor-backed evaluator
+   */
+  static <I extends Individual> FitnessEvaluator<I> executor(Executor executor) {
+    return (chromosomes, factory) -> {
+      final var futures = new ArrayList<CompletableFuture<I>>(chromosomes.size());
+      for (final var chromosome : chromosomes) {
+        futures.add(CompletableFuture.supplyAsync(() -> factory.create(chromosome), executor));
+      }
+      final var individuals = new ArrayList<I>(futures.size());
+      try {
+        for (final var future : futures) {
+          individuals.add(future.join());
+        }
+      } catch (CompletionException e) {
+        futures.forEach(future -> future.cancel(false));
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw e;
+      }
+      return individuals;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <I extends Individual> List<I> toList(Individual[] individuals) {
+    return new ArrayList<>((List<I>) Arrays.asList(individuals));
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.island;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.EvolutionResult;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Island-model runner that evolves several sub-populations in parallel, one thread per island.
+ *
+ * <p>Every island evolves with its own engine, built for it at the start of each run, and its own
+ * random number stream derived from the run seed. Engines that carry state from one generation to
+ * the next, such as a {@link GeneticAlgorithm} with survivors, an adaptive mutation or a surrogate,
+ * must not be shared between islands, so only stateless algorithms may be shared. Every {@code
+ * migrationInterval} generations each island sends its best individuals to the islands chosen by
+ * the {@link MigrationTopology}, and replaces its worst individuals with whatever immigrants have
+ * arrived since the last migration. Migrants are shared by reference rather than copied, so an
+ * individual may live on several islands at once; like {@link GeneticAlgorithm}, this assumes
+ * individuals are immutable and their fitness is known once the factory created them.
+ *
+ * <p>Migration goes through lock-free queues and islands never wait for each other, so a slow
+ * island simply picks up its neighbours' emigrants at its next migration. Which immigrants an
+ * island has received by then depends on thread scheduling, so only runs without migration are
+ * reproducible from the seed.
+ *
+ * @param <I> type of individuals on the islands
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class IslandModel<I extends Individual> {
+  /** Builds the engine of each island, given its index. */
+  private final IntFunction<? extends EvolutionEngine<I>> engines;
+
+  /** Topology that decides where emigrants go. */
+  private final MigrationTopology topology;
+
+  /** Number of generations between migrations. */
+  private final int migrationInterval;
+
+  /** Number of individuals each island sends per migration. */
+  private final int migrants;
+
+  /** Private constructor - use {@link #create} instead. */
+  private IslandModel(
+      IntFunction<? extends EvolutionEngine<I>> engines,
+      MigrationTopology topology,
+      int migrationInterval,
+      int migrants) {
+    this.engines = engines;
+    this.topology = topology;
+    this.migrationInterval = migrationInterval;
+    this.migrants = migrants;
+  }
+
+  /**
+   * Creates a new island model whose islands share one stateless algorithm.
+   *
+   * @param algorithm algorithm used to evolve every island
+   * @param topology topology that decides where emigrants go
+   * @param migrationInterval number of generations between migrations
+   * @param migrants number of individuals each island sends per migration
+   * @param <I> type of individuals on the islands
+   * @return a new IslandModel instance
+   * @throws java.lang.IllegalArgumentException if the algorithm is stateful, the interval is less
+   *     than 1 or migrants is negative
+   */
+  public static <I extends Individual> IslandModel<I> create(
+      GeneticAlgorithm<I> algorithm,
+      MigrationTopology topology,
+      int migrationInterval,
+      int migrants) {
+    if (algorithm.isStateful()) {
+      throw new IllegalArgumentException(
+          "A stateful algorithm cannot be shared between islands; build one per island instead");
+    }
+    return create(island -> algorithm, topology, migrationInterval, migrants);
+  }
+
+  /**
+   * Creates a new island model that builds a separate engine for every island. The engines must not
+   * share stateful parts either, such as an adaptive mutation or a surrogate filter.
+   *
+   * @param engines builds the engine of each island, given its index
+   * @param topology topology that decides where emigrants go
+   * @param migrationInterval number of generations between migrations
+   * @param migrants number of individuals each island sends per migration
+   * @param <I> type of individuals on the islands
+   * @return a new IslandModel instance
+   * @throws java.lang.IllegalArgumentException if the interval is less than 1 or migrants is
+   *     negative
+   */
+  public static <I extends Individual> IslandModel<I> create(
+      IntFunction<? extends EvolutionEngine<I>> engines,
+      MigrationTopology topology,
+      int migrationInterval,
+      int migrants) {
+    if (migrationInterval < 1) {
+      throw new IllegalArgumentException("Migration interval must be at least 1");
+    }
+    if (migrants < 0) {
+      throw new IllegalArgumentException("Migrants must not be negative");
+    }
+    return new IslandModel<>(engines, topology, migrationInterval, migrants);
+  }
+
+  /**
+   * Evolves every island for the given number of generations, each on its own thread.
+   *
+   * @param seed seed from which every island's random stream is derived
+   * @param islands initial population of each island
+   * @param generations number of generations to evolve
+   * @return the final population and statistics of each island, in island order
+   * @throws java.lang.IllegalArgumentException if there are no islands or an island is empty
+   */
+  public List<EvolutionResult<I>> evolve(long seed, List<List<I>> islands, int generations) {
+    if (islands.isEmpty()) {
+      throw new IllegalArgumentException("There must be at least one island");
+    }
+    if (islands.stream().anyMatch(List::isEmpty)) {
+      throw new IllegalArgumentException("Island populations cannot be empty");
+    }
+
+    final int count = islands.size();
+    final List<Queue<I>> inboxes =
+        IntStream.range(0, count)
+            .<Queue<I>>mapToObj(i -> new ConcurrentLinkedQueue<>())
+            .collect(Collectors.toList());
+
+    // Derive one independent stream per island up front, so breeding on an island never depends
+    // on how the other islands' draws interleave with it
+    final var streams = RandomGenerators.streams(RandomGenerators.fast(seed), count);
+    final var islandEngines = new ArrayList<EvolutionEngine<I>>(count);
+    for (int i = 0; i < count; i++) {
+      islandEngines.add(engines.apply(i));
+    }
+
+    final var threadIndex = new AtomicInteger();
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            count, runnable -> new Thread(runnable, "island-" + threadIndex.getAndIncrement()));
+    try {
+      final var futures = new ArrayList<Future<EvolutionResult<I>>>(count);
+      for (int i = 0; i < count; i++) {
+        final int island = i;
+        futures.add(
+            executor.submit(
+                () ->
+                    runIsland(
+                        island,
+                        islandEngines.get(island),
+                        streams.get(island),
+                        islands.get(island),
+                        generations,
+                        inboxes)));
+      }
+
+      final var results = new ArrayList<EvolutionResult<I>>(count);
+      for (final var future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while evolving islands", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Island evolution failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Evolves a single island, migrating every {@code migrationInterval} generations. */
+  private EvolutionResult<I> runIsland(
+      int island,
+      EvolutionEngine<I> engine,
+      RandomGenerator random,
+      List<I> initial,
+      int generations,
+      List<Queue<I>> inboxes) {
+    List<I> population = new ArrayList<>(initial);
+    final int[] targets = topology.targets(island, inboxes.size());
+
+    for (int generation = 1; generation <= generations; generation++) {
+      population = new ArrayList<>(engine.evolve(random, population).getFirst());
+
+      if (migrants > 0 && generation % migrationInterval == 0 && generation < generations) {
+        final var emigrants = best(population, migrants);
+        for (final int target : targets) {
+          inboxes.get(target).addAll(emigrants);
+        }
+        immigrate(population, inboxes.get(island));
+      }
+    }
+
+    return new EvolutionResult<>(population, Statistics.of(population));
+  }
+
+  /**
+   * Replaces the worst individuals of the population with the immigrants waiting in the inbox. The
+   * immigrants are inserted as they are, not copied.
+   *
+   * @param population the population to update in place
+   * @param inbox queue of arrived immigrants, drained by this call
+   * @param <I> type of individuals
+   */
+  static <I extends Individual> void immigrate(List<I> population, Queue<I> inbox) {
+    final var arrivals = new ArrayList<I>();
+    for (I immigrant = inbox.poll(); immigrant != null; immigrant = inbox.poll()) {
+      arrivals.add(immigrant);
+    }
+    if (arrivals.isEmpty()) {
+      return;
+    }
+
+    final int[] worst =
+        IntStream.range(0, population.size())
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> population.get(i).getFitness()))
+            .limit(arrivals.size())
+            .mapToInt(Integer::intValue)
+            .toArray();
+    for (int i = 0; i < worst.length; i++) {
+      population.set(worst[i], arrivals.get(i));
+    }
+  }
+
+  /** Returns the {@code count} fittest individuals of the population, best first. */
+  private static <I extends Individual> List<I> best(List<I> population, int count) {
+    return population.stream()
+        .sorted(Comparator.<I>comparingDouble(Individual::getFitness).reversed())
+        .limit(count)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.island;
+
+/**
+ * Defines which islands receive the emigrants of a given island.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public enum MigrationTopology {
+  /** Each island sends its emigrants to the next island, wrapping around at the end. */
+  RING {
+    @Override
+    public int[] targets(int island, int islands) {
+      return islands < 2 ? new int[0] : new int[] {(island + 1) % islands};
+    }
+  },
+
+  /** Each island sends its emigrants to every other island. */
+  FULLY_CONNECTED {
+    @Override
+    public int[] targets(int island, int islands) {
+      final var targets = new int[Math.max(0, islands - 1)];
+      int next = 0;
+      for (int i = 0; i < islands; i++) {
+        if (i != island) {
+          targets[next++] = i;
+        }
+      }
+      return targets;
+    }
+  };
+
+  /**
+   * Returns the islands that receive emigrants from the given island.
+   *
+   * @param island index of the sending island
+   * @param islands total number of islands
+   * @return indices of the receiving islands
+   */
+  public abstract int[] targets(int island, int islands);
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.lineage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Genealogy of a run, kept as primitive columns in a file rather than as references between
+ * individuals, so recording it never keeps old populations alive.
+ *
+ * <p>Record {@code g} describes how generation {@code g + 1} was bred from generation {@code g}:
+ * for every child, the indices of both parents, the crossover point (the first gene in which the
+ * child differs from its first parent) and the number of genes changed by mutation. Generations are
+ * appended as big-endian blocks:
+ *
+ * <pre>
+ * int                 individuals
+ * int[individuals]    first parent
+ * int[individuals]    second parent
+ * short[individuals]  crossover point, -1 if the child matches its first parent
+ * short[individuals]  mutated genes
+ * </pre>
+ *
+ * <p>Only the offset of each block stays on the heap. The file is memory-mapped on first query in
+ * segments of {@value #SEGMENT_BYTES} bytes that each cover many records, so long runs stay well
+ * below the operating system's limit on mappings while it pages genealogy in and out as needed.
+ * Counts that don't fit a short are saturated. This class is thread-safe.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class Lineage implements Closeable {
+  /** Marks a parent that could not be identified in the previous generation. */
+  public static final int UNKNOWN_PARENT = -1;
+
+  /** Bytes of the file covered by each mapped segment. */
+  static final int SEGMENT_BYTES = 64 << 20;
+
+  /** Channel of the backing file. */
+  private final FileChannel channel;
+
+  /** File offset of each record. */
+  private long[] offsets = new long[16];
+
+  /** Size of each record's generation. */
+  private int[] sizes = new int[16];
+
+  /** Bytes of the file covered by each mapped segment. */
+  private final int segmentBytes;
+
+  /**
+   * Lazily mapped segments. Segment {@code s} starts at {@code s * segmentBytes} and reaches a few
+   * bytes into the next one, so every value starting in it can be read from it.
+   */
+  private MappedByteBuffer[] segments = new MappedByteBuffer[16];
+
+  /** Number of records. */
+  private int records;
+
+  /** Offset at which the next record is written. */
+  private long end;
+
+  /** Private constructor - use {@link #create} or {@link #open} instead. */
+  private Lineage(FileChannel channel, int segmentBytes) {
+    this.channel = channel;
+    this.segmentBytes = segmentBytes;
+  }
+
+  /**
+   * Creates an empty lineage, replacing any existing file.
+   *
+   * @param path backing file
+   * @return a new Lineage instance
+   * @throws java.io.IOException if the file cannot be created
+   */
+  public static Lineage create(Path path) throws IOException {
+    return create(path, SEGMENT_BYTES);
+  }
+
+  /** Creates an empty lineage mapped in segments of the given size. */
+  static Lineage create(Path path, int segmentBytes) throws IOException {
+    return new Lineage(
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING),
+        segmentBytes);
+  }
+
+  /**
+   * Opens a lineage recorded earlier; new records are appended to it.
+   *
+   * @param path backing file
+   * @return a new Lineage instance
+   * @throws java.io.IOException if the file cannot be read or is truncated
+   */
+  public static Lineage open(Path path) throws IOException {
+    final var lineage =
+        new Lineage(
+            FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE),
+            SEGMENT_BYTES);
+    try {
+      final long length = lineage.channel.size();
+      final var header = ByteBuffer.allocate(Integer.BYTES);
+      while (lineage.end < length) {
+        // A crash while appending can leave a partial header behind
+        if (length - lineage.end < Integer.BYTES) {
+          throw new IOException("Truncated lineage record " + lineage.records);
+        }
+        header.clear();
+        while (header.hasRemaining()) {
+          if (lineage.channel.read(header, lineage.end + header.position()) < 0) {
+            throw new IOException("Truncated lineage record " + lineage.records);
+          }
+        }
+        final int size = header.flip().getInt();
+        final long next = lineage.end + blockSize(size);
+        if (size < 0 || next > length) {
+          throw new IOException("Truncated lineage record " + lineage.records);
+        }
+        lineage.index(size);
+      }
+    } catch (IOException | RuntimeException e) {
+      lineage.close();
+      throw e;
+    }
+    return lineage;
+  }
+
+  /**
+   * Appends the record of one bred generation.
+   *
+   * @param firstParents index of each child's first parent
+   * @param secondParents index of each child's second parent
+   * @param crossoverPoints first gene in which each child differs from its first parent, -1 for
+   *     none
+   * @param mutations number of genes changed by mutation in each child
+   * @throws java.lang.IllegalArgumentException if the columns differ in length
+   * @throws java.io.UncheckedIOException if the record cannot be written
+   */
+  public synchronized void append(
+      int[] firstParents, int[] secondParents, int[] crossoverPoints, int[] mutations) {
+    final int size = firstParents.length;
+    if (secondParents.length != size
+        || crossoverPoints.length != size
+        || mutations.length != size) {
+      throw new IllegalArgumentException("Lineage columns must have the same length");
+    }
+    final var buffer = ByteBuffer.allocate(Math.toIntExact(blockSize(size)));
+    buffer.putInt(size);
+    buffer.asIntBuffer().put(firstParents);
+    buffer.position(buffer.position() + size * Integer.BYTES);
+    buffer.asIntBuffer().put(secondParents);
+    buffer.position(buffer.position() + size * Integer.BYTES);
+    for (final int point : crossoverPoints) {
+      buffer.putShort(saturate(point));
+    }
+    for (final int count : mutations) {
+      buffer.putShort(saturate(count));
+    }
+    buffer.flip();
+    try {
+      long position = end;
+      while (buffer.hasRemaining()) {
+        position += channel.write(buffer, position);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot write lineage record " + records, e);
+    }
+    index(size);
+  }
+
+  /**
+   * Gets the number of recorded generations.
+   *
+   * @return a int
+   */
+  public synchronized int records() {
+    return records;
+  }
+
+  /**
+   * Gets the number of children described by a record.
+   *
+   * @param record the record
+   * @return a int
+   */
+  public synchronized int size(int record) {
+    checkRecord(record);
+    return sizes[record];
+  }
+
+  /**
+   * Gets a child's first parent.
+   *
+   * @param record the record describing the child's generation
+   * @param child index of the child
+   * @return index of the parent, or {@link #UNKNOWN_PARENT}
+   */
+  public synchronized int firstParent(int record, int child) {
+    return getInt(column(record, child) + (long) child * Integer.BYTES);
+  }
+
+  /**
+   * Gets a child's second parent.
+   *
+   * @param record the record describing the child's generation
+   * @param child index of the child
+   * @return index of the parent, or {@link #UNKNOWN_PARENT}
+   */
+  public synchronized int secondParent(int record, int child) {
+    return getInt(column(record, child) + ((long) sizes[record] + child) * Integer.BYTES);
+  }
+
+  /**
+   * Gets the first gene in which a child differs from its first parent.
+   *
+   * @param record the record describing the child's generation
+   * @param child index of the child
+   * @return the gene index, -1 if none
+   */
+  public synchronized int crossoverPoint(int record, int child) {
+    final long shorts = column(record, child) + 2L * sizes[record] * Integer.BYTES;
+    return getShort(shorts + (long) child * Short.BYTES);
+  }
+
+  /**
+   * Gets the number of genes changed by mutation in a child.
+   *
+   * @param record the record describing the child's generation
+   * @param child index of the child
+   * @return a int
+   */
+  public synchronized int mutations(int record, int child) {
+    final long shorts = column(record, child) + 2L * sizes[record] * Integer.BYTES;
+    return getShort(shorts + ((long) sizes[record] + child) * Short.BYTES);
+  }
+
+  /**
+   * Finds the ancestors of an individual, generation by generation.
+   *
+   * @param generation the individual's generation, where generation 0 is the initial population
+   * @param individual index of the individual
+   * @param depth maximum number of generations to go back
+   * @return the sorted, distinct ancestor indices of each earlier generation, parents first;
+   *     unknown parents are left out
+   * @throws java.lang.IllegalArgumentException if the generation was never recorded, the individual
+   *     is not part of it or depth is negative; the size of generation 0 is not recorded, so there
+   *     only negative indices are rejected
+   */
+  public synchronized List<int[]> ancestors(int generation, int individual, int depth) {
+    if (generation < 0 || generation > records) {
+      throw new IllegalArgumentException("No such generation: " + generation);
+    }
+    if (individual < 0 || (generation > 0 && individual >= sizes[generation - 1])) {
+      throw new IllegalArgumentException("No such individual: " + individual);
+    }
+    if (depth < 0) {
+      throw new IllegalArgumentException("Depth cannot be negative");
+    }
+    final var result = new ArrayList<int[]>();
+    var current = new BitSet();
+    current.set(individual);
+    for (int record = generation - 1; record >= Math.max(0, generation - depth); record--) {
+      final var parents = new BitSet();
+      for (int child = current.nextSetBit(0); child >= 0; child = current.nextSetBit(child + 1)) {
+        addKnown(parents, firstParent(record, child));
+        addKnown(parents, secondParent(record, child));
+      }
+      if (parents.isEmpty()) {
+        break;
+      }
+      result.add(parents.stream().toArray());
+      current = parents;
+    }
+    return result;
+  }
+
+  /**
+   * Flushes written records to the storage device.
+   *
+   * @throws java.io.UncheckedIOException if the file cannot be flushed
+   */
+  public synchronized void flush() {
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot flush lineage", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void close() throws IOException {
+    Arrays.fill(segments, null);
+    channel.close();
+  }
+
+  /** Bytes taken by a record of the given size. */
+  private static long blockSize(int size) {
+    return Integer.BYTES + (long) size * (2 * Integer.BYTES + 2 * Short.BYTES);
+  }
+
+  /** Registers the record starting at {@link #end}. */
+  private void index(int size) {
+    if (records == offsets.length) {
+      offsets = Arrays.copyOf(offsets, records * 2);
+      sizes = Arrays.copyOf(sizes, records * 2);
+    }
+    offsets[records] = end;
+    sizes[records] = size;
+    records++;
+    end += blockSize(size);
+  }
+
+  /** Returns the file offset of the record's first column, after checking the child index. */
+  private long column(int record, int child) {
+    checkRecord(record);
+    if (child < 0 || child >= sizes[record]) {
+      throw new IllegalArgumentException("No such individual: " + child);
+    }
+    return offsets[record] + Integer.BYTES;
+  }
+
+  private int getInt(long position) {
+    return segment(position, Integer.BYTES).getInt((int) (position % segmentBytes));
+  }
+
+  private short getShort(long position) {
+    return segment(position, Short.BYTES).getShort((int) (position % segmentBytes));
+  }
+
+  /**
+   * Returns the segment holding the value at the given file offset, mapping it on first access and
+   * remapping it when records were appended to it since.
+   */
+  private MappedByteBuffer segment(long position, int width) {
+    final int index = Math.toIntExact(position / segmentBytes);
+    if (index >= segments.length) {
+      segments = Arrays.copyOf(segments, Math.max(index + 1, segments.length * 2));
+    }
+    final long start = (long) index * segmentBytes;
+    if (segments[index] == null || segments[index].capacity() < position - start + width) {
+      final long length = Math.min(segmentBytes + Integer.BYTES, end - start);
+      try {
+        segments[index] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot map lineage segment " + index, e);
+      }
+    }
+    return segments[index];
+  }
+
+  private void checkRecord(int record) {
+    if (record < 0 || record >= records) {
+      throw new IllegalArgumentException("No such record: " + record);
+    }
+  }
+
+  private static void addKnown(BitSet parents, int parent) {
+    if (parent != UNKNOWN_PARENT) {
+      parents.set(parent);
+    }
+  }
+
+  private static short saturate(int value) {
+    return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+  }
+}
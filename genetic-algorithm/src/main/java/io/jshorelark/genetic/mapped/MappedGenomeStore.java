@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mapped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.crossover.CrossoverMethod;
+import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.selection.SelectionMethod;
+
+/**
+ * A population of equally long genomes kept in a memory-mapped file instead of on the heap, for
+ * genomes or populations too large to hold as {@link Chromosome} arrays.
+ *
+ * <p>Each genome is split into chunks of {@code chunkSize} genes, the last one padded, and chunks
+ * are laid out one genome after another in native byte order; the file is scratch space, not an
+ * exchange format. The file is mapped in segments of whole chunks, each mapped on first access and
+ * kept, so only a handful of mappings exist however large the store grows and the operating system
+ * pages genes in and out as needed.
+ *
+ * <p>Crossover and mutation stream through the genomes one chunk at a time, so only a few chunks
+ * are ever on the heap. Each chunk is handed to the existing operators as a chromosome or gene
+ * array of its own, so per-gene operators such as uniform crossover or Gaussian mutation behave
+ * exactly as on a whole genome. Crossover methods that aren't {@linkplain
+ * CrossoverMethod#isGeneWise() gene-wise}, such as single-point crossover, would pick one point per
+ * chunk instead of one per genome, so they are rejected for genomes of more than one chunk.
+ *
+ * <p>Selection sees each genome as an individual whose chromosome is read onto the heap only when
+ * asked for, so fitness-based methods never touch the genes.
+ *
+ * <p>Reads and writes of distinct chunks may run concurrently.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class MappedGenomeStore implements Closeable {
+  /** Upper bound on the bytes mapped by a single segment. */
+  static final long SEGMENT_BYTES = 1L << 30;
+
+  /** Channel of the backing file. */
+  private final FileChannel channel;
+
+  /** Number of genomes. */
+  private final int genomes;
+
+  /** Genes per genome. */
+  private final long length;
+
+  /** Genes per chunk. */
+  private final int chunkSize;
+
+  /** Chunks per genome. */
+  private final int chunks;
+
+  /** Chunks per mapped segment. */
+  private final int chunksPerSegment;
+
+  /** Lazily mapped segments, viewed as floats. */
+  private final AtomicReferenceArray<FloatBuffer> segments;
+
+  /** Private constructor - use {@link #create} instead. */
+  private MappedGenomeStore(
+      FileChannel channel, int genomes, long length, int chunkSize, long segmentBytes) {
+    this.channel = channel;
+    this.genomes = genomes;
+    this.length = length;
+    this.chunkSize = chunkSize;
+    this.chunks = Math.toIntExact((length + chunkSize - 1) / chunkSize);
+    this.chunksPerSegment =
+        (int)
+            Math.min(
+                Integer.MAX_VALUE, Math.max(1, segmentBytes / ((long) chunkSize * Float.BYTES)));
+    final long totalChunks = (long) genomes * chunks;
+    this.segments =
+        new AtomicReferenceArray<>(
+            Math.toIntExact((totalChunks + chunksPerSegment - 1) / chunksPerSegment));
+  }
+
+  /**
+   * Creates a store of zeroed genomes, replacing any existing file.
+   *
+   * @param path backing file
+   * @param genomes number of genomes
+   * @param length genes per genome
+   * @param chunkSize genes per chunk, the unit streamed through crossover and mutation
+   * @return a new MappedGenomeStore instance
+   * @throws java.lang.IllegalArgumentException if any size is less than 1
+   * @throws java.io.IOException if the file cannot be created
+   */
+  public static MappedGenomeStore create(Path path, int genomes, long length, int chunkSize)
+      throws IOException {
+    return create(path, genomes, length, chunkSize, SEGMENT_BYTES);
+  }
+
+  /** Creates a store mapped in segments of at most the given size. */
+  static MappedGenomeStore create(
+      Path path, int genomes, long length, int chunkSize, long segmentBytes) throws IOException {
+    if (genomes < 1 || length < 1 || chunkSize < 1) {
+      throw new IllegalArgumentException("Genomes, length and chunk size must be at least 1");
+    }
+    if ((long) chunkSize * Float.BYTES > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Chunk size too large: " + chunkSize);
+    }
+    return new MappedGenomeStore(
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING),
+        genomes,
+        length,
+        chunkSize,
+        segmentBytes);
+  }
+
+  /**
+   * Gets the number of genomes.
+   *
+   * @return a int
+   */
+  public int genomes() {
+    return genomes;
+  }
+
+  /**
+   * Gets the number of genes per genome.
+   *
+   * @return a long
+   */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Gets the number of genes per chunk.
+   *
+   * @return a int
+   */
+  public int chunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Gets the number of chunks per genome.
+   *
+   * @return a int
+   */
+  public int chunks() {
+    return chunks;
+  }
+
+  /**
+   * Gets the number of genes in a chunk; only the last chunk may be shorter than the chunk size.
+   *
+   * @param chunk the chunk
+   * @return a int
+   */
+  public int chunkLength(int chunk) {
+    checkChunk(chunk);
+    return (int) Math.min(chunkSize, length - (long) chunk * chunkSize);
+  }
+
+  /**
+   * Reads a chunk of a genome.
+   *
+   * @param genome the genome
+   * @param chunk the chunk
+   * @param into receives the chunk's genes from index 0
+   * @throws java.lang.IllegalArgumentException if the array is shorter than the chunk
+   */
+  public void read(int genome, int chunk, float[] into) {
+    final int count = chunkLength(chunk);
+    checkBuffer(into, count);
+    segment(genome, chunk).get(offset(genome, chunk), into, 0, count);
+  }
+
+  /**
+   * Writes a chunk of a genome.
+   *
+   * @param genome the genome
+   * @param chunk the chunk
+   * @param from the chunk's genes, from index 0
+   * @throws java.lang.IllegalArgumentException if the array is shorter than the chunk
+   */
+  public void write(int genome, int chunk, float[] from) {
+    final int count = chunkLength(chunk);
+    checkBuffer(from, count);
+    segment(genome, chunk).put(offset(genome, chunk), from, 0, count);
+  }
+
+  /**
+   * Reads a single gene.
+   *
+   * @param genome the genome
+   * @param gene index of the gene
+   * @return a float
+   */
+  public float get(int genome, long gene) {
+    if (gene < 0 || gene >= length) {
+      throw new IllegalArgumentException("No such gene: " + gene);
+    }
+    final int chunk = (int) (gene / chunkSize);
+    return segment(genome, chunk).get(offset(genome, chunk) + (int) (gene % chunkSize));
+  }
+
+  /**
+   * Writes a whole genome from a chromosome.
+   *
+   * @param genome the genome
+   * @param chromosome a chromosome of {@link #length()} genes
+   * @throws java.lang.IllegalArgumentException if the chromosome has a different length
+   */
+  public void write(int genome, Chromosome chromosome) {
+    if (chromosome.length() != length) {
+      throw new IllegalArgumentException("Chromosome must have " + length + " genes");
+    }
+    final float[] genes = chromosome.toArray();
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      segment(genome, chunk)
+          .put(offset(genome, chunk), genes, chunk * chunkSize, chunkLength(chunk));
+    }
+  }
+
+  /**
+   * Reads a whole genome onto the heap.
+   *
+   * @param genome the genome
+   * @return a {@link io.jshorelark.genetic.Chromosome} object
+   * @throws java.lang.IllegalStateException if the genome is too long for a heap array
+   */
+  public Chromosome toChromosome(int genome) {
+    if (length > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Genome too long for the heap: " + length);
+    }
+    final float[] genes = new float[(int) length];
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      segment(genome, chunk)
+          .get(offset(genome, chunk), genes, chunk * chunkSize, chunkLength(chunk));
+    }
+    return Chromosome.of(genes);
+  }
+
+  /**
+   * Crosses two genomes of this store into a genome of another, chunk by chunk.
+   *
+   * @param random the random number generator
+   * @param method crosses each pair of chunks
+   * @param parentA the first parent
+   * @param parentB the second parent
+   * @param target the store receiving the child, may be this one
+   * @param child the genome receiving the child
+   * @throws java.lang.IllegalArgumentException if the stores differ in length or chunk size, or the
+   *     genomes span several chunks and the method is not gene-wise
+   */
+  public void crossover(
+      RandomGenerator random,
+      CrossoverMethod method,
+      int parentA,
+      int parentB,
+      MappedGenomeStore target,
+      int child) {
+    checkCompatible(target);
+    checkCrossover(method);
+    final float[] a = new float[chunkSize];
+    final float[] b = new float[chunkSize];
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      final int count = chunkLength(chunk);
+      final float[] left = count == chunkSize ? a : new float[count];
+      final float[] right = count == chunkSize ? b : new float[count];
+      read(parentA, chunk, left);
+      read(parentB, chunk, right);
+      final var crossed = method.crossover(random, Chromosome.of(left), Chromosome.of(right));
+      crossed.copyInto(left, 0);
+      target.write(child, chunk, left);
+    }
+  }
+
+  /**
+   * Mutates a genome in place, chunk by chunk.
+   *
+   * @param random the random number generator
+   * @param method mutates each chunk
+   * @param genome the genome
+   */
+  public void mutate(RandomGenerator random, MutationMethod method, int genome) {
+    final float[] buffer = new float[chunkSize];
+    for (int chunk = 0; chunk < chunks; chunk++) {
+      final int count = chunkLength(chunk);
+      final float[] genes = count == chunkSize ? buffer : new float[count];
+      read(genome, chunk, genes);
+      method.mutate(random, genes);
+      write(genome, chunk, genes);
+    }
+  }
+
+  /**
+   * Breeds a whole generation into another store: for every genome of the target, two parents are
+   * selected by fitness, crossed and the child mutated, all chunk by chunk.
+   *
+   * @param random the random number generator
+   * @param selection selects parents; their genes are read from the store if it asks for them
+   * @param crossover crosses each pair of chunks
+   * @param mutation mutates each chunk
+   * @param fitness fitness of each genome of this store
+   * @param offspring the store receiving the next generation; must not be this one
+   * @throws java.lang.IllegalArgumentException if there is not one fitness per genome, the
+   *     offspring store is this one, the stores differ in length or chunk size, or the genomes span
+   *     several chunks and the crossover method is not gene-wise
+   */
+  public void breed(
+      RandomGenerator random,
+      SelectionMethod selection,
+      CrossoverMethod crossover,
+      MutationMethod mutation,
+      float[] fitness,
+      MappedGenomeStore offspring) {
+    if (fitness.length != genomes) {
+      throw new IllegalArgumentException("Expected " + genomes + " fitness values");
+    }
+    if (offspring == this) {
+      throw new IllegalArgumentException("Offspring must be bred into another store");
+    }
+    checkCompatible(offspring);
+    checkCrossover(crossover);
+    final var population = new Population(this, fitness);
+    final var prepared = selection.prepare(population);
+    for (int child = 0; child < offspring.genomes; child++) {
+      final int parentA = ((Member) prepared.select(random, population)).index;
+      final int parentB = ((Member) prepared.select(random, population)).index;
+      crossover(random, crossover, parentA, parentB, offspring, child);
+      offspring.mutate(random, mutation, child);
+    }
+  }
+
+  /**
+   * Flushes written genes to the storage device.
+   *
+   * @throws java.io.UncheckedIOException if the file cannot be flushed
+   */
+  public void flush() {
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot flush genome store", e);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void close() throws IOException {
+    for (int i = 0; i < segments.length(); i++) {
+      segments.set(i, null);
+    }
+    channel.close();
+  }
+
+  /** Index of a chunk within its segment's float view. */
+  private int offset(int genome, int chunk) {
+    final long global = (long) genome * chunks + chunk;
+    return (int) (global % chunksPerSegment) * chunkSize;
+  }
+
+  /** Maps the segment holding a chunk on first access, after checking the indices. */
+  private FloatBuffer segment(int genome, int chunk) {
+    if (genome < 0 || genome >= genomes) {
+      throw new IllegalArgumentException("No such genome: " + genome);
+    }
+    checkChunk(chunk);
+    final int index = (int) (((long) genome * chunks + chunk) / chunksPerSegment);
+    final var segment = segments.get(index);
+    return segment != null ? segment : map(index);
+  }
+
+  private synchronized FloatBuffer map(int index) {
+    if (segments.get(index) == null) {
+      final long chunkBytes = (long) chunkSize * Float.BYTES;
+      final long totalChunks = (long) genomes * chunks;
+      final long first = (long) index * chunksPerSegment;
+      final long count = Math.min(chunksPerSegment, totalChunks - first);
+      try {
+        segments.set(
+            index,
+            channel
+                .map(FileChannel.MapMode.READ_WRITE, first * chunkBytes, count * chunkBytes)
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Cannot map genome segment " + index, e);
+      }
+    }
+    return segments.get(index);
+  }
+
+  private void checkChunk(int chunk) {
+    if (chunk < 0 || chunk >= chunks) {
+      throw new IllegalArgumentException("No such chunk: " + chunk);
+    }
+  }
+
+  private void checkCompatible(MappedGenomeStore other) {
+    if (other.length != length || other.chunkSize != chunkSize) {
+      throw new IllegalArgumentException("Stores must have the same length and chunk size");
+    }
+  }
+
+  private void checkCrossover(CrossoverMethod method) {
+    if (chunks > 1 && !method.isGeneWise()) {
+      throw new IllegalArgumentException(
+          "Crossover must be gene-wise for genomes of more than one chunk");
+    }
+  }
+
+  private static void checkBuffer(float[] buffer, int count) {
+    if (buffer.length < count) {
+      throw new IllegalArgumentException("Buffer must hold at least " + count + " genes");
+    }
+  }
+
+  /** The store's genomes as individuals, for selection. */
+  private static final class Population extends AbstractList<Member> {
+    private final MappedGenomeStore store;
+    private final float[] fitness;
+
+    Population(MappedGenomeStore store, float[] fitness) {
+      this.store = store;
+      this.fitness = fitness;
+    }
+
+    @Override
+    public Member get(int index) {
+      return new Member(store, index, fitness[index]);
+    }
+
+    @Override
+    public int size() {
+      return fitness.length;
+    }
+  }
+
+  /** A genome seen by selection, read onto the heap only if its chromosome is asked for. */
+  private record Member(MappedGenomeStore store, int index, float fitness) implements Individual {
+    @Override
+    public Chromosome getChromosome() {
+      return store.toChromosome(index);
+    }
+
+    @Override
+    public float getFitness() {
+      return fitness;
+    }
+  }
+}
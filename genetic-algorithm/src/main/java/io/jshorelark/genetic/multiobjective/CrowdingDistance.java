@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.multiobjective;
+
+import java.util.Arrays;
+
+/**
+ * Crowding distance of the solutions in a front: the normalized perimeter of the cuboid formed by
+ * each solution's nearest neighbors along every objective. Boundary solutions get an infinite
+ * distance so they are always preferred.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class CrowdingDistance {
+  /** Private constructor - utility class. */
+  private CrowdingDistance() {}
+
+  /**
+   * Computes the crowding distance of every member of a front.
+   *
+   * @param objectives objective values of every solution
+   * @param front indices of the front's members
+   * @return the distance of each member, in front order
+   */
+  public static double[] compute(float[][] objectives, int[] front) {
+    final double[] distances = new double[front.length];
+    if (front.length <= 2) {
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      return distances;
+    }
+
+    final Integer[] order = new Integer[front.length];
+    final int count = objectives[front[0]].length;
+    for (int objective = 0; objective < count; objective++) {
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      final int m = objective;
+      Arrays.sort(order, (a, b) -> Float.compare(objectives[front[a]][m], objectives[front[b]][m]));
+
+      final float min = objectives[front[order[0]]][m];
+      final float max = objectives[front[order[order.length - 1]]][m];
+      distances[order[0]] = Double.POSITIVE_INFINITY;
+      distances[order[order.length - 1]] = Double.POSITIVE_INFINITY;
+      if (max == min) {
+        continue;
+      }
+      for (int i = 1; i < order.length - 1; i++) {
+        final float previous = objectives[front[order[i - 1]]][m];
+        final float next = objectives[front[order[i + 1]]][m];
+        distances[order[i]] += (next - previous) / (double) (max - min);
+      }
+    }
+    return distances;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.multiobjective;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Non-dominated sorting by Efficient Non-dominated Sort with sequential search (ENS-SS).
+ *
+ * <p>Solutions are first sorted lexicographically, best first, so no solution can be dominated by
+ * one that comes after it. Each solution then only needs comparing against the solutions already
+ * placed, front by front, until it finds a front where none of them dominates it. This needs far
+ * fewer comparisons than the {@code O(M N^2)} fast non-dominated sort, and no per-solution
+ * domination lists.
+ *
+ * <p>All objectives are maximized.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class NonDominatedSorting {
+  /** Private constructor - utility class. */
+  private NonDominatedSorting() {}
+
+  /**
+   * Sorts solutions into non-dominated fronts.
+   *
+   * @param objectives objective values of each solution, all of the same length
+   * @return the fronts, best first, each holding solution indices
+   * @throws java.lang.IllegalArgumentException if the solutions have different numbers of
+   *     objectives
+   */
+  public static List<int[]> sort(float[][] objectives) {
+    if (objectives.length == 0) {
+      return List.of();
+    }
+    final int count = objectives[0].length;
+    for (final float[] solution : objectives) {
+      if (solution.length != count) {
+        throw new IllegalArgumentException("Every solution must have " + count + " objectives");
+      }
+    }
+
+    final Integer[] order = new Integer[objectives.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> compareLexicographically(objectives[b], objectives[a]));
+
+    final var fronts = new ArrayList<int[]>();
+    final var sizes = new ArrayList<Integer>();
+    for (final int solution : order) {
+      int front = 0;
+      while (front < fronts.size()
+          && isDominated(objectives, solution, fronts.get(front), sizes.get(front))) {
+        front++;
+      }
+      if (front == fronts.size()) {
+        fronts.add(new int[4]);
+        sizes.add(0);
+      }
+      int[] members = fronts.get(front);
+      final int size = sizes.get(front);
+      if (size == members.length) {
+        members = Arrays.copyOf(members, size * 2);
+        fronts.set(front, members);
+      }
+      members[size] = solution;
+      sizes.set(front, size + 1);
+    }
+
+    final var result = new ArrayList<int[]>(fronts.size());
+    for (int front = 0; front < fronts.size(); front++) {
+      result.add(Arrays.copyOf(fronts.get(front), sizes.get(front)));
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether one solution dominates another: it is no worse in any objective and strictly
+   * better in at least one.
+   *
+   * @param a objectives of the first solution
+   * @param b objectives of the second solution
+   * @return whether a dominates b
+   */
+  public static boolean dominates(float[] a, float[] b) {
+    boolean better = false;
+    for (int i = 0; i < a.length; i++) {
+      if (a[i] < b[i]) {
+        return false;
+      }
+      if (a[i] > b[i]) {
+        better = true;
+      }
+    }
+    return better;
+  }
+
+  /** Whether any member of the front dominates the solution, checking the latest members first. */
+  private static boolean isDominated(float[][] objectives, int solution, int[] front, int size) {
+    for (int i = size - 1; i >= 0; i--) {
+      if (dominates(objectives[front[i]], objectives[solution])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int compareLexicographically(float[] a, float[] b) {
+    for (int i = 0; i < a.length; i++) {
+      final int comparison = Float.compare(a[i], b[i]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.multiobjective;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.Pair;
+import io.jshorelark.genetic.checkpoint.Checkpointable;
+import io.jshorelark.genetic.checkpoint.IndividualCodec;
+import io.jshorelark.genetic.crossover.CrossoverMethod;
+import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * NSGA-II multi-objective engine over {@link Individual#getObjectives()}.
+ *
+ * <p>Each generation the evaluated offspring are merged with the surviving parents, sorted into
+ * non-dominated fronts with {@link NonDominatedSorting}, and the best fronts survive; the front
+ * that doesn't fit entirely is cut by {@link CrowdingDistance}. Offspring are bred from the
+ * survivors by binary tournaments on rank, then crowding distance.
+ *
+ * <p>The engine is stateful and not thread-safe; use one instance per population. The returned
+ * statistics describe the scalar {@link Individual#getFitness()} of the evaluated population.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class Nsga2<I extends Individual> implements EvolutionEngine<I>, Checkpointable<I> {
+  /** Crossover method. */
+  private final CrossoverMethod crossoverMethod;
+
+  /** Mutation method. */
+  private final MutationMethod mutationMethod;
+
+  /** Factory for creating new individuals. */
+  private final Individual.Factory<I> factory;
+
+  /** Survivors of the last generation, empty before the first. */
+  private List<I> parents = List.of();
+
+  /** Survivors on the first non-dominated front. */
+  private List<I> paretoFront = List.of();
+
+  /** Private constructor - use {@link #create} instead. */
+  private Nsga2(
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory) {
+    this.crossoverMethod = crossoverMethod;
+    this.mutationMethod = mutationMethod;
+    this.factory = factory;
+  }
+
+  /**
+   * Creates a new NSGA-II engine.
+   *
+   * @param crossoverMethod crossover method
+   * @param mutationMethod mutation method
+   * @param factory factory for creating new individuals
+   * @return a new Nsga2 instance
+   * @param <I> a I class
+   */
+  public static <I extends Individual> Nsga2<I> create(
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory) {
+    return new Nsga2<>(crossoverMethod, mutationMethod, factory);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+    final int size = population.size();
+
+    final var combined = new ArrayList<I>(parents.size() + size);
+    combined.addAll(parents);
+    combined.addAll(population);
+    final float[][] objectives = new float[combined.size()][];
+    for (int i = 0; i < objectives.length; i++) {
+      objectives[i] = combined.get(i).getObjectives();
+    }
+
+    // Survivors, with their rank and crowding distance.
+    final var survivors = new ArrayList<I>(size);
+    final int[] ranks = new int[size];
+    final double[] crowding = new double[size];
+    final var fronts = NonDominatedSorting.sort(objectives);
+    for (int rank = 0; rank < fronts.size() && survivors.size() < size; rank++) {
+      final int[] front = fronts.get(rank);
+      final double[] distances = CrowdingDistance.compute(objectives, front);
+      final Integer[] order = new Integer[front.length];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      if (survivors.size() + front.length > size) {
+        Arrays.sort(order, (a, b) -> Double.compare(distances[b], distances[a]));
+      }
+      for (int i = 0; i < order.length && survivors.size() < size; i++) {
+        ranks[survivors.size()] = rank;
+        crowding[survivors.size()] = distances[order[i]];
+        survivors.add(combined.get(front[order[i]]));
+      }
+      if (rank == 0) {
+        paretoFront = Collections.unmodifiableList(new ArrayList<>(survivors));
+      }
+    }
+
+    final var offspring = new ArrayList<I>(size);
+    for (int i = 0; i < size; i++) {
+      final var parentA = survivors.get(tournament(random, ranks, crowding)).getChromosome();
+      final var parentB = survivors.get(tournament(random, ranks, crowding)).getChromosome();
+      final var child = crossoverMethod.crossover(random, parentA, parentB);
+      offspring.add(factory.create(child.mutate(mutationMethod, random)));
+    }
+    parents = survivors;
+
+    return new Pair<>(offspring, Statistics.of(population));
+  }
+
+  /**
+   * Gets the surviving individuals on the first non-dominated front of the last generation.
+   *
+   * @return an unmodifiable list, empty before the first generation
+   */
+  public List<I> getParetoFront() {
+    return paretoFront;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void writeState(DataOutput out, IndividualCodec<I> codec) throws IOException {
+    out.writeInt(parents.size());
+    for (final var parent : parents) {
+      codec.write(out, parent);
+    }
+    // The front leads the survivors
+    out.writeInt(paretoFront.size());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void readState(DataInput in, IndividualCodec<I> codec) throws IOException {
+    final int count = in.readInt();
+    final var survivors = new ArrayList<I>(count);
+    for (int i = 0; i < count; i++) {
+      survivors.add(codec.read(in));
+    }
+    final int front = in.readInt();
+    if (front < 0 || front > count) {
+      throw new IOException("Pareto front of " + front + " exceeds " + count + " survivors");
+    }
+    parents = survivors;
+    paretoFront = Collections.unmodifiableList(new ArrayList<>(survivors.subList(0, front)));
+  }
+
+  /** Binary tournament: lower rank wins, then larger crowding distance. */
+  private static int tournament(RandomGenerator random, int[] ranks, double[] crowding) {
+    final int a = random.nextInt(ranks.length);
+    final int b = random.nextInt(ranks.length);
+    if (ranks[a] != ranks[b]) {
+      return ranks[a] < ranks[b] ? a : b;
+    }
+    return crowding[a] >= crowding[b] ? a : b;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * A mutation method with global parameters that adapt to how the run is going. {@link
+ * io.jshorelark.genetic.GeneticAlgorithm} calls {@link #adapt} with every evaluated population
+ * before breeding from it, and {@link #bred} once it has bred the next one.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface AdaptiveMutation extends MutationMethod {
+  /**
+   * Adapts the mutation parameters to an evaluated population.
+   *
+   * @param population the evaluated population about to be bred from
+   */
+  void adapt(List<? extends Individual> population);
+
+  /**
+   * Tells the mutation which parents the next population was bred from, so {@link #adapt} can judge
+   * each child against them. Does nothing by default.
+   *
+   * @param parentFitness fitness of the fitter parent of each individual of the next population, in
+   *     population order; NaN for individuals that weren't bred, such as elites
+   */
+  default void bred(float[] parentFitness) {}
+
+  /**
+   * Writes the adapted parameters, for checkpoints. Writes nothing by default.
+   *
+   * @param out the output
+   * @throws java.io.IOException if the parameters cannot be written
+   */
+  default void writeState(DataOutput out) throws IOException {}
+
+  /**
+   * Restores parameters written by {@link #writeState}. Reads nothing by default.
+   *
+   * @param in the input
+   * @throws java.io.IOException if the parameters cannot be read
+   */
+  default void readState(DataInput in) throws IOException {}
+}
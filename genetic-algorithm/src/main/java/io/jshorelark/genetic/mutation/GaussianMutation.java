@@ -6,7 +6,7 @@
  */
 package io.jshorelark.genetic.mutation;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Implements Gaussian mutation.
@@ -51,7 +51,7 @@ public final class GaussianMutation implements MutationMethod {
 
   /** {@inheritDoc} */
   @Override
-  public void mutate(final Random random, final float[] genes) {
+  public void mutate(final RandomGenerator random, final float[] genes) {
     if (genes == null) {
       throw new IllegalArgumentException("Genes cannot be null");
     }
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.genetic.mutation;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Defines a method for mutating chromosomes.
@@ -23,5 +23,5 @@ public interface MutationMethod {
    * @throws java.lang.IllegalArgumentException if chromosome is null or chance is not between 0 and
    *     1
    */
-  void mutate(Random random, final float[] genes);
+  void mutate(RandomGenerator random, final float[] genes);
 }
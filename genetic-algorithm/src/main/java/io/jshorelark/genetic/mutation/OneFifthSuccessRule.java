@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mutation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Gaussian mutation with one global step size tuned by Rechenberg's 1/5 success rule.
+ *
+ * <p>A child counts as a success when its fitness beats the fitter of its own parents, as reported
+ * through {@link #bred}. When more than a fifth of a generation's children succeed the step size
+ * grows, since the search can afford bolder moves; when fewer do it shrinks. Generations without
+ * known parents, such as the first one, leave the step size alone.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class OneFifthSuccessRule implements AdaptiveMutation {
+  /** Success rate the step size is steered towards. */
+  static final double TARGET_SUCCESS_RATE = 0.2;
+
+  /** Probability that a gene is perturbed. */
+  private final float chance;
+
+  /** Factor the step size is multiplied or divided by per generation. */
+  private final float factor;
+
+  /** Current step size. */
+  private volatile float step;
+
+  /** Fitness each individual of the next population has to beat, null if unknown. */
+  private float[] parentFitness;
+
+  /** Private constructor - use {@link #create} instead. */
+  private OneFifthSuccessRule(float chance, float initialStep, float factor) {
+    this.chance = chance;
+    this.step = initialStep;
+    this.factor = factor;
+  }
+
+  /**
+   * Creates a new 1/5 success rule mutation.
+   *
+   * @param chance probability that a gene is perturbed
+   * @param initialStep initial step size
+   * @param factor factor the step size is multiplied or divided by per generation
+   * @return a new OneFifthSuccessRule instance
+   * @throws java.lang.IllegalArgumentException if chance is not between 0 and 1, initialStep is not
+   *     positive or factor is not greater than 1
+   */
+  public static OneFifthSuccessRule create(float chance, float initialStep, float factor) {
+    if (chance < 0.0f || chance > 1.0f) {
+      throw new IllegalArgumentException("Chance must be between 0 and 1");
+    }
+    if (!(initialStep > 0)) {
+      throw new IllegalArgumentException("Initial step must be positive");
+    }
+    if (!(factor > 1)) {
+      throw new IllegalArgumentException("Factor must be greater than 1");
+    }
+    return new OneFifthSuccessRule(chance, initialStep, factor);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void mutate(final RandomGenerator random, final float[] genes) {
+    if (genes == null) {
+      throw new IllegalArgumentException("Genes cannot be null");
+    }
+    final float current = step;
+    for (int i = 0; i < genes.length; i++) {
+      if (random.nextDouble() < chance) {
+        genes[i] += (float) (current * random.nextGaussian());
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void adapt(List<? extends Individual> population) {
+    final float[] targets = parentFitness;
+    parentFitness = null;
+    if (targets == null || targets.length != population.size()) {
+      return;
+    }
+
+    int children = 0;
+    int successes = 0;
+    for (int i = 0; i < targets.length; i++) {
+      if (!Float.isNaN(targets[i])) {
+        children++;
+        if (population.get(i).getFitness() > targets[i]) {
+          successes++;
+        }
+      }
+    }
+    if (children == 0) {
+      return;
+    }
+    final double rate = (double) successes / children;
+    if (rate > TARGET_SUCCESS_RATE) {
+      step *= factor;
+    } else if (rate < TARGET_SUCCESS_RATE) {
+      step /= factor;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void bred(float[] parentFitness) {
+    this.parentFitness = parentFitness.clone();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void writeState(DataOutput out) throws IOException {
+    out.writeFloat(step);
+    if (parentFitness == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(parentFitness.length);
+    for (final float fitness : parentFitness) {
+      out.writeFloat(fitness);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void readState(DataInput in) throws IOException {
+    step = in.readFloat();
+    final int length = in.readInt();
+    if (length < 0) {
+      parentFitness = null;
+      return;
+    }
+    parentFitness = new float[length];
+    for (int i = 0; i < length; i++) {
+      parentFitness[i] = in.readFloat();
+    }
+  }
+
+  /**
+   * Gets the current step size.
+   *
+   * @return a float
+   */
+  public float getStep() {
+    return step;
+  }
+}
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.genetic.mutation;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Implements random reset mutation. Randomly resets genes to new values within a specified range
@@ -58,7 +58,7 @@ public final class RandomResetMutation implements MutationMethod {
 
   /** {@inheritDoc} */
   @Override
-  public void mutate(final Random random, final float[] genes) {
+  public void mutate(final RandomGenerator random, final float[] genes) {
     if (genes == null) {
       throw new IllegalArgumentException("Chromosome cannot be null");
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mutation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Self-adaptive Gaussian mutation: every chromosome carries its own step size in its last gene.
+ *
+ * <p>The step size is mutated first, log-normally with learning rate {@code 1 / sqrt(n)} for {@code
+ * n} object genes, and clamped to {@code [minStep, maxStep]}; each object gene is then perturbed
+ * with the new step size. Step sizes that produce fitter children are inherited along with them, so
+ * a run tunes its own mutation strength. Pair it with {@link
+ * io.jshorelark.genetic.crossover.StepSizeCrossover} so that children inherit a step size and
+ * chromosomes without one receive an initial step.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class SelfAdaptiveMutation implements MutationMethod {
+  /** Probability that an object gene is perturbed. */
+  private final float chance;
+
+  /** Smallest step size. */
+  private final float minStep;
+
+  /** Largest step size. */
+  private final float maxStep;
+
+  /** Private constructor - use {@link #create} instead. */
+  private SelfAdaptiveMutation(float chance, float minStep, float maxStep) {
+    this.chance = chance;
+    this.minStep = minStep;
+    this.maxStep = maxStep;
+  }
+
+  /**
+   * Creates a new self-adaptive mutation.
+   *
+   * @param chance probability that an object gene is perturbed
+   * @param minStep smallest step size
+   * @param maxStep largest step size
+   * @return a new SelfAdaptiveMutation instance
+   * @throws java.lang.IllegalArgumentException if chance is not between 0 and 1, or the step bounds
+   *     are not positive and ordered
+   */
+  public static SelfAdaptiveMutation create(float chance, float minStep, float maxStep) {
+    if (chance < 0.0f || chance > 1.0f) {
+      throw new IllegalArgumentException("Chance must be between 0 and 1");
+    }
+    if (!(minStep > 0) || !(maxStep >= minStep)) {
+      throw new IllegalArgumentException("Step bounds must be positive and ordered");
+    }
+    return new SelfAdaptiveMutation(chance, minStep, maxStep);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws java.lang.IllegalArgumentException if there are no genes besides the step size
+   */
+  @Override
+  public void mutate(final RandomGenerator random, final float[] genes) {
+    if (genes == null || genes.length < 2) {
+      throw new IllegalArgumentException("Genes must hold at least one gene and a step size");
+    }
+    final int step = genes.length - 1;
+    final double learningRate = 1 / Math.sqrt(step);
+    final double mutated = genes[step] * Math.exp(learningRate * random.nextGaussian());
+    genes[step] = (float) Math.max(minStep, Math.min(maxStep, mutated));
+
+    for (int i = 0; i < step; i++) {
+      if (random.nextDouble() < chance) {
+        genes[i] += (float) (genes[step] * random.nextGaussian());
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Maps an individual to a point in behavior space, such as a bird's final position or a summary of
+ * its trajectory. Novelty is measured as distance between these points, so every individual of a
+ * run must be described with the same number of dimensions.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@FunctionalInterface
+public interface BehaviorCharacterization {
+  /**
+   * Describes the individual's behavior.
+   *
+   * @param individual the individual to describe
+   * @return the behavior vector; the caller does not keep a reference to it
+   */
+  float[] describe(Individual individual);
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import java.util.Arrays;
+
+/**
+ * K-d tree over fixed-dimension points supporting incremental inserts and k-nearest-neighbor
+ * distance queries.
+ *
+ * <p>Nodes are kept in parallel arrays indexed by insertion order, so inserting never rebuilds the
+ * tree. The tree is not rebalanced; behaviors arrive in roughly random order, which keeps the
+ * expected depth logarithmic. Queries only read the arrays and may run concurrently with each
+ * other, but not with {@link #insert}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class KdTree {
+  /** Initial node capacity. */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /** Number of coordinates per point. */
+  private final int dimension;
+
+  /** Coordinates of every node, {@code dimension} floats per node. */
+  private float[] coordinates;
+
+  /** Index of each node's lower child, or -1. */
+  private int[] lower;
+
+  /** Index of each node's upper child, or -1. */
+  private int[] upper;
+
+  /** Number of nodes. */
+  private int size;
+
+  /** Private constructor - use {@link #create} instead. */
+  private KdTree(int dimension) {
+    this.dimension = dimension;
+    this.coordinates = new float[INITIAL_CAPACITY * dimension];
+    this.lower = new int[INITIAL_CAPACITY];
+    this.upper = new int[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Creates an empty tree.
+   *
+   * @param dimension number of coordinates per point
+   * @return a new KdTree instance
+   * @throws java.lang.IllegalArgumentException if dimension is less than 1
+   */
+  public static KdTree create(int dimension) {
+    if (dimension < 1) {
+      throw new IllegalArgumentException("Dimension must be at least 1");
+    }
+    return new KdTree(dimension);
+  }
+
+  /**
+   * Inserts a copy of the point.
+   *
+   * @param point the point to insert
+   * @throws java.lang.IllegalArgumentException if the point has the wrong dimension
+   */
+  public void insert(float[] point) {
+    checkDimension(point);
+    if (size == lower.length) {
+      final int capacity = size * 2;
+      coordinates = Arrays.copyOf(coordinates, capacity * dimension);
+      lower = Arrays.copyOf(lower, capacity);
+      upper = Arrays.copyOf(upper, capacity);
+    }
+    final int node = size;
+    System.arraycopy(point, 0, coordinates, node * dimension, dimension);
+    lower[node] = -1;
+    upper[node] = -1;
+    size++;
+    if (node == 0) {
+      return;
+    }
+
+    int current = 0;
+    int depth = 0;
+    while (true) {
+      final int axis = depth % dimension;
+      final boolean below = point[axis] < coordinates[current * dimension + axis];
+      final int child = below ? lower[current] : upper[current];
+      if (child < 0) {
+        if (below) {
+          lower[current] = node;
+        } else {
+          upper[current] = node;
+        }
+        return;
+      }
+      current = child;
+      depth++;
+    }
+  }
+
+  /**
+   * Finds the Euclidean distances from the query to its {@code k} nearest points.
+   *
+   * @param query the query point
+   * @param k number of neighbors
+   * @return the distances in ascending order, fewer than {@code k} if the tree is smaller
+   * @throws java.lang.IllegalArgumentException if k is negative or the query has the wrong
+   *     dimension
+   */
+  public double[] nearestDistances(float[] query, int k) {
+    checkDimension(query);
+    if (k < 0) {
+      throw new IllegalArgumentException("Number of neighbors cannot be negative");
+    }
+    final var heap = new Neighbors(Math.min(k, size));
+    if (heap.capacity > 0) {
+      search(0, 0, query, heap);
+    }
+    return heap.sortedDistances();
+  }
+
+  /**
+   * Gets the number of points in the tree.
+   *
+   * @return a int
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the number of coordinates per point.
+   *
+   * @return a int
+   */
+  public int dimension() {
+    return dimension;
+  }
+
+  /** Descends towards the query, then visits far subtrees only if they can hold a closer point. */
+  private void search(int node, int depth, float[] query, Neighbors heap) {
+    final int offset = node * dimension;
+    double squared = 0;
+    for (int i = 0; i < dimension; i++) {
+      final double delta = query[i] - coordinates[offset + i];
+      squared += delta * delta;
+    }
+    heap.offer(squared);
+
+    final int axis = depth % dimension;
+    final double split = query[axis] - coordinates[offset + axis];
+    final int near = split < 0 ? lower[node] : upper[node];
+    final int far = split < 0 ? upper[node] : lower[node];
+    if (near >= 0) {
+      search(near, depth + 1, query, heap);
+    }
+    if (far >= 0 && (!heap.isFull() || split * split < heap.worst())) {
+      search(far, depth + 1, query, heap);
+    }
+  }
+
+  private void checkDimension(float[] point) {
+    if (point.length != dimension) {
+      throw new IllegalArgumentException("Point must have " + dimension + " dimensions");
+    }
+  }
+
+  /** Bounded max-heap of squared distances keeping the {@code capacity} smallest offered. */
+  private static final class Neighbors {
+    private final int capacity;
+    private final double[] heap;
+    private int size;
+
+    Neighbors(int capacity) {
+      this.capacity = capacity;
+      this.heap = new double[capacity];
+    }
+
+    boolean isFull() {
+      return size == capacity;
+    }
+
+    double worst() {
+      return heap[0];
+    }
+
+    void offer(double squared) {
+      if (size < capacity) {
+        int i = size++;
+        heap[i] = squared;
+        while (i > 0) {
+          final int parent = (i - 1) / 2;
+          if (heap[parent] >= heap[i]) {
+            break;
+          }
+          swap(i, parent);
+          i = parent;
+        }
+      } else if (squared < heap[0]) {
+        heap[0] = squared;
+        int i = 0;
+        while (true) {
+          final int left = 2 * i + 1;
+          final int right = left + 1;
+          int largest = i;
+          if (left < size && heap[left] > heap[largest]) {
+            largest = left;
+          }
+          if (right < size && heap[right] > heap[largest]) {
+            largest = right;
+          }
+          if (largest == i) {
+            break;
+          }
+          swap(i, largest);
+          i = largest;
+        }
+      }
+    }
+
+    double[] sortedDistances() {
+      final double[] distances = Arrays.copyOf(heap, size);
+      Arrays.sort(distances);
+      for (int i = 0; i < distances.length; i++) {
+        distances[i] = Math.sqrt(distances[i]);
+      }
+      return distances;
+    }
+
+    private void swap(int a, int b) {
+      final double tmp = heap[a];
+      heap[a] = heap[b];
+      heap[b] = tmp;
+    }
+  }
+}
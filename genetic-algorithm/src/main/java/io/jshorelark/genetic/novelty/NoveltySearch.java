@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Scores individuals by how novel their behavior is: the mean distance to the {@code k} nearest
+ * behaviors among the rest of the population and an archive of behaviors seen in earlier
+ * generations.
+ *
+ * <p>Both the population and the archive are indexed with a {@link KdTree}, so scoring a generation
+ * costs roughly {@code O(n log(n + archive))} rather than the {@code O(n * (n + archive))} of a
+ * brute-force scan. After scoring, each behavior joins the archive with a fixed probability, so the
+ * archive grows incrementally and remembers where the search has been.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class NoveltySearch {
+  /** Maps individuals to behavior vectors. */
+  private final BehaviorCharacterization behavior;
+
+  /** Number of nearest neighbors averaged into the score. */
+  private final int neighbors;
+
+  /** Probability that a scored behavior is added to the archive. */
+  private final float archiveProbability;
+
+  /** Behaviors from earlier generations, created with the first behavior's dimension. */
+  private KdTree archive;
+
+  /** Private constructor - use {@link #create} instead. */
+  private NoveltySearch(
+      BehaviorCharacterization behavior, int neighbors, float archiveProbability) {
+    this.behavior = behavior;
+    this.neighbors = neighbors;
+    this.archiveProbability = archiveProbability;
+  }
+
+  /**
+   * Creates a new novelty search.
+   *
+   * @param behavior maps individuals to behavior vectors
+   * @param neighbors number of nearest neighbors averaged into the score
+   * @param archiveProbability probability that a scored behavior is added to the archive
+   * @return a new NoveltySearch instance
+   * @throws java.lang.IllegalArgumentException if neighbors is less than 1 or archiveProbability is
+   *     not within [0, 1]
+   */
+  public static NoveltySearch create(
+      BehaviorCharacterization behavior, int neighbors, float archiveProbability) {
+    if (neighbors < 1) {
+      throw new IllegalArgumentException("Number of neighbors must be at least 1");
+    }
+    if (archiveProbability < 0 || archiveProbability > 1) {
+      throw new IllegalArgumentException("Archive probability must be between 0 and 1");
+    }
+    return new NoveltySearch(behavior, neighbors, archiveProbability);
+  }
+
+  /**
+   * Scores every individual of a generation, then offers their behaviors to the archive.
+   *
+   * @param random the random number generator deciding archive additions
+   * @param population the generation to score
+   * @return the novelty of each individual, in population order
+   * @throws java.lang.IllegalArgumentException if the population is empty or the behaviors have
+   *     inconsistent dimensions
+   */
+  public synchronized float[] score(RandomGenerator random, List<? extends Individual> population) {
+    final float[][] behaviors = describe(population);
+    final float[] scores = score(behaviors);
+    for (final float[] point : behaviors) {
+      if (random.nextFloat() < archiveProbability) {
+        archive.insert(point);
+      }
+    }
+    return scores;
+  }
+
+  /**
+   * Scores a population that changed within a generation, such as after an in-place replacement,
+   * without offering its behaviors to the archive again.
+   *
+   * @param population the population to score
+   * @return the novelty of each individual, in population order
+   * @throws java.lang.IllegalArgumentException if the population is empty or the behaviors have
+   *     inconsistent dimensions
+   */
+  public synchronized float[] rescore(List<? extends Individual> population) {
+    return score(describe(population));
+  }
+
+  /**
+   * Gets the number of behaviors in the archive.
+   *
+   * @return a int
+   */
+  public synchronized int getArchiveSize() {
+    return archive == null ? 0 : archive.size();
+  }
+
+  /** Describes every individual, creating the archive with the first behavior's dimension. */
+  private float[][] describe(List<? extends Individual> population) {
+    if (population == null || population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be null or empty");
+    }
+    final float[][] behaviors = new float[population.size()][];
+    for (int i = 0; i < behaviors.length; i++) {
+      behaviors[i] = behavior.describe(population.get(i));
+    }
+    if (archive == null) {
+      archive = KdTree.create(behaviors[0].length);
+    }
+    return behaviors;
+  }
+
+  /** Scores behaviors against each other and the archive. */
+  private float[] score(float[][] behaviors) {
+    final var current = KdTree.create(archive.dimension());
+    for (final float[] point : behaviors) {
+      current.insert(point);
+    }
+    final float[] scores = new float[behaviors.length];
+    IntStream.range(0, behaviors.length)
+        .parallel()
+        .forEach(i -> scores[i] = novelty(current, behaviors[i]));
+    return scores;
+  }
+
+  /** Mean distance to the nearest neighbors, merging the population (minus self) and archive. */
+  private float novelty(KdTree current, float[] point) {
+    final double[] population = current.nearestDistances(point, neighbors + 1);
+    final double[] archived = archive.nearestDistances(point, neighbors);
+
+    // The closest population match is the point itself.
+    int p = 1;
+    int a = 0;
+    int count = 0;
+    double sum = 0;
+    while (count < neighbors && (p < population.length || a < archived.length)) {
+      if (a >= archived.length || (p < population.length && population[p] <= archived[a])) {
+        sum += population[p++];
+      } else {
+        sum += archived[a++];
+      }
+      count++;
+    }
+    return count == 0 ? 0 : (float) (sum / count);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.selection.SelectionMethod;
+
+/**
+ * Lets novelty drive any selection method: the delegate sees each individual with its novelty in
+ * place of its fitness, and the chosen original is returned.
+ *
+ * <p>Engines that breed a whole generation from one population go through {@link #prepare}, which
+ * scores the population once, on the first selection, offers it to the archive, and prepares the
+ * delegate on the scores. Plain {@link #select} calls keep the last scores while the population
+ * holds the same individuals in the same order, so engines that replace members in place, like
+ * steady-state or island models, get fresh scores after every replacement. Such rescores offer
+ * nothing to the archive until a population's worth of members has been replaced, so the archive
+ * sees about one population per generation either way.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class NoveltySelection implements SelectionMethod {
+  /** Scores populations by novelty. */
+  private final NoveltySearch search;
+
+  /** Selection method applied to the novelty scores. */
+  private final SelectionMethod delegate;
+
+  /** The population last scored by {@link #select}, each individual wrapped with its novelty. */
+  private List<Scored> scored;
+
+  /** The delegate prepared on {@link #scored}. */
+  private SelectionMethod selection;
+
+  /** Members replaced since {@link #select} last offered a population to the archive. */
+  private int replaced;
+
+  /**
+   * Creates a new novelty selection.
+   *
+   * @param search scores populations by novelty
+   * @param delegate selection method applied to the novelty scores
+   */
+  public NoveltySelection(NoveltySearch search, SelectionMethod delegate) {
+    this.search = search;
+    this.delegate = delegate;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized Individual select(
+      RandomGenerator random, List<? extends Individual> population) {
+    if (population == null || population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be null or empty");
+    }
+    final int changed = changed(population);
+    if (changed > 0) {
+      replaced += changed;
+      final float[] novelty;
+      if (replaced >= population.size()) {
+        novelty = search.score(random, population);
+        replaced = 0;
+      } else {
+        novelty = search.rescore(population);
+      }
+      scored = wrap(population, novelty);
+      selection = delegate.prepare(scored);
+    }
+    return ((Scored) selection.select(random, scored)).original;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SelectionMethod prepare(List<? extends Individual> population) {
+    if (population == null || population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be null or empty");
+    }
+    return new Prepared(population);
+  }
+
+  /** Counts the members that differ from the last scored population, all of them on a resize. */
+  private int changed(List<? extends Individual> population) {
+    if (scored == null || scored.size() != population.size()) {
+      return population.size();
+    }
+    int changed = 0;
+    for (int i = 0; i < scored.size(); i++) {
+      if (scored.get(i).original != population.get(i)) {
+        changed++;
+      }
+    }
+    return changed;
+  }
+
+  /** Wraps each individual with its novelty. */
+  private static List<Scored> wrap(List<? extends Individual> population, float[] novelty) {
+    final var wrapped = new ArrayList<Scored>(population.size());
+    for (int i = 0; i < novelty.length; i++) {
+      wrapped.add(new Scored(population.get(i), novelty[i]));
+    }
+    return wrapped;
+  }
+
+  /**
+   * Selection from one generation. Scoring needs the caller's random number generator for the
+   * archive, so it waits for the first selection.
+   */
+  private final class Prepared implements SelectionMethod {
+    private final List<? extends Individual> population;
+    private List<Scored> scored;
+    private volatile SelectionMethod selection;
+
+    Prepared(List<? extends Individual> population) {
+      this.population = population;
+    }
+
+    @Override
+    public Individual select(RandomGenerator random, List<? extends Individual> ignored) {
+      var prepared = selection;
+      if (prepared == null) {
+        synchronized (this) {
+          prepared = selection;
+          if (prepared == null) {
+            scored = wrap(population, search.score(random, population));
+            prepared = delegate.prepare(scored);
+            selection = prepared;
+          }
+        }
+      }
+      return ((Scored) prepared.select(random, scored)).original;
+    }
+  }
+
+  /** An individual presented with its novelty as its fitness. */
+  private static final class Scored implements Individual {
+    private final Individual original;
+    private final float novelty;
+
+    Scored(Individual original, float novelty) {
+      this.original = original;
+      this.novelty = novelty;
+    }
+
+    @Override
+    public Chromosome getChromosome() {
+      return original.getChromosome();
+    }
+
+    @Override
+    public float getFitness() {
+      return novelty;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.pipeline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.Pair;
+import io.jshorelark.genetic.crossover.CrossoverMethod;
+import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.selection.SelectionMethod;
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Genetic algorithm that overlaps breeding the next generation with evaluating it.
+ *
+ * <p>The calling thread breeds children one at a time and hands each to a bounded queue as soon as
+ * it exists; worker tasks on an {@link Executor} take children off the queue and evaluate them, so
+ * evaluation starts with the first child instead of after the last. When the workers fall behind,
+ * the full queue blocks breeding, keeping at most {@code queueCapacity} unevaluated children in
+ * memory.
+ *
+ * <p>Breeding draws from the random number generator in the same order as {@link
+ * io.jshorelark.genetic.GeneticAlgorithm}, so both produce the same generation from the same seed.
+ * Only {@link Individual.Factory#create} runs on the executor, so the factory must be thread-safe,
+ * and the executor must run tasks on threads other than the caller's.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class PipelinedGeneticAlgorithm<I extends Individual> implements EvolutionEngine<I> {
+  /** How long idle workers wait for a child before checking whether the run was aborted. */
+  private static final long POLL_MILLIS = 50;
+
+  /** Marks the end of a generation; each worker consumes one. */
+  private static final Child END = new Child(-1, null);
+
+  /** Selection method. */
+  private final SelectionMethod selectionMethod;
+
+  /** Crossover method. */
+  private final CrossoverMethod crossoverMethod;
+
+  /** Mutation method. */
+  private final MutationMethod mutationMethod;
+
+  /** Thread-safe factory that creates and evaluates new individuals. */
+  private final Individual.Factory<I> factory;
+
+  /** Executor running the evaluation workers. */
+  private final Executor executor;
+
+  /** Number of evaluation workers. */
+  private final int workers;
+
+  /** Maximum number of bred children waiting for evaluation. */
+  private final int queueCapacity;
+
+  /** Private constructor - use {@link #create} instead. */
+  private PipelinedGeneticAlgorithm(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      Executor executor,
+      int workers,
+      int queueCapacity) {
+    this.selectionMethod = selectionMethod;
+    this.crossoverMethod = crossoverMethod;
+    this.mutationMethod = mutationMethod;
+    this.factory = factory;
+    this.executor = executor;
+    this.workers = workers;
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * Creates a new pipelined genetic algorithm.
+   *
+   * @param selectionMethod selection method
+   * @param crossoverMethod crossover method
+   * @param mutationMethod mutation method
+   * @param factory thread-safe factory that creates and evaluates new individuals
+   * @param executor executor running the evaluation workers
+   * @param workers number of evaluation workers
+   * @param queueCapacity maximum number of bred children waiting for evaluation
+   * @param <I> type of individuals in the population
+   * @return a new PipelinedGeneticAlgorithm instance
+   * @throws java.lang.IllegalArgumentException if workers or queueCapacity is less than 1
+   */
+  public static <I extends Individual> PipelinedGeneticAlgorithm<I> create(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      Executor executor,
+      int workers,
+      int queueCapacity) {
+    if (workers < 1) {
+      throw new IllegalArgumentException("Workers must be at least 1");
+    }
+    if (queueCapacity < 1) {
+      throw new IllegalArgumentException("Queue capacity must be at least 1");
+    }
+    return new PipelinedGeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        executor,
+        workers,
+        queueCapacity);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+    final int size = population.size();
+    final int workerCount = Math.min(workers, size);
+
+    final BlockingQueue<Child> queue = new ArrayBlockingQueue<>(queueCapacity);
+    final Individual[] evaluated = new Individual[size];
+    final var finished = new CountDownLatch(workerCount);
+    final var failure = new AtomicReference<Throwable>();
+    final var aborted = new AtomicBoolean();
+    for (int w = 0; w < workerCount; w++) {
+      executor.execute(() -> work(queue, evaluated, failure, aborted, finished));
+    }
+
+    try {
+      final var selection = selectionMethod.prepare(population);
+      for (int i = 0; i < size; i++) {
+        final var parentA = selection.select(random, population).getChromosome();
+        final var parentB = selection.select(random, population).getChromosome();
+        final var child = crossoverMethod.crossover(random, parentA, parentB);
+        put(queue, new Child(i, child.mutate(mutationMethod, random)), finished);
+      }
+      for (int w = 0; w < workerCount; w++) {
+        put(queue, END, finished);
+      }
+      finished.await();
+    } catch (InterruptedException e) {
+      aborted.set(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for evaluations", e);
+    } catch (RuntimeException | Error e) {
+      aborted.set(true);
+      throw e;
+    }
+
+    final var cause = failure.get();
+    if (cause instanceof RuntimeException runtimeException) {
+      throw runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    if (cause != null) {
+      throw new IllegalStateException("Evaluation failed", cause);
+    }
+
+    @SuppressWarnings("unchecked")
+    final var newPopulation = new ArrayList<>((List<I>) (List<?>) Arrays.asList(evaluated));
+    return new Pair<>(newPopulation, Statistics.of(population));
+  }
+
+  /** Evaluates children until the end marker arrives or the run is aborted. */
+  private void work(
+      BlockingQueue<Child> queue,
+      Individual[] evaluated,
+      AtomicReference<Throwable> failure,
+      AtomicBoolean aborted,
+      CountDownLatch finished) {
+    try {
+      while (!aborted.get()) {
+        final var child = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (child == END) {
+          return;
+        }
+        // After a failure, keep draining so breeding never blocks on a full queue.
+        if (child != null && failure.get() == null) {
+          try {
+            evaluated[child.index()] = factory.create(child.chromosome());
+          } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failure.compareAndSet(null, e);
+    } finally {
+      finished.countDown();
+    }
+  }
+
+  /** Waits for room in the queue, giving up if every worker has already stopped. */
+  private static void put(BlockingQueue<Child> queue, Child child, CountDownLatch finished)
+      throws InterruptedException {
+    while (!queue.offer(child, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+      if (finished.getCount() == 0) {
+        throw new IllegalStateException("Evaluation workers stopped before the generation ended");
+      }
+    }
+  }
+
+  /** A bred child and its position in the next generation. */
+  private record Child(int index, Chromosome chromosome) {}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.random;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.JumpableGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.Collectors;
+
+/**
+ * Factories for the random number generators used throughout the simulation.
+ *
+ * <p>Every API in the project accepts a {@link RandomGenerator}, so {@link java.util.Random} still
+ * works, but it pays for an atomic compare-and-set on every draw and cannot be split across
+ * threads. The generators created here are unsynchronized and either splittable or jumpable, which
+ * lets parallel workers each own an independent, reproducible stream.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class RandomGenerators {
+  /** Algorithm of the default fast, splittable generator. */
+  public static final String FAST_ALGORITHM = "L64X128MixRandom";
+
+  /** Algorithm of the default jumpable generator. */
+  public static final String JUMPABLE_ALGORITHM = "Xoshiro256PlusPlus";
+
+  private RandomGenerators() {
+    // Utility class
+  }
+
+  /**
+   * Creates a fast splittable generator ({@value #FAST_ALGORITHM}) with the given seed.
+   *
+   * @param seed the seed
+   * @return a new generator
+   */
+  public static SplittableGenerator fast(long seed) {
+    return (SplittableGenerator) RandomGeneratorFactory.of(FAST_ALGORITHM).create(seed);
+  }
+
+  /**
+   * Creates a fast splittable generator ({@value #FAST_ALGORITHM}) with a random seed.
+   *
+   * @return a new generator
+   */
+  public static SplittableGenerator fast() {
+    return (SplittableGenerator) RandomGeneratorFactory.of(FAST_ALGORITHM).create();
+  }
+
+  /**
+   * Creates a {@link SplittableRandom} with the given seed.
+   *
+   * @param seed the seed
+   * @return a new generator
+   */
+  public static SplittableRandom splittable(long seed) {
+    return new SplittableRandom(seed);
+  }
+
+  /**
+   * Creates a jumpable generator ({@value #JUMPABLE_ALGORITHM}) with the given seed.
+   *
+   * @param seed the seed
+   * @return a new generator
+   */
+  public static JumpableGenerator jumpable(long seed) {
+    return (JumpableGenerator) RandomGeneratorFactory.of(JUMPABLE_ALGORITHM).create(seed);
+  }
+
+  /**
+   * Splits {@code count} independent streams off a splittable generator, one per parallel worker.
+   * Splitting advances the parent, so the same parent state always yields the same streams.
+   *
+   * @param parent the generator to split
+   * @param count number of streams
+   * @return the streams, in a reproducible order
+   */
+  public static List<SplittableGenerator> streams(SplittableGenerator parent, int count) {
+    return parent.splits(count).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates {@code count} non-overlapping streams by jumping a {@value #JUMPABLE_ALGORITHM}
+   * generator ahead by 2<sup>128</sup> draws for each stream.
+   *
+   * @param seed the seed of the first stream
+   * @param count number of streams
+   * @return the streams, in a reproducible order
+   */
+  public static List<RandomGenerator> jumps(long seed, int count) {
+    return jumpable(seed).jumps(count).collect(Collectors.toList());
+  }
+
+  /**
+   * Derives an independent generator from any generator. Splittable generators are split; any other
+   * generator seeds a new {@value #FAST_ALGORITHM} with its next long.
+   *
+   * @param random the generator to derive from
+   * @return a new generator
+   */
+  public static SplittableGenerator split(RandomGenerator random) {
+    if (random instanceof SplittableGenerator splittable) {
+      return splittable.split();
+    }
+    return fast(random.nextLong());
+  }
+
+  /**
+   * Derives an independent generator like {@link #split}, except that a {@link SplitMix64} yields
+   * another {@link SplitMix64}, so a run whose state can be captured stays that way.
+   *
+   * @param random the generator to derive from
+   * @return a new generator
+   */
+  public static RandomGenerator derive(RandomGenerator random) {
+    if (random instanceof SplitMix64 splitMix) {
+      return splitMix.split();
+    }
+    return split(random);
+  }
+
+  /**
+   * Captures the state of a generator.
+   *
+   * @param random the generator
+   * @return its state
+   * @throws java.lang.IllegalArgumentException if the generator's state cannot be captured, i.e. it
+   *     is not a {@link SplitMix64}
+   */
+  public static long state(RandomGenerator random) {
+    if (random instanceof SplitMix64 splitMix) {
+      return splitMix.getState();
+    }
+    throw new IllegalArgumentException(
+        "Cannot capture the state of a "
+            + random.getClass().getSimpleName()
+            + "; drive the run with a SplitMix64");
+  }
+
+  /**
+   * Restores a state previously returned by {@link #state}.
+   *
+   * @param random the generator
+   * @param state its new state
+   * @throws java.lang.IllegalArgumentException if the generator is not a {@link SplitMix64}
+   */
+  public static void restore(RandomGenerator random, long state) {
+    if (!(random instanceof SplitMix64 splitMix)) {
+      throw new IllegalArgumentException(
+          "Cannot restore the state of a " + random.getClass().getSimpleName());
+    }
+    splitMix.setState(state);
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.replacement;
+
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.selection.Elites;
+
+/**
+ * {@code (μ,λ)} replacement: only the fittest {@code μ} offspring survive and every parent is
+ * discarded, which lets the search leave local optima and cope with noisy fitness.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class CommaReplacement implements ReplacementStrategy {
+  /** {@inheritDoc} */
+  @Override
+  public <I extends Individual> List<I> replace(List<I> parents, List<I> offspring, int survivors) {
+    if (survivors < 1) {
+      throw new IllegalArgumentException("Number of survivors must be at least 1");
+    }
+    return Elites.of(offspring, Math.min(survivors, offspring.size()));
+  }
+}
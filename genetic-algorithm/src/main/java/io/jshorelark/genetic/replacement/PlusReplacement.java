@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.replacement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.selection.Elites;
+
+/**
+ * {@code (μ+λ)} replacement: the fittest {@code μ} of parents and offspring together survive, so
+ * the best individual found is never lost.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class PlusReplacement implements ReplacementStrategy {
+  /** {@inheritDoc} */
+  @Override
+  public <I extends Individual> List<I> replace(List<I> parents, List<I> offspring, int survivors) {
+    if (survivors < 1) {
+      throw new IllegalArgumentException("Number of survivors must be at least 1");
+    }
+    final var candidates = new ArrayList<I>(parents.size() + offspring.size());
+    candidates.addAll(parents);
+    candidates.addAll(offspring);
+    return Elites.of(candidates, Math.min(survivors, candidates.size()));
+  }
+}
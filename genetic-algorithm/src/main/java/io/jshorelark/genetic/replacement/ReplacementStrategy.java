@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.replacement;
+
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Decides which evaluated individuals survive to become the parents of the next generation, as in
+ * the {@code (μ+λ)} and {@code (μ,λ)} evolution strategies.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public interface ReplacementStrategy {
+  /**
+   * Chooses the survivors. They are returned by reference, not copied.
+   *
+   * @param parents the previous survivors, empty on the first generation
+   * @param offspring the evaluated offspring bred from them
+   * @param survivors number of survivors {@code μ}; fewer are returned when there are fewer
+   *     candidates
+   * @return the survivors, in no particular order
+   * @param <I> a I class
+   * @throws java.lang.IllegalArgumentException if survivors is less than 1
+   */
+  <I extends Individual> List<I> replace(List<I> parents, List<I> offspring, int survivors);
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.selection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Finds the fittest individuals of a population by quickselect, in expected {@code O(n)} time
+ * rather than the {@code O(n log n)} of sorting the whole population.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class Elites {
+  /** Private constructor - utility class. */
+  private Elites() {}
+
+  /**
+   * Finds the positions of the highest values.
+   *
+   * @param fitness the values to select from
+   * @param count number of positions to find
+   * @return the positions of the {@code count} highest values, in no particular order
+   * @throws java.lang.IllegalArgumentException if count is not within [0, fitness.length]
+   */
+  public static int[] top(float[] fitness, int count) {
+    if (count < 0 || count > fitness.length) {
+      throw new IllegalArgumentException(
+          "Cannot select " + count + " of " + fitness.length + " individuals");
+    }
+    final int[] indices = new int[fitness.length];
+    for (int i = 0; i < indices.length; i++) {
+      indices[i] = i;
+    }
+    if (count > 0 && count < indices.length) {
+      select(fitness, indices, count - 1);
+    }
+    final int[] top = new int[count];
+    System.arraycopy(indices, 0, top, 0, count);
+    return top;
+  }
+
+  /**
+   * Finds the fittest individuals. They are returned by reference, not copied.
+   *
+   * @param population the population to select from
+   * @param count number of individuals to find
+   * @return the {@code count} fittest individuals, in no particular order
+   * @param <I> a I class
+   * @throws java.lang.IllegalArgumentException if count is not within [0, population.size()]
+   */
+  public static <I extends Individual> List<I> of(List<I> population, int count) {
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < fitness.length; i++) {
+      fitness[i] = population.get(i).getFitness();
+    }
+    final var elites = new ArrayList<I>(count);
+    for (final int index : top(fitness, count)) {
+      elites.add(population.get(index));
+    }
+    return elites;
+  }
+
+  /**
+   * Rearranges the indices so that the one at {@code k} has the {@code k}-th highest value, all
+   * before it have values at least as high and all after it values no higher.
+   */
+  private static void select(float[] fitness, int[] indices, int k) {
+    int lo = 0;
+    int hi = indices.length - 1;
+    while (lo < hi) {
+      final float pivot =
+          medianOfThree(
+              fitness[indices[lo]], fitness[indices[(lo + hi) >>> 1]], fitness[indices[hi]]);
+      int i = lo;
+      int j = hi;
+      while (i <= j) {
+        while (fitness[indices[i]] > pivot) {
+          i++;
+        }
+        while (fitness[indices[j]] < pivot) {
+          j--;
+        }
+        if (i <= j) {
+          final int swap = indices[i];
+          indices[i++] = indices[j];
+          indices[j--] = swap;
+        }
+      }
+      if (k <= j) {
+        hi = j;
+      } else if (k >= i) {
+        lo = i;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private static float medianOfThree(float a, float b, float c) {
+    return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+  }
+}
@@ -7,7 +7,7 @@
 package io.jshorelark.genetic.selection;
 
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Individual;
 
@@ -25,7 +25,7 @@ public final class RouletteWheelSelection implements SelectionMethod {
 
   /** {@inheritDoc} */
   @Override
-  public Individual select(Random random, List<? extends Individual> population) {
+  public Individual select(RandomGenerator random, List<? extends Individual> population) {
     if (population == null || population.isEmpty()) {
       throw new IllegalArgumentException("Population cannot be null or empty");
     }
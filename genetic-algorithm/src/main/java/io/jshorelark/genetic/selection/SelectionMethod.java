@@ -7,7 +7,7 @@
 package io.jshorelark.genetic.selection;
 
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Individual;
 
@@ -29,5 +29,18 @@ public interface SelectionMethod {
    * @return the selected individual
    * @throws java.lang.IllegalArgumentException if the population is empty
    */
-  Individual select(Random random, List<? extends Individual> population);
+  Individual select(RandomGenerator random, List<? extends Individual> population);
+
+  /**
+   * Prepares to select many times from a population that doesn't change in between, such as the
+   * breeders of one generation, so work shared by every selection is done once. The returned method
+   * must only be used with that population.
+   *
+   * @param population the population to select from
+   * @return a selection method for that population; this one by default
+   * @throws java.lang.IllegalArgumentException if the population is empty
+   */
+  default SelectionMethod prepare(List<? extends Individual> population) {
+    return this;
+  }
 }
@@ -8,7 +8,7 @@ package io.jshorelark.genetic.selection;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Individual;
 
@@ -40,7 +40,7 @@ public final class TournamentSelection implements SelectionMethod {
 
   /** {@inheritDoc} */
   @Override
-  public Individual select(Random random, List<? extends Individual> population) {
+  public Individual select(RandomGenerator random, List<? extends Individual> population) {
     if (population == null || population.isEmpty()) {
       throw new IllegalArgumentException("Population cannot be null or empty");
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.selection;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Implements truncation selection. Only the fittest fraction of the population may breed, and each
+ * of them is picked with equal probability.
+ *
+ * <p>The fittest individuals are found with {@link Elites} in linear time. Engines that breed a
+ * whole generation from one population find them once through {@link #prepare}; {@link #select}
+ * finds them on every call, so it stays correct when the population changes in place.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class TruncationSelection implements SelectionMethod {
+  /** Fraction of the population allowed to breed. */
+  private final float fraction;
+
+  /**
+   * Creates a new truncation selection.
+   *
+   * @param fraction fraction of the population allowed to breed; at least one individual always is
+   * @throws java.lang.IllegalArgumentException if fraction is not within (0, 1]
+   */
+  public TruncationSelection(float fraction) {
+    if (!(fraction > 0) || fraction > 1) {
+      throw new IllegalArgumentException("Fraction must be within (0, 1]");
+    }
+    this.fraction = fraction;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Individual select(RandomGenerator random, List<? extends Individual> population) {
+    return prepare(population).select(random, population);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SelectionMethod prepare(List<? extends Individual> population) {
+    if (population == null || population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be null or empty");
+    }
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < fitness.length; i++) {
+      fitness[i] = population.get(i).getFitness();
+    }
+    final int[] survivors = Elites.top(fitness, survivorsOf(population.size()));
+    return (random, truncated) -> truncated.get(survivors[random.nextInt(survivors.length)]);
+  }
+
+  /** Number of individuals allowed to breed out of a population of the given size. */
+  private int survivorsOf(int size) {
+    return Math.max(1, (int) Math.ceil(fraction * size));
+  }
+}
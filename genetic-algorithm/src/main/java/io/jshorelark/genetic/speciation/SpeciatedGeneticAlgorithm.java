@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.speciation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.Pair;
+import io.jshorelark.genetic.checkpoint.Checkpointable;
+import io.jshorelark.genetic.checkpoint.IndividualCodec;
+import io.jshorelark.genetic.crossover.CrossoverMethod;
+import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.selection.SelectionMethod;
+import io.jshorelark.genetic.statistics.Statistics;
+
+import lombok.Getter;
+
+/**
+ * Genetic algorithm that keeps several strategies alive by clustering the population into species
+ * and breeding within them.
+ *
+ * <p>Chromosomes are clustered by Euclidean distance to one representative per species, carried
+ * over from the previous generation, so clustering costs {@code O(n * species * genes)} instead of
+ * the {@code O(n^2 * genes)} of pairwise distances. A chromosome further than the threshold from
+ * every representative founds a new species. Fitness is shared within each species, so a species
+ * receives offspring in proportion to its mean fitness rather than its size, and both parents of
+ * every child come from the same species. The threshold adapts every generation to steer the number
+ * of species towards a target. It can be given, or seeded from the first population's pairwise
+ * distances, which keeps it on the scale of the genomes whatever their length.
+ *
+ * <p>Chromosomes that found a species are compared with the rest of the population through the same
+ * blocked kernel, one founder at a time.
+ *
+ * <p>The engine is stateful and not thread-safe; use one instance per population.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class SpeciatedGeneticAlgorithm<I extends Individual>
+    implements EvolutionEngine<I>, Checkpointable<I> {
+  /** Relative change of the threshold per generation when the species count is off target. */
+  private static final float THRESHOLD_ADJUSTMENT = 0.1f;
+
+  /** Most pairwise distances sampled to seed the threshold. */
+  static final int SEED_PAIRS = 1024;
+
+  /** Selection method, applied within a species. */
+  private final SelectionMethod selectionMethod;
+
+  /** Crossover method. */
+  private final CrossoverMethod crossoverMethod;
+
+  /** Mutation method. */
+  private final MutationMethod mutationMethod;
+
+  /** Factory for creating new individuals. */
+  private final Individual.Factory<I> factory;
+
+  /** Number of species the threshold is steered towards. */
+  private final int targetSpecies;
+
+  /** Current distance threshold for joining a species, NaN until seeded from the population. */
+  @Getter private float threshold;
+
+  /** Number of species found in the last evolved generation. */
+  @Getter private int speciesCount;
+
+  /** Representatives of the species of the last evolved generation. */
+  private float[][] representatives = new float[0][];
+
+  /** Private constructor - use {@link #create} instead. */
+  private SpeciatedGeneticAlgorithm(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      float threshold,
+      int targetSpecies) {
+    this.selectionMethod = selectionMethod;
+    this.crossoverMethod = crossoverMethod;
+    this.mutationMethod = mutationMethod;
+    this.factory = factory;
+    this.threshold = threshold;
+    this.targetSpecies = targetSpecies;
+  }
+
+  /**
+   * Creates a new speciated genetic algorithm.
+   *
+   * @param selectionMethod selection method, applied within a species
+   * @param crossoverMethod crossover method
+   * @param mutationMethod mutation method
+   * @param factory factory for creating new individuals
+   * @param threshold initial distance threshold for joining a species
+   * @param targetSpecies number of species the threshold is steered towards
+   * @return a new SpeciatedGeneticAlgorithm instance
+   * @param <I> a I class
+   * @throws java.lang.IllegalArgumentException if threshold is not positive or targetSpecies is
+   *     less than 1
+   */
+  public static <I extends Individual> SpeciatedGeneticAlgorithm<I> create(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      float threshold,
+      int targetSpecies) {
+    if (!(threshold > 0)) {
+      throw new IllegalArgumentException("Species threshold must be positive");
+    }
+    if (targetSpecies < 1) {
+      throw new IllegalArgumentException("Target species must be at least 1");
+    }
+    return new SpeciatedGeneticAlgorithm<>(
+        selectionMethod, crossoverMethod, mutationMethod, factory, threshold, targetSpecies);
+  }
+
+  /**
+   * Creates a new speciated genetic algorithm whose threshold is seeded from the first population.
+   * With {@code k} equally sized clusters about {@code 1/k} of all pairs fall within a cluster, so
+   * the threshold starts at the {@code 1/(2k)} quantile of the population's pairwise distances, for
+   * {@code k} the target number of species.
+   *
+   * @param selectionMethod selection method, applied within a species
+   * @param crossoverMethod crossover method
+   * @param mutationMethod mutation method
+   * @param factory factory for creating new individuals
+   * @param targetSpecies number of species the threshold is steered towards
+   * @return a new SpeciatedGeneticAlgorithm instance
+   * @param <I> a I class
+   * @throws java.lang.IllegalArgumentException if targetSpecies is less than 1
+   */
+  public static <I extends Individual> SpeciatedGeneticAlgorithm<I> create(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      int targetSpecies) {
+    if (targetSpecies < 1) {
+      throw new IllegalArgumentException("Target species must be at least 1");
+    }
+    return new SpeciatedGeneticAlgorithm<>(
+        selectionMethod, crossoverMethod, mutationMethod, factory, Float.NaN, targetSpecies);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Pair<List<I>, Statistics> evolve(RandomGenerator random, List<I> population) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+
+    final var species = speciate(random, population);
+    final int[] quotas = apportion(species, population.size());
+
+    final var newPopulation = new ArrayList<I>(population.size());
+    for (int s = 0; s < species.size(); s++) {
+      final var members = species.get(s);
+      if (quotas[s] == 0) {
+        continue;
+      }
+      final var selection = selectionMethod.prepare(members);
+      for (int i = 0; i < quotas[s]; i++) {
+        final var parentA = selection.select(random, members).getChromosome();
+        final var parentB = selection.select(random, members).getChromosome();
+        final var child = crossoverMethod.crossover(random, parentA, parentB);
+        newPopulation.add(factory.create(child.mutate(mutationMethod, random)));
+      }
+    }
+
+    representatives = new float[species.size()][];
+    for (int s = 0; s < species.size(); s++) {
+      final var members = species.get(s);
+      representatives[s] = members.get(random.nextInt(members.size())).getChromosome().getGenes();
+    }
+    speciesCount = species.size();
+    if (speciesCount > targetSpecies) {
+      threshold *= 1 + THRESHOLD_ADJUSTMENT;
+    } else if (speciesCount < targetSpecies) {
+      threshold /= 1 + THRESHOLD_ADJUSTMENT;
+    }
+
+    return new Pair<>(newPopulation, Statistics.of(population));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void writeState(DataOutput out, IndividualCodec<I> codec) throws IOException {
+    out.writeFloat(threshold);
+    out.writeInt(speciesCount);
+    out.writeInt(representatives.length);
+    for (final float[] representative : representatives) {
+      out.writeInt(representative.length);
+      for (final float gene : representative) {
+        out.writeFloat(gene);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void readState(DataInput in, IndividualCodec<I> codec) throws IOException {
+    threshold = in.readFloat();
+    speciesCount = in.readInt();
+    representatives = new float[in.readInt()][];
+    for (int s = 0; s < representatives.length; s++) {
+      representatives[s] = new float[in.readInt()];
+      for (int g = 0; g < representatives[s].length; g++) {
+        representatives[s][g] = in.readFloat();
+      }
+    }
+  }
+
+  /** Assigns every individual to the nearest species within the threshold, in population order. */
+  private List<List<I>> speciate(RandomGenerator random, List<I> population) {
+    final int size = population.size();
+    final float[][] genomes = new float[size][];
+    for (int i = 0; i < size; i++) {
+      genomes[i] = population.get(i).getChromosome().getGenes();
+    }
+    if (representatives.length > 0 && representatives[0].length != genomes[0].length) {
+      representatives = new float[0][];
+    }
+    if (Float.isNaN(threshold)) {
+      threshold = seedThreshold(random, genomes);
+    }
+
+    final int[] target = new int[size];
+    final float[] best = new float[size];
+    GenomeDistance.nearest(genomes, representatives, target, best);
+
+    final float limit = threshold * threshold;
+    for (int i = 0; i < size; i++) {
+      if (best[i] > limit) {
+        target[i] = -1;
+      }
+    }
+
+    // A chromosome within reach of no species founds one, and may take any later chromosome that
+    // is closer to it than to the species that chromosome was assigned so far
+    int species = representatives.length;
+    for (int founder = 0; founder < size; founder++) {
+      if (target[founder] >= 0) {
+        continue;
+      }
+      target[founder] = species;
+      final float[][] rest = Arrays.copyOfRange(genomes, founder + 1, size);
+      final int[] nearest = new int[rest.length];
+      final float[] distances = new float[rest.length];
+      GenomeDistance.nearest(rest, new float[][] {genomes[founder]}, nearest, distances);
+      for (int r = 0; r < rest.length; r++) {
+        final int i = founder + 1 + r;
+        if (distances[r] <= limit && (target[i] < 0 || distances[r] < best[i])) {
+          target[i] = species;
+          best[i] = distances[r];
+        }
+      }
+      species++;
+    }
+
+    final var members = new ArrayList<List<I>>(species);
+    for (int s = 0; s < species; s++) {
+      members.add(new ArrayList<>());
+    }
+    for (int i = 0; i < size; i++) {
+      members.get(target[i]).add(population.get(i));
+    }
+    members.removeIf(List::isEmpty);
+    return members;
+  }
+
+  /**
+   * Picks the {@code 1/(2k)} quantile of the pairwise distances between genomes, sampling {@link
+   * #SEED_PAIRS} random pairs when there are more pairs than that.
+   */
+  private float seedThreshold(RandomGenerator random, float[][] genomes) {
+    final int size = genomes.length;
+    final long pairs = (long) size * (size - 1) / 2;
+    if (pairs == 0) {
+      return Float.MIN_NORMAL;
+    }
+    final float[] distances = new float[(int) Math.min(pairs, SEED_PAIRS)];
+    if (pairs <= SEED_PAIRS) {
+      int k = 0;
+      for (int i = 0; i < size; i++) {
+        for (int j = i + 1; j < size; j++) {
+          distances[k++] = GenomeDistance.squared(genomes[i], genomes[j]);
+        }
+      }
+    } else {
+      for (int k = 0; k < distances.length; k++) {
+        final int i = random.nextInt(size);
+        final int j = (i + 1 + random.nextInt(size - 1)) % size;
+        distances[k] = GenomeDistance.squared(genomes[i], genomes[j]);
+      }
+    }
+    Arrays.sort(distances);
+    final float quantile = distances[distances.length / (2 * targetSpecies)];
+    return Math.max((float) Math.sqrt(quantile), Float.MIN_NORMAL);
+  }
+
+  /**
+   * Splits the offspring between species in proportion to their shared fitness, i.e. their mean
+   * fitness shifted so the least fit individual scores zero, using largest remainders.
+   */
+  private static int[] apportion(List<? extends List<? extends Individual>> species, int total) {
+    float min = Float.POSITIVE_INFINITY;
+    for (final var members : species) {
+      for (final var individual : members) {
+        min = Math.min(min, individual.getFitness());
+      }
+    }
+
+    final double[] shares = new double[species.size()];
+    double sum = 0;
+    for (int s = 0; s < shares.length; s++) {
+      final var members = species.get(s);
+      double shared = 0;
+      for (final var individual : members) {
+        shared += individual.getFitness() - min;
+      }
+      shares[s] = shared / members.size();
+      sum += shares[s];
+    }
+    if (!(sum > 0)) {
+      // Every individual is equally fit; fall back to species sizes.
+      sum = 0;
+      for (int s = 0; s < shares.length; s++) {
+        shares[s] = species.get(s).size();
+        sum += shares[s];
+      }
+    }
+
+    final int[] quotas = new int[shares.length];
+    final double[] remainders = new double[shares.length];
+    int assigned = 0;
+    for (int s = 0; s < shares.length; s++) {
+      final double exact = shares[s] / sum * total;
+      quotas[s] = (int) exact;
+      remainders[s] = exact - quotas[s];
+      assigned += quotas[s];
+    }
+    while (assigned < total) {
+      int largest = 0;
+      for (int s = 1; s < remainders.length; s++) {
+        if (remainders[s] > remainders[largest]) {
+          largest = s;
+        }
+      }
+      quotas[largest]++;
+      remainders[largest] = -1;
+      assigned++;
+    }
+    return quotas;
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.statistics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Genetic diversity of a population, to spot premature convergence that fitness alone hides.
+ *
+ * <p>A single pass over blocks of individuals fetches every chromosome, accumulates per-gene
+ * variance with Welford's algorithm and takes each {@link Chromosome#contentHash() content hash};
+ * the blocks are merged with Chan's pairwise formula, so they can run in parallel. The mean
+ * pairwise distance is then estimated from randomly sampled pairs, compared in place with {@link
+ * Chromosome#squaredDistance}, and distinct hashes are counted by sorting them; barring hash
+ * collisions they are the bit-for-bit distinct chromosomes.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Getter
+public final class Diversity {
+  /** Number of pairs sampled by {@link #of(List, RandomGenerator)}. */
+  public static final int DEFAULT_SAMPLE_PAIRS = 1024;
+
+  /** Individuals per variance block. */
+  static final int BLOCK_SIZE = 1024;
+
+  /** Number of individuals. */
+  private final int populationSize;
+
+  /** Variance of each gene across the population. */
+  @Getter(AccessLevel.NONE)
+  private final float[] geneVariance;
+
+  /** Mean of the per-gene variances. */
+  private final float meanVariance;
+
+  /** Estimated mean Euclidean distance between two distinct individuals. */
+  private final float meanPairwiseDistance;
+
+  /** Number of distinct content hashes, approximately the number of distinct chromosomes. */
+  private final int uniqueChromosomes;
+
+  /** Private constructor - use {@link #of} instead. */
+  private Diversity(
+      int populationSize, float[] geneVariance, float meanPairwiseDistance, int uniqueChromosomes) {
+    this.populationSize = populationSize;
+    this.geneVariance = geneVariance;
+    double sum = 0;
+    for (final float variance : geneVariance) {
+      sum += variance;
+    }
+    this.meanVariance = geneVariance.length == 0 ? 0 : (float) (sum / geneVariance.length);
+    this.meanPairwiseDistance = meanPairwiseDistance;
+    this.uniqueChromosomes = uniqueChromosomes;
+  }
+
+  /**
+   * Measures a population sequentially, sampling {@link #DEFAULT_SAMPLE_PAIRS} pairs.
+   *
+   * @param population the population to measure
+   * @param random random number generator choosing the sampled pairs
+   * @return a {@link io.jshorelark.genetic.statistics.Diversity} object
+   * @throws java.lang.IllegalArgumentException if the population is empty or its chromosomes differ
+   *     in length
+   */
+  public static Diversity of(List<? extends Individual> population, RandomGenerator random) {
+    return of(population, random, DEFAULT_SAMPLE_PAIRS, false);
+  }
+
+  /**
+   * Measures a population.
+   *
+   * @param population the population to measure
+   * @param random random number generator choosing the sampled pairs, only used on the calling
+   *     thread
+   * @param samplePairs number of pairs sampled to estimate the mean pairwise distance
+   * @param parallel whether to split the work across the common fork/join pool
+   * @return a {@link io.jshorelark.genetic.statistics.Diversity} object
+   * @throws java.lang.IllegalArgumentException if the population is empty, its chromosomes differ
+   *     in length, or samplePairs is negative
+   */
+  public static Diversity of(
+      List<? extends Individual> population,
+      RandomGenerator random,
+      int samplePairs,
+      boolean parallel) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population must not be empty");
+    }
+    return measure(
+        i -> population.get(i).getChromosome(), population.size(), random, samplePairs, parallel);
+  }
+
+  /**
+   * Measures chromosomes sequentially, sampling {@link #DEFAULT_SAMPLE_PAIRS} pairs.
+   *
+   * @param chromosomes the chromosomes to measure
+   * @param random random number generator choosing the sampled pairs
+   * @return a {@link io.jshorelark.genetic.statistics.Diversity} object
+   * @throws java.lang.IllegalArgumentException if there are no chromosomes or they differ in length
+   */
+  public static Diversity ofChromosomes(List<Chromosome> chromosomes, RandomGenerator random) {
+    if (chromosomes.isEmpty()) {
+      throw new IllegalArgumentException("Population must not be empty");
+    }
+    return measure(chromosomes::get, chromosomes.size(), random, DEFAULT_SAMPLE_PAIRS, false);
+  }
+
+  /**
+   * Gets the variance of each gene across the population.
+   *
+   * @return a copy of the variances
+   */
+  public float[] getGeneVariance() {
+    return geneVariance.clone();
+  }
+
+  /**
+   * Gets the number of distinct content hashes relative to the population size, approximately the
+   * fraction of individuals that are distinct.
+   *
+   * @return a float between 0 and 1
+   */
+  public float getUniqueFraction() {
+    return (float) uniqueChromosomes / populationSize;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format(
+        "Diversity[variance=%.6f, distance=%.4f, unique=%d/%d]",
+        meanVariance, meanPairwiseDistance, uniqueChromosomes, populationSize);
+  }
+
+  /** Measures {@code size} chromosomes, fetching each one once. */
+  private static Diversity measure(
+      IntFunction<Chromosome> source,
+      int size,
+      RandomGenerator random,
+      int samplePairs,
+      boolean parallel) {
+    if (samplePairs < 0) {
+      throw new IllegalArgumentException("Sample pairs cannot be negative");
+    }
+
+    // Individuals may build their chromosome on every call, so each one is fetched once, in the
+    // same pass that accumulates the variance and the hashes
+    final Chromosome[] chromosomes = new Chromosome[size];
+    final long[] hashes = new long[size];
+    final Chromosome head = source.apply(0);
+    final int length = head.length();
+    final int blocks = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    final Moments total =
+        range(0, blocks, parallel)
+            .mapToObj(
+                block -> {
+                  final var moments = new Moments(length);
+                  final int to = Math.min(size, (block + 1) * BLOCK_SIZE);
+                  for (int i = block * BLOCK_SIZE; i < to; i++) {
+                    chromosomes[i] = i == 0 ? head : source.apply(i);
+                    hashes[i] = chromosomes[i].contentHash();
+                    moments.add(chromosomes[i]);
+                  }
+                  return moments;
+                })
+            .reduce(Moments::merge)
+            .orElseThrow();
+    if (total.ragged) {
+      throw new IllegalArgumentException("Chromosomes must have the same length");
+    }
+
+    final float[] variance = new float[length];
+    for (int g = 0; g < length; g++) {
+      variance[g] = (float) (total.m2[g] / total.count);
+    }
+    return new Diversity(
+        size,
+        variance,
+        meanPairwiseDistance(chromosomes, random, samplePairs, parallel),
+        uniqueHashes(hashes, parallel));
+  }
+
+  /** Mean distance over pairs of distinct indices drawn up front from the random generator. */
+  private static float meanPairwiseDistance(
+      Chromosome[] chromosomes, RandomGenerator random, int samplePairs, boolean parallel) {
+    final int size = chromosomes.length;
+    if (size < 2 || samplePairs == 0) {
+      return 0;
+    }
+    final int[] first = new int[samplePairs];
+    final int[] second = new int[samplePairs];
+    for (int p = 0; p < samplePairs; p++) {
+      first[p] = random.nextInt(size);
+      second[p] = (first[p] + 1 + random.nextInt(size - 1)) % size;
+    }
+
+    final double sum =
+        range(0, samplePairs, parallel)
+            .mapToDouble(
+                p -> Math.sqrt(chromosomes[first[p]].squaredDistance(chromosomes[second[p]])))
+            .sum();
+    return (float) (sum / samplePairs);
+  }
+
+  /** Counts distinct content hashes by sorting them. */
+  private static int uniqueHashes(long[] hashes, boolean parallel) {
+    if (parallel) {
+      Arrays.parallelSort(hashes);
+    } else {
+      Arrays.sort(hashes);
+    }
+    int unique = 1;
+    for (int i = 1; i < hashes.length; i++) {
+      if (hashes[i] != hashes[i - 1]) {
+        unique++;
+      }
+    }
+    return unique;
+  }
+
+  private static IntStream range(int from, int to, boolean parallel) {
+    final var range = IntStream.range(from, to);
+    return parallel ? range.parallel() : range;
+  }
+
+  /** Running count, mean and sum of squared deviations of every gene. */
+  private static final class Moments {
+    private long count;
+    private boolean ragged;
+    private final double[] mean;
+    private final double[] m2;
+
+    Moments(int length) {
+      this.mean = new double[length];
+      this.m2 = new double[length];
+    }
+
+    /** Welford update with one chromosome. */
+    void add(Chromosome chromosome) {
+      if (chromosome.length() != mean.length) {
+        ragged = true;
+        return;
+      }
+      count++;
+      for (int g = 0; g < mean.length; g++) {
+        final double delta = chromosome.get(g) - mean[g];
+        mean[g] += delta / count;
+        m2[g] += delta * (chromosome.get(g) - mean[g]);
+      }
+    }
+
+    /** Chan et al. combination of two disjoint sets of moments. */
+    Moments merge(Moments other) {
+      ragged |= other.ragged;
+      if (other.count == 0) {
+        return this;
+      }
+      if (count == 0) {
+        other.ragged |= ragged;
+        return other;
+      }
+      final long combined = count + other.count;
+      for (int g = 0; g < mean.length; g++) {
+        final double delta = other.mean[g] - mean[g];
+        mean[g] += delta * other.count / combined;
+        m2[g] += other.m2[g] + delta * delta * count * other.count / combined;
+      }
+      count = combined;
+      return this;
+    }
+  }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.statistics;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Fitness statistics of every generation of a run, kept as primitive columns rather than as one
+ * {@link Statistics} object per generation.
+ *
+ * <p>Each column grows in fixed-size chunks, so appending never copies earlier generations and a
+ * run of 100k generations takes a few megabytes. Besides point and range queries, a column can be
+ * downsampled to the minimum and maximum of each bucket of generations, which keeps spikes visible
+ * when plotting far more generations than there are pixels.
+ *
+ * <p>The history can be written to a compact big-endian file:
+ *
+ * <pre>
+ * int                    magic, "GHST"
+ * int                    number of columns
+ * int                    number of generations
+ * float[generations]     each column in turn, in {@link Column} order
+ * </pre>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class GenerationHistory {
+  /** The recorded figures. */
+  public enum Column {
+    /** Lowest fitness. */
+    MIN,
+    /** 10th percentile of fitness. */
+    P10,
+    /** 25th percentile of fitness. */
+    P25,
+    /** Median fitness. */
+    MEDIAN,
+    /** 75th percentile of fitness. */
+    P75,
+    /** 90th percentile of fitness. */
+    P90,
+    /** Highest fitness. */
+    MAX,
+    /** Average fitness. */
+    AVERAGE
+  }
+
+  /** Generations per chunk. */
+  static final int CHUNK_SIZE = 4096;
+
+  /** Identifies history files. */
+  private static final int MAGIC = 0x47485354;
+
+  /** Number of columns. */
+  private static final int COLUMNS = Column.values().length;
+
+  /** Chunks of {@link #CHUNK_SIZE} generations, each holding every column in turn. */
+  private float[][] chunks = new float[4][];
+
+  /** Number of recorded generations. */
+  private int size;
+
+  /** Private constructor - use {@link #create} or {@link #read} instead. */
+  private GenerationHistory() {}
+
+  /**
+   * Creates an empty history.
+   *
+   * @return a new GenerationHistory instance
+   */
+  public static GenerationHistory create() {
+    return new GenerationHistory();
+  }
+
+  /**
+   * Records a generation from its fitness values.
+   *
+   * @param fitness fitness of every individual, left unchanged
+   * @throws java.lang.IllegalArgumentException if there are no fitness values
+   */
+  public void record(float[] fitness) {
+    if (fitness.length == 0) {
+      throw new IllegalArgumentException("Population must not be empty");
+    }
+    final float[] sorted = fitness.clone();
+    Arrays.sort(sorted);
+    double sum = 0;
+    for (final float value : sorted) {
+      sum += value;
+    }
+    final float[] row = new float[COLUMNS];
+    row[Column.MIN.ordinal()] = sorted[0];
+    row[Column.P10.ordinal()] = percentile(sorted, 0.10);
+    row[Column.P25.ordinal()] = percentile(sorted, 0.25);
+    row[Column.MEDIAN.ordinal()] = percentile(sorted, 0.50);
+    row[Column.P75.ordinal()] = percentile(sorted, 0.75);
+    row[Column.P90.ordinal()] = percentile(sorted, 0.90);
+    row[Column.MAX.ordinal()] = sorted[sorted.length - 1];
+    row[Column.AVERAGE.ordinal()] = (float) (sum / sorted.length);
+    append(row);
+  }
+
+  /**
+   * Records a generation from its population.
+   *
+   * @param population the evaluated generation
+   * @throws java.lang.IllegalArgumentException if the population is empty
+   */
+  public void record(List<? extends Individual> population) {
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < fitness.length; i++) {
+      fitness[i] = population.get(i).getFitness();
+    }
+    record(fitness);
+  }
+
+  /**
+   * Records a generation of which only the summary statistics are known; its percentiles other than
+   * the median are NaN.
+   *
+   * @param statistics the generation's statistics
+   */
+  public void record(Statistics statistics) {
+    final float[] row = new float[COLUMNS];
+    Arrays.fill(row, Float.NaN);
+    row[Column.MIN.ordinal()] = statistics.getMinFitness();
+    row[Column.MEDIAN.ordinal()] = statistics.getMedianFitness();
+    row[Column.MAX.ordinal()] = statistics.getMaxFitness();
+    row[Column.AVERAGE.ordinal()] = statistics.getAvgFitness();
+    append(row);
+  }
+
+  /**
+   * Gets the number of recorded generations.
+   *
+   * @return a int
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Gets one figure of one generation.
+   *
+   * @param column the figure
+   * @param generation the generation, counted from 0
+   * @return a float
+   */
+  public synchronized float get(Column column, int generation) {
+    checkRange(generation, generation + 1);
+    return chunks[generation / CHUNK_SIZE][offset(column, generation)];
+  }
+
+  /**
+   * Gets the statistics of one generation.
+   *
+   * @param generation the generation, counted from 0
+   * @return a {@link io.jshorelark.genetic.statistics.Statistics} object
+   */
+  public synchronized Statistics getStatistics(int generation) {
+    return new Statistics(
+        get(Column.MIN, generation),
+        get(Column.MAX, generation),
+        get(Column.AVERAGE, generation),
+        get(Column.MEDIAN, generation));
+  }
+
+  /**
+   * Gets one figure of a range of generations.
+   *
+   * @param column the figure
+   * @param from first generation, inclusive
+   * @param to last generation, exclusive
+   * @return the figures, oldest first
+   * @throws java.lang.IllegalArgumentException if the range is out of bounds
+   */
+  public synchronized float[] range(Column column, int from, int to) {
+    checkRange(from, to);
+    final float[] result = new float[to - from];
+    int generation = from;
+    while (generation < to) {
+      final int inChunk = generation % CHUNK_SIZE;
+      final int count = Math.min(CHUNK_SIZE - inChunk, to - generation);
+      System.arraycopy(
+          chunks[generation / CHUNK_SIZE],
+          offset(column, generation),
+          result,
+          generation - from,
+          count);
+      generation += count;
+    }
+    return result;
+  }
+
+  /**
+   * Downsamples one figure of a range of generations to the lowest and highest value of each of
+   * {@code buckets} consecutive, near-equal groups of generations.
+   *
+   * @param column the figure
+   * @param from first generation, inclusive
+   * @param to last generation, exclusive
+   * @param buckets number of groups; fewer if the range is shorter
+   * @return {@code [lows, highs]}, each with one value per group
+   * @throws java.lang.IllegalArgumentException if the range is out of bounds or empty, or buckets
+   *     is less than 1
+   */
+  public synchronized float[][] downsample(Column column, int from, int to, int buckets) {
+    checkRange(from, to);
+    if (from == to) {
+      throw new IllegalArgumentException("Cannot downsample an empty range");
+    }
+    if (buckets < 1) {
+      throw new IllegalArgumentException("Number of buckets must be at least 1");
+    }
+    final int count = Math.min(buckets, to - from);
+    final float[] lows = new float[count];
+    final float[] highs = new float[count];
+    final long span = to - from;
+    for (int bucket = 0; bucket < count; bucket++) {
+      final int start = from + (int) (span * bucket / count);
+      final int end = from + (int) (span * (bucket + 1) / count);
+      float low = Float.POSITIVE_INFINITY;
+      float high = Float.NEGATIVE_INFINITY;
+      for (int generation = start; generation < end; generation++) {
+        final float value = chunks[generation / CHUNK_SIZE][offset(column, generation)];
+        low = Math.min(low, value);
+        high = Math.max(high, value);
+      }
+      lows[bucket] = low;
+      highs[bucket] = high;
+    }
+    return new float[][] {lows, highs};
+  }
+
+  /**
+   * Writes the history to a file, replacing any existing one.
+   *
+   * @param path the file
+   * @throws java.io.IOException if the file cannot be written
+   */
+  public synchronized void write(Path path) throws IOException {
+    try (var channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      writeFully(
+          channel,
+          ByteBuffer.allocate(3 * Integer.BYTES).putInt(MAGIC).putInt(COLUMNS).putInt(size).flip());
+      final var buffer = ByteBuffer.allocate(CHUNK_SIZE * Float.BYTES);
+      for (final var column : Column.values()) {
+        for (int chunk = 0; chunk * CHUNK_SIZE < size; chunk++) {
+          final int count = Math.min(CHUNK_SIZE, size - chunk * CHUNK_SIZE);
+          buffer.clear();
+          buffer.asFloatBuffer().put(chunks[chunk], column.ordinal() * CHUNK_SIZE, count);
+          buffer.limit(count * Float.BYTES);
+          writeFully(channel, buffer);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads a history written by {@link #write}.
+   *
+   * @param path the file
+   * @return a new GenerationHistory instance
+   * @throws java.io.IOException if the file cannot be read, is not a history or is truncated
+   */
+  public static GenerationHistory read(Path path) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final var header = ByteBuffer.allocate(3 * Integer.BYTES);
+      readFully(channel, header);
+      if (header.getInt() != MAGIC || header.getInt() != COLUMNS) {
+        throw new IOException("Not a generation history: " + path);
+      }
+      final int size = header.getInt();
+      if (size < 0 || channel.size() != 3L * Integer.BYTES + (long) COLUMNS * size * Float.BYTES) {
+        throw new IOException("Truncated generation history: " + path);
+      }
+
+      final var history = new GenerationHistory();
+      final int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      history.chunks = new float[Math.max(4, chunkCount)][];
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        history.chunks[chunk] = new float[COLUMNS * CHUNK_SIZE];
+      }
+      history.size = size;
+      final var buffer = ByteBuffer.allocate(CHUNK_SIZE * Float.BYTES);
+      for (final var column : Column.values()) {
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+          final int count = Math.min(CHUNK_SIZE, size - chunk * CHUNK_SIZE);
+          buffer.clear().limit(count * Float.BYTES);
+          readFully(channel, buffer);
+          buffer.asFloatBuffer().get(history.chunks[chunk], column.ordinal() * CHUNK_SIZE, count);
+        }
+      }
+      return history;
+    }
+  }
+
+  /** Appends a row of every column, in {@link Column} order. */
+  private synchronized void append(float[] row) {
+    final int chunk = size / CHUNK_SIZE;
+    if (chunk == chunks.length) {
+      chunks = Arrays.copyOf(chunks, chunks.length * 2);
+    }
+    if (chunks[chunk] == null) {
+      chunks[chunk] = new float[COLUMNS * CHUNK_SIZE];
+    }
+    final int inChunk = size % CHUNK_SIZE;
+    for (int column = 0; column < COLUMNS; column++) {
+      chunks[chunk][column * CHUNK_SIZE + inChunk] = row[column];
+    }
+    size++;
+  }
+
+  /** Position of a generation's figure within its chunk. */
+  private static int offset(Column column, int generation) {
+    return column.ordinal() * CHUNK_SIZE + generation % CHUNK_SIZE;
+  }
+
+  private void checkRange(int from, int to) {
+    if (from < 0 || from > to || to > size) {
+      throw new IllegalArgumentException(
+          "Range [" + from + ", " + to + ") out of bounds for " + size + " generations");
+    }
+  }
+
+  /** Linearly interpolated percentile of sorted values. */
+  private static float percentile(float[] sorted, double quantile) {
+    final double position = quantile * (sorted.length - 1);
+    final int below = (int) position;
+    final int above = Math.min(below + 1, sorted.length - 1);
+    return (float) (sorted[below] + (position - below) * (sorted[above] - sorted[below]));
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("Unexpected end of generation history");
+      }
+    }
+    buffer.flip();
+  }
+}
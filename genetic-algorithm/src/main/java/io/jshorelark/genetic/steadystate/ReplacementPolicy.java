@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.steadystate;
+
+/**
+ * Decides which member of a steady-state population is replaced by a newly evaluated child.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public enum ReplacementPolicy {
+  /** Replaces the individual with the lowest fitness. */
+  WORST,
+
+  /**
+   * Replaces the loser of a tournament between randomly chosen individuals, which keeps some weaker
+   * individuals around and with them more diversity.
+   */
+  TOURNAMENT
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.steadystate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.crossover.CrossoverMethod;
+import io.jshorelark.genetic.mutation.MutationMethod;
+import io.jshorelark.genetic.selection.SelectionMethod;
+import io.jshorelark.genetic.statistics.Statistics;
+
+/**
+ * Asynchronous steady-state genetic algorithm.
+ *
+ * <p>Instead of breeding and evaluating a whole generation behind a barrier, this engine keeps a
+ * fixed number of evaluations in flight on an {@link Executor}. Whenever one finishes, the child
+ * replaces a member of the population chosen by the {@link ReplacementPolicy} and a new child is
+ * bred immediately from the updated population, so workers never sit idle waiting for the slowest
+ * evaluation of a generation.
+ *
+ * <p>Breeding and replacement happen on the calling thread; only {@link Individual.Factory#create}
+ * runs on the executor, so the factory must be thread-safe.
+ *
+ * @param <I> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class SteadyStateGeneticAlgorithm<I extends Individual> {
+  /** Selection method. */
+  private final SelectionMethod selectionMethod;
+
+  /** Crossover method. */
+  private final CrossoverMethod crossoverMethod;
+
+  /** Mutation method. */
+  private final MutationMethod mutationMethod;
+
+  /** Factory that creates and evaluates new individuals. */
+  private final Individual.Factory<I> factory;
+
+  /** Policy choosing which individual a finished child replaces. */
+  private final ReplacementPolicy replacementPolicy;
+
+  /** Number of individuals competing in a replacement tournament. */
+  private final int tournamentSize;
+
+  /** Maximum number of evaluations in flight. */
+  private final int inFlight;
+
+  /** Private constructor - use {@link #create} instead. */
+  private SteadyStateGeneticAlgorithm(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      ReplacementPolicy replacementPolicy,
+      int tournamentSize,
+      int inFlight) {
+    this.selectionMethod = selectionMethod;
+    this.crossoverMethod = crossoverMethod;
+    this.mutationMethod = mutationMethod;
+    this.factory = factory;
+    this.replacementPolicy = replacementPolicy;
+    this.tournamentSize = tournamentSize;
+    this.inFlight = inFlight;
+  }
+
+  /**
+   * Creates a new steady-state genetic algorithm.
+   *
+   * @param selectionMethod selection method
+   * @param crossoverMethod crossover method
+   * @param mutationMethod mutation method
+   * @param factory thread-safe factory that creates and evaluates new individuals
+   * @param replacementPolicy policy choosing which individual a finished child replaces
+   * @param tournamentSize number of individuals in a replacement tournament (ignored for {@link
+   *     ReplacementPolicy#WORST})
+   * @param inFlight maximum number of evaluations in flight
+   * @param <I> type of individuals in the population
+   * @return a new SteadyStateGeneticAlgorithm instance
+   * @throws java.lang.IllegalArgumentException if tournamentSize or inFlight is less than 1
+   */
+  public static <I extends Individual> SteadyStateGeneticAlgorithm<I> create(
+      SelectionMethod selectionMethod,
+      CrossoverMethod crossoverMethod,
+      MutationMethod mutationMethod,
+      Individual.Factory<I> factory,
+      ReplacementPolicy replacementPolicy,
+      int tournamentSize,
+      int inFlight) {
+    if (tournamentSize < 1) {
+      throw new IllegalArgumentException("Tournament size must be at least 1");
+    }
+    if (inFlight < 1) {
+      throw new IllegalArgumentException("In-flight evaluations must be at least 1");
+    }
+    return new SteadyStateGeneticAlgorithm<>(
+        selectionMethod,
+        crossoverMethod,
+        mutationMethod,
+        factory,
+        replacementPolicy,
+        tournamentSize,
+        inFlight);
+  }
+
+  /**
+   * Runs the given number of evaluations, breeding a new child as soon as each one completes.
+   * Utilization is measured against the parallelism of a {@link ForkJoinPool} or the maximum pool
+   * size of a {@link ThreadPoolExecutor}; for other executors, pass the worker count explicitly.
+   *
+   * @param random random number generator, only used on the calling thread
+   * @param population initial population
+   * @param evaluations total number of children to evaluate
+   * @param executor executor on which children are evaluated
+   * @return the final population together with throughput figures
+   * @throws java.lang.IllegalArgumentException if the population is empty
+   */
+  public SteadyStateResult<I> evolve(
+      RandomGenerator random, List<I> population, int evaluations, Executor executor) {
+    return evolve(random, population, evaluations, executor, workers(executor));
+  }
+
+  /**
+   * Runs the given number of evaluations, breeding a new child as soon as each one completes.
+   *
+   * @param random random number generator, only used on the calling thread
+   * @param population initial population
+   * @param evaluations total number of children to evaluate
+   * @param executor executor on which children are evaluated
+   * @param workers number of threads the executor evaluates on, used to measure utilization
+   * @return the final population together with throughput figures
+   * @throws java.lang.IllegalArgumentException if the population is empty or workers is less than 1
+   */
+  public SteadyStateResult<I> evolve(
+      RandomGenerator random, List<I> population, int evaluations, Executor executor, int workers) {
+    if (population.isEmpty()) {
+      throw new IllegalArgumentException("Population cannot be empty");
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("Workers must be at least 1");
+    }
+
+    final var current = new ArrayList<I>(population);
+    final CompletionService<Evaluation<I>> completions = new ExecutorCompletionService<>(executor);
+    final Set<Future<Evaluation<I>>> pending = new HashSet<>();
+
+    final long startedAt = System.nanoTime();
+    long busyNanos = 0;
+    int submitted = 0;
+    int completed = 0;
+
+    try {
+      while (submitted < Math.min(inFlight, evaluations)) {
+        pending.add(submit(completions, breed(random, current)));
+        submitted++;
+      }
+
+      while (completed < evaluations) {
+        final var future = completions.take();
+        pending.remove(future);
+        final var evaluation = future.get();
+        completed++;
+        busyNanos += evaluation.nanos();
+
+        current.set(replacementIndex(random, current), evaluation.individual());
+
+        if (submitted < evaluations) {
+          pending.add(submit(completions, breed(random, current)));
+          submitted++;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for evaluations", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Evaluation failed", e.getCause());
+    } finally {
+      pending.forEach(future -> future.cancel(true));
+    }
+
+    final long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+    final int slots = Math.min(inFlight, workers);
+    final double utilization = Math.min(1.0, busyNanos / ((double) elapsedNanos * slots));
+
+    return new SteadyStateResult<>(
+        current,
+        Statistics.of(current),
+        completed,
+        Duration.ofNanos(elapsedNanos),
+        completed / (elapsedNanos / 1e9),
+        utilization);
+  }
+
+  /** Number of threads an executor runs tasks on, or the number of processors if unknown. */
+  private static int workers(Executor executor) {
+    if (executor instanceof ForkJoinPool pool) {
+      return pool.getParallelism();
+    }
+    if (executor instanceof ThreadPoolExecutor pool) {
+      return pool.getMaximumPoolSize();
+    }
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /** Breeds a single child from the current population. */
+  private Chromosome breed(RandomGenerator random, List<I> population) {
+    final var parentA = selectionMethod.select(random, population).getChromosome();
+    final var parentB = selectionMethod.select(random, population).getChromosome();
+    return crossoverMethod.crossover(random, parentA, parentB).mutate(mutationMethod, random);
+  }
+
+  /** Submits a child for evaluation, timing how long the factory takes. */
+  private Future<Evaluation<I>> submit(
+      CompletionService<Evaluation<I>> completions, Chromosome child) {
+    return completions.submit(
+        () -> {
+          final long start = System.nanoTime();
+          final var individual = factory.create(child);
+          return new Evaluation<>(individual, System.nanoTime() - start);
+        });
+  }
+
+  /** Picks the index of the individual that the next finished child replaces. */
+  private int replacementIndex(RandomGenerator random, List<I> population) {
+    if (replacementPolicy == ReplacementPolicy.WORST) {
+      int worst = 0;
+      for (int i = 1; i < population.size(); i++) {
+        if (population.get(i).getFitness() < population.get(worst).getFitness()) {
+          worst = i;
+        }
+      }
+      return worst;
+    }
+
+    int loser = random.nextInt(population.size());
+    for (int i = 1; i < tournamentSize; i++) {
+      final int candidate = random.nextInt(population.size());
+      if (population.get(candidate).getFitness() < population.get(loser).getFitness()) {
+        loser = candidate;
+      }
+    }
+    return loser;
+  }
+
+  /** A child together with the time its evaluation took. */
+  private record Evaluation<I>(I individual, long nanos) {}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.steadystate;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.statistics.Statistics;
+
+import lombok.Value;
+
+/**
+ * Result of a steady-state run: the final population plus throughput figures.
+ *
+ * @param <T> type of individuals in the population
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Value
+public class SteadyStateResult<T extends Individual> {
+  /** The final population. */
+  List<T> population;
+
+  /** Statistics about the final population. */
+  Statistics statistics;
+
+  /** Number of completed evaluations. */
+  int evaluations;
+
+  /** Wall-clock time of the run. */
+  Duration elapsed;
+
+  /** Completed evaluations per second of wall-clock time. */
+  double evaluationsPerSecond;
+
+  /**
+   * Fraction of the available evaluation slots that were busy evaluating, between 0 and 1. Values
+   * well below 1 mean breeding or replacement on the coordinating thread is the bottleneck.
+   */
+  double utilization;
+
+  /**
+   * Creates a new steady-state result.
+   *
+   * @param population the final population
+   * @param statistics statistics about the final population
+   * @param evaluations number of completed evaluations
+   * @param elapsed wall-clock time of the run
+   * @param evaluationsPerSecond completed evaluations per second
+   * @param utilization fraction of busy evaluation slots
+   */
+  public SteadyStateResult(
+      List<T> population,
+      Statistics statistics,
+      int evaluations,
+      Duration elapsed,
+      double evaluationsPerSecond,
+      double utilization) {
+    this.population = List.copyOf(population);
+    this.statistics = statistics;
+    this.evaluations = evaluations;
+    this.elapsed = elapsed;
+    this.evaluationsPerSecond = evaluationsPerSecond;
+    this.utilization = utilization;
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.surrogate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.speciation.GenomeDistance;
+
+/**
+ * k-nearest-neighbor regression of fitness over chromosome vectors, trained online.
+ *
+ * <p>Evaluated chromosomes go into a fixed-size ring buffer, so the model forgets the oldest
+ * generations as the search moves on. A prediction is the inverse-distance weighted mean fitness of
+ * the {@code k} nearest archived chromosomes. Chromosomes are too high-dimensional for a spatial
+ * index to pay off, so neighbors are found by a linear scan with {@link GenomeDistance}.
+ *
+ * <p>Not thread-safe; {@link SurrogateFilter} serializes training against prediction.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class KnnSurrogate {
+  /** Number of nearest neighbors averaged into a prediction. */
+  private final int neighbors;
+
+  /** Archived chromosomes, a ring buffer. */
+  private final float[][] genomes;
+
+  /** Fitness of each archived chromosome. */
+  private final float[] fitness;
+
+  /** Number of archived chromosomes. */
+  private int size;
+
+  /** Slot the next chromosome is written to. */
+  private int next;
+
+  /** Private constructor - use {@link #create} instead. */
+  private KnnSurrogate(int neighbors, int capacity) {
+    this.neighbors = neighbors;
+    this.genomes = new float[capacity][];
+    this.fitness = new float[capacity];
+  }
+
+  /**
+   * Creates a new, untrained surrogate.
+   *
+   * @param neighbors number of nearest neighbors averaged into a prediction
+   * @param capacity number of evaluated chromosomes remembered
+   * @return a new KnnSurrogate instance
+   * @throws java.lang.IllegalArgumentException if neighbors is less than 1 or capacity is less than
+   *     neighbors
+   */
+  public static KnnSurrogate create(int neighbors, int capacity) {
+    if (neighbors < 1) {
+      throw new IllegalArgumentException("Number of neighbors must be at least 1");
+    }
+    if (capacity < neighbors) {
+      throw new IllegalArgumentException("Capacity must be at least the number of neighbors");
+    }
+    return new KnnSurrogate(neighbors, capacity);
+  }
+
+  /**
+   * Adds evaluated individuals to the model. When their chromosomes have a different length than
+   * the archived ones, the archive is cleared first.
+   *
+   * @param population the evaluated individuals
+   */
+  public void train(List<? extends Individual> population) {
+    for (final var individual : population) {
+      final float[] genes = individual.getChromosome().toArray();
+      if (size > 0 && genes.length != genomes[0].length) {
+        size = 0;
+        next = 0;
+      }
+      genomes[next] = genes;
+      fitness[next] = individual.getFitness();
+      next = (next + 1) % genomes.length;
+      size = Math.min(size + 1, genomes.length);
+    }
+  }
+
+  /**
+   * Predicts the fitness of a chromosome. Predictions only read the model, so they may run
+   * concurrently with each other but not with {@link #train}.
+   *
+   * @param genes the chromosome's genes
+   * @return the predicted fitness, NaN if the model has fewer than {@code k} chromosomes of that
+   *     length
+   */
+  public float predict(float[] genes) {
+    if (size < neighbors || genomes[0].length != genes.length) {
+      return Float.NaN;
+    }
+    // Insertion-sorted k nearest; k is small
+    final float[] distances = new float[neighbors];
+    final int[] indices = new int[neighbors];
+    int found = 0;
+    for (int i = 0; i < size; i++) {
+      final float distance = GenomeDistance.squared(genes, genomes[i]);
+      if (found == neighbors && distance >= distances[neighbors - 1]) {
+        continue;
+      }
+      int slot = found < neighbors ? found++ : neighbors - 1;
+      while (slot > 0 && distances[slot - 1] > distance) {
+        distances[slot] = distances[slot - 1];
+        indices[slot] = indices[slot - 1];
+        slot--;
+      }
+      distances[slot] = distance;
+      indices[slot] = i;
+    }
+
+    if (distances[0] == 0) {
+      return fitness[indices[0]];
+    }
+    double weighted = 0;
+    double weights = 0;
+    for (int i = 0; i < neighbors; i++) {
+      final double weight = 1 / Math.sqrt(distances[i]);
+      weighted += weight * fitness[indices[i]];
+      weights += weight;
+    }
+    return (float) (weighted / weights);
+  }
+
+  /**
+   * Writes the archive, for checkpoints.
+   *
+   * @param out the output
+   * @throws java.io.IOException if the archive cannot be written
+   */
+  public void writeState(DataOutput out) throws IOException {
+    out.writeInt(size);
+    out.writeInt(next);
+    out.writeInt(size == 0 ? 0 : genomes[0].length);
+    for (int i = 0; i < size; i++) {
+      for (final float gene : genomes[i]) {
+        out.writeFloat(gene);
+      }
+      out.writeFloat(fitness[i]);
+    }
+  }
+
+  /**
+   * Replaces the archive with one written by {@link #writeState} from a surrogate of the same
+   * capacity.
+   *
+   * @param in the input
+   * @throws java.io.IOException if the archive cannot be read or doesn't fit
+   */
+  public void readState(DataInput in) throws IOException {
+    final int archived = in.readInt();
+    final int slot = in.readInt();
+    final int genes = in.readInt();
+    if (archived < 0 || archived > genomes.length || slot < 0 || slot >= genomes.length) {
+      throw new IOException("Surrogate archive doesn't fit a capacity of " + genomes.length);
+    }
+    for (int i = 0; i < archived; i++) {
+      genomes[i] = new float[genes];
+      for (int g = 0; g < genes; g++) {
+        genomes[i][g] = in.readFloat();
+      }
+      fitness[i] = in.readFloat();
+    }
+    size = archived;
+    next = slot;
+  }
+
+  /**
+   * Gets the number of archived chromosomes.
+   *
+   * @return a int
+   */
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.surrogate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+
+/**
+ * Prefilters offspring with a {@link KnnSurrogate} so that only the most promising ones are fully
+ * evaluated.
+ *
+ * <p>{@link io.jshorelark.genetic.GeneticAlgorithm} breeds {@code oversampling} times as many
+ * offspring as it needs, asks {@link #screen} which of them to keep, and hands each evaluated
+ * generation back through {@link #observe}. Observing trains the surrogate and scores the
+ * predictions made for that generation, matched by {@link Chromosome#contentHash()}, so accuracy is
+ * measured on exactly the individuals that were simulated. Until the surrogate has seen enough
+ * individuals, offspring are kept in breeding order.
+ *
+ * <p>The population size is fixed, so the best predicted offspring are kept even when they are
+ * predicted to do worse than their parents; each {@link SurrogateReport} says how many offspring
+ * were rejected below, and how many kept despite, the median fitness of the parents.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class SurrogateFilter {
+  /** The fitness model. */
+  private final KnnSurrogate surrogate;
+
+  /** Offspring bred per offspring kept. */
+  private final int oversampling;
+
+  /** Receives a report for every screened generation. */
+  private final Consumer<SurrogateReport> listener;
+
+  /** Predictions for the offspring kept by the last screening, by content hash. */
+  private Map<Long, Float> predictions = Map.of();
+
+  /** Median fitness of the last observed generation. */
+  private float threshold = Float.NaN;
+
+  /** Correlation measured by the last observation. */
+  private float correlation = Float.NaN;
+
+  /** Mean absolute error measured by the last observation. */
+  private float meanAbsoluteError = Float.NaN;
+
+  /** Report of the last screening, or null. */
+  private SurrogateReport lastReport;
+
+  /** Private constructor - use {@link #create} instead. */
+  private SurrogateFilter(
+      KnnSurrogate surrogate, int oversampling, Consumer<SurrogateReport> listener) {
+    this.surrogate = surrogate;
+    this.oversampling = oversampling;
+    this.listener = listener;
+  }
+
+  /**
+   * Creates a new surrogate filter.
+   *
+   * @param surrogate the fitness model
+   * @param oversampling offspring bred per offspring kept
+   * @param listener receives a report for every screened generation
+   * @return a new SurrogateFilter instance
+   * @throws java.lang.IllegalArgumentException if oversampling is less than 1
+   */
+  public static SurrogateFilter create(
+      KnnSurrogate surrogate, int oversampling, Consumer<SurrogateReport> listener) {
+    if (oversampling < 1) {
+      throw new IllegalArgumentException("Oversampling must be at least 1");
+    }
+    return new SurrogateFilter(surrogate, oversampling, listener);
+  }
+
+  /**
+   * Gets the number of offspring to breed for a generation of the given size.
+   *
+   * @param populationSize number of offspring that will be evaluated
+   * @return a int
+   */
+  public int candidates(int populationSize) {
+    return Math.multiplyExact(populationSize, oversampling);
+  }
+
+  /**
+   * Scores the predictions made for an evaluated generation and trains the surrogate on it.
+   *
+   * @param population the evaluated generation
+   */
+  public synchronized void observe(List<? extends Individual> population) {
+    int count = 0;
+    double sumPredicted = 0;
+    double sumActual = 0;
+    double sumPredictedSq = 0;
+    double sumActualSq = 0;
+    double sumProduct = 0;
+    double sumError = 0;
+    for (final var individual : population) {
+      final var predicted = predictions.get(individual.getChromosome().contentHash());
+      if (predicted == null) {
+        continue;
+      }
+      final double p = predicted;
+      final double a = individual.getFitness();
+      count++;
+      sumPredicted += p;
+      sumActual += a;
+      sumPredictedSq += p * p;
+      sumActualSq += a * a;
+      sumProduct += p * a;
+      sumError += Math.abs(p - a);
+    }
+    meanAbsoluteError = count == 0 ? Float.NaN : (float) (sumError / count);
+    final double covariance = count * sumProduct - sumPredicted * sumActual;
+    final double variance =
+        (count * sumPredictedSq - sumPredicted * sumPredicted)
+            * (count * sumActualSq - sumActual * sumActual);
+    correlation =
+        count < 2 || variance <= 0 ? Float.NaN : (float) (covariance / Math.sqrt(variance));
+
+    final float[] fitness = new float[population.size()];
+    for (int i = 0; i < fitness.length; i++) {
+      fitness[i] = population.get(i).getFitness();
+    }
+    Arrays.sort(fitness);
+    final int middle = fitness.length / 2;
+    threshold =
+        fitness.length == 0
+            ? Float.NaN
+            : fitness.length % 2 == 0
+                ? (fitness[middle - 1] + fitness[middle]) / 2
+                : fitness[middle];
+
+    surrogate.train(population);
+  }
+
+  /**
+   * Picks the offspring with the best predicted fitness.
+   *
+   * @param candidates the bred offspring
+   * @param keep number of offspring to keep
+   * @return indices of the kept offspring, in breeding order
+   * @throws java.lang.IllegalArgumentException if keep is not within [0, candidates]
+   */
+  public synchronized int[] screen(List<Chromosome> candidates, int keep) {
+    if (keep < 0 || keep > candidates.size()) {
+      throw new IllegalArgumentException("Cannot keep " + keep + " of " + candidates.size());
+    }
+    final float[] predicted = new float[candidates.size()];
+    IntStream.range(0, predicted.length)
+        .parallel()
+        .forEach(i -> predicted[i] = surrogate.predict(candidates.get(i).toArray()));
+
+    boolean predictable = true;
+    for (final float value : predicted) {
+      predictable &= !Float.isNaN(value);
+    }
+
+    final int[] kept;
+    if (!predictable) {
+      kept = IntStream.range(0, keep).toArray();
+    } else {
+      kept =
+          IntStream.range(0, predicted.length)
+              .boxed()
+              .sorted((a, b) -> Float.compare(predicted[b], predicted[a]))
+              .limit(keep)
+              .mapToInt(Integer::intValue)
+              .sorted()
+              .toArray();
+    }
+
+    final var next = new HashMap<Long, Float>();
+    final boolean[] isKept = new boolean[predicted.length];
+    for (final int index : kept) {
+      isKept[index] = true;
+      if (!Float.isNaN(predicted[index])) {
+        next.put(candidates.get(index).contentHash(), predicted[index]);
+      }
+    }
+    predictions = next;
+
+    // NaN predictions or threshold never compare below, so nothing counts before training
+    int rejected = 0;
+    int keptBelowThreshold = 0;
+    for (int i = 0; i < predicted.length; i++) {
+      if (predicted[i] < threshold) {
+        if (isKept[i]) {
+          keptBelowThreshold++;
+        } else {
+          rejected++;
+        }
+      }
+    }
+
+    lastReport =
+        new SurrogateReport(
+            candidates.size(),
+            keep,
+            threshold,
+            rejected,
+            keptBelowThreshold,
+            correlation,
+            meanAbsoluteError);
+    listener.accept(lastReport);
+    return kept;
+  }
+
+  /**
+   * Writes the surrogate's archive and the predictions awaiting their actual fitness, for
+   * checkpoints.
+   *
+   * @param out the output
+   * @throws java.io.IOException if the state cannot be written
+   */
+  public synchronized void writeState(DataOutput out) throws IOException {
+    surrogate.writeState(out);
+    out.writeInt(predictions.size());
+    for (final var prediction : predictions.entrySet()) {
+      out.writeLong(prediction.getKey());
+      out.writeFloat(prediction.getValue());
+    }
+    out.writeFloat(threshold);
+    out.writeFloat(correlation);
+    out.writeFloat(meanAbsoluteError);
+    out.writeBoolean(lastReport != null);
+    if (lastReport != null) {
+      out.writeInt(lastReport.getCandidates());
+      out.writeInt(lastReport.getEvaluated());
+      out.writeFloat(lastReport.getThreshold());
+      out.writeInt(lastReport.getRejected());
+      out.writeInt(lastReport.getKeptBelowThreshold());
+      out.writeFloat(lastReport.getCorrelation());
+      out.writeFloat(lastReport.getMeanAbsoluteError());
+    }
+  }
+
+  /**
+   * Restores state written by {@link #writeState}. The listener isn't told about the restored
+   * report.
+   *
+   * @param in the input
+   * @throws java.io.IOException if the state cannot be read
+   */
+  public synchronized void readState(DataInput in) throws IOException {
+    surrogate.readState(in);
+    final int count = in.readInt();
+    final var restored = new HashMap<Long, Float>();
+    for (int i = 0; i < count; i++) {
+      restored.put(in.readLong(), in.readFloat());
+    }
+    predictions = restored;
+    threshold = in.readFloat();
+    correlation = in.readFloat();
+    meanAbsoluteError = in.readFloat();
+    lastReport =
+        in.readBoolean()
+            ? new SurrogateReport(
+                in.readInt(),
+                in.readInt(),
+                in.readFloat(),
+                in.readInt(),
+                in.readInt(),
+                in.readFloat(),
+                in.readFloat())
+            : null;
+  }
+
+  /**
+   * Gets the report of the last screened generation.
+   *
+   * @return the report, null before the first screening
+   */
+  public synchronized SurrogateReport getLastReport() {
+    return lastReport;
+  }
+}
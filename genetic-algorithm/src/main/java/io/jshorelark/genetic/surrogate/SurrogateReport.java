@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.surrogate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Value;
+
+/**
+ * How a {@link SurrogateFilter} did on one generation.
+ *
+ * <p>Offspring are judged against a threshold, the median fitness of the generation they were bred
+ * from. {@link #getRejected()} counts the discarded offspring the surrogate predicted below it,
+ * which are the simulations the surrogate actually spared; {@link #getKeptBelowThreshold()} counts
+ * kept offspring that were predicted below it anyway, because the population had to be filled.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Value
+public class SurrogateReport {
+  /** Number of offspring bred. */
+  int candidates;
+
+  /** Number of offspring kept for full evaluation. */
+  int evaluated;
+
+  /** Median fitness of the generation the offspring were bred from, NaN before the first. */
+  float threshold;
+
+  /** Number of discarded offspring predicted below the threshold. */
+  int rejected;
+
+  /** Number of kept offspring predicted below the threshold. */
+  int keptBelowThreshold;
+
+  /**
+   * Pearson correlation between predicted and actual fitness of the previous generation's kept
+   * offspring, NaN when there were too few predictions to tell.
+   */
+  float correlation;
+
+  /** Mean absolute prediction error over the same offspring, NaN when there were none. */
+  float meanAbsoluteError;
+
+  /**
+   * Creates a new report.
+   *
+   * @param candidates number of offspring bred
+   * @param evaluated number of offspring kept for full evaluation
+   * @param threshold median fitness of the generation the offspring were bred from
+   * @param rejected number of discarded offspring predicted below the threshold
+   * @param keptBelowThreshold number of kept offspring predicted below the threshold
+   * @param correlation correlation between predicted and actual fitness
+   * @param meanAbsoluteError mean absolute prediction error
+   */
+  @JsonCreator
+  public SurrogateReport(
+      @JsonProperty("candidates") int candidates,
+      @JsonProperty("evaluated") int evaluated,
+      @JsonProperty("threshold") float threshold,
+      @JsonProperty("rejected") int rejected,
+      @JsonProperty("keptBelowThreshold") int keptBelowThreshold,
+      @JsonProperty("correlation") float correlation,
+      @JsonProperty("meanAbsoluteError") float meanAbsoluteError) {
+    this.candidates = candidates;
+    this.evaluated = evaluated;
+    this.threshold = threshold;
+    this.rejected = rejected;
+    this.keptBelowThreshold = keptBelowThreshold;
+    this.correlation = correlation;
+    this.meanAbsoluteError = meanAbsoluteError;
+  }
+
+  /**
+   * Gets the fraction of bred offspring that were rejected as predicted below the threshold.
+   *
+   * @return a float
+   */
+  @JsonIgnore
+  public float getRejectedFraction() {
+    return candidates == 0 ? 0 : (float) rejected / candidates;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return String.format(
+        "surrogate kept %d of %d offspring, rejected %d (%.1f%%) and kept %d predicted below %.4f,"
+            + " r=%.3f, mae=%.4f",
+        evaluated,
+        candidates,
+        rejected,
+        getRejectedFraction() * 100,
+        keptBelowThreshold,
+        threshold,
+        correlation,
+        meanAbsoluteError);
+  }
+}
@@ -6,12 +6,15 @@
  */
 package io.jshorelark.genetic;
 
+import java.nio.ReadOnlyBufferException;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ChromosomeTest {
@@ -69,4 +72,51 @@ class ChromosomeTest {
     assertEquals(1.0f, chromosome.get(1));
     assertEquals(2.0f, chromosome.get(2));
   }
+
+  @Test
+  void forEachVisitsGenesInOrder() {
+    var chromosome = Chromosome.of(3.0f, 1.0f, 2.0f);
+    var visited = new float[3];
+
+    chromosome.forEach((index, gene) -> visited[index] = gene);
+
+    assertArrayEquals(new float[] {3.0f, 1.0f, 2.0f}, visited);
+  }
+
+  @Test
+  void reduceAndSum() {
+    var chromosome = Chromosome.of(3.0f, 1.0f, 2.0f);
+
+    assertEquals(6.0f, chromosome.sum());
+    assertEquals(3.0f, chromosome.reduce(Float.NEGATIVE_INFINITY, Math::max));
+    assertEquals(5.0f, Chromosome.of().reduce(5.0f, Float::sum));
+  }
+
+  @Test
+  void copyIntoOffset() {
+    var target = new float[5];
+
+    Chromosome.of(3.0f, 1.0f, 2.0f).copyInto(target, 1);
+
+    assertArrayEquals(new float[] {0.0f, 3.0f, 1.0f, 2.0f, 0.0f}, target);
+    assertThrows(
+        IndexOutOfBoundsException.class, () -> Chromosome.of(1.0f, 2.0f).copyInto(target, 4));
+  }
+
+  @Test
+  void bufferViewIsReadOnly() {
+    var buffer = Chromosome.of(3.0f, 1.0f, 2.0f).asBuffer();
+
+    assertEquals(3, buffer.remaining());
+    assertEquals(1.0f, buffer.get(1));
+    assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, 9.0f));
+  }
+
+  @Test
+  void squaredDistance() {
+    assertEquals(25.0f, Chromosome.of(0.0f, 0.0f).squaredDistance(Chromosome.of(3.0f, 4.0f)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> Chromosome.of(1.0f).squaredDistance(Chromosome.of(1.0f, 2.0f)));
+  }
 }
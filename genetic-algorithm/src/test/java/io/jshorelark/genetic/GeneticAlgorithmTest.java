@@ -13,8 +13,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.evaluation.FitnessEvaluator;
 import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.replacement.PlusReplacement;
 import io.jshorelark.genetic.selection.RouletteWheelSelection;
+import io.jshorelark.genetic.surrogate.KnnSurrogate;
+import io.jshorelark.genetic.surrogate.SurrogateFilter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -55,6 +59,99 @@ class GeneticAlgorithmTest {
     assertThat(stats.getAvgFitness()).isBetween(stats.getMinFitness(), stats.getMaxFitness());
   }
 
+  @Test
+  @DisplayName("evaluates the same offspring whatever the evaluator")
+  void evaluatorDoesNotChangeOffspring() {
+    var parallel =
+        GeneticAlgorithm.create(
+            new RouletteWheelSelection(),
+            new UniformCrossover(),
+            GaussianMutation.create(MUTATION_CHANCE, MUTATION_COEFF),
+            FACTORY,
+            FitnessEvaluator.<TestIndividual>forkJoin());
+    var population =
+        List.of(
+            individual(0.0f, 1.0f, 0.0f),
+            individual(1.0f, 1.0f, 1.0f),
+            individual(1.0f, 2.0f, 1.0f),
+            individual(1.0f, 2.0f, 4.0f));
+
+    var sequential = algorithm.evolve(new Random(7), population).getFirst();
+    var forked = parallel.evolve(new Random(7), population).getFirst();
+
+    assertThat(forked)
+        .extracting(Individual::getChromosome)
+        .containsExactlyElementsOf(sequential.stream().map(Individual::getChromosome).toList());
+  }
+
+  @Test
+  @DisplayName("evaluates only the offspring kept by the surrogate")
+  void surrogateScreensOffspring() {
+    var filter = SurrogateFilter.create(KnnSurrogate.create(2, 16), 4, report -> {});
+    var screened = algorithm.withSurrogate(filter);
+    var population =
+        List.of(
+            individual(0.0f, 1.0f, 0.0f),
+            individual(1.0f, 1.0f, 1.0f),
+            individual(1.0f, 2.0f, 1.0f),
+            individual(1.0f, 2.0f, 4.0f));
+
+    var evolved = screened.evolve(new Random(7), population).getFirst();
+
+    assertThat(evolved).hasSize(population.size());
+    assertThat(filter.getLastReport().getCandidates()).isEqualTo(16);
+    assertThat(filter.getLastReport().getEvaluated()).isEqualTo(4);
+    assertThat(filter.getLastReport().getThreshold()).isEqualTo(3.5f);
+    assertThat(filter.getLastReport().getRejected()).isBetween(0, 12);
+  }
+
+  @Test
+  @DisplayName("carries the fittest individuals over by reference")
+  void carriesElites() {
+    var population =
+        List.of(
+            individual(0.0f, 1.0f, 0.0f),
+            individual(1.0f, 1.0f, 1.0f),
+            individual(1.0f, 2.0f, 1.0f),
+            individual(1.0f, 2.0f, 4.0f));
+
+    var evolved = algorithm.withElitism(2).evolve(new Random(7), population).getFirst();
+
+    assertThat(evolved).hasSize(population.size());
+    assertThat(evolved.subList(0, 2))
+        .usingElementComparator((a, b) -> a == b ? 0 : 1)
+        .containsExactlyInAnyOrder(population.get(2), population.get(3));
+  }
+
+  @Test
+  @DisplayName("caps the elites at the population size")
+  void capsElites() {
+    var population = List.of(individual(1.0f), individual(2.0f));
+
+    var evolved = algorithm.withElitism(5).evolve(new Random(7), population).getFirst();
+
+    assertThat(evolved).containsExactlyInAnyOrderElementsOf(population);
+  }
+
+  @Test
+  @DisplayName("breeds from the survivors kept by a replacement strategy")
+  void breedsFromSurvivors() {
+    var plus = algorithm.withReplacement(new PlusReplacement(), 1);
+    var best = individual(5.0f, 5.0f, 5.0f);
+    var first = List.of(individual(0.0f, 0.0f, 0.0f), best);
+
+    var offspring = plus.evolve(new Random(7), first).getFirst();
+    // Every child of the single survivor starts from its genes
+    assertThat(offspring)
+        .hasSize(2)
+        .allSatisfy(child -> assertThat(child.getFitness()).isPositive());
+
+    // The survivor outlives a generation of worse offspring
+    var worse = List.of(individual(-1.0f, -1.0f, -1.0f), individual(-2.0f, -2.0f, -2.0f));
+    var next = plus.evolve(new Random(7), worse).getFirst();
+    assertThat(next).allSatisfy(child -> assertThat(child.getFitness()).isGreaterThan(0.0f));
+  }
+
   private static TestIndividual individual(float... genes) {
     return FACTORY.create(Chromosome.of(genes));
   }
@@ -27,7 +27,7 @@ public class TestIndividual implements Individual {
     @Override
     public TestIndividual create(Chromosome chromosome) {
       // Calculate fitness as sum of genes, like in Rust implementation
-      float fitness = chromosome.stream().reduce(0f, Float::sum);
+      float fitness = chromosome.sum();
       return new TestIndividual(chromosome, fitness);
     }
   }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.random.SplitMix64;
+import io.jshorelark.genetic.selection.TournamentSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CheckpointFile")
+class CheckpointFileTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  @TempDir Path directory;
+
+  @Nested
+  @DisplayName("write and read")
+  class RoundTrip {
+    @Test
+    @DisplayName("restores every field")
+    void restoresEveryField() throws IOException {
+      var checkpoint =
+          new Checkpoint(
+              17,
+              List.of(Chromosome.of(1.0f, -2.5f, Float.NaN), Chromosome.of(0.0f, 3.0f, 4.0f)),
+              new float[] {1.5f, -0.25f},
+              new long[] {Long.MIN_VALUE, 42},
+              new byte[] {7, -1, 0});
+      var path = directory.resolve("run.ckpt");
+
+      CheckpointFile.write(path, checkpoint);
+      var restored = CheckpointFile.read(path);
+
+      assertThat(restored.getGeneration()).isEqualTo(17);
+      assertThat(restored.getFitness()).containsExactly(1.5f, -0.25f);
+      assertThat(restored.getRandomState()).containsExactly(Long.MIN_VALUE, 42);
+      assertThat(restored.getState()).containsExactly(7, -1, 0);
+      assertThat(restored.getChromosomes().get(0).getGenes())
+          .containsExactly(1.0f, -2.5f, Float.NaN);
+      assertThat(restored.getChromosomes().get(1).getGenes()).containsExactly(0.0f, 3.0f, 4.0f);
+    }
+
+    @Test
+    @DisplayName("replaces an existing checkpoint without leaving a temporary file")
+    void replacesExistingCheckpoint() throws IOException {
+      var path = directory.resolve("run.ckpt");
+
+      CheckpointFile.write(path, checkpoint(1));
+      CheckpointFile.write(path, checkpoint(2));
+
+      assertThat(CheckpointFile.read(path).getGeneration()).isEqualTo(2);
+      try (var files = Files.list(directory)) {
+        assertThat(files).containsExactly(path);
+      }
+    }
+
+    @Test
+    @DisplayName("handles an empty population")
+    void handlesEmptyPopulation() throws IOException {
+      var path = directory.resolve("empty.ckpt");
+
+      CheckpointFile.write(path, new Checkpoint(0, List.of(), new float[0], new long[0]));
+
+      assertThat(CheckpointFile.read(path).getChromosomes()).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("read")
+  class Read {
+    @Test
+    @DisplayName("rejects a corrupted file")
+    void rejectsCorruptedFile() throws IOException {
+      var path = directory.resolve("run.ckpt");
+      CheckpointFile.write(path, checkpoint(3));
+      var bytes = Files.readAllBytes(path);
+      bytes[bytes.length / 2] ^= 0x01;
+      Files.write(path, bytes);
+
+      assertThatThrownBy(() -> CheckpointFile.read(path))
+          .isInstanceOf(IOException.class)
+          .hasMessageStartingWith("Checkpoint is corrupted");
+    }
+
+    @Test
+    @DisplayName("rejects an unsupported version")
+    void rejectsUnsupportedVersion() throws IOException {
+      var path = directory.resolve("run.ckpt");
+      CheckpointFile.write(path, checkpoint(3));
+      var bytes = Files.readAllBytes(path);
+      ByteBuffer.wrap(bytes).putInt(4, CheckpointFile.VERSION + 1);
+      var crc = new java.util.zip.CRC32();
+      crc.update(bytes, 0, bytes.length - 4);
+      ByteBuffer.wrap(bytes).putInt(bytes.length - 4, (int) crc.getValue());
+      Files.write(path, bytes);
+
+      assertThatThrownBy(() -> CheckpointFile.read(path))
+          .isInstanceOf(IOException.class)
+          .hasMessageStartingWith("Unsupported checkpoint version 3");
+    }
+
+    @Test
+    @DisplayName("rejects a file that is not a checkpoint")
+    void rejectsOtherFiles() throws IOException {
+      var path = directory.resolve("notes.txt");
+      Files.writeString(path, "hi");
+
+      assertThatThrownBy(() -> CheckpointFile.read(path))
+          .isInstanceOf(IOException.class)
+          .hasMessageStartingWith("Not a checkpoint");
+    }
+  }
+
+  @Test
+  @DisplayName("resumes a genetic algorithm bit-for-bit")
+  void resumesBitForBit() throws IOException {
+    var algorithm =
+        GeneticAlgorithm.create(
+            new TournamentSelection(3),
+            new UniformCrossover(),
+            GaussianMutation.create(0.3f, 0.5f),
+            FACTORY);
+    var path = directory.resolve("ga.ckpt");
+
+    // Uninterrupted run, checkpointing halfway through
+    var random = SplitMix64.create(99);
+    var population = initialPopulation();
+    for (int generation = 1; generation <= 20; generation++) {
+      population = algorithm.evolve(random, population).getFirst();
+      if (generation == 10) {
+        CheckpointFile.write(path, Checkpoint.of(generation, population, random.getState()));
+      }
+    }
+
+    // Resumed run
+    var checkpoint = CheckpointFile.read(path);
+    var resumedRandom = SplitMix64.create(0);
+    resumedRandom.setState(checkpoint.getRandomState()[0]);
+    var resumed = checkpoint.population(FACTORY);
+    for (long generation = checkpoint.getGeneration() + 1; generation <= 20; generation++) {
+      resumed = algorithm.evolve(resumedRandom, resumed).getFirst();
+    }
+
+    assertThat(resumed).hasSameSizeAs(population);
+    for (int i = 0; i < population.size(); i++) {
+      assertThat(resumed.get(i).getChromosome().getGenes())
+          .containsExactly(population.get(i).getChromosome().getGenes());
+    }
+  }
+
+  private static Checkpoint checkpoint(long generation) {
+    return Checkpoint.of(generation, initialPopulation(), generation);
+  }
+
+  private static List<TestIndividual> initialPopulation() {
+    var random = SplitMix64.create(5);
+    return IntStream.range(0, 12)
+        .mapToObj(i -> FACTORY.create(Chromosome.of(random.nextFloat(), random.nextFloat())))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.checkpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jshorelark.genetic.Chromosome;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CheckpointWriter")
+class CheckpointWriterTest {
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("only checkpoints every interval generations")
+  void checkpointsEveryInterval() throws IOException {
+    var path = directory.resolve("run.ckpt");
+
+    try (var writer = CheckpointWriter.create(path, 5)) {
+      for (int generation = 1; generation <= 12; generation++) {
+        final int current = generation;
+        var scheduled = writer.offer(generation, () -> checkpoint(current));
+        assertThat(scheduled).isEqualTo(generation % 5 == 0);
+      }
+      writer.flush();
+
+      assertThat(writer.getWritten()).isBetween(1, 2);
+    }
+
+    assertThat(CheckpointFile.read(path).getGeneration()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("writes the latest snapshot on close")
+  void writesLatestOnClose() throws IOException {
+    var path = directory.resolve("run.ckpt");
+
+    try (var writer = CheckpointWriter.create(path, 1)) {
+      for (int generation = 1; generation <= 50; generation++) {
+        final int current = generation;
+        writer.offer(generation, () -> checkpoint(current));
+      }
+    }
+
+    assertThat(CheckpointFile.read(path).getGeneration()).isEqualTo(50);
+  }
+
+  @Test
+  @DisplayName("reports write failures")
+  void reportsFailures() {
+    var writer = CheckpointWriter.create(directory.resolve("missing").resolve("run.ckpt"), 1);
+    writer.offer(1, () -> checkpoint(1));
+
+    assertThatThrownBy(writer::close).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  @DisplayName("rejects an interval below 1")
+  void rejectsInvalidInterval() {
+    assertThatThrownBy(() -> CheckpointWriter.create(directory.resolve("run.ckpt"), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Checkpoint interval must be at least 1");
+  }
+
+  private static Checkpoint checkpoint(long generation) {
+    return new Checkpoint(
+        generation, List.of(Chromosome.of(1.0f, 2.0f)), new float[] {3.0f}, new long[] {7});
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.cmaes;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CmaEvolutionStrategy")
+class CmaEvolutionStrategyTest {
+  /** Negated sphere function: fitness is 0 at the origin and negative elsewhere. */
+  private static final Individual.Factory<ScoredIndividual> SPHERE =
+      chromosome -> {
+        float sum = 0;
+        for (int i = 0; i < chromosome.length(); i++) {
+          sum += chromosome.get(i) * chromosome.get(i);
+        }
+        return new ScoredIndividual(chromosome, -sum);
+      };
+
+  /** Flat landscape that never improves, forcing restarts. */
+  private static final Individual.Factory<ScoredIndividual> FLAT =
+      chromosome -> new ScoredIndividual(chromosome, 0);
+
+  @Nested
+  @DisplayName("evolve")
+  class Evolve {
+    @Test
+    @DisplayName("converges on the sphere function")
+    void convergesOnSphere() {
+      var strategy = CmaEvolutionStrategy.create(SPHERE, 1.0, RestartStrategy.NONE);
+      var random = RandomGenerators.fast(42);
+      var population = population(SPHERE, 12, 10, 3.0f);
+
+      for (int generation = 0; generation < 150; generation++) {
+        population = strategy.evolve(random, population).getFirst();
+      }
+
+      assertThat(strategy.getBestEverFitness()).isGreaterThan(-1e-4f);
+      assertThat(strategy.getSigma()).isLessThan(1.0);
+    }
+
+    @Test
+    @DisplayName("is reproducible for the same seed")
+    void reproducibleForSameSeed() {
+      var first = run(7);
+      var second = run(7);
+
+      assertThat(first).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("keeps the population size without restarts")
+    void keepsPopulationSize() {
+      var strategy = CmaEvolutionStrategy.create(SPHERE, 0.5, RestartStrategy.NONE);
+
+      var next = strategy.evolve(new Random(1), population(SPHERE, 8, 3, 1.0f)).getFirst();
+
+      assertThat(next).hasSize(8);
+      assertThat(next)
+          .allSatisfy(individual -> assertThat(individual.getChromosome().length()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("rejects an empty population")
+    void rejectsEmptyPopulation() {
+      var strategy = CmaEvolutionStrategy.create(SPHERE, 0.5, RestartStrategy.NONE);
+
+      assertThatThrownBy(() -> strategy.evolve(new Random(1), List.of()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Population cannot be empty");
+    }
+
+    @Test
+    @DisplayName("rejects chromosomes of the wrong length")
+    void rejectsWrongLength() {
+      var strategy = CmaEvolutionStrategy.create(SPHERE, 0.5, RestartStrategy.NONE);
+      strategy.evolve(new Random(1), population(SPHERE, 4, 2, 1.0f));
+
+      assertThatThrownBy(() -> strategy.evolve(new Random(1), population(SPHERE, 4, 3, 1.0f)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Chromosome length must be 2");
+    }
+  }
+
+  @Nested
+  @DisplayName("restarts")
+  class Restarts {
+    @Test
+    @DisplayName("doubles the population size with IPOP")
+    void doublesPopulationWithIpop() {
+      var strategy = CmaEvolutionStrategy.create(FLAT, 0.5, RestartStrategy.IPOP);
+      var random = RandomGenerators.fast(3);
+      var population = population(FLAT, 10, 2, 1.0f);
+
+      while (strategy.getRestarts() == 0 && strategy.getGenerations() < 100) {
+        population = strategy.evolve(random, population).getFirst();
+      }
+
+      assertThat(strategy.getRestarts()).isEqualTo(1);
+      assertThat(strategy.getPopulationSize()).isEqualTo(20);
+      assertThat(population).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("caps the IPOP population size")
+    void capsIpopPopulation() {
+      var strategy = CmaEvolutionStrategy.create(FLAT, 0.5, RestartStrategy.IPOP, 15);
+      var random = RandomGenerators.fast(3);
+      var population = population(FLAT, 10, 2, 1.0f);
+
+      while (strategy.getRestarts() < 2 && strategy.getGenerations() < 200) {
+        population = strategy.evolve(random, population).getFirst();
+      }
+
+      assertThat(strategy.getRestarts()).isEqualTo(2);
+      assertThat(strategy.getPopulationSize()).isEqualTo(15);
+      assertThat(population).hasSize(15);
+    }
+
+    @Test
+    @DisplayName("keeps the population size with plain restarts")
+    void keepsPopulationWithRestart() {
+      var strategy = CmaEvolutionStrategy.create(FLAT, 0.5, RestartStrategy.RESTART);
+      var random = RandomGenerators.fast(3);
+      var population = population(FLAT, 10, 2, 1.0f);
+
+      while (strategy.getRestarts() == 0 && strategy.getGenerations() < 100) {
+        population = strategy.evolve(random, population).getFirst();
+      }
+
+      assertThat(strategy.getRestarts()).isEqualTo(1);
+      assertThat(strategy.getSigma()).isEqualTo(0.5);
+      assertThat(population).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("never restarts with NONE")
+    void neverRestartsWithNone() {
+      var strategy = CmaEvolutionStrategy.create(FLAT, 0.5, RestartStrategy.NONE);
+      var random = RandomGenerators.fast(3);
+      var population = population(FLAT, 10, 2, 1.0f);
+
+      for (int generation = 0; generation < 50; generation++) {
+        population = strategy.evolve(random, population).getFirst();
+      }
+
+      assertThat(strategy.getRestarts()).isZero();
+    }
+  }
+
+  @Test
+  @DisplayName("rejects a non-positive initial sigma")
+  void rejectsNonPositiveSigma() {
+    assertThatThrownBy(() -> CmaEvolutionStrategy.create(SPHERE, 0.0, RestartStrategy.NONE))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Initial sigma must be positive");
+  }
+
+  @Test
+  @DisplayName("rejects a max population size below 2")
+  void rejectsSmallMaxPopulation() {
+    assertThatThrownBy(() -> CmaEvolutionStrategy.create(SPHERE, 1.0, RestartStrategy.IPOP, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Max population size must be at least 2");
+  }
+
+  private static double[] run(long seed) {
+    var strategy = CmaEvolutionStrategy.create(SPHERE, 1.0, RestartStrategy.IPOP);
+    var random = RandomGenerators.fast(seed);
+    var population = population(SPHERE, 8, 5, 2.0f);
+    for (int generation = 0; generation < 20; generation++) {
+      population = strategy.evolve(random, population).getFirst();
+    }
+    return strategy.getMean();
+  }
+
+  private static List<ScoredIndividual> population(
+      Individual.Factory<ScoredIndividual> factory, int size, int genes, float offset) {
+    var random = new Random(11);
+    return IntStream.range(0, size)
+        .mapToObj(
+            i -> {
+              var values = new float[genes];
+              for (int j = 0; j < genes; j++) {
+                values[j] = offset + random.nextFloat();
+              }
+              return factory.create(Chromosome.of(values));
+            })
+        .collect(Collectors.toList());
+  }
+
+  /** Individual with an externally computed fitness. */
+  private record ScoredIndividual(Chromosome chromosome, float fitness) implements Individual {
+    @Override
+    public Chromosome getChromosome() {
+      return chromosome;
+    }
+
+    @Override
+    public float getFitness() {
+      return fitness;
+    }
+  }
+}
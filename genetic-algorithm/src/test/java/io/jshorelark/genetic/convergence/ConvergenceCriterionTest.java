@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.convergence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.statistics.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConvergenceCriterion")
+class ConvergenceCriterionTest {
+  @Nested
+  @DisplayName("plateau")
+  class Plateau {
+    @Test
+    @DisplayName("fires once the measure stops improving for the window")
+    void firesAfterWindow() {
+      var criterion = ConvergenceCriterion.plateau(FitnessMeasure.MAX, 3, 0.1f);
+
+      assertThat(criterion.check(maxFitness(1, 2, 3, 4))).isEmpty();
+      assertThat(criterion.check(maxFitness(1, 2, 3, 4, 4.5f, 3, 4))).isEmpty();
+      assertThat(criterion.check(maxFitness(1, 2, 3, 4, 4.5f, 3, 4, 4)))
+          .hasValue("max fitness plateaued at 4.5000 for 3 generations");
+    }
+
+    @Test
+    @DisplayName("needs more generations than the window")
+    void needsHistory() {
+      var criterion = ConvergenceCriterion.plateau(FitnessMeasure.MAX, 3, 0.0f);
+
+      assertThat(criterion.check(maxFitness(1, 1, 1))).isEmpty();
+      assertThat(criterion.check(maxFitness(1, 1, 1, 1))).isPresent();
+    }
+
+    @Test
+    @DisplayName("watches the chosen measure")
+    void watchesChosenMeasure() {
+      var criterion = ConvergenceCriterion.plateau(FitnessMeasure.AVG, 2, 0.0f);
+      var history =
+          List.of(
+              new Statistics(0, 5, 1, 1), new Statistics(0, 5, 2, 2), new Statistics(0, 5, 3, 3));
+
+      assertThat(criterion.check(history)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rejects invalid parameters")
+    void rejectsInvalidParameters() {
+      assertThatThrownBy(() -> ConvergenceCriterion.plateau(FitnessMeasure.MAX, 0, 0.0f))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ConvergenceCriterion.plateau(FitnessMeasure.MAX, 1, -1.0f))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("diversityCollapse")
+  class DiversityCollapse {
+    @Test
+    @DisplayName("fires once the spread stays narrow for enough generations")
+    void firesWhenSpreadStaysNarrow() {
+      var criterion = ConvergenceCriterion.diversityCollapse(0.05f, 2);
+
+      var history = new ArrayList<Statistics>();
+      history.add(new Statistics(0, 10, 5, 5));
+      history.add(new Statistics(9.8f, 10, 9.9f, 9.9f));
+      assertThat(criterion.check(history)).isEmpty();
+
+      history.add(new Statistics(9.9f, 10, 9.95f, 9.95f));
+      assertThat(criterion.check(history)).isPresent();
+    }
+
+    @Test
+    @DisplayName("ignores generations where nobody scored")
+    void ignoresAllZeroFitness() {
+      var criterion = ConvergenceCriterion.diversityCollapse(0.01f, 2);
+      var history = List.of(new Statistics(0, 0, 0, 0), new Statistics(0, 0, 0, 0));
+
+      assertThat(criterion.check(history)).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("targetFitness")
+  class TargetFitness {
+    @Test
+    @DisplayName("fires once the latest generation reaches the target")
+    void firesAtTarget() {
+      var criterion = ConvergenceCriterion.targetFitness(FitnessMeasure.MAX, 5.0f);
+
+      assertThat(criterion.check(maxFitness(6, 4))).isEmpty();
+      assertThat(criterion.check(maxFitness(4, 5)))
+          .hasValue("max fitness 5.0000 reached target 5.0000");
+    }
+  }
+
+  @Test
+  @DisplayName("anyOf reports the first criterion that fires")
+  void anyOfReportsFirst() {
+    var criterion =
+        ConvergenceCriterion.anyOf(
+            history -> java.util.Optional.empty(),
+            history -> java.util.Optional.of("second"),
+            history -> java.util.Optional.of("third"));
+
+    assertThat(criterion.check(maxFitness(1))).hasValue("second");
+  }
+
+  private static List<Statistics> maxFitness(float... values) {
+    var history = new ArrayList<Statistics>();
+    for (float value : values) {
+      history.add(new Statistics(0, value, value / 2, value / 2));
+    }
+    return history;
+  }
+}
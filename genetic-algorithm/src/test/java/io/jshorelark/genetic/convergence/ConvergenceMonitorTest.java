@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.convergence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.statistics.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConvergenceMonitor")
+class ConvergenceMonitorTest {
+  private static final Statistics FLAT = new Statistics(1, 1, 1, 1);
+
+  @Test
+  @DisplayName("waits for the minimum number of generations")
+  void waitsForMinimumGenerations() {
+    var monitor =
+        ConvergenceMonitor.create(ConvergenceCriterion.targetFitness(FitnessMeasure.MAX, 0), 3);
+
+    assertThat(monitor.record(FLAT)).isEmpty();
+    assertThat(monitor.record(FLAT)).isEmpty();
+    assertThat(monitor.record(FLAT)).isPresent();
+    assertThat(monitor.isConverged()).isTrue();
+  }
+
+  @Test
+  @DisplayName("keeps the first reason")
+  void keepsFirstReason() {
+    var monitor =
+        ConvergenceMonitor.create(ConvergenceCriterion.targetFitness(FitnessMeasure.MAX, 0), 0);
+
+    var first = monitor.record(FLAT);
+    monitor.record(new Statistics(2, 2, 2, 2));
+
+    assertThat(first).isPresent();
+    assertThat(monitor.getReason()).isEqualTo(first);
+    assertThat(first.get().getGeneration()).isEqualTo(1);
+    assertThat(monitor.getGenerations()).isEqualTo(2);
+    assertThat(first.get().toString()).endsWith("(after 1 generations)");
+  }
+
+  @Test
+  @DisplayName("reports nothing while the run is still improving")
+  void reportsNothingWhileImproving() {
+    var monitor =
+        ConvergenceMonitor.create(ConvergenceCriterion.plateau(FitnessMeasure.MAX, 2, 0.0f), 0);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(monitor.record(new Statistics(0, i, 0, 0))).isEmpty();
+    }
+    assertThat(monitor.isConverged()).isFalse();
+  }
+
+  @Test
+  @DisplayName("rejects a negative minimum")
+  void rejectsNegativeMinimum() {
+    assertThatThrownBy(() -> ConvergenceMonitor.create(ConvergenceCriterion.anyOf(), -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Minimum generations cannot be negative");
+  }
+}
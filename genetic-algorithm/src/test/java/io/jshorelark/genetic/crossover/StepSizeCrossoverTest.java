@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.crossover;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("StepSizeCrossover")
+class StepSizeCrossoverTest {
+  private final StepSizeCrossover crossover =
+      StepSizeCrossover.create(new SinglePointCrossover(), 3, 0.5f);
+
+  @Test
+  @DisplayName("takes the geometric mean of the parents' step sizes")
+  void geometricMean() {
+    var child =
+        crossover.crossover(
+            RandomGenerators.fast(1), Chromosome.of(1, 1, 1, 0.25f), Chromosome.of(2, 2, 2, 4));
+
+    assertThat(child.length()).isEqualTo(4);
+    assertThat(child.get(3)).isCloseTo(1.0f, within(1e-6f));
+    for (int i = 0; i < 3; i++) {
+      assertThat(child.get(i)).isIn(1.0f, 2.0f);
+    }
+  }
+
+  @Test
+  @DisplayName("gives parents without a step size the initial step")
+  void initialStep() {
+    var child =
+        crossover.crossover(
+            RandomGenerators.fast(1), Chromosome.of(1, 1, 1), Chromosome.of(2, 2, 2));
+
+    assertThat(child.length()).isEqualTo(4);
+    assertThat(child.get(3)).isCloseTo(0.5f, within(1e-6f));
+  }
+
+  @Test
+  @DisplayName("rejects parents of the wrong length")
+  void rejectsWrongLength() {
+    assertThatThrownBy(
+            () ->
+                crossover.crossover(
+                    RandomGenerators.fast(1), Chromosome.of(1, 1), Chromosome.of(2, 2, 2)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
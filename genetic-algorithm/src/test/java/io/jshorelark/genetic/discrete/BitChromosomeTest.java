@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BitChromosome")
+class BitChromosomeTest {
+  @Test
+  @DisplayName("packs bits low to high and clears the padding")
+  void packsBits() {
+    var chromosome = BitChromosome.of(4, -1L);
+
+    assertThat(chromosome.toString()).isEqualTo("1111");
+    assertThat(chromosome.toLongArray()).containsExactly(0b1111L);
+    assertThat(chromosome.cardinality()).isEqualTo(4);
+    assertThat(BitChromosome.of(3, 0b010L).get(1)).isTrue();
+  }
+
+  @Test
+  @DisplayName("counts differing bits across words")
+  void hammingDistance() {
+    var a = BitChromosome.of(70, -1L, 0L);
+    var b = BitChromosome.of(70, 0L, 0b11L);
+
+    assertThat(a.hammingDistance(b)).isEqualTo(66);
+    assertThat(a.hammingDistance(a)).isZero();
+  }
+
+  @Test
+  @DisplayName("expands to a float chromosome of zeros and ones")
+  void toChromosome() {
+    assertThat(BitChromosome.of(3, 0b101L).toChromosome().toArray()).containsExactly(1, 0, 1);
+  }
+
+  @Test
+  @DisplayName("draws random bits without touching the padding")
+  void random() {
+    var chromosome = BitChromosome.random(RandomGenerators.fast(1), 100);
+
+    assertThat(chromosome.length()).isEqualTo(100);
+    assertThat(chromosome.toLongArray()[1] >>> 36).isZero();
+  }
+
+  @Test
+  @DisplayName("rejects a word count that doesn't match the length")
+  void rejectsWrongWords() {
+    assertThatThrownBy(() -> BitChromosome.of(65, 0L))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("65 bits need 2 words");
+    assertThatThrownBy(() -> BitChromosome.of(4, 0L).get(4))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BitFlipMutation")
+class BitFlipMutationTest {
+  @Test
+  @DisplayName("flips about the expected share of bits")
+  void flipsExpectedShare() {
+    var original = BitChromosome.of(10_000, new long[BitChromosome.wordsFor(10_000)]);
+    var mutated =
+        BitChromosome.of(10_000, original.toLongArray())
+            .mutate(BitFlipMutation.create(0.1f), RandomGenerators.fast(42));
+
+    assertThat(mutated.hammingDistance(original)).isBetween(900, 1100);
+  }
+
+  @Test
+  @DisplayName("flips nothing or everything at the extremes")
+  void extremes() {
+    var chromosome = BitChromosome.of(70, 0L, 0L);
+
+    chromosome.mutate(BitFlipMutation.create(0.0f), RandomGenerators.fast(1));
+    assertThat(chromosome.cardinality()).isZero();
+
+    chromosome.mutate(BitFlipMutation.create(1.0f), RandomGenerators.fast(1));
+    assertThat(chromosome.cardinality()).isEqualTo(70);
+  }
+
+  @Test
+  @DisplayName("rejects invalid chances")
+  void rejectsInvalidChance() {
+    assertThatThrownBy(() -> BitFlipMutation.create(1.5f))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Chance must be between 0 and 1");
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CreepMutation")
+class CreepMutationTest {
+  @Test
+  @DisplayName("moves every gene by at most the step, within the bounds")
+  void movesWithinStepAndBounds() {
+    var mutation = CreepMutation.create(1.0f, 2, -3, 3);
+    var genes = new short[] {0, 0, 3, -3, 1};
+
+    mutation.mutate(RandomGenerators.fast(1), genes);
+
+    short[] original = {0, 0, 3, -3, 1};
+    for (int i = 0; i < genes.length; i++) {
+      assertThat(genes[i]).isBetween((short) -3, (short) 3);
+      assertThat(Math.abs(genes[i] - original[i])).isBetween(0, 2);
+    }
+  }
+
+  @Test
+  @DisplayName("limits byte genes to the byte range")
+  void limitsBytes() {
+    var mutation = CreepMutation.create(1.0f, 100, -1000, 1000);
+
+    for (int seed = 0; seed < 100; seed++) {
+      var chromosome = ByteChromosome.of((byte) 127).mutate(mutation, RandomGenerators.fast(seed));
+
+      // Overflowing past 127 would wrap around to a large negative gene
+      assertThat(chromosome.get(0)).isBetween((byte) 27, (byte) 127);
+    }
+  }
+
+  @Test
+  @DisplayName("leaves genes alone with zero chance")
+  void zeroChance() {
+    var chromosome = ShortChromosome.of((short) 5, (short) 6);
+
+    chromosome.mutate(CreepMutation.create(0.0f, 1, 0, 10), RandomGenerators.fast(1));
+
+    assertThat(chromosome.toArray()).containsExactly((short) 5, (short) 6);
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(() -> CreepMutation.create(0.5f, 0, 0, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CreepMutation.create(0.5f, 1, 0, 40_000))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Bounds must be ordered and within the short range");
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DiscreteCrossover")
+class DiscreteCrossoverTest {
+  private static final BitChromosome ONES = BitChromosome.of(100, -1L, -1L);
+  private static final BitChromosome ZEROS = BitChromosome.of(100, 0L, 0L);
+
+  @Nested
+  @DisplayName("UNIFORM")
+  class Uniform {
+    @Test
+    @DisplayName("takes about half the bits from each parent")
+    void blendsBits() {
+      var child = DiscreteCrossover.UNIFORM.crossover(RandomGenerators.fast(1), ONES, ZEROS);
+
+      assertThat(child.length()).isEqualTo(100);
+      assertThat(child.cardinality()).isBetween(30, 70);
+      assertThat(child.toLongArray()[1] >>> 36).isZero();
+    }
+
+    @Test
+    @DisplayName("takes each integer gene from one of the parents")
+    void picksIntegerGenes() {
+      var a = ByteChromosome.of(new byte[100]);
+      var b = ByteChromosome.of(filled((byte) 7, 100));
+
+      var child = DiscreteCrossover.UNIFORM.crossover(RandomGenerators.fast(1), a, b);
+
+      long sevens = child.sum() / 7;
+      assertThat(child.sum() % 7).isZero();
+      assertThat(sevens).isBetween(30L, 70L);
+    }
+  }
+
+  @Nested
+  @DisplayName("SINGLE_POINT")
+  class SinglePoint {
+    @Test
+    @DisplayName("splits bits at one point")
+    void splitsBits() {
+      for (int seed = 0; seed < 50; seed++) {
+        var child =
+            DiscreteCrossover.SINGLE_POINT.crossover(RandomGenerators.fast(seed), ONES, ZEROS);
+        int point = child.cardinality();
+
+        assertThat(point).isBetween(1, 99);
+        for (int i = 0; i < 100; i++) {
+          assertThat(child.get(i)).isEqualTo(i < point);
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("splits short genes at one point")
+    void splitsShorts() {
+      var a = ShortChromosome.of((short) 1, (short) 1, (short) 1, (short) 1);
+      var b = ShortChromosome.of((short) 2, (short) 2, (short) 2, (short) 2);
+
+      var child = DiscreteCrossover.SINGLE_POINT.crossover(RandomGenerators.fast(3), a, b);
+
+      assertThat(child.get(0)).isEqualTo((short) 1);
+      assertThat(child.get(3)).isEqualTo((short) 2);
+    }
+  }
+
+  @Test
+  @DisplayName("rejects parents of different lengths")
+  void rejectsDifferentLengths() {
+    assertThatThrownBy(
+            () ->
+                DiscreteCrossover.UNIFORM.crossover(
+                    RandomGenerators.fast(1), ONES, BitChromosome.of(3, 0L)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Parents must have same length");
+  }
+
+  private static byte[] filled(byte value, int length) {
+    byte[] genes = new byte[length];
+    java.util.Arrays.fill(genes, value);
+    return genes;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.discrete;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.TournamentSelection;
+import io.jshorelark.genetic.statistics.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DiscreteGeneticAlgorithm")
+class DiscreteGeneticAlgorithmTest {
+  /** Counts set bits. */
+  private record OneMax(BitChromosome genome) implements DiscreteIndividual<BitChromosome> {
+    @Override
+    public BitChromosome getGenome() {
+      return genome;
+    }
+
+    @Override
+    public float getFitness() {
+      return genome.cardinality();
+    }
+  }
+
+  /** Sums byte genes. */
+  private record ByteSum(ByteChromosome genome) implements DiscreteIndividual<ByteChromosome> {
+    @Override
+    public ByteChromosome getGenome() {
+      return genome;
+    }
+
+    @Override
+    public float getFitness() {
+      return genome.sum();
+    }
+  }
+
+  @Test
+  @DisplayName("solves OneMax on packed bits")
+  void solvesOneMax() {
+    var mutation = BitFlipMutation.create(1.0f / 100);
+    var algorithm =
+        DiscreteGeneticAlgorithm.<BitChromosome, OneMax>create(
+                new TournamentSelection(3),
+                DiscreteCrossover.UNIFORM::crossover,
+                (random, genome) -> genome.mutate(mutation, random),
+                OneMax::new)
+            .withElitism(1);
+    var random = RandomGenerators.fast(1);
+    List<OneMax> population = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      population.add(new OneMax(BitChromosome.random(random, 100)));
+    }
+
+    Statistics first = algorithm.evolve(random, population).getSecond();
+    for (int generation = 0; generation < 60; generation++) {
+      population = algorithm.evolve(random, population).getFirst();
+    }
+    Statistics last = algorithm.evolve(random, population).getSecond();
+
+    assertThat(population).hasSize(50);
+    assertThat(last.getMaxFitness()).isGreaterThan(first.getMaxFitness() + 20);
+  }
+
+  @Test
+  @DisplayName("breeds byte genomes with creep mutation")
+  void breedsBytes() {
+    var mutation = CreepMutation.create(0.2f, 3, 0, 100);
+    var algorithm =
+        DiscreteGeneticAlgorithm.<ByteChromosome, ByteSum>create(
+                new TournamentSelection(3),
+                DiscreteCrossover.SINGLE_POINT::crossover,
+                (random, genome) -> genome.mutate(mutation, random),
+                ByteSum::new)
+            .withElitism(2);
+    var random = RandomGenerators.fast(2);
+    List<ByteSum> population = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      population.add(new ByteSum(ByteChromosome.random(random, 20, (byte) 0, (byte) 10)));
+    }
+    var best = population.stream().mapToDouble(ByteSum::getFitness).max().orElseThrow();
+
+    for (int generation = 0; generation < 30; generation++) {
+      population = algorithm.evolve(random, population).getFirst();
+    }
+
+    assertThat(population.stream().mapToDouble(ByteSum::getFitness).max().orElseThrow())
+        .isGreaterThan(best);
+    assertThat(population.get(0).getChromosome().length()).isEqualTo(20);
+  }
+
+  @Test
+  @DisplayName("rejects an empty population and negative elitism")
+  void rejectsInvalidArguments() {
+    var algorithm =
+        DiscreteGeneticAlgorithm.<BitChromosome, OneMax>create(
+            new TournamentSelection(2),
+            DiscreteCrossover.UNIFORM::crossover,
+            (random, genome) -> genome,
+            OneMax::new);
+
+    assertThatThrownBy(() -> algorithm.evolve(RandomGenerators.fast(1), List.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Population cannot be empty");
+    assertThatThrownBy(() -> algorithm.withElitism(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.es;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("EvolutionStrategies")
+class EvolutionStrategiesTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  private static final NoiseTable NOISE = NoiseTable.create(9, 10_000);
+
+  @Nested
+  @DisplayName("evolve")
+  class Evolve {
+    @Test
+    @DisplayName("climbs the fitness gradient")
+    void climbsGradient() {
+      var strategies = EvolutionStrategies.create(FACTORY, NOISE, 0.1f, 0.05f);
+      var random = RandomGenerators.fast(42);
+      var population = population(10, 5);
+
+      for (int generation = 0; generation < 50; generation++) {
+        population = strategies.evolve(random, population).getFirst();
+      }
+
+      // Fitness is the sum of genes, so every gene should have grown
+      var center = strategies.getCenter();
+      for (int i = 0; i < center.length(); i++) {
+        assertThat(center.get(i)).isGreaterThan(1.0f);
+      }
+    }
+
+    @Test
+    @DisplayName("samples antithetic pairs")
+    void samplesAntitheticPairs() {
+      var strategies = EvolutionStrategies.create(FACTORY, NOISE, 0.1f, 0.05f);
+      var initial = population(5, 3);
+
+      var sampled = strategies.evolve(new Random(1), initial).getFirst();
+
+      assertThat(sampled).hasSize(6);
+      var center = strategies.getCenter();
+      for (int k = 0; k < 3; k++) {
+        var plus = sampled.get(2 * k).getChromosome();
+        var minus = sampled.get(2 * k + 1).getChromosome();
+        for (int i = 0; i < center.length(); i++) {
+          assertThat(plus.get(i) + minus.get(i)).isCloseTo(2 * center.get(i), within(1e-5f));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("rejects a population it did not sample")
+    void rejectsForeignPopulation() {
+      var strategies = EvolutionStrategies.create(FACTORY, NOISE, 0.1f, 0.05f);
+      strategies.evolve(new Random(1), population(4, 3));
+
+      assertThatThrownBy(() -> strategies.evolve(new Random(1), population(6, 3)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Population must be the 4 previously sampled individuals");
+    }
+  }
+
+  @Nested
+  @DisplayName("update")
+  class Update {
+    @Test
+    @DisplayName("ignores pairs with equal fitness")
+    void ignoresTies() {
+      var strategies = EvolutionStrategies.create(FACTORY, NOISE, 0.1f, 0.05f);
+      strategies.evolve(new Random(1), population(2, 3));
+      var before = strategies.getCenter();
+
+      strategies.update(
+          List.of(new Perturbation(9, 0, 1.0f, 1.0f), new Perturbation(9, 7, 2.0f, 2.0f)));
+
+      assertThat(strategies.getCenter()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("rejects perturbations from another noise table")
+    void rejectsForeignTable() {
+      var strategies = EvolutionStrategies.create(FACTORY, NOISE, 0.1f, 0.05f);
+      strategies.evolve(new Random(1), population(2, 3));
+
+      assertThatThrownBy(() -> strategies.update(List.of(new Perturbation(8, 0, 1.0f, 0.0f))))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Perturbation was drawn from a different noise table");
+    }
+
+    @Test
+    @DisplayName("requires a seeded center")
+    void requiresCenter() {
+      var strategies = EvolutionStrategies.create(FACTORY, NOISE, 0.1f, 0.05f);
+
+      assertThatThrownBy(() -> strategies.update(List.of()))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+
+  @Test
+  @DisplayName("ranks values between -0.5 and 0.5, averaging ties")
+  void centeredRanks() {
+    var ranks = EvolutionStrategies.centeredRanks(new float[] {10.0f, -3.0f, 4.0f, 4.0f, 100.0f});
+
+    assertThat(ranks).containsExactly(0.25f, -0.5f, -0.125f, -0.125f, 0.5f);
+  }
+
+  private static List<TestIndividual> population(int size, int genes) {
+    var random = new Random(11);
+    return IntStream.range(0, size)
+        .mapToObj(
+            i -> {
+              var values = new float[genes];
+              for (int j = 0; j < genes; j++) {
+                values[j] = random.nextFloat();
+              }
+              return FACTORY.create(Chromosome.of(values));
+            })
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.es;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("NoiseTable")
+class NoiseTableTest {
+  @Test
+  @DisplayName("is reproducible for the same seed")
+  void reproducibleForSameSeed() {
+    var a = NoiseTable.create(5, 200_000);
+    var b = NoiseTable.create(5, 200_000);
+
+    for (int i = 0; i < a.size(); i += 997) {
+      assertThat(a.get(i)).isEqualTo(b.get(i));
+    }
+  }
+
+  @Test
+  @DisplayName("holds roughly standard normal values")
+  void holdsStandardNormalValues() {
+    var table = NoiseTable.create(1, 100_000);
+
+    double sum = 0;
+    double sumSquares = 0;
+    for (int i = 0; i < table.size(); i++) {
+      sum += table.get(i);
+      sumSquares += table.get(i) * table.get(i);
+    }
+
+    assertThat(sum / table.size()).isCloseTo(0.0, within(0.02));
+    assertThat(sumSquares / table.size()).isCloseTo(1.0, within(0.02));
+  }
+
+  @Test
+  @DisplayName("samples offsets that fit the requested dimension")
+  void samplesOffsetsThatFit() {
+    var table = NoiseTable.create(1, 100);
+    var random = new Random(3);
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(table.sampleOffset(random, 90)).isBetween(0, 10);
+    }
+    assertThatThrownBy(() -> table.sampleOffset(random, 101))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Noise table is smaller than the parameter vector");
+  }
+
+  @Test
+  @DisplayName("perturbs and accumulates along the same noise")
+  void perturbsAndAccumulates() {
+    var table = NoiseTable.create(2, 16);
+    var center = new float[] {1.0f, 2.0f, 3.0f};
+    var perturbed = new float[3];
+    var accumulator = new float[3];
+
+    table.perturb(center, 4, 0.5f, perturbed);
+    table.accumulate(accumulator, 4, 2.0f);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(perturbed[i]).isEqualTo(center[i] + 0.5f * table.get(4 + i));
+      assertThat(accumulator[i]).isEqualTo(2.0f * table.get(4 + i));
+    }
+  }
+
+  @Test
+  @DisplayName("rejects a non-positive size")
+  void rejectsNonPositiveSize() {
+    assertThatThrownBy(() -> NoiseTable.create(1, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Noise table size must be positive");
+  }
+}
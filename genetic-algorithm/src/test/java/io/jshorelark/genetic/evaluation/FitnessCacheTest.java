@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.evaluation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FitnessCache")
+class FitnessCacheTest {
+  private final AtomicInteger evaluations = new AtomicInteger();
+  private Individual.Factory<TestIndividual> factory;
+
+  @BeforeEach
+  void setUp() {
+    var delegate = new TestIndividual.Factory();
+    factory =
+        chromosome -> {
+          evaluations.incrementAndGet();
+          return delegate.create(chromosome);
+        };
+  }
+
+  @Test
+  @DisplayName("serves identical chromosomes from the cache")
+  void servesIdenticalChromosomesFromCache() {
+    var cache = FitnessCache.<TestIndividual>create(16);
+    var cached = cache.wrap(factory);
+
+    var first = cached.create(Chromosome.of(1.0f, 2.0f, 3.0f));
+    var second = cached.create(Chromosome.of(1.0f, 2.0f, 3.0f));
+
+    assertThat(second).isSameAs(first);
+    assertThat(evaluations).hasValue(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+    assertThat(cache.getHitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("keys entries by evaluation seed")
+  void keysEntriesBySeed() {
+    var cache = FitnessCache.<TestIndividual>create(16);
+    var chromosome = Chromosome.of(1.0f, 2.0f);
+
+    cache.get(chromosome, 1L, factory);
+    cache.get(chromosome, 2L, factory);
+    cache.get(chromosome, 1L, factory);
+
+    assertThat(evaluations).hasValue(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("evicts the least recently used entry")
+  void evictsLeastRecentlyUsed() {
+    var cache = FitnessCache.<TestIndividual>create(2);
+    var a = Chromosome.of(1.0f);
+    var b = Chromosome.of(2.0f);
+    var c = Chromosome.of(3.0f);
+
+    cache.get(a, 0L, factory);
+    cache.get(b, 0L, factory);
+    cache.get(a, 0L, factory); // touch a, so b becomes eldest
+    cache.get(c, 0L, factory);
+    cache.get(a, 0L, factory);
+    cache.get(b, 0L, factory);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getEvictions()).isEqualTo(2);
+    assertThat(evaluations).hasValue(4);
+  }
+
+  @Test
+  @DisplayName("distinguishes chromosomes that only differ in the last bit")
+  void distinguishesBitDifferences() {
+    var a = Chromosome.of(1.0f, 2.0f);
+    var b = Chromosome.of(1.0f, Math.nextUp(2.0f));
+
+    assertThat(a.contentHash()).isNotEqualTo(b.contentHash());
+    assertThat(a.contentHash()).isEqualTo(Chromosome.of(1.0f, 2.0f).contentHash());
+  }
+
+  @Test
+  @DisplayName("evaluates chromosomes whose hashes collide")
+  void evaluatesOnHashCollision() {
+    var cache = FitnessCache.<TestIndividual>create(16, chromosome -> 0L);
+
+    var first = cache.get(Chromosome.of(1.0f), 0L, factory);
+    var second = cache.get(Chromosome.of(2.0f), 0L, factory);
+    var third = cache.get(Chromosome.of(2.0f), 0L, factory);
+
+    assertThat(first.getFitness()).isEqualTo(1.0f);
+    assertThat(second.getFitness()).isEqualTo(2.0f);
+    assertThat(third).isSameAs(second);
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("keeps its own copy of the genes")
+  void copiesGenes() {
+    var cache = FitnessCache.<TestIndividual>create(16);
+    var genes = new float[] {1.0f, 2.0f};
+    cache.get(Chromosome.of(genes), 0L, factory);
+
+    genes[0] = 5.0f;
+    cache.get(Chromosome.of(1.0f, 2.0f), 0L, factory);
+
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("rejects non-positive capacity")
+  void rejectsNonPositiveCapacity() {
+    assertThatThrownBy(() -> FitnessCache.create(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Capacity must be at least 1");
+  }
+}
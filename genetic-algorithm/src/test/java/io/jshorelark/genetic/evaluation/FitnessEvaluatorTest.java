@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.evaluation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FitnessEvaluator")
+class FitnessEvaluatorTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(3);
+
+  private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+  @AfterAll
+  static void shutDown() {
+    POOL.shutdownNow();
+    EXECUTOR.shutdownNow();
+  }
+
+  static Stream<FitnessEvaluator<TestIndividual>> evaluators() {
+    return Stream.of(
+        FitnessEvaluator.sequential(),
+        FitnessEvaluator.forkJoin(),
+        FitnessEvaluator.forkJoin(POOL),
+        FitnessEvaluator.executor(EXECUTOR));
+  }
+
+  @ParameterizedTest
+  @MethodSource("evaluators")
+  @DisplayName("evaluates every chromosome in order")
+  void evaluatesInOrder(FitnessEvaluator<TestIndividual> evaluator) {
+    var chromosomes = new ArrayList<Chromosome>();
+    for (int i = 0; i < 1000; i++) {
+      chromosomes.add(Chromosome.of(i, 1));
+    }
+
+    var individuals = evaluator.evaluate(chromosomes, FACTORY);
+
+    assertThat(individuals).hasSize(chromosomes.size());
+    for (int i = 0; i < individuals.size(); i++) {
+      assertThat(individuals.get(i).getChromosome()).isSameAs(chromosomes.get(i));
+      assertThat(individuals.get(i).getFitness()).isEqualTo(i + 1);
+    }
+  }
+
+  @Test
+  @DisplayName("runs the factory on the given fork/join pool")
+  void runsOnGivenPool() {
+    var pool = new ForkJoinPool(2);
+    Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+    Individual.Factory<TestIndividual> factory =
+        chromosome -> {
+          pools.add(ForkJoinTask.getPool());
+          return FACTORY.create(chromosome);
+        };
+
+    try {
+      FitnessEvaluator.<TestIndividual>forkJoin(pool)
+          .evaluate(List.of(Chromosome.of(1), Chromosome.of(2), Chromosome.of(3)), factory);
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(pools).containsExactly(pool);
+  }
+
+  @Test
+  @DisplayName("rethrows the factory's exception from an executor")
+  void rethrowsFromExecutor() {
+    var executor = Executors.newFixedThreadPool(2);
+    var evaluator = FitnessEvaluator.<TestIndividual>executor(executor);
+    Individual.Factory<TestIndividual> failing =
+        chromosome -> {
+          throw new IllegalStateException("evaluation failed");
+        };
+
+    try {
+      assertThatThrownBy(() -> evaluator.evaluate(List.of(Chromosome.of(1)), failing))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("evaluation failed");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
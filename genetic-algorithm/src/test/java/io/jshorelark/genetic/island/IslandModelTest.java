@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.island;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.replacement.PlusReplacement;
+import io.jshorelark.genetic.selection.TournamentSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IslandModel")
+class IslandModelTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  private final GeneticAlgorithm<TestIndividual> algorithm =
+      GeneticAlgorithm.create(
+          new TournamentSelection(2),
+          new UniformCrossover(),
+          GaussianMutation.create(0.0f, 0.0f),
+          FACTORY);
+
+  @Nested
+  @DisplayName("evolve")
+  class Evolve {
+    @Test
+    @DisplayName("keeps every island's size")
+    void keepsIslandSizes() {
+      var model = IslandModel.create(algorithm, MigrationTopology.RING, 2, 2);
+
+      var results = model.evolve(42L, islands(4, 10, 1.0f), 10);
+
+      assertThat(results).hasSize(4);
+      assertThat(results).allSatisfy(result -> assertThat(result.getPopulation()).hasSize(10));
+    }
+
+    @Test
+    @DisplayName("keeps islands isolated without migrants")
+    void keepsIslandsIsolatedWithoutMigrants() {
+      var populations = islands(3, 8, 0.0f);
+      populations.set(0, population(8, 5.0f));
+      var model = IslandModel.create(algorithm, MigrationTopology.FULLY_CONNECTED, 1, 0);
+
+      var results = model.evolve(7L, populations, 5);
+
+      assertThat(results.get(0).getStatistics().getMaxFitness()).isEqualTo(10.0f);
+      assertThat(results.get(1).getStatistics().getMaxFitness()).isZero();
+      assertThat(results.get(2).getStatistics().getMaxFitness()).isZero();
+    }
+
+    @Test
+    @DisplayName("keeps each island's survivors to itself with one engine per island")
+    void keepsSurvivorsPerIsland() {
+      var populations = islands(3, 8, 0.0f);
+      populations.set(0, population(8, 5.0f));
+      var model =
+          IslandModel.create(
+              island -> algorithm.withReplacement(new PlusReplacement(), 4),
+              MigrationTopology.FULLY_CONNECTED,
+              1,
+              0);
+
+      var results = model.evolve(7L, populations, 5);
+
+      assertThat(results.get(0).getStatistics().getMaxFitness()).isEqualTo(10.0f);
+      assertThat(results.get(1).getStatistics().getMaxFitness()).isZero();
+      assertThat(results.get(2).getStatistics().getMaxFitness()).isZero();
+    }
+
+    @Test
+    @DisplayName("rejects sharing a stateful algorithm between islands")
+    void rejectsSharedStatefulAlgorithm() {
+      var stateful = algorithm.withReplacement(new PlusReplacement(), 4);
+
+      assertThatThrownBy(() -> IslandModel.create(stateful, MigrationTopology.RING, 1, 1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("rejects empty islands")
+    void rejectsEmptyIslands() {
+      var model = IslandModel.create(algorithm, MigrationTopology.RING, 1, 1);
+
+      assertThatThrownBy(() -> model.evolve(1L, List.of(List.of()), 1))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Island populations cannot be empty");
+    }
+  }
+
+  @Nested
+  @DisplayName("immigrate")
+  class Immigrate {
+    @Test
+    @DisplayName("replaces the worst individuals")
+    void replacesWorstIndividuals() {
+      var population =
+          new ArrayList<>(
+              List.of(individual(3.0f), individual(1.0f), individual(4.0f), individual(2.0f)));
+      var inbox = new ConcurrentLinkedQueue<TestIndividual>();
+      inbox.add(individual(9.0f));
+      inbox.add(individual(8.0f));
+
+      IslandModel.immigrate(population, inbox);
+
+      assertThat(population)
+          .extracting(TestIndividual::getFitness)
+          .containsExactly(3.0f, 9.0f, 4.0f, 8.0f);
+      assertThat(inbox).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("topology")
+  class Topology {
+    @Test
+    @DisplayName("ring sends to the next island")
+    void ringSendsToNextIsland() {
+      assertThat(MigrationTopology.RING.targets(3, 4)).containsExactly(0);
+      assertThat(MigrationTopology.RING.targets(0, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fully connected sends to every other island")
+    void fullyConnectedSendsToEveryOtherIsland() {
+      assertThat(MigrationTopology.FULLY_CONNECTED.targets(1, 4)).containsExactly(0, 2, 3);
+    }
+  }
+
+  private static List<List<TestIndividual>> islands(int count, int size, float gene) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> population(size, gene))
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private static List<TestIndividual> population(int size, float gene) {
+    return IntStream.range(0, size)
+        .mapToObj(i -> FACTORY.create(Chromosome.of(gene, gene)))
+        .collect(Collectors.toList());
+  }
+
+  private static TestIndividual individual(float gene) {
+    return FACTORY.create(Chromosome.of(gene));
+  }
+}
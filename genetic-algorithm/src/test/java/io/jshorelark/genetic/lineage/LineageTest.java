@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.lineage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.SinglePointCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.TournamentSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Lineage")
+class LineageTest {
+  @TempDir Path directory;
+
+  @Nested
+  @DisplayName("records")
+  class Records {
+    @Test
+    @DisplayName("reads back every column")
+    void readsBackColumns() throws IOException {
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+        lineage.append(
+            new int[] {0, 1, 2}, new int[] {2, 0, 1}, new int[] {-1, 3, 5}, new int[] {0, 1, 2});
+        lineage.append(new int[] {1, 1}, new int[] {0, 2}, new int[] {4, 4}, new int[] {7, 0});
+
+        assertThat(lineage.records()).isEqualTo(2);
+        assertThat(lineage.size(0)).isEqualTo(3);
+        assertThat(lineage.size(1)).isEqualTo(2);
+        assertThat(lineage.firstParent(0, 1)).isEqualTo(1);
+        assertThat(lineage.secondParent(0, 1)).isEqualTo(0);
+        assertThat(lineage.crossoverPoint(0, 0)).isEqualTo(-1);
+        assertThat(lineage.crossoverPoint(0, 2)).isEqualTo(5);
+        assertThat(lineage.mutations(1, 0)).isEqualTo(7);
+        assertThat(lineage.secondParent(1, 1)).isEqualTo(2);
+      }
+    }
+
+    @Test
+    @DisplayName("reads values across segment boundaries")
+    void readsAcrossSegments() throws IOException {
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"), 7)) {
+        for (int record = 0; record < 50; record++) {
+          lineage.append(
+              new int[] {record, record + 1},
+              new int[] {record + 2, record + 3},
+              new int[] {record % 5, -1},
+              new int[] {record % 3, record});
+          // Queries between appends leave the last segment mapped short of the next record
+          assertThat(lineage.mutations(record, 1)).isEqualTo(record);
+        }
+
+        for (int record = 0; record < 50; record++) {
+          assertThat(lineage.firstParent(record, 0)).isEqualTo(record);
+          assertThat(lineage.firstParent(record, 1)).isEqualTo(record + 1);
+          assertThat(lineage.secondParent(record, 0)).isEqualTo(record + 2);
+          assertThat(lineage.secondParent(record, 1)).isEqualTo(record + 3);
+          assertThat(lineage.crossoverPoint(record, 0)).isEqualTo(record % 5);
+          assertThat(lineage.crossoverPoint(record, 1)).isEqualTo(-1);
+          assertThat(lineage.mutations(record, 0)).isEqualTo(record % 3);
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("saturates counts that don't fit a short")
+    void saturatesCounts() throws IOException {
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+        lineage.append(new int[] {0}, new int[] {0}, new int[] {100_000}, new int[] {40_000});
+
+        assertThat(lineage.crossoverPoint(0, 0)).isEqualTo(Short.MAX_VALUE);
+        assertThat(lineage.mutations(0, 0)).isEqualTo(Short.MAX_VALUE);
+      }
+    }
+
+    @Test
+    @DisplayName("survives reopening and keeps appending")
+    void survivesReopening() throws IOException {
+      var path = directory.resolve("lineage.bin");
+      try (var lineage = Lineage.create(path)) {
+        lineage.append(new int[] {1, 0}, new int[] {1, 1}, new int[] {0, 0}, new int[] {0, 0});
+      }
+
+      try (var lineage = Lineage.open(path)) {
+        lineage.append(new int[] {1}, new int[] {0}, new int[] {0}, new int[] {3});
+
+        assertThat(lineage.records()).isEqualTo(2);
+        assertThat(lineage.firstParent(0, 0)).isEqualTo(1);
+        assertThat(lineage.mutations(1, 0)).isEqualTo(3);
+      }
+    }
+
+    @Test
+    @DisplayName("rejects a header cut short by a crash while appending")
+    void rejectsTruncatedHeader() throws IOException {
+      var path = directory.resolve("lineage.bin");
+      try (var lineage = Lineage.create(path)) {
+        lineage.append(new int[] {1, 0}, new int[] {1, 1}, new int[] {0, 0}, new int[] {0, 0});
+      }
+      Files.write(path, new byte[] {0, 0}, StandardOpenOption.APPEND);
+
+      assertThatThrownBy(() -> Lineage.open(path))
+          .isInstanceOf(IOException.class)
+          .hasMessage("Truncated lineage record 1");
+    }
+
+    @Test
+    @DisplayName("rejects truncated files, mismatched columns and unknown records")
+    void rejectsInvalidInput() throws IOException {
+      var path = directory.resolve("truncated.bin");
+      Files.write(path, new byte[] {0, 0, 0, 5, 1, 2});
+      assertThatThrownBy(() -> Lineage.open(path))
+          .isInstanceOf(IOException.class)
+          .hasMessage("Truncated lineage record 0");
+
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+        assertThatThrownBy(
+                () -> lineage.append(new int[] {0}, new int[0], new int[] {0}, new int[] {0}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Lineage columns must have the same length");
+        assertThatThrownBy(() -> lineage.firstParent(0, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No such record: 0");
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("ancestors")
+  class Ancestors {
+    @Test
+    @DisplayName("walks back generation by generation")
+    void walksBack() throws IOException {
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+        // Generation 1 from generation 0, then generation 2 from generation 1.
+        lineage.append(new int[] {0, 2, 3}, new int[] {1, 2, 3}, new int[3], new int[3]);
+        lineage.append(new int[] {0, 2}, new int[] {1, 0}, new int[2], new int[2]);
+
+        var ancestors = lineage.ancestors(2, 1, 10);
+
+        assertThat(ancestors).hasSize(2);
+        assertThat(ancestors.get(0)).containsExactly(0, 2);
+        assertThat(ancestors.get(1)).containsExactly(0, 1, 3);
+        assertThat(lineage.ancestors(2, 1, 1)).hasSize(1);
+        assertThat(lineage.ancestors(0, 0, 5)).isEmpty();
+      }
+    }
+
+    @Test
+    @DisplayName("leaves out unknown parents")
+    void leavesOutUnknownParents() throws IOException {
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+        lineage.append(
+            new int[] {Lineage.UNKNOWN_PARENT},
+            new int[] {Lineage.UNKNOWN_PARENT},
+            new int[1],
+            new int[1]);
+
+        assertThat(lineage.ancestors(1, 0, 1)).isEmpty();
+        assertThatThrownBy(() -> lineage.ancestors(2, 0, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No such generation: 2");
+      }
+    }
+
+    @Test
+    @DisplayName("rejects individuals outside their generation")
+    void rejectsUnknownIndividuals() throws IOException {
+      try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+        lineage.append(new int[] {0, 1}, new int[] {1, 0}, new int[2], new int[2]);
+
+        assertThatThrownBy(() -> lineage.ancestors(1, 2, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No such individual: 2");
+        assertThatThrownBy(() -> lineage.ancestors(0, -1, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("No such individual: -1");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("is recorded by the genetic algorithm")
+  void recordedByGeneticAlgorithm() throws IOException {
+    var factory = new TestIndividual.Factory();
+    var random = RandomGenerators.fast(4);
+    List<TestIndividual> population = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      population.add(factory.create(Chromosome.of(i, 100 + i, 200 + i, 300 + i, 400 + i, 500 + i)));
+    }
+
+    try (var lineage = Lineage.create(directory.resolve("lineage.bin"))) {
+      var algorithm =
+          GeneticAlgorithm.create(
+                  new TournamentSelection(2),
+                  new SinglePointCrossover(),
+                  GaussianMutation.create(0.0f, 0.0f),
+                  factory)
+              .withLineage(lineage);
+
+      var next = algorithm.evolve(random, population).getFirst();
+
+      assertThat(lineage.records()).isEqualTo(1);
+      for (int child = 0; child < next.size(); child++) {
+        var genes = next.get(child).getChromosome();
+        var first = population.get(lineage.firstParent(0, child)).getChromosome();
+        var second = population.get(lineage.secondParent(0, child)).getChromosome();
+        int point = lineage.crossoverPoint(0, child);
+        int split = point < 0 ? genes.length() : point;
+        for (int g = 0; g < genes.length(); g++) {
+          assertThat(genes.get(g)).isEqualTo(g < split ? first.get(g) : second.get(g));
+        }
+        assertThat(lineage.mutations(0, child)).isZero();
+      }
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mapped;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.crossover.SinglePointCrossover;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.novelty.NoveltySearch;
+import io.jshorelark.genetic.novelty.NoveltySelection;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.TournamentSelection;
+import io.jshorelark.genetic.selection.TruncationSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedGenomeStore")
+class MappedGenomeStoreTest {
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("reads back genomes across chunks and segments")
+  void roundTrip() throws IOException {
+    // Two chunks per segment, three chunks per genome: genomes straddle segments
+    try (var store = MappedGenomeStore.create(directory.resolve("genomes"), 3, 10, 4, 32)) {
+      assertThat(store.chunks()).isEqualTo(3);
+      assertThat(store.chunkLength(2)).isEqualTo(2);
+      for (int genome = 0; genome < 3; genome++) {
+        store.write(genome, genes(genome, 10));
+      }
+
+      for (int genome = 0; genome < 3; genome++) {
+        assertThat(store.toChromosome(genome)).isEqualTo(genes(genome, 10));
+        assertThat(store.get(genome, 9)).isEqualTo(genome * 100 + 9);
+      }
+      float[] chunk = new float[4];
+      store.read(1, 1, chunk);
+      assertThat(chunk).containsExactly(104, 105, 106, 107);
+    }
+  }
+
+  @Test
+  @DisplayName("streams per-gene operators exactly as on whole chromosomes")
+  void matchesWholeChromosomes() throws IOException {
+    var crossover = new UniformCrossover();
+    var mutation = GaussianMutation.create(0.5f, 0.5f);
+    var parentA = genes(1, 10);
+    var parentB = genes(2, 10);
+
+    var expected = crossover.crossover(RandomGenerators.fast(3), parentA, parentB);
+    var random = RandomGenerators.fast(3);
+    try (var store = MappedGenomeStore.create(directory.resolve("genomes"), 3, 10, 4)) {
+      store.write(0, parentA);
+      store.write(1, parentB);
+      store.crossover(random, crossover, 0, 1, store, 2);
+      assertThat(store.toChromosome(2)).isEqualTo(expected);
+
+      var mutated = expected.mutate(mutation, RandomGenerators.fast(5));
+      store.mutate(RandomGenerators.fast(5), mutation, 2);
+      assertThat(store.toChromosome(2)).isEqualTo(mutated);
+    }
+  }
+
+  @Test
+  @DisplayName("breeds a generation into another store")
+  void breeds() throws IOException {
+    try (var parents = MappedGenomeStore.create(directory.resolve("parents"), 4, 10, 4);
+        var offspring = MappedGenomeStore.create(directory.resolve("offspring"), 6, 10, 4)) {
+      for (int genome = 0; genome < 4; genome++) {
+        parents.write(
+            genome,
+            Chromosome.of(
+                new float[] {
+                  genome, genome, genome, genome, genome, genome, genome, genome, genome, genome
+                }));
+      }
+
+      // Only the fittest genome may breed
+      parents.breed(
+          RandomGenerators.fast(1),
+          new TruncationSelection(0.25f),
+          new UniformCrossover(),
+          GaussianMutation.create(0.0f, 0.0f),
+          new float[] {0, 0, 9, 0},
+          offspring);
+
+      for (int genome = 0; genome < 6; genome++) {
+        assertThat(offspring.toChromosome(genome).toArray()).containsOnly(2.0f);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("reads genes for selection methods that look at them")
+  void materializesForSelection() throws IOException {
+    try (var parents = MappedGenomeStore.create(directory.resolve("parents"), 3, 10, 4);
+        var offspring = MappedGenomeStore.create(directory.resolve("offspring"), 4, 10, 4)) {
+      parents.write(0, genes(0, 10));
+      parents.write(1, genes(1, 10));
+      parents.write(2, genes(5, 10));
+      // Genome 2 is farthest from the others, so it is the most novel despite its fitness
+      var novelty =
+          new NoveltySelection(
+              NoveltySearch.create(
+                  individual -> new float[] {individual.getChromosome().get(0)}, 1, 0.0f),
+              new TruncationSelection(0.3f));
+
+      parents.breed(
+          RandomGenerators.fast(1),
+          novelty,
+          new UniformCrossover(),
+          GaussianMutation.create(0.0f, 0.0f),
+          new float[] {9, 9, 0},
+          offspring);
+
+      for (int genome = 0; genome < 4; genome++) {
+        assertThat(offspring.toChromosome(genome)).isEqualTo(genes(5, 10));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("rejects point-based crossover across chunks")
+  void rejectsPointCrossover() throws IOException {
+    try (var store = MappedGenomeStore.create(directory.resolve("genomes"), 3, 10, 4);
+        var whole = MappedGenomeStore.create(directory.resolve("whole"), 3, 10, 10)) {
+      assertThatThrownBy(
+              () ->
+                  store.crossover(
+                      RandomGenerators.fast(1), new SinglePointCrossover(), 0, 1, store, 2))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Crossover must be gene-wise for genomes of more than one chunk");
+
+      whole.crossover(RandomGenerators.fast(1), new SinglePointCrossover(), 0, 1, whole, 2);
+    }
+  }
+
+  @Test
+  @DisplayName("rejects invalid arguments")
+  void rejectsInvalidArguments() throws IOException {
+    assertThatThrownBy(() -> MappedGenomeStore.create(directory.resolve("empty"), 0, 10, 4))
+        .isInstanceOf(IllegalArgumentException.class);
+    try (var store = MappedGenomeStore.create(directory.resolve("genomes"), 2, 10, 4)) {
+      assertThatThrownBy(() -> store.read(2, 0, new float[4]))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("No such genome: 2");
+      assertThatThrownBy(() -> store.read(0, 0, new float[3]))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> store.write(0, Chromosome.of(1, 2)))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(
+              () ->
+                  store.breed(
+                      RandomGenerators.fast(1),
+                      new TournamentSelection(2),
+                      new UniformCrossover(),
+                      GaussianMutation.create(0.0f, 0.0f),
+                      new float[] {1, 2},
+                      store))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Offspring must be bred into another store");
+    }
+  }
+
+  /** Genes {@code genome * 100 + i}. */
+  private static Chromosome genes(int genome, int length) {
+    float[] genes = new float[length];
+    for (int i = 0; i < length; i++) {
+      genes[i] = genome * 100 + i;
+    }
+    return Chromosome.of(genes);
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.multiobjective;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CrowdingDistance")
+class CrowdingDistanceTest {
+  @Test
+  @DisplayName("sums the normalized neighbor gaps and favors the boundaries")
+  void sumsNormalizedGaps() {
+    float[][] objectives = {{0, 4}, {1, 3}, {3, 1}, {4, 0}};
+
+    double[] distances = CrowdingDistance.compute(objectives, new int[] {0, 1, 2, 3});
+
+    assertThat(distances[0]).isInfinite();
+    assertThat(distances[3]).isInfinite();
+    assertThat(distances[1]).isCloseTo(3.0 / 4 + 3.0 / 4, within(1e-9));
+    assertThat(distances[2]).isCloseTo(3.0 / 4 + 3.0 / 4, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("only looks at the members of the front")
+  void onlyLooksAtFront() {
+    float[][] objectives = {{100, 100}, {0, 2}, {1, 1}, {2, 0}};
+
+    double[] distances = CrowdingDistance.compute(objectives, new int[] {3, 2, 1});
+
+    assertThat(distances[1]).isCloseTo(2.0, within(1e-9));
+  }
+
+  @Test
+  @DisplayName("gives small fronts infinite distance")
+  void smallFrontsAreInfinite() {
+    assertThat(CrowdingDistance.compute(new float[][] {{1}, {2}}, new int[] {0, 1}))
+        .containsOnly(Double.POSITIVE_INFINITY);
+  }
+}
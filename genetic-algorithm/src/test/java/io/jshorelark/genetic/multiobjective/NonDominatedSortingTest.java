@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.multiobjective;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NonDominatedSorting")
+class NonDominatedSortingTest {
+  @Test
+  @DisplayName("matches the naive ranking")
+  void matchesNaiveRanking() {
+    RandomGenerator random = RandomGenerators.fast(11);
+    for (int objectives = 2; objectives <= 4; objectives++) {
+      float[][] solutions = new float[300][objectives];
+      for (float[] solution : solutions) {
+        for (int m = 0; m < objectives; m++) {
+          // Coarse values so that ties and duplicates occur.
+          solution[m] = random.nextInt(10);
+        }
+      }
+
+      assertThat(ranks(NonDominatedSorting.sort(solutions), solutions.length))
+          .containsExactly(naiveRanks(solutions));
+    }
+  }
+
+  @Test
+  @DisplayName("sorts a known example")
+  void sortsKnownExample() {
+    float[][] solutions = {{1, 5}, {2, 2}, {5, 1}, {0, 0}, {1, 1}, {3, 3}};
+
+    var fronts = NonDominatedSorting.sort(solutions);
+
+    assertThat(fronts).hasSize(4);
+    assertThat(fronts.get(0)).containsExactlyInAnyOrder(0, 2, 5);
+    assertThat(fronts.get(1)).containsExactly(1);
+    assertThat(fronts.get(2)).containsExactly(4);
+    assertThat(fronts.get(3)).containsExactly(3);
+  }
+
+  @Test
+  @DisplayName("keeps duplicates on the same front")
+  void keepsDuplicatesTogether() {
+    var fronts = NonDominatedSorting.sort(new float[][] {{1, 1}, {1, 1}});
+
+    assertThat(fronts).hasSize(1);
+    assertThat(fronts.get(0)).containsExactlyInAnyOrder(0, 1);
+  }
+
+  @Test
+  @DisplayName("handles no solutions and rejects mixed objective counts")
+  void handlesEdgeCases() {
+    assertThat(NonDominatedSorting.sort(new float[0][])).isEmpty();
+    assertThatThrownBy(() -> NonDominatedSorting.sort(new float[][] {{1, 2}, {1}}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Every solution must have 2 objectives");
+  }
+
+  private static int[] ranks(List<int[]> fronts, int size) {
+    int[] ranks = new int[size];
+    for (int rank = 0; rank < fronts.size(); rank++) {
+      for (int solution : fronts.get(rank)) {
+        ranks[solution] = rank;
+      }
+    }
+    return ranks;
+  }
+
+  /** Peels off non-dominated layers one at a time. */
+  private static int[] naiveRanks(float[][] solutions) {
+    int[] ranks = new int[solutions.length];
+    boolean[] assigned = new boolean[solutions.length];
+    int remaining = solutions.length;
+    for (int rank = 0; remaining > 0; rank++) {
+      boolean[] dominated = new boolean[solutions.length];
+      for (int i = 0; i < solutions.length; i++) {
+        for (int j = 0; j < solutions.length && !assigned[i]; j++) {
+          if (!assigned[j] && NonDominatedSorting.dominates(solutions[j], solutions[i])) {
+            dominated[i] = true;
+            break;
+          }
+        }
+      }
+      for (int i = 0; i < solutions.length; i++) {
+        if (!assigned[i] && !dominated[i]) {
+          ranks[i] = rank;
+        }
+      }
+      for (int i = 0; i < solutions.length; i++) {
+        if (!assigned[i] && !dominated[i]) {
+          assigned[i] = true;
+          remaining--;
+        }
+      }
+    }
+    return ranks;
+  }
+}
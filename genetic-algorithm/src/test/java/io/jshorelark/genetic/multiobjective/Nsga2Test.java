@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.multiobjective;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Nsga2")
+class Nsga2Test {
+  /** Schaffer's problem: maximize -x^2 and -(x-2)^2, whose Pareto set is x in [0, 2]. */
+  private record Schaffer(Chromosome chromosome) implements Individual {
+    @Override
+    public Chromosome getChromosome() {
+      return chromosome;
+    }
+
+    @Override
+    public float getFitness() {
+      return getObjectives()[0];
+    }
+
+    @Override
+    public float[] getObjectives() {
+      float x = chromosome.get(0);
+      return new float[] {-x * x, -(x - 2) * (x - 2)};
+    }
+  }
+
+  @Test
+  @DisplayName("converges onto the Pareto set")
+  void convergesOntoParetoSet() {
+    var random = RandomGenerators.fast(7);
+    var engine =
+        Nsga2.create(new UniformCrossover(), GaussianMutation.create(0.5f, 0.2f), Schaffer::new);
+    List<Schaffer> population = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      population.add(new Schaffer(Chromosome.of(random.nextFloat(-10, 10))));
+    }
+
+    for (int generation = 0; generation < 40; generation++) {
+      population = engine.evolve(random, population).getFirst();
+      assertThat(population).hasSize(40);
+    }
+    engine.evolve(random, population);
+
+    assertThat(engine.getParetoFront()).hasSizeGreaterThan(20);
+    for (var individual : engine.getParetoFront()) {
+      assertThat(individual.getChromosome().get(0)).isBetween(-0.05f, 2.05f);
+    }
+  }
+
+  @Test
+  @DisplayName("has no Pareto front before the first generation")
+  void emptyBeforeFirstGeneration() {
+    var engine =
+        Nsga2.create(new UniformCrossover(), GaussianMutation.create(0.5f, 0.2f), Schaffer::new);
+
+    assertThat(engine.getParetoFront()).isEmpty();
+    assertThatThrownBy(() -> engine.evolve(RandomGenerators.fast(1), List.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Population cannot be empty");
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mutation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.RouletteWheelSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OneFifthSuccessRule")
+class OneFifthSuccessRuleTest {
+  @Test
+  @DisplayName("keeps the step size without known parents")
+  void firstGeneration() {
+    var rule = OneFifthSuccessRule.create(0.5f, 1.0f, 2.0f);
+
+    rule.adapt(population(1, 2, 3, 4, 5));
+
+    assertThat(rule.getStep()).isEqualTo(1.0f);
+  }
+
+  @Test
+  @DisplayName("grows the step size when more than a fifth of the children beat their parents")
+  void growsOnSuccess() {
+    var rule = OneFifthSuccessRule.create(0.5f, 1.0f, 2.0f);
+
+    rule.bred(new float[] {0, 5, 5, 5, 5});
+    rule.adapt(population(1, 6, 5, 4, 3));
+
+    assertThat(rule.getStep()).isEqualTo(2.0f);
+  }
+
+  @Test
+  @DisplayName("shrinks the step size when a stalled population doesn't beat its parents")
+  void shrinksOnStall() {
+    var rule = OneFifthSuccessRule.create(0.5f, 1.0f, 2.0f);
+
+    rule.bred(new float[] {5, 5, 5, 5, 5});
+    rule.adapt(population(5, 5, 5, 5, 5));
+    rule.bred(new float[] {5, 5, 5, 5, 5});
+    rule.adapt(population(5, 5, 5, 5, 5));
+
+    assertThat(rule.getStep()).isEqualTo(0.25f);
+  }
+
+  @Test
+  @DisplayName("judges only bred children")
+  void ignoresElites() {
+    var rule = OneFifthSuccessRule.create(0.5f, 1.0f, 2.0f);
+
+    rule.bred(new float[] {Float.NaN, Float.NaN, 0, 0});
+    rule.adapt(population(1, 1, 0, 0));
+
+    assertThat(rule.getStep()).isEqualTo(0.5f);
+  }
+
+  @Test
+  @DisplayName("is driven by the genetic algorithm")
+  void drivenByGeneticAlgorithm() {
+    var rule = OneFifthSuccessRule.create(1.0f, 1.0f, 2.0f);
+    var algorithm =
+        GeneticAlgorithm.create(
+            new RouletteWheelSelection(),
+            new UniformCrossover(),
+            rule,
+            chromosome -> new TestIndividual(chromosome, 5));
+    List<TestIndividual> population = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      population.add(new TestIndividual(Chromosome.of(i, i), 5));
+    }
+
+    var random = RandomGenerators.fast(1);
+    for (int generation = 0; generation < 3; generation++) {
+      population = algorithm.evolve(random, population).getFirst();
+    }
+
+    // Children never beat their parents, so the step shrinks from the second generation on
+    assertThat(rule.getStep()).isEqualTo(0.25f);
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(() -> OneFifthSuccessRule.create(-0.1f, 1.0f, 2.0f))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OneFifthSuccessRule.create(0.5f, 0.0f, 2.0f))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> OneFifthSuccessRule.create(0.5f, 1.0f, 1.0f))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Factor must be greater than 1");
+  }
+
+  private static List<Individual> population(float... fitness) {
+    var population = new ArrayList<Individual>();
+    for (float value : fitness) {
+      population.add(TestIndividual.withFitness(value));
+    }
+    return population;
+  }
+}
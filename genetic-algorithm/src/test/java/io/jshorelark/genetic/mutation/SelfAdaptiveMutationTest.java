@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.mutation;
+
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SelfAdaptiveMutation")
+class SelfAdaptiveMutationTest {
+  @Test
+  @DisplayName("keeps the step size within its bounds")
+  void keepsStepWithinBounds() {
+    var mutation = SelfAdaptiveMutation.create(1.0f, 0.5f, 2.0f);
+    var random = RandomGenerators.fast(42);
+    var genes = new float[] {0, 0, 1.0f};
+
+    for (int i = 0; i < 1000; i++) {
+      mutation.mutate(random, genes);
+      assertThat(genes[2]).isBetween(0.5f, 2.0f);
+    }
+  }
+
+  @Test
+  @DisplayName("scales gene perturbations with the carried step size")
+  void scalesWithStep() {
+    var random = RandomGenerators.fast(7);
+    var small = spread(SelfAdaptiveMutation.create(1.0f, 0.01f, 0.01f), random);
+    var large = spread(SelfAdaptiveMutation.create(1.0f, 1.0f, 1.0f), random);
+
+    assertThat(large).isGreaterThan(small * 50);
+  }
+
+  @Test
+  @DisplayName("leaves object genes alone with zero chance")
+  void zeroChance() {
+    var genes = new float[] {1, 2, 3, 0.5f};
+
+    SelfAdaptiveMutation.create(0.0f, 0.1f, 1.0f).mutate(RandomGenerators.fast(1), genes);
+
+    assertThat(genes).startsWith(1, 2, 3);
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(() -> SelfAdaptiveMutation.create(1.5f, 0.1f, 1.0f))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SelfAdaptiveMutation.create(0.5f, 0.0f, 1.0f))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> SelfAdaptiveMutation.create(0.5f, 1.0f, 0.1f))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                SelfAdaptiveMutation.create(0.5f, 0.1f, 1.0f)
+                    .mutate(RandomGenerators.fast(1), new float[] {1}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Genes must hold at least one gene and a step size");
+  }
+
+  private static double spread(SelfAdaptiveMutation mutation, RandomGenerator random) {
+    double sum = 0;
+    for (int i = 0; i < 200; i++) {
+      var genes = new float[] {0, 0, 0, 0, 1};
+      mutation.mutate(random, genes);
+      for (int g = 0; g < 4; g++) {
+        sum += Math.abs(genes[g]);
+      }
+    }
+    return sum;
+  }
+}
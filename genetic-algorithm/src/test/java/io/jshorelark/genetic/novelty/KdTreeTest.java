@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("KdTree")
+class KdTreeTest {
+  @Test
+  @DisplayName("matches a brute-force search")
+  void matchesBruteForce() {
+    RandomGenerator random = RandomGenerators.fast(42);
+    var tree = KdTree.create(3);
+    List<float[]> points = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      float[] point = {random.nextFloat(), random.nextFloat(), random.nextFloat()};
+      points.add(point);
+      tree.insert(point);
+    }
+
+    for (int q = 0; q < 50; q++) {
+      float[] query = {random.nextFloat(), random.nextFloat(), random.nextFloat()};
+      double[] expected =
+          points.stream().mapToDouble(point -> distance(point, query)).sorted().limit(7).toArray();
+
+      assertThat(tree.nearestDistances(query, 7)).containsExactly(expected, within(1e-9));
+    }
+  }
+
+  @Test
+  @DisplayName("returns fewer distances than requested when the tree is small")
+  void returnsFewerWhenSmall() {
+    var tree = KdTree.create(2);
+    tree.insert(new float[] {0, 0});
+    tree.insert(new float[] {3, 4});
+
+    assertThat(tree.nearestDistances(new float[] {0, 0}, 5)).containsExactly(0.0, 5.0);
+    assertThat(KdTree.create(2).nearestDistances(new float[] {0, 0}, 5)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("copies inserted points")
+  void copiesInsertedPoints() {
+    var tree = KdTree.create(1);
+    float[] point = {1};
+    tree.insert(point);
+    point[0] = 100;
+
+    assertThat(tree.nearestDistances(new float[] {1}, 1)).containsExactly(0.0);
+  }
+
+  @Test
+  @DisplayName("grows past its initial capacity")
+  void growsPastInitialCapacity() {
+    var tree = KdTree.create(1);
+    for (int i = 0; i < 1000; i++) {
+      tree.insert(new float[] {i});
+    }
+
+    assertThat(tree.size()).isEqualTo(1000);
+    assertThat(tree.nearestDistances(new float[] {999.5f}, 2)).containsExactly(0.5, 1.5);
+  }
+
+  @Test
+  @DisplayName("rejects points of the wrong dimension")
+  void rejectsWrongDimension() {
+    var tree = KdTree.create(2);
+
+    assertThatThrownBy(() -> tree.insert(new float[] {1}))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Point must have 2 dimensions");
+    assertThatThrownBy(() -> KdTree.create(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static double distance(float[] a, float[] b) {
+    double sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      double delta = a[i] - b[i];
+      sum += delta * delta;
+    }
+    return Math.sqrt(sum);
+  }
+}
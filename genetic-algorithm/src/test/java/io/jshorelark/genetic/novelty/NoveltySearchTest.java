@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("NoveltySearch")
+class NoveltySearchTest {
+  private static final BehaviorCharacterization GENES =
+      individual -> individual.getChromosome().getGenes();
+
+  @Test
+  @DisplayName("scores the mean distance to the nearest other individuals")
+  void scoresMeanDistance() {
+    var search = NoveltySearch.create(GENES, 2, 0.0f);
+
+    float[] scores = search.score(RandomGenerators.fast(1), population(0, 1, 3, 10));
+
+    assertThat(scores[0]).isCloseTo((1 + 3) / 2f, within(1e-6f));
+    assertThat(scores[1]).isCloseTo((1 + 2) / 2f, within(1e-6f));
+    assertThat(scores[2]).isCloseTo((2 + 3) / 2f, within(1e-6f));
+    assertThat(scores[3]).isCloseTo((7 + 9) / 2f, within(1e-6f));
+    assertThat(search.getArchiveSize()).isZero();
+  }
+
+  @Test
+  @DisplayName("remembers archived behaviors in later generations")
+  void remembersArchivedBehaviors() {
+    var search = NoveltySearch.create(GENES, 1, 1.0f);
+
+    search.score(RandomGenerators.fast(1), population(5, 100));
+    float[] scores = search.score(RandomGenerators.fast(1), population(4.5f, 50));
+
+    assertThat(search.getArchiveSize()).isEqualTo(4);
+    assertThat(scores[0]).isCloseTo(0.5f, within(1e-6f));
+    assertThat(scores[1]).isCloseTo(45.0f, within(1e-6f));
+  }
+
+  @Test
+  @DisplayName("scores a lone individual with an empty archive as zero")
+  void scoresLoneIndividualAsZero() {
+    var search = NoveltySearch.create(GENES, 3, 0.5f);
+
+    assertThat(search.score(RandomGenerators.fast(1), population(7))).containsExactly(0.0f);
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(() -> NoveltySearch.create(GENES, 0, 0.5f))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Number of neighbors must be at least 1");
+    assertThatThrownBy(() -> NoveltySearch.create(GENES, 1, 1.5f))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Archive probability must be between 0 and 1");
+    assertThatThrownBy(
+            () -> NoveltySearch.create(GENES, 1, 0.5f).score(RandomGenerators.fast(1), List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  static List<Individual> population(float... positions) {
+    var factory = new TestIndividual.Factory();
+    var population = new ArrayList<Individual>(positions.length);
+    for (float position : positions) {
+      population.add(factory.create(Chromosome.of(position)));
+    }
+    return population;
+  }
+}
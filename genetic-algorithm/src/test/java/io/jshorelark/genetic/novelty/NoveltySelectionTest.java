@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.novelty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.SelectionMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NoveltySelection")
+class NoveltySelectionTest {
+  private static final BehaviorCharacterization GENES =
+      individual -> individual.getChromosome().getGenes();
+
+  /** Always picks the individual with the highest fitness it is shown. */
+  private static final SelectionMethod BEST =
+      (random, population) ->
+          population.stream()
+              .max((a, b) -> Float.compare(a.getFitness(), b.getFitness()))
+              .orElseThrow();
+
+  @Test
+  @DisplayName("selects by novelty and returns the original individual")
+  void selectsByNovelty() {
+    var selection = new NoveltySelection(NoveltySearch.create(GENES, 1, 0.0f), BEST);
+    List<Individual> population = NoveltySearchTest.population(100, 101, 102, -50);
+
+    var selected = selection.select(RandomGenerators.fast(1), population);
+
+    assertThat(selected).isSameAs(population.get(3));
+  }
+
+  @Test
+  @DisplayName("scores each population once")
+  void scoresEachPopulationOnce() {
+    var search = NoveltySearch.create(GENES, 1, 1.0f);
+    var selection = new NoveltySelection(search, BEST);
+    var random = RandomGenerators.fast(1);
+    var population = NoveltySearchTest.population(1, 2, 3);
+
+    for (int i = 0; i < 10; i++) {
+      selection.select(random, population);
+    }
+    assertThat(search.getArchiveSize()).isEqualTo(3);
+
+    selection.select(random, new ArrayList<>(population));
+    assertThat(search.getArchiveSize()).isEqualTo(3);
+
+    selection.select(random, NoveltySearchTest.population(1, 2, 4));
+    assertThat(search.getArchiveSize()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("rescores a population after an in-place replacement")
+  void rescoresAfterReplacement() {
+    var selection = new NoveltySelection(NoveltySearch.create(GENES, 1, 0.0f), BEST);
+    var random = RandomGenerators.fast(1);
+    var population = NoveltySearchTest.population(1, 2, 3, -50);
+    assertThat(selection.select(random, population)).isSameAs(population.get(3));
+
+    population.set(0, NoveltySearchTest.population(200).get(0));
+
+    assertThat(selection.select(random, population)).isSameAs(population.get(0));
+  }
+
+  @Test
+  @DisplayName("prepares the delegate once per generation")
+  void preparesOncePerGeneration() {
+    var search = NoveltySearch.create(GENES, 1, 1.0f);
+    var prepares = new AtomicInteger();
+    var counting =
+        new SelectionMethod() {
+          @Override
+          public Individual select(RandomGenerator random, List<? extends Individual> population) {
+            return BEST.select(random, population);
+          }
+
+          @Override
+          public SelectionMethod prepare(List<? extends Individual> population) {
+            prepares.incrementAndGet();
+            return this;
+          }
+        };
+    var random = RandomGenerators.fast(1);
+    List<Individual> population = NoveltySearchTest.population(1, 2, 3, -50);
+
+    var prepared = new NoveltySelection(search, counting).prepare(population);
+    for (int i = 0; i < 10; i++) {
+      assertThat(prepared.select(random, population)).isSameAs(population.get(3));
+    }
+
+    assertThat(prepares).hasValue(1);
+    assertThat(search.getArchiveSize()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("offers in-place replacements to the archive once per generation")
+  void offersReplacementsOncePerGeneration() {
+    var search = NoveltySearch.create(GENES, 1, 1.0f);
+    var selection = new NoveltySelection(search, BEST);
+    var random = RandomGenerators.fast(1);
+    var population = NoveltySearchTest.population(1, 2, 3);
+    selection.select(random, population);
+
+    population.set(0, NoveltySearchTest.population(10).get(0));
+    selection.select(random, population);
+    population.set(1, NoveltySearchTest.population(20).get(0));
+    selection.select(random, population);
+    assertThat(search.getArchiveSize()).isEqualTo(3);
+
+    population.set(2, NoveltySearchTest.population(30).get(0));
+    selection.select(random, population);
+    assertThat(search.getArchiveSize()).isEqualTo(6);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.SelectionMethod;
+import io.jshorelark.genetic.selection.TournamentSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PipelinedGeneticAlgorithm")
+class PipelinedGeneticAlgorithmTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+  private static final GaussianMutation MUTATION = GaussianMutation.create(0.5f, 0.5f);
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("produces the same generation as the unpipelined algorithm")
+  void matchesGeneticAlgorithm() {
+    var pipelined =
+        PipelinedGeneticAlgorithm.create(
+            new TournamentSelection(3), new UniformCrossover(), MUTATION, FACTORY, executor, 4, 8);
+    var plain =
+        GeneticAlgorithm.create(
+            new TournamentSelection(3), new UniformCrossover(), MUTATION, FACTORY);
+    var population = population(200);
+
+    var expected = plain.evolve(RandomGenerators.fast(5), population);
+    var actual = pipelined.evolve(RandomGenerators.fast(5), population);
+
+    assertThat(actual.getFirst())
+        .extracting(Individual::getChromosome)
+        .containsExactlyElementsOf(
+            expected.getFirst().stream().map(Individual::getChromosome).toList());
+    assertThat(actual.getSecond().getMaxFitness()).isEqualTo(expected.getSecond().getMaxFitness());
+  }
+
+  @Test
+  @DisplayName("starts evaluating before breeding finishes")
+  void overlapsBreedingWithEvaluation() {
+    var bred = new AtomicInteger();
+    var bredAtFirstEvaluation = new AtomicInteger(-1);
+    SelectionMethod counting =
+        (random, population) -> {
+          bred.incrementAndGet();
+          return population.get(random.nextInt(population.size()));
+        };
+    Individual.Factory<TestIndividual> factory =
+        chromosome -> {
+          bredAtFirstEvaluation.compareAndSet(-1, bred.get() / 2);
+          return FACTORY.create(chromosome);
+        };
+    var pipelined =
+        PipelinedGeneticAlgorithm.create(
+            counting, new UniformCrossover(), MUTATION, factory, executor, 1, 2);
+
+    var next = pipelined.evolve(RandomGenerators.fast(5), population(100)).getFirst();
+
+    assertThat(next).hasSize(100).doesNotContainNull();
+    // One child being evaluated, two queued and one waiting to be queued, plus the one that may be
+    // bred while the first evaluation starts: the bounded queue keeps breeding from racing ahead.
+    assertThat(bredAtFirstEvaluation.get()).isBetween(1, 5);
+  }
+
+  @Test
+  @DisplayName("rethrows an evaluation failure without hanging")
+  void rethrowsEvaluationFailure() {
+    var evaluations = new AtomicInteger();
+    Individual.Factory<TestIndividual> failing =
+        chromosome -> {
+          if (evaluations.incrementAndGet() == 10) {
+            throw new IllegalStateException("evaluation failed");
+          }
+          return FACTORY.create(chromosome);
+        };
+    var pipelined =
+        PipelinedGeneticAlgorithm.create(
+            new TournamentSelection(2), new UniformCrossover(), MUTATION, failing, executor, 3, 2);
+
+    assertThatThrownBy(() -> pipelined.evolve(RandomGenerators.fast(5), population(100)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("evaluation failed");
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(
+            () ->
+                PipelinedGeneticAlgorithm.create(
+                    new TournamentSelection(2),
+                    new UniformCrossover(),
+                    MUTATION,
+                    FACTORY,
+                    executor,
+                    0,
+                    1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Workers must be at least 1");
+    assertThatThrownBy(
+            () ->
+                PipelinedGeneticAlgorithm.create(
+                    new TournamentSelection(2),
+                    new UniformCrossover(),
+                    MUTATION,
+                    FACTORY,
+                    executor,
+                    1,
+                    0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Queue capacity must be at least 1");
+  }
+
+  private static List<TestIndividual> population(int size) {
+    var random = RandomGenerators.fast(1);
+    var population = new ArrayList<TestIndividual>();
+    for (int i = 0; i < size; i++) {
+      population.add(FACTORY.create(Chromosome.of(random.nextFloat(), random.nextFloat())));
+    }
+    return population;
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.random;
+
+import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RandomGenerators")
+class RandomGeneratorsTest {
+  @Nested
+  @DisplayName("fast")
+  class Fast {
+    @Test
+    @DisplayName("is reproducible for the same seed")
+    void reproducibleForSameSeed() {
+      var a = RandomGenerators.fast(42);
+      var b = RandomGenerators.fast(42);
+
+      for (int i = 0; i < 100; i++) {
+        assertThat(a.nextLong()).isEqualTo(b.nextLong());
+      }
+    }
+
+    @Test
+    @DisplayName("differs between seeds")
+    void differsBetweenSeeds() {
+      assertThat(RandomGenerators.fast(1).nextLong())
+          .isNotEqualTo(RandomGenerators.fast(2).nextLong());
+    }
+  }
+
+  @Nested
+  @DisplayName("streams")
+  class Streams {
+    @Test
+    @DisplayName("splits the requested number of reproducible streams")
+    void splitsReproducibleStreams() {
+      var first = RandomGenerators.streams(RandomGenerators.fast(7), 4);
+      var second = RandomGenerators.streams(RandomGenerators.fast(7), 4);
+
+      assertThat(first).hasSize(4);
+      for (int i = 0; i < 4; i++) {
+        assertThat(first.get(i).nextLong()).isEqualTo(second.get(i).nextLong());
+      }
+    }
+
+    @Test
+    @DisplayName("yields distinct streams")
+    void yieldsDistinctStreams() {
+      var streams = RandomGenerators.streams(RandomGenerators.fast(7), 4);
+
+      assertThat(streams.stream().mapToLong(RandomGenerator::nextLong).distinct().count())
+          .isEqualTo(4);
+    }
+  }
+
+  @Nested
+  @DisplayName("jumps")
+  class Jumps {
+    @Test
+    @DisplayName("creates reproducible, distinct streams")
+    void createsReproducibleDistinctStreams() {
+      var first = RandomGenerators.jumps(3, 3);
+      var second = RandomGenerators.jumps(3, 3);
+
+      assertThat(first).hasSize(3);
+      for (int i = 0; i < 3; i++) {
+        assertThat(first.get(i).nextLong()).isEqualTo(second.get(i).nextLong());
+      }
+      assertThat(
+              RandomGenerators.jumps(3, 3).stream()
+                  .mapToLong(RandomGenerator::nextLong)
+                  .distinct()
+                  .count())
+          .isEqualTo(3);
+    }
+  }
+
+  @Nested
+  @DisplayName("split")
+  class Split {
+    @Test
+    @DisplayName("splits splittable generators reproducibly")
+    void splitsSplittableGenerators() {
+      var a = RandomGenerators.split(RandomGenerators.fast(11));
+      var b = RandomGenerators.split(RandomGenerators.fast(11));
+
+      assertThat(a.nextLong()).isEqualTo(b.nextLong());
+    }
+
+    @Test
+    @DisplayName("reseeds non-splittable generators reproducibly")
+    void reseedsOtherGenerators() {
+      var a = RandomGenerators.split(new Random(11));
+      var b = RandomGenerators.split(new Random(11));
+
+      assertThat(a.nextLong()).isEqualTo(b.nextLong());
+    }
+  }
+
+  @Nested
+  @DisplayName("derive")
+  class Derive {
+    @Test
+    @DisplayName("derives a SplitMix64 from a SplitMix64")
+    void keepsSplitMix64() {
+      var derived = RandomGenerators.derive(SplitMix64.create(11));
+      var state = RandomGenerators.state(derived);
+      var expected = derived.nextLong();
+
+      RandomGenerators.restore(derived, state);
+
+      assertThat(derived.nextLong()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("refuses to capture the state of other generators")
+    void rejectsOtherGenerators() {
+      var derived = RandomGenerators.derive(RandomGenerators.fast(11));
+
+      assertThatThrownBy(() -> RandomGenerators.state(derived))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SplitMix64")
+class SplitMix64Test {
+  @Test
+  @DisplayName("produces the reference sequence")
+  void producesReferenceSequence() {
+    var random = SplitMix64.create(1234567);
+
+    assertThat(random.nextLong()).isEqualTo(6457827717110365317L);
+    assertThat(random.nextLong()).isEqualTo(3203168211198807973L);
+  }
+
+  @Test
+  @DisplayName("continues identically after restoring its state")
+  void continuesAfterRestoringState() {
+    var original = SplitMix64.create(42);
+    for (int i = 0; i < 10; i++) {
+      original.nextGaussian();
+    }
+    var restored = SplitMix64.create(0);
+    restored.setState(original.getState());
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(restored.nextGaussian()).isEqualTo(original.nextGaussian());
+      assertThat(restored.nextFloat()).isEqualTo(original.nextFloat());
+    }
+  }
+}
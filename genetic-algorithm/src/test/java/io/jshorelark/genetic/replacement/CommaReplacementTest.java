@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.replacement;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CommaReplacement")
+class CommaReplacementTest {
+  @Test
+  @DisplayName("keeps the fittest offspring and discards every parent")
+  void discardsParents() {
+    List<Individual> parents = List.of(TestIndividual.withFitness(9));
+    List<Individual> offspring =
+        List.of(
+            TestIndividual.withFitness(2),
+            TestIndividual.withFitness(4),
+            TestIndividual.withFitness(0));
+
+    var survivors = new CommaReplacement().replace(parents, offspring, 2);
+
+    assertThat(survivors).containsExactlyInAnyOrder(offspring.get(0), offspring.get(1));
+  }
+}
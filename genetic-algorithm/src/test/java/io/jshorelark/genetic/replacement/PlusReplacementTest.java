@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.replacement;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PlusReplacement")
+class PlusReplacementTest {
+  private final PlusReplacement replacement = new PlusReplacement();
+
+  @Test
+  @DisplayName("keeps the fittest of parents and offspring together")
+  void keepsFittestOfBoth() {
+    List<Individual> parents =
+        List.of(TestIndividual.withFitness(5), TestIndividual.withFitness(1));
+    List<Individual> offspring =
+        List.of(
+            TestIndividual.withFitness(2),
+            TestIndividual.withFitness(4),
+            TestIndividual.withFitness(0));
+
+    var survivors = replacement.replace(parents, offspring, 2);
+
+    assertThat(survivors).containsExactlyInAnyOrder(parents.get(0), offspring.get(1));
+  }
+
+  @Test
+  @DisplayName("returns every candidate when there are too few")
+  void tooFewCandidates() {
+    List<Individual> offspring = List.of(TestIndividual.withFitness(2));
+
+    assertThat(replacement.replace(List.of(), offspring, 3)).containsExactlyElementsOf(offspring);
+  }
+
+  @Test
+  @DisplayName("rejects fewer than one survivor")
+  void rejectsNoSurvivors() {
+    assertThatThrownBy(() -> replacement.replace(List.of(), List.of(), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Number of survivors must be at least 1");
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.selection;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Elites")
+class ElitesTest {
+  @Test
+  @DisplayName("finds the positions of the highest values")
+  void findsHighest() {
+    assertThat(Elites.top(new float[] {3, 9, 1, 7, 5}, 2)).containsExactlyInAnyOrder(1, 3);
+    assertThat(Elites.top(new float[] {3, 9, 1, 7, 5}, 5)).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+    assertThat(Elites.top(new float[] {3, 9, 1}, 0)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("agrees with sorting on random values with ties")
+  void agreesWithSorting() {
+    var random = RandomGenerators.fast(42);
+    for (int round = 0; round < 200; round++) {
+      float[] values = new float[1 + random.nextInt(100)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(20);
+      }
+      int count = random.nextInt(values.length + 1);
+
+      float[] sorted = values.clone();
+      Arrays.sort(sorted);
+      float[] selected = new float[count];
+      int[] top = Elites.top(values, count);
+      for (int i = 0; i < count; i++) {
+        selected[i] = values[top[i]];
+      }
+      Arrays.sort(selected);
+
+      assertThat(top).doesNotHaveDuplicates();
+      assertThat(selected)
+          .containsExactly(Arrays.copyOfRange(sorted, values.length - count, values.length));
+    }
+  }
+
+  @Test
+  @DisplayName("returns the fittest individuals by reference")
+  void returnsByReference() {
+    var population =
+        List.of(
+            TestIndividual.withFitness(1),
+            TestIndividual.withFitness(4),
+            TestIndividual.withFitness(2));
+
+    assertThat(Elites.of(population, 2))
+        .containsExactlyInAnyOrder(population.get(1), population.get(2));
+  }
+
+  @Test
+  @DisplayName("rejects counts outside the population")
+  void rejectsInvalidCount() {
+    assertThatThrownBy(() -> Elites.top(new float[] {1, 2}, 3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot select 3 of 2 individuals");
+    assertThatThrownBy(() -> Elites.top(new float[] {1, 2}, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.selection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TruncationSelection")
+class TruncationSelectionTest {
+  private static final List<TestIndividual> POPULATION =
+      List.of(
+          TestIndividual.withFitness(2.0f),
+          TestIndividual.withFitness(1.0f),
+          TestIndividual.withFitness(4.0f),
+          TestIndividual.withFitness(3.0f));
+
+  @Test
+  @DisplayName("picks only from the fittest fraction, uniformly")
+  void picksFromFittest() {
+    var rng = new Random(42);
+    var selection = new TruncationSelection(0.5f);
+
+    Map<Float, Long> histogram =
+        IntStream.range(0, 1000)
+            .<Individual>mapToObj(i -> selection.select(rng, POPULATION))
+            .collect(Collectors.groupingBy(Individual::getFitness, Collectors.counting()));
+
+    assertThat(histogram).containsOnlyKeys(3.0f, 4.0f);
+    assertThat(histogram.get(4.0f)).isBetween(400L, 600L);
+  }
+
+  @Test
+  @DisplayName("always lets at least one individual breed")
+  void atLeastOne() {
+    var selection = new TruncationSelection(0.01f);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(selection.select(new Random(i), POPULATION).getFitness()).isEqualTo(4.0f);
+    }
+  }
+
+  @Test
+  @DisplayName("prepares once for a whole generation")
+  void preparesForGeneration() {
+    var rng = new Random(42);
+    var prepared = new TruncationSelection(0.5f).prepare(POPULATION);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(prepared.select(rng, POPULATION).getFitness()).isIn(3.0f, 4.0f);
+    }
+  }
+
+  @Test
+  @DisplayName("notices in-place replacements")
+  void inPlaceReplacement() {
+    var rng = new Random(42);
+    var selection = new TruncationSelection(0.25f);
+    var population = new ArrayList<>(POPULATION);
+    selection.select(rng, population);
+
+    population.set(1, TestIndividual.withFitness(9.0f));
+
+    assertThat(selection.select(rng, population).getFitness()).isEqualTo(9.0f);
+  }
+
+  @Test
+  @DisplayName("notices a different population")
+  void newPopulation() {
+    var rng = new Random(42);
+    var selection = new TruncationSelection(0.25f);
+    selection.select(rng, POPULATION);
+
+    var next = new ArrayList<>(POPULATION);
+    next.add(TestIndividual.withFitness(9.0f));
+
+    assertThat(selection.select(rng, next).getFitness()).isEqualTo(9.0f);
+  }
+
+  @Test
+  @DisplayName("rejects invalid fractions")
+  void rejectsInvalidFraction() {
+    assertThatThrownBy(() -> new TruncationSelection(0.0f))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Fraction must be within (0, 1]");
+    assertThatThrownBy(() -> new TruncationSelection(1.5f))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.speciation;
+
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("GenomeDistance")
+class GenomeDistanceTest {
+  @Test
+  @DisplayName("computes the squared distance for any length")
+  void computesSquaredDistance() {
+    RandomGenerator random = RandomGenerators.fast(3);
+    for (int length = 0; length < 11; length++) {
+      float[] a = genome(random, length);
+      float[] b = genome(random, length);
+
+      assertThat(GenomeDistance.squared(a, b)).isCloseTo(naive(a, b), within(1e-5f));
+    }
+  }
+
+  @Test
+  @DisplayName("rejects genomes of different lengths")
+  void rejectsDifferentLengths() {
+    assertThatThrownBy(() -> GenomeDistance.squared(new float[2], new float[3]))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Genomes must have the same length");
+  }
+
+  @Test
+  @DisplayName("finds the nearest representative of every genome")
+  void findsNearestRepresentative() {
+    RandomGenerator random = RandomGenerators.fast(5);
+    float[][] genomes = new float[GenomeDistance.BLOCK_SIZE * 3 + 7][];
+    for (int i = 0; i < genomes.length; i++) {
+      genomes[i] = genome(random, 9);
+    }
+    float[][] representatives = {genome(random, 9), genome(random, 9), genome(random, 9)};
+    int[] nearest = new int[genomes.length];
+    float[] distances = new float[genomes.length];
+
+    GenomeDistance.nearest(genomes, representatives, nearest, distances);
+
+    for (int i = 0; i < genomes.length; i++) {
+      int expected = 0;
+      for (int r = 1; r < representatives.length; r++) {
+        if (naive(genomes[i], representatives[r]) < naive(genomes[i], representatives[expected])) {
+          expected = r;
+        }
+      }
+      assertThat(nearest[i]).isEqualTo(expected);
+      assertThat(distances[i])
+          .isCloseTo(naive(genomes[i], representatives[expected]), within(1e-5f));
+    }
+  }
+
+  @Test
+  @DisplayName("reports no representative when there are none")
+  void reportsNoRepresentative() {
+    int[] nearest = new int[2];
+    float[] distances = new float[2];
+
+    GenomeDistance.nearest(new float[][] {{1}, {2}}, new float[0][], nearest, distances);
+
+    assertThat(nearest).containsExactly(-1, -1);
+    assertThat(distances).containsExactly(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY);
+  }
+
+  private static float[] genome(RandomGenerator random, int length) {
+    float[] genes = new float[length];
+    for (int i = 0; i < length; i++) {
+      genes[i] = random.nextFloat(-1, 1);
+    }
+    return genes;
+  }
+
+  private static float naive(float[] a, float[] b) {
+    float sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      sum += (a[i] - b[i]) * (a[i] - b[i]);
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.speciation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.selection.TournamentSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SpeciatedGeneticAlgorithm")
+class SpeciatedGeneticAlgorithmTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  @Nested
+  @DisplayName("evolve")
+  class Evolve {
+    @Test
+    @DisplayName("breeds within species so clusters never mix")
+    void breedsWithinSpecies() {
+      var engine = engine(1.0f, 2);
+      var population = clusters(0, 10, 3, 30);
+
+      var next = engine.evolve(RandomGenerators.fast(1), population).getFirst();
+
+      assertThat(engine.getSpeciesCount()).isEqualTo(2);
+      assertThat(next).hasSize(population.size());
+      for (var individual : next) {
+        var genes = individual.getChromosome().getGenes();
+        assertThat(Math.abs(genes[0] - genes[1])).isLessThan(1.0f);
+      }
+    }
+
+    @Test
+    @DisplayName("gives fitter species more offspring")
+    void givesFitterSpeciesMoreOffspring() {
+      var engine = engine(1.0f, 2);
+
+      var next = engine.evolve(RandomGenerators.fast(1), clusters(0, 10, 3, 30)).getFirst();
+
+      long high = next.stream().filter(i -> i.getChromosome().get(0) > 5).count();
+      assertThat(high).isGreaterThan(next.size() / 2);
+    }
+
+    @Test
+    @DisplayName("splits offspring by size when every individual is equally fit")
+    void splitsBySizeWhenEquallyFit() {
+      var engine = engine(1.0f, 2);
+      var population = new ArrayList<TestIndividual>();
+      for (int i = 0; i < 6; i++) {
+        population.add(FACTORY.create(Chromosome.of(0, 0)));
+      }
+      for (int i = 0; i < 2; i++) {
+        population.add(FACTORY.create(Chromosome.of(-5, 5)));
+      }
+
+      var next = engine.evolve(RandomGenerators.fast(1), population).getFirst();
+
+      assertThat(next.stream().filter(i -> i.getChromosome().get(0) == 0).count()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("rejects an empty population")
+    void rejectsEmptyPopulation() {
+      assertThatThrownBy(() -> engine(1.0f, 2).evolve(RandomGenerators.fast(1), List.of()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Population cannot be empty");
+    }
+  }
+
+  @Nested
+  @DisplayName("threshold")
+  class Threshold {
+    @Test
+    @DisplayName("grows when there are too many species")
+    void growsWithTooManySpecies() {
+      var engine = engine(1.0f, 1);
+
+      engine.evolve(RandomGenerators.fast(1), clusters(0, 10, 3, 30));
+
+      assertThat(engine.getThreshold()).isGreaterThan(1.0f);
+    }
+
+    @Test
+    @DisplayName("shrinks when there are too few species")
+    void shrinksWithTooFewSpecies() {
+      var engine = engine(1.0f, 5);
+
+      engine.evolve(RandomGenerators.fast(1), clusters(0, 10, 3, 30));
+
+      assertThat(engine.getThreshold()).isLessThan(1.0f);
+    }
+
+    @Test
+    @DisplayName("is seeded inside the clusters of the first population")
+    void seedsFromPopulation() {
+      var engine = engine(2);
+
+      engine.evolve(RandomGenerators.fast(1), clusters(0, 10, 20, 20));
+
+      assertThat(engine.getThreshold()).isPositive().isLessThan(1.0f);
+    }
+
+    @Test
+    @DisplayName("is seeded on the scale of long genomes")
+    void seedsOnGenomeScale() {
+      var random = RandomGenerators.fast(3);
+      var population = new ArrayList<TestIndividual>();
+      for (int i = 0; i < 40; i++) {
+        var genes = new float[110];
+        for (int g = 0; g < genes.length; g++) {
+          genes[g] = random.nextFloat(-1.0f, 1.0f);
+        }
+        population.add(FACTORY.create(Chromosome.of(genes)));
+      }
+      var engine = engine(8);
+
+      engine.evolve(RandomGenerators.fast(1), population);
+
+      assertThat(engine.getSpeciesCount()).isLessThan(population.size());
+    }
+
+    @Test
+    @DisplayName("rejects invalid parameters")
+    void rejectsInvalidParameters() {
+      assertThatThrownBy(() -> engine(0.0f, 1))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Species threshold must be positive");
+      assertThatThrownBy(() -> engine(1.0f, 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Target species must be at least 1");
+      assertThatThrownBy(() -> engine(0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Target species must be at least 1");
+    }
+  }
+
+  private static SpeciatedGeneticAlgorithm<TestIndividual> engine(
+      float threshold, int targetSpecies) {
+    return SpeciatedGeneticAlgorithm.create(
+        new TournamentSelection(2),
+        new UniformCrossover(),
+        GaussianMutation.create(0.0f, 0.0f),
+        FACTORY,
+        threshold,
+        targetSpecies);
+  }
+
+  private static SpeciatedGeneticAlgorithm<TestIndividual> engine(int targetSpecies) {
+    return SpeciatedGeneticAlgorithm.create(
+        new TournamentSelection(2),
+        new UniformCrossover(),
+        GaussianMutation.create(0.0f, 0.0f),
+        FACTORY,
+        targetSpecies);
+  }
+
+  /** Two tight clusters of two-gene chromosomes around {@code low} and {@code high}. */
+  private static List<TestIndividual> clusters(float low, float high, int lowCount, int highCount) {
+    var random = RandomGenerators.fast(9);
+    var population = new ArrayList<TestIndividual>();
+    for (int i = 0; i < lowCount + highCount; i++) {
+      float center = i < lowCount ? low : high;
+      float gene = center + random.nextFloat(-0.1f, 0.1f);
+      population.add(FACTORY.create(Chromosome.of(gene, gene + random.nextFloat(-0.1f, 0.1f))));
+    }
+    return population;
+  }
+}
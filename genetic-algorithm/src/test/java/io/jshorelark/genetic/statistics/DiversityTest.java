@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.random.RandomGenerators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Diversity")
+class DiversityTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  @Test
+  @DisplayName("computes the per-gene population variance")
+  void computesGeneVariance() {
+    var population =
+        List.of(
+            FACTORY.create(Chromosome.of(1, 10)),
+            FACTORY.create(Chromosome.of(2, 10)),
+            FACTORY.create(Chromosome.of(3, 10)),
+            FACTORY.create(Chromosome.of(4, 10)));
+
+    var diversity = Diversity.of(population, RandomGenerators.fast(1));
+
+    assertThat(diversity.getGeneVariance()[0]).isCloseTo(1.25f, within(1e-6f));
+    assertThat(diversity.getGeneVariance()[1]).isZero();
+    assertThat(diversity.getMeanVariance()).isCloseTo(0.625f, within(1e-6f));
+    assertThat(diversity.getUniqueChromosomes()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("gives the same variance in parallel across many blocks")
+  void parallelMatchesSequential() {
+    var random = RandomGenerators.fast(2);
+    var population = new ArrayList<TestIndividual>();
+    for (int i = 0; i < Diversity.BLOCK_SIZE * 5 + 17; i++) {
+      population.add(
+          FACTORY.create(Chromosome.of(random.nextFloat(), random.nextFloat() * 3, 100 + i)));
+    }
+
+    var sequential = Diversity.of(population, RandomGenerators.fast(3), 100, false);
+    var parallel = Diversity.of(population, RandomGenerators.fast(3), 100, true);
+
+    assertThat(parallel.getGeneVariance())
+        .containsExactly(sequential.getGeneVariance(), within(1e-3f));
+    assertThat(parallel.getMeanPairwiseDistance())
+        .isCloseTo(sequential.getMeanPairwiseDistance(), within(1e-3f));
+    assertThat(sequential.getGeneVariance()[0]).isCloseTo(1 / 12f, within(5e-3f));
+  }
+
+  @Test
+  @DisplayName("estimates the mean pairwise distance from sampled pairs")
+  void estimatesPairwiseDistance() {
+    var population =
+        List.of(FACTORY.create(Chromosome.of(0, 0)), FACTORY.create(Chromosome.of(3, 4)));
+
+    var diversity = Diversity.of(population, RandomGenerators.fast(1));
+
+    assertThat(diversity.getMeanPairwiseDistance()).isCloseTo(5.0f, within(1e-6f));
+  }
+
+  @Test
+  @DisplayName("measures chromosomes the same as the individuals holding them")
+  void measuresChromosomes() {
+    var population =
+        List.of(
+            FACTORY.create(Chromosome.of(1, 2)),
+            FACTORY.create(Chromosome.of(1, 2)),
+            FACTORY.create(Chromosome.of(4, 6)));
+    var chromosomes = population.stream().map(TestIndividual::getChromosome).toList();
+
+    var fromIndividuals = Diversity.of(population, RandomGenerators.fast(1));
+    var fromChromosomes = Diversity.ofChromosomes(chromosomes, RandomGenerators.fast(1));
+
+    assertThat(fromChromosomes.getGeneVariance())
+        .containsExactly(fromIndividuals.getGeneVariance());
+    assertThat(fromChromosomes.getMeanPairwiseDistance())
+        .isEqualTo(fromIndividuals.getMeanPairwiseDistance());
+    assertThat(fromChromosomes.getUniqueChromosomes()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("counts identical chromosomes once")
+  void countsDuplicatesOnce() {
+    var population =
+        List.of(
+            FACTORY.create(Chromosome.of(1, 2)),
+            FACTORY.create(Chromosome.of(1, 2)),
+            FACTORY.create(Chromosome.of(2, 1)));
+
+    var diversity = Diversity.of(population, RandomGenerators.fast(1));
+
+    assertThat(diversity.getUniqueChromosomes()).isEqualTo(2);
+    assertThat(diversity.getUniqueFraction()).isCloseTo(2 / 3f, within(1e-6f));
+  }
+
+  @Test
+  @DisplayName("handles a single individual")
+  void handlesSingleIndividual() {
+    var diversity =
+        Diversity.of(List.of(FACTORY.create(Chromosome.of(1, 2))), RandomGenerators.fast(1));
+
+    assertThat(diversity.getMeanVariance()).isZero();
+    assertThat(diversity.getMeanPairwiseDistance()).isZero();
+    assertThat(diversity.getUniqueChromosomes()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("rejects empty and ragged populations")
+  void rejectsInvalidPopulations() {
+    assertThatThrownBy(() -> Diversity.of(List.of(), RandomGenerators.fast(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Population must not be empty");
+    assertThatThrownBy(
+            () ->
+                Diversity.of(
+                    List.of(FACTORY.create(Chromosome.of(1)), FACTORY.create(Chromosome.of(1, 2))),
+                    RandomGenerators.fast(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Chromosomes must have the same length");
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.statistics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.statistics.GenerationHistory.Column;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GenerationHistory")
+class GenerationHistoryTest {
+  @TempDir Path directory;
+
+  @Nested
+  @DisplayName("record")
+  class Record {
+    @Test
+    @DisplayName("computes every column of a generation")
+    void computesColumns() {
+      var history = GenerationHistory.create();
+
+      history.record(new float[] {4, 0, 3, 1, 2});
+
+      assertThat(history.size()).isEqualTo(1);
+      assertThat(history.get(Column.MIN, 0)).isEqualTo(0.0f);
+      assertThat(history.get(Column.P10, 0)).isEqualTo(0.4f);
+      assertThat(history.get(Column.P25, 0)).isEqualTo(1.0f);
+      assertThat(history.get(Column.MEDIAN, 0)).isEqualTo(2.0f);
+      assertThat(history.get(Column.P75, 0)).isEqualTo(3.0f);
+      assertThat(history.get(Column.P90, 0)).isEqualTo(3.6f);
+      assertThat(history.get(Column.MAX, 0)).isEqualTo(4.0f);
+      assertThat(history.get(Column.AVERAGE, 0)).isEqualTo(2.0f);
+    }
+
+    @Test
+    @DisplayName("agrees with the statistics of a population")
+    void agreesWithStatistics() {
+      var population =
+          List.of(
+              TestIndividual.withFitness(1.0f),
+              TestIndividual.withFitness(2.0f),
+              TestIndividual.withFitness(6.0f),
+              TestIndividual.withFitness(7.0f));
+      var history = GenerationHistory.create();
+
+      history.record(population);
+      var statistics = history.getStatistics(0);
+      var expected = Statistics.of(population);
+
+      assertThat(statistics.getMinFitness()).isEqualTo(expected.getMinFitness());
+      assertThat(statistics.getMaxFitness()).isEqualTo(expected.getMaxFitness());
+      assertThat(statistics.getAvgFitness()).isEqualTo(expected.getAvgFitness());
+      assertThat(statistics.getMedianFitness()).isEqualTo(expected.getMedianFitness());
+    }
+
+    @Test
+    @DisplayName("leaves unknown percentiles NaN when recording statistics")
+    void recordsStatistics() {
+      var history = GenerationHistory.create();
+
+      history.record(new Statistics(1.0f, 5.0f, 3.0f, 2.0f));
+
+      assertThat(history.get(Column.MEDIAN, 0)).isEqualTo(2.0f);
+      assertThat(history.get(Column.P25, 0)).isNaN();
+    }
+
+    @Test
+    @DisplayName("rejects an empty generation")
+    void rejectsEmptyGeneration() {
+      assertThatThrownBy(() -> GenerationHistory.create().record(new float[0]))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("queries")
+  class Queries {
+    @Test
+    @DisplayName("reads ranges across chunks")
+    void readsRangesAcrossChunks() {
+      var history = filled(GenerationHistory.CHUNK_SIZE * 2 + 10);
+
+      var range =
+          history.range(
+              Column.MAX, GenerationHistory.CHUNK_SIZE - 2, GenerationHistory.CHUNK_SIZE + 2);
+
+      int first = GenerationHistory.CHUNK_SIZE - 2;
+      assertThat(range).containsExactly(first, first + 1, first + 2, first + 3);
+      assertThat(history.get(Column.MIN, history.size() - 1)).isEqualTo(history.size() - 1.0f);
+    }
+
+    @Test
+    @DisplayName("downsamples to the extremes of each bucket")
+    void downsamples() {
+      var history = GenerationHistory.create();
+      for (float max : new float[] {1, 9, 2, 3, 8, 4, 5, 0, 6, 7}) {
+        history.record(new float[] {max});
+      }
+
+      var envelope = history.downsample(Column.MAX, 0, 10, 3);
+
+      // Buckets [0, 3), [3, 6) and [6, 10)
+      assertThat(envelope[0]).containsExactly(1, 3, 0);
+      assertThat(envelope[1]).containsExactly(9, 8, 7);
+    }
+
+    @Test
+    @DisplayName("keeps one bucket per generation when there are more buckets")
+    void capsBuckets() {
+      var envelope = filled(3).downsample(Column.MAX, 0, 3, 100);
+
+      assertThat(envelope[0]).containsExactly(0, 1, 2);
+      assertThat(envelope[1]).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("rejects ranges out of bounds")
+    void rejectsRangesOutOfBounds() {
+      var history = filled(5);
+
+      assertThatThrownBy(() -> history.range(Column.MIN, 3, 6))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> history.get(Column.MIN, 5))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> history.downsample(Column.MIN, 2, 2, 1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("files")
+  class Persistence {
+    @Test
+    @DisplayName("reads back a written history")
+    void roundTrips() throws IOException {
+      var history = filled(GenerationHistory.CHUNK_SIZE + 3);
+      var path = directory.resolve("history.bin");
+
+      history.write(path);
+      var read = GenerationHistory.read(path);
+
+      assertThat(Files.size(path))
+          .isEqualTo(3L * Integer.BYTES + 8L * history.size() * Float.BYTES);
+      assertThat(read.size()).isEqualTo(history.size());
+      for (var column : Column.values()) {
+        assertThat(read.range(column, 0, read.size()))
+            .containsExactly(history.range(column, 0, history.size()));
+      }
+      read.record(new float[] {1});
+      assertThat(read.size()).isEqualTo(history.size() + 1);
+    }
+
+    @Test
+    @DisplayName("rejects files that are not histories")
+    void rejectsForeignFiles() throws IOException {
+      var path = directory.resolve("other.bin");
+      Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+      assertThatThrownBy(() -> GenerationHistory.read(path)).isInstanceOf(IOException.class);
+    }
+  }
+
+  /** A history in which every fitness of generation g is g. */
+  private static GenerationHistory filled(int generations) {
+    var history = GenerationHistory.create();
+    for (int g = 0; g < generations; g++) {
+      history.record(new float[] {g, g, g});
+    }
+    return history;
+  }
+}
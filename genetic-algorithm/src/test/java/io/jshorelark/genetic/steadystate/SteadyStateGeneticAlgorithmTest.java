@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.steadystate;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.TestIndividual;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.selection.TournamentSelection;
+import io.jshorelark.genetic.statistics.Statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SteadyStateGeneticAlgorithm")
+class SteadyStateGeneticAlgorithmTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("runs the requested number of evaluations")
+  void runsRequestedEvaluations() {
+    var algorithm = algorithm(ReplacementPolicy.TOURNAMENT);
+    var population = population(20);
+
+    var result = algorithm.evolve(new Random(42), population, 200, executor);
+
+    assertThat(result.getEvaluations()).isEqualTo(200);
+    assertThat(result.getPopulation()).hasSize(population.size());
+    assertThat(result.getEvaluationsPerSecond()).isPositive();
+    assertThat(result.getUtilization()).isBetween(0.0, 1.0);
+  }
+
+  @Test
+  @DisplayName("never loses the best individual when replacing the worst")
+  void neverLosesBestWhenReplacingWorst() {
+    var algorithm = algorithm(ReplacementPolicy.WORST);
+    var population = population(20);
+
+    var result = algorithm.evolve(new Random(42), population, 300, executor);
+
+    assertThat(result.getStatistics().getMaxFitness())
+        .isGreaterThanOrEqualTo(Statistics.of(population).getMaxFitness());
+  }
+
+  @Test
+  @DisplayName("measures utilization against the executor's workers")
+  void measuresUtilizationAgainstWorkers() {
+    var busy =
+        SteadyStateGeneticAlgorithm.create(
+            new TournamentSelection(2),
+            new UniformCrossover(),
+            GaussianMutation.create(0.5f, 0.5f),
+            chromosome -> {
+              // Spin until the clock ticks, so every evaluation takes measurable time
+              final long start = System.nanoTime();
+              while (System.nanoTime() == start) {
+                Thread.onSpinWait();
+              }
+              return FACTORY.create(chromosome);
+            },
+            ReplacementPolicy.WORST,
+            2,
+            4);
+    var single = Executors.newFixedThreadPool(1);
+    try {
+      // Four evaluations in flight, but utilization is measured against the single worker
+      var inferred = busy.evolve(new Random(42), population(10), 40, single);
+      var explicit = busy.evolve(new Random(42), population(10), 40, single::execute, 1);
+
+      assertThat(inferred.getUtilization()).isPositive().isLessThanOrEqualTo(1.0);
+      assertThat(explicit.getUtilization()).isPositive().isLessThanOrEqualTo(1.0);
+    } finally {
+      single.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("rejects an empty population")
+  void rejectsEmptyPopulation() {
+    var algorithm = algorithm(ReplacementPolicy.WORST);
+
+    assertThatThrownBy(() -> algorithm.evolve(new Random(42), List.of(), 10, executor))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Population cannot be empty");
+  }
+
+  private static SteadyStateGeneticAlgorithm<TestIndividual> algorithm(ReplacementPolicy policy) {
+    return SteadyStateGeneticAlgorithm.create(
+        new TournamentSelection(2),
+        new UniformCrossover(),
+        GaussianMutation.create(0.5f, 0.5f),
+        FACTORY,
+        policy,
+        2,
+        4);
+  }
+
+  private static List<TestIndividual> population(int size) {
+    var random = new Random(7);
+    return IntStream.range(0, size)
+        .mapToObj(i -> FACTORY.create(Chromosome.of(random.nextFloat(), random.nextFloat())))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.surrogate;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("KnnSurrogate")
+class KnnSurrogateTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  @Test
+  @DisplayName("predicts nothing until it has k chromosomes")
+  void untrained() {
+    var surrogate = KnnSurrogate.create(2, 4);
+    surrogate.train(List.of(individual(1, 1)));
+
+    assertThat(surrogate.predict(new float[] {1, 1})).isNaN();
+  }
+
+  @Test
+  @DisplayName("returns the fitness of an exact match")
+  void exactMatch() {
+    var surrogate = KnnSurrogate.create(2, 4);
+    surrogate.train(List.of(individual(1, 1), individual(5, 5)));
+
+    assertThat(surrogate.predict(new float[] {1, 1})).isEqualTo(2.0f);
+  }
+
+  @Test
+  @DisplayName("weights neighbors by inverse distance")
+  void inverseDistance() {
+    var surrogate = KnnSurrogate.create(2, 4);
+    surrogate.train(List.of(individual(0, 0), individual(4, 0), individual(100, 100)));
+
+    // Distances 1 and 3, fitness 0 and 4: (1 * 0 + 1/3 * 4) / (1 + 1/3) = 1
+    assertThat(surrogate.predict(new float[] {1, 0})).isCloseTo(1.0f, within(1e-5f));
+  }
+
+  @Test
+  @DisplayName("forgets the oldest chromosomes")
+  void forgetsOldest() {
+    var surrogate = KnnSurrogate.create(1, 2);
+    surrogate.train(List.of(individual(0, 0), individual(10, 0), individual(20, 0)));
+
+    assertThat(surrogate.size()).isEqualTo(2);
+    assertThat(surrogate.predict(new float[] {0, 0})).isEqualTo(10.0f);
+  }
+
+  @Test
+  @DisplayName("starts over when the chromosome length changes")
+  void lengthChange() {
+    var surrogate = KnnSurrogate.create(1, 4);
+    surrogate.train(List.of(individual(1, 1), individual(2, 2)));
+    surrogate.train(List.of(individual(1, 1, 1)));
+
+    assertThat(surrogate.size()).isEqualTo(1);
+    assertThat(surrogate.predict(new float[] {1, 1})).isNaN();
+    assertThat(surrogate.predict(new float[] {1, 1, 1})).isEqualTo(3.0f);
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(() -> KnnSurrogate.create(0, 4))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> KnnSurrogate.create(3, 2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Capacity must be at least the number of neighbors");
+  }
+
+  private static TestIndividual individual(float... genes) {
+    return FACTORY.create(Chromosome.of(genes));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.genetic.surrogate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.TestIndividual;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SurrogateFilter")
+class SurrogateFilterTest {
+  private static final TestIndividual.Factory FACTORY = new TestIndividual.Factory();
+
+  @Test
+  @DisplayName("keeps offspring in breeding order until the surrogate is trained")
+  void untrained() {
+    var filter = SurrogateFilter.create(KnnSurrogate.create(1, 8), 2, report -> {});
+
+    var kept = filter.screen(chromosomes(3, 2, 1, 0), 2);
+
+    assertThat(kept).containsExactly(0, 1);
+    assertThat(filter.getLastReport().getCorrelation()).isNaN();
+    assertThat(filter.getLastReport().getRejected()).isZero();
+  }
+
+  @Test
+  @DisplayName("keeps the offspring with the best predictions")
+  void keepsBest() {
+    var filter = SurrogateFilter.create(KnnSurrogate.create(1, 8), 2, report -> {});
+    filter.observe(individuals(0, 1, 2, 3));
+
+    var kept = filter.screen(chromosomes(3, 0, 2, 1), 2);
+
+    assertThat(kept).containsExactly(0, 2);
+  }
+
+  @Test
+  @DisplayName("reports kept offspring predicted below their parents")
+  void reportsPoorOffspring() {
+    var filter = SurrogateFilter.create(KnnSurrogate.create(1, 8), 2, report -> {});
+    filter.observe(individuals(0, 1, 2, 3));
+
+    // Predicted at 0, 2, 0 and 2, all below the parents' median of 3
+    filter.screen(chromosomes(0, 1, 0, 1), 2);
+
+    assertThat(filter.getLastReport().getRejected()).isEqualTo(2);
+    assertThat(filter.getLastReport().getKeptBelowThreshold()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("reports accuracy on the evaluated offspring")
+  void reportsAccuracy() {
+    var reports = new ArrayList<SurrogateReport>();
+    var filter = SurrogateFilter.create(KnnSurrogate.create(1, 8), 2, reports::add);
+    filter.observe(individuals(0, 1, 2, 3));
+    filter.screen(chromosomes(3, 0, 2, 1), 2);
+
+    // The kept offspring were predicted at 6 and 4 but turn out twice as fit
+    filter.observe(
+        List.of(
+            new TestIndividual(Chromosome.of(3, 3), 12),
+            new TestIndividual(Chromosome.of(2, 2), 8)));
+    filter.screen(chromosomes(3, 0, 2, 1), 2);
+
+    assertThat(reports).hasSize(2);
+    var report = reports.get(1);
+    assertThat(report.getCandidates()).isEqualTo(4);
+    assertThat(report.getEvaluated()).isEqualTo(2);
+    assertThat(report.getThreshold()).isEqualTo(10.0f);
+    assertThat(report.getRejected()).isEqualTo(2);
+    assertThat(report.getRejectedFraction()).isEqualTo(0.5f);
+    assertThat(report.getCorrelation()).isCloseTo(1.0f, within(1e-5f));
+    assertThat(report.getMeanAbsoluteError()).isCloseTo(5.0f, within(1e-5f));
+  }
+
+  @Test
+  @DisplayName("rejects invalid parameters")
+  void rejectsInvalidParameters() {
+    assertThatThrownBy(() -> SurrogateFilter.create(KnnSurrogate.create(1, 1), 0, report -> {}))
+        .isInstanceOf(IllegalArgumentException.class);
+    var filter = SurrogateFilter.create(KnnSurrogate.create(1, 1), 1, report -> {});
+    assertThatThrownBy(() -> filter.screen(chromosomes(1), 2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot keep 2 of 1");
+  }
+
+  /** Chromosomes {@code (v, v)} for each value. */
+  private static List<Chromosome> chromosomes(float... values) {
+    var chromosomes = new ArrayList<Chromosome>();
+    for (float value : values) {
+      chromosomes.add(Chromosome.of(value, value));
+    }
+    return chromosomes;
+  }
+
+  /** Evaluated individuals with chromosomes {@code (v, v)}, so fitness {@code 2v}. */
+  private static List<TestIndividual> individuals(float... values) {
+    var individuals = new ArrayList<TestIndividual>();
+    for (var chromosome : chromosomes(values)) {
+      individuals.add(FACTORY.create(chromosome));
+    }
+    return individuals;
+  }
+}
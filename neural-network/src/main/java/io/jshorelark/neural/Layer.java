@@ -9,7 +9,7 @@ package io.jshorelark.neural;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * A layer in a neural network. Matches Rust's Layer struct.
@@ -45,7 +45,7 @@ public final class Layer {
    * @param outputSize the number of neurons in this layer
    * @return a new layer with random weights and biases
    */
-  public static Layer random(Random random, int inputSize, int outputSize) {
+  public static Layer random(RandomGenerator random, int inputSize, int outputSize) {
     List<Neuron> neurons = new ArrayList<>(outputSize);
     for (int i = 0; i < outputSize; i++) {
       neurons.add(Neuron.random(random, inputSize));
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.neural;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Chromosome;
 
@@ -25,10 +25,10 @@ public final class NetworkFactory {
    * Creates a new random neural network with the given topology.
    *
    * @param topology an array of {@link int} objects
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.neural.LayeredNetwork} object
    */
-  public static LayeredNetwork random(int[] topology, Random random) {
+  public static LayeredNetwork random(int[] topology, RandomGenerator random) {
     return NeuralNetwork.random(random, topology);
   }
 
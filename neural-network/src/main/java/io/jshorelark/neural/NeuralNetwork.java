@@ -9,7 +9,7 @@ package io.jshorelark.neural;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Chromosome;
 
@@ -48,7 +48,7 @@ public final class NeuralNetwork implements LayeredNetwork {
    * @return a new neural network with random weights and biases
    * @throws java.lang.IllegalArgumentException if topology has less than 2 layers
    */
-  public static NeuralNetwork random(Random random, int[] topology) {
+  public static NeuralNetwork random(RandomGenerator random, int[] topology) {
     if (topology.length < 2) {
       throw new IllegalArgumentException("Network must have at least 2 layers");
     }
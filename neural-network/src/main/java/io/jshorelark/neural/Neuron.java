@@ -6,7 +6,7 @@
  */
 package io.jshorelark.neural;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * A neuron in a neural network. Matches Rust's Neuron struct.
@@ -46,7 +46,7 @@ public final class Neuron {
    * @param inputSize the number of inputs for this neuron
    * @return a new neuron with random weights and bias
    */
-  public static Neuron random(Random random, int inputSize) {
+  public static Neuron random(RandomGenerator random, int inputSize) {
     float bias = -1.0f + (2.0f * random.nextFloat()); // Range [-1.0, 1.0]
     float[] weights = new float[inputSize];
     for (int i = 0; i < inputSize; i++) {
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.optimizer;
+
+import java.util.random.RandomGenerator;
+
+import io.jshorelark.genetic.EvolutionEngine;
+import io.jshorelark.genetic.GeneticAlgorithm;
+import io.jshorelark.genetic.cmaes.CmaEvolutionStrategy;
+import io.jshorelark.genetic.cmaes.RestartStrategy;
+import io.jshorelark.genetic.crossover.StepSizeCrossover;
+import io.jshorelark.genetic.crossover.UniformCrossover;
+import io.jshorelark.genetic.es.EvolutionStrategies;
+import io.jshorelark.genetic.es.NoiseTable;
+import io.jshorelark.genetic.multiobjective.Nsga2;
+import io.jshorelark.genetic.mutation.GaussianMutation;
+import io.jshorelark.genetic.mutation.OneFifthSuccessRule;
+import io.jshorelark.genetic.mutation.SelfAdaptiveMutation;
+import io.jshorelark.genetic.selection.RouletteWheelSelection;
+import io.jshorelark.genetic.speciation.SpeciatedGeneticAlgorithm;
+import io.jshorelark.genetic.surrogate.KnnSurrogate;
+import io.jshorelark.genetic.surrogate.SurrogateFilter;
+import io.jshorelark.simulation.Config;
+import io.jshorelark.simulation.bird.BirdBrain;
+import io.jshorelark.simulation.bird.BirdIndividual;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Engines that can evolve the birds of an {@link OptimizingSimulation}.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+@Slf4j
+public enum EngineType {
+  /** Roulette wheel selection, uniform crossover and Gaussian mutation. */
+  GENETIC_ALGORITHM {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return GeneticAlgorithm.create(
+              new RouletteWheelSelection(),
+              new UniformCrossover(),
+              GaussianMutation.create(config.getGaMutChance(), config.getGaMutCoeff()),
+              new BirdIndividual.Factory(config, random))
+          .withElitism(config.getGaElites());
+    }
+  },
+
+  /**
+   * {@link #GENETIC_ALGORITHM} where every bird carries its own mutation step size after its
+   * weights, starting from the mutation coefficient and evolving log-normally.
+   */
+  SELF_ADAPTIVE_GENETIC_ALGORITHM {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return GeneticAlgorithm.create(
+              new RouletteWheelSelection(),
+              StepSizeCrossover.create(
+                  new UniformCrossover(), BirdBrain.weightCount(config), config.getGaMutCoeff()),
+              SelfAdaptiveMutation.create(config.getGaMutChance(), MIN_STEP, MAX_STEP),
+              new BirdIndividual.Factory(config, random))
+          .withElitism(config.getGaElites());
+    }
+
+    @Override
+    public boolean tunesMutationStep() {
+      return true;
+    }
+  },
+
+  /**
+   * {@link #GENETIC_ALGORITHM} with Gaussian mutation whose step size, starting from the mutation
+   * coefficient, follows the 1/5 success rule.
+   */
+  ONE_FIFTH_RULE_GENETIC_ALGORITHM {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return GeneticAlgorithm.create(
+              new RouletteWheelSelection(),
+              new UniformCrossover(),
+              OneFifthSuccessRule.create(
+                  config.getGaMutChance(), config.getGaMutCoeff(), ONE_FIFTH_FACTOR),
+              new BirdIndividual.Factory(config, random))
+          .withElitism(config.getGaElites());
+    }
+
+    @Override
+    public boolean tunesMutationStep() {
+      return true;
+    }
+  },
+
+  /**
+   * {@link #GENETIC_ALGORITHM} that breeds several offspring per bird and only simulates those a
+   * k-NN surrogate over recent generations expects to do best.
+   */
+  SURROGATE_GENETIC_ALGORITHM {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      final var surrogate =
+          KnnSurrogate.create(
+              SURROGATE_NEIGHBORS, SURROGATE_GENERATIONS * config.getWorldAnimals());
+      return GeneticAlgorithm.create(
+              new RouletteWheelSelection(),
+              new UniformCrossover(),
+              GaussianMutation.create(config.getGaMutChance(), config.getGaMutCoeff()),
+              new BirdIndividual.Factory(config, random))
+          .withElitism(config.getGaElites())
+          .withSurrogate(
+              SurrogateFilter.create(
+                  surrogate, SURROGATE_OVERSAMPLING, report -> log.debug("{}", report)));
+    }
+  },
+
+  /** {@link #GENETIC_ALGORITHM} with speciation and fitness sharing. */
+  SPECIATED_GENETIC_ALGORITHM {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return SpeciatedGeneticAlgorithm.create(
+          new RouletteWheelSelection(),
+          new UniformCrossover(),
+          GaussianMutation.create(config.getGaMutChance(), config.getGaMutCoeff()),
+          new BirdIndividual.Factory(config, random),
+          TARGET_SPECIES);
+    }
+  },
+
+  /** NSGA-II trading food eaten against distance flown. */
+  NSGA2 {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return Nsga2.create(
+          new UniformCrossover(),
+          GaussianMutation.create(config.getGaMutChance(), config.getGaMutCoeff()),
+          new BirdIndividual.Factory(config, random));
+    }
+  },
+
+  /**
+   * IPOP-CMA-ES, using the mutation coefficient as the initial step size. Restarts never grow the
+   * population past the number of animals in the world.
+   */
+  CMA_ES {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return CmaEvolutionStrategy.create(
+          new BirdIndividual.Factory(config, random),
+          config.getGaMutCoeff(),
+          RestartStrategy.IPOP,
+          config.getWorldAnimals());
+    }
+  },
+
+  /**
+   * OpenAI-style evolution strategies over a noise table shared by every simulation, using the
+   * mutation coefficient as the perturbation scale.
+   */
+  EVOLUTION_STRATEGIES {
+    @Override
+    public EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random) {
+      return EvolutionStrategies.create(
+          new BirdIndividual.Factory(config, random),
+          SharedNoise.TABLE,
+          config.getGaMutCoeff(),
+          ES_LEARNING_RATE);
+    }
+  };
+
+  /** Smallest step size of {@link #SELF_ADAPTIVE_GENETIC_ALGORITHM}. */
+  private static final float MIN_STEP = 1e-4f;
+
+  /** Largest step size of {@link #SELF_ADAPTIVE_GENETIC_ALGORITHM}. */
+  private static final float MAX_STEP = 10.0f;
+
+  /** Per-generation step size factor of {@link #ONE_FIFTH_RULE_GENETIC_ALGORITHM}. */
+  private static final float ONE_FIFTH_FACTOR = 1.22f;
+
+  /** Neighbors averaged by the surrogate of {@link #SURROGATE_GENETIC_ALGORITHM}. */
+  private static final int SURROGATE_NEIGHBORS = 5;
+
+  /** Generations of birds remembered by the surrogate of {@link #SURROGATE_GENETIC_ALGORITHM}. */
+  private static final int SURROGATE_GENERATIONS = 10;
+
+  /** Offspring bred per simulated bird by {@link #SURROGATE_GENETIC_ALGORITHM}. */
+  private static final int SURROGATE_OVERSAMPLING = 4;
+
+  /** Number of species {@link #SPECIATED_GENETIC_ALGORITHM} steers towards. */
+  private static final int TARGET_SPECIES = 8;
+
+  /** Learning rate of {@link #EVOLUTION_STRATEGIES}. */
+  private static final float ES_LEARNING_RATE = 0.01f;
+
+  /**
+   * Creates an engine for the given simulation config.
+   *
+   * @param config a {@link io.jshorelark.simulation.Config} object
+   * @param random generator the engine's bird placement is seeded from
+   * @return a new engine
+   */
+  public abstract EvolutionEngine<BirdIndividual> create(Config config, RandomGenerator random);
+
+  /**
+   * Returns whether the engine tunes its mutation step size itself, so the mutation coefficient
+   * only sets where it starts and needn't be swept.
+   *
+   * @return a boolean
+   */
+  public boolean tunesMutationStep() {
+    return false;
+  }
+
+  /** Lazily built noise table, shared by all simulations of the process. */
+  private static final class SharedNoise {
+    /** 4 MiB of noise, far more than any brain has weights. */
+    static final NoiseTable TABLE = NoiseTable.create(0x5EED, 1 << 20);
+  }
+}
@@ -50,7 +50,8 @@ public class OptimizationConfig {
   float gaMutCoeff;
 
   /**
-   * Converts this to a simulation config.
+   * Converts this to a simulation config. The world is packed, since optimization only reads the
+   * birds between generations.
    *
    * @return a {@link io.jshorelark.simulation.Config} object
    */
@@ -62,6 +63,7 @@ public class OptimizationConfig {
         .eyeCells(eyeCells)
         .gaMutChance(gaMutChance)
         .gaMutCoeff(gaMutCoeff)
+        .worldPacked(true)
         .build();
   }
 
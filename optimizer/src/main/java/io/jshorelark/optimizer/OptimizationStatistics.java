@@ -6,11 +6,14 @@
  */
 package io.jshorelark.optimizer;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 
+import io.jshorelark.genetic.statistics.Diversity;
 import io.jshorelark.genetic.statistics.Statistics;
+import io.jshorelark.genetic.surrogate.SurrogateReport;
 
 import lombok.Builder;
 import lombok.Value;
@@ -47,6 +50,19 @@ public class OptimizationStatistics {
   /** Genetic algorithm statistics. */
   Statistics ga;
 
+  /** How the surrogate screened the generation's offspring, null for engines without one. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  SurrogateReport surrogate;
+
+  /** Mean per-gene variance of the evaluated generation. */
+  float geneVariance;
+
+  /** Estimated mean Euclidean distance between two evaluated genomes. */
+  float pairwiseDistance;
+
+  /** Distinct content hashes per evaluated genome, approximately the fraction of distinct ones. */
+  float uniqueFraction;
+
   /**
    * Creates statistics from genetic algorithm statistics.
    *
@@ -55,13 +71,49 @@ public class OptimizationStatistics {
    * @return a {@link io.jshorelark.optimizer.OptimizationStatistics} object
    */
   public static OptimizationStatistics fromGaStats(Statistics gaStats, int generation) {
-    return OptimizationStatistics.builder()
+    return fromGaStats(gaStats, generation, null);
+  }
+
+  /**
+   * Creates statistics from genetic algorithm statistics and a surrogate report.
+   *
+   * @param gaStats a {@link io.jshorelark.genetic.statistics.Statistics} object
+   * @param generation a int
+   * @param surrogate a {@link io.jshorelark.genetic.surrogate.SurrogateReport} object, or null
+   * @return a {@link io.jshorelark.optimizer.OptimizationStatistics} object
+   */
+  public static OptimizationStatistics fromGaStats(
+      Statistics gaStats, int generation, SurrogateReport surrogate) {
+    return fromGaStats(gaStats, generation, surrogate, null);
+  }
+
+  /**
+   * Creates statistics from genetic algorithm statistics, a surrogate report and the diversity of
+   * the evaluated generation.
+   *
+   * @param gaStats a {@link io.jshorelark.genetic.statistics.Statistics} object
+   * @param generation a int
+   * @param surrogate a {@link io.jshorelark.genetic.surrogate.SurrogateReport} object, or null
+   * @param diversity a {@link io.jshorelark.genetic.statistics.Diversity} object, or null
+   * @return a {@link io.jshorelark.optimizer.OptimizationStatistics} object
+   */
+  public static OptimizationStatistics fromGaStats(
+      Statistics gaStats, int generation, SurrogateReport surrogate, Diversity diversity) {
+    final var builder = OptimizationStatistics.builder();
+    if (diversity != null) {
+      builder
+          .geneVariance(diversity.getMeanVariance())
+          .pairwiseDistance(diversity.getMeanPairwiseDistance())
+          .uniqueFraction(diversity.getUniqueFraction());
+    }
+    return builder
         .minFitness(gaStats.getMinFitness())
         .maxFitness(gaStats.getMaxFitness())
         .avgFitness(gaStats.getAvgFitness())
         .medianFitness(gaStats.getMedianFitness())
         .generation(generation)
         .ga(gaStats)
+        .surrogate(surrogate)
         .build();
   }
 
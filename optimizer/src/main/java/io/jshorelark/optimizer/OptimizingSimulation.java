@@ -6,13 +6,24 @@
  */
 package io.jshorelark.optimizer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
+import io.jshorelark.genetic.Chromosome;
+import io.jshorelark.genetic.EvolutionEngine;
 import io.jshorelark.genetic.GeneticAlgorithm;
-import io.jshorelark.genetic.crossover.UniformCrossover;
-import io.jshorelark.genetic.mutation.GaussianMutation;
-import io.jshorelark.genetic.selection.RouletteWheelSelection;
+import io.jshorelark.genetic.checkpoint.Checkpoint;
+import io.jshorelark.genetic.checkpoint.Checkpointable;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.statistics.Diversity;
 import io.jshorelark.genetic.statistics.Statistics;
+import io.jshorelark.genetic.surrogate.SurrogateReport;
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.Simulation;
 import io.jshorelark.simulation.bird.Bird;
@@ -30,6 +41,21 @@ public class OptimizingSimulation {
   /** The core simulation. */
   private final Simulation simulation;
 
+  /** The kind of engine evolving the birds. */
+  private final EngineType engineType;
+
+  /** Seed of the generator the engine's bird placement is drawn from. */
+  private long engineSeed;
+
+  /** The engine that evolves the birds between generations. */
+  private EvolutionEngine<BirdIndividual> engine;
+
+  /** Genes of the last evaluated generation. */
+  private List<Chromosome> evaluatedChromosomes = List.of();
+
+  /** Fitness of the last evaluated generation. */
+  private float[] evaluatedFitness = new float[0];
+
   /** The current age (steps in current generation). */
   @Getter private int age;
 
@@ -39,14 +65,35 @@ public class OptimizingSimulation {
   /** The current statistics. */
   private Statistics currentStats;
 
+  /** How the surrogate screened the current generation, null without one. */
+  private SurrogateReport surrogateReport;
+
+  /** Genetic diversity of the last evaluated generation. */
+  private Diversity diversity;
+
   /**
    * Creates a new optimizing simulation.
    *
    * @param config a {@link io.jshorelark.optimizer.OptimizationConfig} object
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
+   */
+  public OptimizingSimulation(OptimizationConfig config, RandomGenerator random) {
+    this(config, random, EngineType.GENETIC_ALGORITHM);
+  }
+
+  /**
+   * Creates a new optimizing simulation evolved by the given engine.
+   *
+   * @param config a {@link io.jshorelark.optimizer.OptimizationConfig} object
+   * @param random a {@link java.util.random.RandomGenerator} object
+   * @param engineType a {@link io.jshorelark.optimizer.EngineType} object
    */
-  public OptimizingSimulation(OptimizationConfig config, Random random) {
+  public OptimizingSimulation(
+      OptimizationConfig config, RandomGenerator random, EngineType engineType) {
     this.simulation = new Simulation(config.toSimulationConfig(), random);
+    this.engineType = engineType;
+    this.engineSeed = random.nextLong();
+    this.engine = engineType.create(simulation.getConfig(), RandomGenerators.fast(engineSeed));
     this.age = 0;
     this.generation = 0;
   }
@@ -63,14 +110,15 @@ public class OptimizingSimulation {
   /**
    * Trains the simulation until a generation is complete.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.optimizer.OptimizationStatistics} object
    */
-  public OptimizationStatistics train(Random random) {
+  public OptimizationStatistics train(RandomGenerator random) {
     while (true) {
       var stats = step(random);
       if (stats != null) {
-        return OptimizationStatistics.fromGaStats(stats, generation - 1);
+        return OptimizationStatistics.fromGaStats(
+            stats, generation - 1, surrogateReport, diversity);
       }
     }
   }
@@ -78,16 +126,16 @@ public class OptimizingSimulation {
   /**
    * Steps the simulation forward. Returns statistics if a generation is complete.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.genetic.statistics.Statistics} object
    */
-  public Statistics step(Random random) {
+  public Statistics step(RandomGenerator random) {
     simulation.update(random);
     return tryEvolving(random);
   }
 
   /** Tries to evolve the population. Returns statistics if successful. */
-  private Statistics tryEvolving(Random random) {
+  private Statistics tryEvolving(RandomGenerator random) {
     age++;
     if (age >= simulation.getConfig().getSimGenerationLength()) {
       age = 0;
@@ -98,7 +146,7 @@ public class OptimizingSimulation {
   }
 
   /** Evolves the population. Returns statistics if successful. */
-  private Statistics evolve(Random random) {
+  private Statistics evolve(RandomGenerator random) {
     // Get current population
     List<BirdIndividual> individuals = new ArrayList<>();
     for (Bird bird : simulation.getBirds()) {
@@ -113,21 +161,23 @@ public class OptimizingSimulation {
       }
     }
 
-    // Create genetic algorithm
-    var algorithm =
-        GeneticAlgorithm.create(
-            new RouletteWheelSelection(),
-            new UniformCrossover(),
-            GaussianMutation.create(
-                simulation.getConfig().getGaMutChance(), simulation.getConfig().getGaMutCoeff()),
-            new BirdIndividual.Factory(simulation.getConfig()));
+    evaluatedChromosomes = new ArrayList<>(individuals.size());
+    evaluatedFitness = new float[individuals.size()];
+    for (int i = 0; i < individuals.size(); i++) {
+      evaluatedChromosomes.add(individuals.get(i).getChromosome());
+      evaluatedFitness[i] = individuals.get(i).getFitness();
+    }
+    diversity = measureDiversity();
 
     // Evolve population
-    var result = algorithm.evolve(random, individuals);
+    var result = engine.evolve(random, individuals);
     final var newPopulation = result.getFirst();
 
     // Store current stats
     currentStats = result.getSecond();
+    if (engine instanceof GeneticAlgorithm<?> algorithm && algorithm.getSurrogate() != null) {
+      surrogateReport = algorithm.getSurrogate().getLastReport();
+    }
 
     // Convert individuals back to birds and reset world
     simulation.clearBirds();
@@ -143,12 +193,111 @@ public class OptimizingSimulation {
     return currentStats;
   }
 
+  /**
+   * Measures the last evaluated generation. Pairs are sampled from a generator seeded with the
+   * generation, so measuring never shifts the run's own random stream and a restored run measures
+   * the same.
+   */
+  private Diversity measureDiversity() {
+    return Diversity.ofChromosomes(evaluatedChromosomes, RandomGenerators.fast(generation));
+  }
+
+  /**
+   * Takes a checkpoint between generations. Its chromosomes and fitness are those of the last
+   * evaluated generation; the birds about to be simulated, the foods, the engine's state and the
+   * seed its bird placement is drawn from go into its further state, so that {@link #restore}
+   * resumes the run exactly.
+   *
+   * @param random the generator driving the simulation, a {@link
+   *     io.jshorelark.genetic.random.SplitMix64}
+   * @return a {@link io.jshorelark.genetic.checkpoint.Checkpoint} object
+   * @throws java.lang.IllegalStateException if called in the middle of a generation, or the engine
+   *     cannot be checkpointed
+   * @throws java.lang.IllegalArgumentException if the state of the generator, or of the one the
+   *     simulation was created with, cannot be captured
+   */
+  public Checkpoint checkpoint(RandomGenerator random) {
+    if (age != 0) {
+      throw new IllegalStateException("Checkpoints can only be taken between generations");
+    }
+    final long randomState = RandomGenerators.state(random);
+    final var state = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(state)) {
+      out.writeUTF(engineType.name());
+      out.writeLong(engineSeed);
+      simulation.writeState(out);
+      checkpointable().writeState(out, new BirdIndividual.Codec(simulation.getConfig()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new Checkpoint(
+        generation,
+        evaluatedChromosomes,
+        evaluatedFitness,
+        new long[] {randomState},
+        state.toByteArray());
+  }
+
+  /**
+   * Restores a checkpoint taken by {@link #checkpoint} with the same engine type and config. The
+   * birds and foods are put back where they were, nothing is drawn at random, and the generator is
+   * left in the state it was in when the checkpoint was taken.
+   *
+   * @param checkpoint a {@link io.jshorelark.genetic.checkpoint.Checkpoint} object
+   * @param random the generator driving the simulation, a {@link
+   *     io.jshorelark.genetic.random.SplitMix64}
+   * @throws java.lang.IllegalArgumentException if the checkpoint wasn't taken by an optimizing
+   *     simulation with this engine type, or a generator's state cannot be restored
+   */
+  public void restore(Checkpoint checkpoint, RandomGenerator random) {
+    final long[] randomState = checkpoint.getRandomState();
+    final byte[] state = checkpoint.getState();
+    if (randomState.length != 1 || state.length == 0) {
+      throw new IllegalArgumentException("Checkpoint wasn't taken by an optimizing simulation");
+    }
+    try (var in = new DataInputStream(new ByteArrayInputStream(state))) {
+      final var type = in.readUTF();
+      if (!type.equals(engineType.name())) {
+        throw new IllegalArgumentException(
+            "Checkpoint was taken with engine " + type + ", not " + engineType);
+      }
+      final long seed = in.readLong();
+      if (seed != engineSeed) {
+        engineSeed = seed;
+        engine = engineType.create(simulation.getConfig(), RandomGenerators.fast(seed));
+      }
+      simulation.readState(in);
+      checkpointable().readState(in, new BirdIndividual.Codec(simulation.getConfig()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    RandomGenerators.restore(random, randomState[0]);
+
+    evaluatedChromosomes = checkpoint.getChromosomes();
+    evaluatedFitness = checkpoint.getFitness();
+    if (engine instanceof GeneticAlgorithm<?> algorithm && algorithm.getSurrogate() != null) {
+      surrogateReport = algorithm.getSurrogate().getLastReport();
+    }
+    generation = (int) checkpoint.getGeneration();
+    age = 0;
+    diversity = evaluatedChromosomes.isEmpty() ? null : measureDiversity();
+  }
+
+  /** Gets the engine as one whose state can be checkpointed. */
+  @SuppressWarnings("unchecked")
+  private Checkpointable<BirdIndividual> checkpointable() {
+    if (engine instanceof Checkpointable<?> checkpointable) {
+      return (Checkpointable<BirdIndividual>) checkpointable;
+    }
+    throw new IllegalStateException("Engine " + engineType + " cannot be checkpointed");
+  }
+
   /**
    * Gets the current statistics.
    *
    * @return a {@link io.jshorelark.optimizer.OptimizationStatistics} object
    */
   public OptimizationStatistics getCurrentStats() {
-    return OptimizationStatistics.fromGaStats(currentStats, generation);
+    return OptimizationStatistics.fromGaStats(currentStats, generation, surrogateReport, diversity);
   }
 }
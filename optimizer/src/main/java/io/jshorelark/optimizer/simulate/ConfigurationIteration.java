@@ -20,4 +20,7 @@ class ConfigurationIteration {
 
   /** The iteration number. */
   int iteration;
+
+  /** Seed of the generator driving this configuration's simulation. */
+  long seed;
 }
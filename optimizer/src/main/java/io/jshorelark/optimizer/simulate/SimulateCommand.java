@@ -15,7 +15,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.Optional;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TransferQueue;
@@ -27,7 +27,12 @@ import org.slf4j.MDC;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.jshorelark.genetic.convergence.ConvergenceCriterion;
+import io.jshorelark.genetic.convergence.ConvergenceMonitor;
+import io.jshorelark.genetic.convergence.FitnessMeasure;
+import io.jshorelark.genetic.random.RandomGenerators;
 import io.jshorelark.optimizer.*;
+import io.jshorelark.simulation.Config;
 
 import lombok.extern.slf4j.Slf4j;
 import picocli.CommandLine.Command;
@@ -48,6 +53,15 @@ public class SimulateCommand implements Runnable {
   /** Number of generations per simulation. */
   private static final int SIM_GENERATIONS = 30;
 
+  /** Generations every configuration runs before it may stop early. */
+  private static final int MIN_GENERATIONS = 10;
+
+  /** Generations without improvement of the best fitness after which a configuration stops. */
+  private static final int PLATEAU_WINDOW = 8;
+
+  /** Smallest improvement of the best fitness that counts. */
+  private static final float PLATEAU_TOLERANCE = 0.5f;
+
   /** Test mode iterations. */
   private static final int TEST_ITERATIONS = 2;
 
@@ -64,6 +78,31 @@ public class SimulateCommand implements Runnable {
       required = true)
   Path outputPath;
 
+  /** Root seed from which every configuration derives its own generator. */
+  @Option(
+      names = {"-s", "--seed"},
+      description = "Root random seed; runs with the same seed are reproducible")
+  Long seed;
+
+  /** The engine evolving each simulation. */
+  @Option(
+      names = {"-e", "--engine"},
+      description = "Evolution engine: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})",
+      defaultValue = "GENETIC_ALGORITHM")
+  EngineType engine = EngineType.GENETIC_ALGORITHM;
+
+  /** Whether to stop a configuration early once its fitness has converged. */
+  @Option(
+      names = {"--early-stop"},
+      description = "Stop a configuration once its fitness plateaus or its population collapses")
+  boolean earlyStop = false;
+
+  /** Best fitness at which a configuration counts as solved, if any. */
+  @Option(
+      names = {"--target-fitness"},
+      description = "Stop a configuration once its best fitness reaches this value")
+  Float targetFitness;
+
   /** Whether to run in test mode with reduced iterations. */
   boolean testMode = false;
 
@@ -76,6 +115,9 @@ public class SimulateCommand implements Runnable {
   private final LongAdder processedGenerations = new LongAdder();
   private final LongAdder queueWaitTime = new LongAdder();
 
+  private final LongAdder convergedConfigs = new LongAdder();
+  private final LongAdder skippedGenerations = new LongAdder();
+
   /**
    * {@inheritDoc}
    *
@@ -90,7 +132,9 @@ public class SimulateCommand implements Runnable {
     AtomicInteger doneSteps = new AtomicInteger(0);
 
     // Generate and shuffle configurations
-    List<ConfigurationIteration> configurations = generateConfigurations();
+    long rootSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+    log.info("Using root seed {}", rootSeed);
+    List<ConfigurationIteration> configurations = generateConfigurations(rootSeed);
     if (testMode) {
       // Use smaller subset for testing
       configurations = configurations.subList(0, Math.min(TEST_ITERATIONS, configurations.size()));
@@ -229,9 +273,10 @@ public class SimulateCommand implements Runnable {
       log.debug("Processing configuration: {}", config);
       Instant start = Instant.now();
 
-      Random random = ThreadLocalRandom.current();
-      final var sim = new OptimizingSimulation(config.getConfig(), random);
+      final var random = RandomGenerators.fast(config.getSeed());
+      final var sim = new OptimizingSimulation(config.getConfig(), random, engine);
 
+      final var monitor = convergenceMonitor();
       for (int gen = 0; gen < generations; gen++) {
         OptimizationStatistics stats = sim.train(random);
         final var optLog =
@@ -245,6 +290,16 @@ public class SimulateCommand implements Runnable {
         logQueue.put(optLog);
         doneSteps.incrementAndGet();
         processedGenerations.increment();
+
+        final var reason = monitor.flatMap(m -> m.record(stats.getGa()));
+        if (reason.isPresent()) {
+          final int skipped = generations - gen - 1;
+          log.debug("Stopping early, {}; skipping {} generations", reason.get(), skipped);
+          doneSteps.addAndGet(skipped);
+          skippedGenerations.add(skipped);
+          convergedConfigs.increment();
+          break;
+        }
       }
 
       Duration processingTime = Duration.between(start, Instant.now());
@@ -256,6 +311,26 @@ public class SimulateCommand implements Runnable {
     }
   }
 
+  /** Creates a convergence monitor for a single configuration, if early stopping is enabled. */
+  private Optional<ConvergenceMonitor> convergenceMonitor() {
+    if (!earlyStop && targetFitness == null) {
+      return Optional.empty();
+    }
+    final var criteria = new ArrayList<ConvergenceCriterion>();
+    if (targetFitness != null) {
+      criteria.add(ConvergenceCriterion.targetFitness(FitnessMeasure.MAX, targetFitness));
+    }
+    if (earlyStop) {
+      criteria.add(
+          ConvergenceCriterion.plateau(FitnessMeasure.MAX, PLATEAU_WINDOW, PLATEAU_TOLERANCE));
+      criteria.add(ConvergenceCriterion.diversityCollapse(0.01f, 3));
+    }
+    return Optional.of(
+        ConvergenceMonitor.create(
+            ConvergenceCriterion.anyOf(criteria.toArray(ConvergenceCriterion[]::new)),
+            MIN_GENERATIONS));
+  }
+
   private void cleanup(AtomicBoolean isDone, Thread logWriter, Thread progressMonitor) {
     log.info("Starting cleanup");
     isDone.set(true);
@@ -295,21 +370,37 @@ public class SimulateCommand implements Runnable {
     log.info("Simulation completed in {}", totalTime);
     log.info("Configurations processed: {}", processedConfigs.sum());
     log.info("Generations processed: {}", processedGenerations.sum());
+    if (earlyStop || targetFitness != null) {
+      log.info(
+          "Configurations stopped early: {} ({} generations skipped)",
+          convergedConfigs.sum(),
+          skippedGenerations.sum());
+    }
     log.info("Average time per configuration: {}ms", totalTime.toMillis() / totalConfigs);
     log.info(
         "Average queue wait time: {}ms",
         queueWaitTime.sum() / Math.max(1, processedGenerations.sum()));
   }
 
-  /** Generates all possible configurations using streams for better readability. */
-  private List<ConfigurationIteration> generateConfigurations() {
+  /**
+   * Generates all possible configurations using streams for better readability. Seeds are drawn in
+   * generation order, before shuffling, so each configuration's results only depend on the root
+   * seed.
+   */
+  private List<ConfigurationIteration> generateConfigurations(long rootSeed) {
+    final var seeds = RandomGenerators.fast(rootSeed);
     // Match Rust's parameter combinations exactly
     int[] brainNeurons = {2, 3, 5, 10};
     float[] eyeFovRange = {0.1f, 0.25f, 0.33f, 0.5f};
     float[] eyeFovAngle = {1.0f, 2.0f, 3.14f, 6.0f};
     int[] eyeCells = {2, 3, 6, 9, 12};
     float[] gaMutChance = {0.001f, 0.01f, 0.1f, 0.5f};
-    float[] gaMutCoeff = {0.01f, 0.1f, 0.3f, 0.5f, 1.0f};
+    // Engines that tune their own step size only need the coefficient as a starting point; none of
+    // them adapts how many genes mutate, so the chance is swept for every engine
+    float[] gaMutCoeff =
+        engine.tunesMutationStep()
+            ? new float[] {Config.builder().build().getGaMutCoeff()}
+            : new float[] {0.01f, 0.1f, 0.3f, 0.5f, 1.0f};
 
     List<ConfigurationIteration> configurations = new ArrayList<>();
 
@@ -333,7 +424,7 @@ public class SimulateCommand implements Runnable {
                           .gaMutCoeff(mutCoeff)
                           .build();
 
-                  configurations.add(new ConfigurationIteration(config, iter));
+                  configurations.add(new ConfigurationIteration(config, iter, seeds.nextLong()));
                 }
               }
             }
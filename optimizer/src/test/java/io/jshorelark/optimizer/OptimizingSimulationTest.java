@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.optimizer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.jshorelark.genetic.checkpoint.CheckpointFile;
+import io.jshorelark.genetic.random.RandomGenerators;
+import io.jshorelark.genetic.random.SplitMix64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OptimizingSimulation")
+class OptimizingSimulationTest {
+  private static final OptimizationConfig CONFIG =
+      OptimizationConfig.builder()
+          .brainNeurons(3)
+          .eyeFovRange(0.25f)
+          .eyeFovAngle(2.0f)
+          .eyeCells(3)
+          .gaMutChance(0.1f)
+          .gaMutCoeff(0.3f)
+          .build();
+
+  @ParameterizedTest
+  @EnumSource(
+      value = EngineType.class,
+      names = {"GENETIC_ALGORITHM", "CMA_ES"})
+  @DisplayName("reproduces a run from its seed")
+  void reproducesSeededRun(EngineType engine) {
+    assertThat(run(engine, 42))
+        .usingRecursiveFieldByFieldElementComparator()
+        .isEqualTo(run(engine, 42));
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = EngineType.class,
+      names = {"GENETIC_ALGORITHM", "SURROGATE_GENETIC_ALGORITHM"})
+  @DisplayName("reports surrogate screening only for engines with a surrogate")
+  void reportsSurrogate(EngineType engine) {
+    var statistics = run(engine, 42);
+
+    if (engine == EngineType.SURROGATE_GENETIC_ALGORITHM) {
+      var report = statistics.get(statistics.size() - 1).getSurrogate();
+      assertThat(report).isNotNull();
+      assertThat(report.getCandidates()).isGreaterThan(report.getEvaluated());
+    } else {
+      assertThat(statistics).allSatisfy(stats -> assertThat(stats.getSurrogate()).isNull());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(EngineType.class)
+  @DisplayName("resumes from a checkpoint exactly where the uninterrupted run went")
+  void resumesFromCheckpoint(EngineType engine, @TempDir Path directory) throws IOException {
+    var random = SplitMix64.create(42);
+    var simulation = new OptimizingSimulation(CONFIG, random, engine);
+    simulation.train(random);
+    simulation.train(random);
+    var path = directory.resolve("run.ckpt");
+    CheckpointFile.write(path, simulation.checkpoint(random));
+    var uninterrupted = new ArrayList<OptimizationStatistics>();
+    for (int generation = 0; generation < 2; generation++) {
+      uninterrupted.add(simulation.train(random));
+    }
+
+    var resumedRandom = SplitMix64.create(7);
+    var resumed = new OptimizingSimulation(CONFIG, resumedRandom, engine);
+    resumed.restore(CheckpointFile.read(path), resumedRandom);
+    var statistics = new ArrayList<OptimizationStatistics>();
+    for (int generation = 0; generation < 2; generation++) {
+      statistics.add(resumed.train(resumedRandom));
+    }
+
+    assertThat(statistics).usingRecursiveFieldByFieldElementComparator().isEqualTo(uninterrupted);
+  }
+
+  @Test
+  @DisplayName("reports the diversity of every evaluated generation")
+  void reportsDiversity() {
+    var random = RandomGenerators.fast(42);
+    var simulation = new OptimizingSimulation(CONFIG, random);
+
+    var statistics = simulation.train(random);
+
+    assertThat(statistics.getGeneVariance()).isPositive();
+    assertThat(statistics.getPairwiseDistance()).isPositive();
+    assertThat(statistics.getUniqueFraction()).isEqualTo(1.0f);
+  }
+
+  @Test
+  @DisplayName("records the last evaluated generation's fitness in a checkpoint")
+  void recordsEvaluatedFitness() {
+    var random = SplitMix64.create(42);
+    var simulation = new OptimizingSimulation(CONFIG, random);
+    var statistics = simulation.train(random);
+
+    var checkpoint = simulation.checkpoint(random);
+
+    assertThat(checkpoint.getGeneration()).isEqualTo(1);
+    assertThat(checkpoint.getChromosomes()).hasSize(simulation.getConfig().getWorldAnimals());
+    float max = Float.NEGATIVE_INFINITY;
+    for (final float fitness : checkpoint.getFitness()) {
+      max = Math.max(max, fitness);
+    }
+    assertThat(max).isEqualTo(statistics.getMaxFitness());
+  }
+
+  @Test
+  @DisplayName("refuses to checkpoint a generator whose state cannot be captured")
+  void rejectsOpaqueGenerator() {
+    var random = RandomGenerators.fast(42);
+    var simulation = new OptimizingSimulation(CONFIG, random);
+
+    assertThatThrownBy(() -> simulation.checkpoint(random))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("SplitMix64");
+  }
+
+  @Test
+  @DisplayName("refuses a checkpoint taken with another engine")
+  void rejectsOtherEngine() {
+    var random = SplitMix64.create(42);
+    var checkpoint = new OptimizingSimulation(CONFIG, random).checkpoint(random);
+    var simulation = new OptimizingSimulation(CONFIG, random, EngineType.CMA_ES);
+
+    assertThatThrownBy(() -> simulation.restore(checkpoint, random))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("GENETIC_ALGORITHM");
+  }
+
+  private static List<OptimizationStatistics> run(EngineType engine, long seed) {
+    var random = RandomGenerators.fast(seed);
+    var simulation = new OptimizingSimulation(CONFIG, random, engine);
+    var statistics = new ArrayList<OptimizationStatistics>();
+    for (int generation = 0; generation < 3; generation++) {
+      statistics.add(simulation.train(random));
+    }
+    return statistics;
+  }
+}
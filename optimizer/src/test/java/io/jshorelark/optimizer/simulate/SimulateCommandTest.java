@@ -65,4 +65,22 @@ class SimulateCommandTest {
               }
             });
   }
+
+  @Test
+  @Timeout(value = 60)
+  @DisplayName("reproduces its output from the seed")
+  void reproducesOutputFromSeed() throws IOException {
+    assertThat(runSeeded("first.jsonl")).isNotEmpty().isEqualTo(runSeeded("second.jsonl"));
+  }
+
+  /** Runs the test configurations with a fixed seed, returning the output in a stable order. */
+  private List<String> runSeeded(String fileName) throws IOException {
+    var cmd = new SimulateCommand();
+    cmd.outputPath = tempDir.resolve(fileName);
+    cmd.seed = 7L;
+    cmd.testMode = true;
+    cmd.run();
+    // Configurations run in parallel, so only the set of lines is reproducible
+    return Files.readAllLines(cmd.outputPath).stream().sorted().toList();
+  }
 }
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.simulation.ui;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -17,6 +17,7 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 
+import io.jshorelark.genetic.random.RandomGenerators;
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.events.CollisionEvent;
 import io.jshorelark.simulation.ui.audio.SoundManager;
@@ -54,11 +55,11 @@ public class SimulationApplication extends Application {
       return manager.getStatistics();
     }
 
-    public void update(Random random) {
+    public void update(RandomGenerator random) {
       manager.update(random);
     }
 
-    public void addFoods(int count, Random random) {
+    public void addFoods(int count, RandomGenerator random) {
       manager.addFoods(count, random);
     }
 
@@ -126,7 +127,7 @@ public class SimulationApplication extends Application {
   private FitnessChart fitnessChart;
 
   /** The random number generator. */
-  private final Random random = new Random();
+  private final RandomGenerator random = RandomGenerators.fast();
 
   /** The current theme (dark/light). */
   private boolean darkTheme = true;
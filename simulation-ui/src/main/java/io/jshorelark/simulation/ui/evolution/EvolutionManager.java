@@ -7,7 +7,9 @@
 package io.jshorelark.simulation.ui.evolution;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
+import io.jshorelark.genetic.statistics.GenerationHistory;
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.Simulation;
 import io.jshorelark.simulation.bird.Bird;
@@ -36,22 +38,25 @@ public class EvolutionManager {
   /** The current statistics. */
   @Getter private EvolutionStatistics statistics;
 
+  /** Fitness statistics of every completed generation. */
+  @Getter private final GenerationHistory history = GenerationHistory.create();
+
   /**
    * Creates a new evolution manager with default config.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    */
-  public EvolutionManager(Random random) {
+  public EvolutionManager(RandomGenerator random) {
     this(random, Config.getDefault());
   }
 
   /**
    * Creates a new evolution manager with the given config.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @param config a {@link io.jshorelark.simulation.Config} object
    */
-  public EvolutionManager(Random random, Config config) {
+  public EvolutionManager(RandomGenerator random, Config config) {
     this.simulation = new Simulation(config, random);
     this.generation = 0;
     this.statistics = null;
@@ -60,17 +65,18 @@ public class EvolutionManager {
   /**
    * Updates the simulation and returns statistics if a generation is complete.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.simulation.ui.evolution.EvolutionStatistics} object
    */
-  public EvolutionStatistics update(Random random) {
+  public EvolutionStatistics update(RandomGenerator random) {
     // Update simulation
     simulation.update(random);
 
     // Check if generation is complete
     boolean generationComplete = false;
-    for (Bird bird : simulation.getBirds()) {
-      if (bird.getSatiation() >= simulation.getConfig().getSimGenerationLength()) {
+    final int birdCount = simulation.getBirdCount();
+    for (int b = 0; b < birdCount; b++) {
+      if (simulation.getSatiation(b) >= simulation.getConfig().getSimGenerationLength()) {
         generationComplete = true;
         break;
       }
@@ -87,7 +93,7 @@ public class EvolutionManager {
   }
 
   /** Evolves the population. */
-  private void evolve(Random random) {
+  private void evolve(RandomGenerator random) {
     // Calculate statistics
     float minFitness = Float.MAX_VALUE;
     float maxFitness = Float.MIN_VALUE;
@@ -109,6 +115,7 @@ public class EvolutionManager {
 
     statistics =
         new EvolutionStatistics(generation, minFitness, maxFitness, avgFitness, medianFitness);
+    history.record(fitnesses);
 
     // Reset bird positions and satiation
     for (Bird bird : simulation.getBirds()) {
@@ -153,9 +160,9 @@ public class EvolutionManager {
    * Adds food items to the simulation.
    *
    * @param count a int
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    */
-  public void addFoods(int count, Random random) {
+  public void addFoods(int count, RandomGenerator random) {
     simulation.addFoods(count, random);
   }
 
@@ -53,6 +53,9 @@ public class Config {
   /** Mutation coefficient for genetic algorithm. */
   @Builder.Default float gaMutCoeff = 0.3f;
 
+  /** Number of fittest birds carried over unchanged into each generation. */
+  @Builder.Default int gaElites = 0;
+
   /** Maximum simulation speed. */
   @Builder.Default float simSpeedMax = 0.005f;
 
@@ -74,6 +77,9 @@ public class Config {
   /** Number of food items in the world. */
   @Builder.Default int worldFoods = 60;
 
+  /** Whether to simulate the world as packed coordinate arrays rather than as objects. */
+  @Builder.Default boolean worldPacked = false;
+
   /**
    * Returns the default configuration.
    *
@@ -6,11 +6,19 @@
  */
 package io.jshorelark.simulation;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
+import io.jshorelark.genetic.random.RandomGenerators;
 import io.jshorelark.simulation.bird.Bird;
 import io.jshorelark.simulation.events.CollisionEvent;
 import io.jshorelark.simulation.food.Food;
+import io.jshorelark.simulation.food.FoodGrid;
+import io.jshorelark.simulation.physics.PackedWorld;
+import io.jshorelark.simulation.physics.Vector2D;
 import io.jshorelark.simulation.physics.World;
 
 import lombok.Getter;
@@ -30,6 +38,21 @@ public class Simulation {
   /** The world being simulated. */
   private final World world;
 
+  /** Index of the world's foods by position, when the world is simulated as objects. */
+  private final FoodGrid foodGrid;
+
+  /** The world packed into arrays, when {@link Config#isWorldPacked()}. */
+  private final PackedWorld packedWorld;
+
+  /** Whether the packed world holds the latest state, leaving the world's objects stale. */
+  private boolean packed;
+
+  /**
+   * Generator used by {@link #step()}, derived from the one the simulation was created with, so it
+   * can be checkpointed whenever that one can.
+   */
+  private final RandomGenerator random;
+
   /** Sink for collision events. */
   private final Sinks.Many<CollisionEvent> collisionSink;
 
@@ -37,11 +60,17 @@ public class Simulation {
    * Creates a new simulation with the given config.
    *
    * @param config a {@link io.jshorelark.simulation.Config} object
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    */
-  public Simulation(Config config, Random random) {
+  public Simulation(Config config, RandomGenerator random) {
     this.config = config;
     this.world = World.random(config, random);
+    this.random = RandomGenerators.derive(random);
+    this.foodGrid = FoodGrid.create(config);
+    for (Food food : world.getFoods()) {
+      foodGrid.add(food.getPosition());
+    }
+    this.packedWorld = config.isWorldPacked() ? PackedWorld.create(config) : null;
     this.collisionSink = Sinks.many().multicast().onBackpressureBuffer();
   }
 
@@ -51,15 +80,57 @@ public class Simulation {
    * @return a {@link java.util.List} object
    */
   public List<Bird> getBirds() {
+    unpack();
     return world.getBirds();
   }
 
+  /**
+   * Gets the number of birds in this world. Unlike {@link #getBirds()}, this and the other indexed
+   * accessors read the packed world directly, so polling them every tick costs no copying.
+   *
+   * @return a int
+   */
+  public int getBirdCount() {
+    return packed ? packedWorld.birdCount() : world.getBirds().size();
+  }
+
+  /**
+   * Gets a bird's satiation.
+   *
+   * @param bird the bird's index
+   * @return a float
+   */
+  public float getSatiation(int bird) {
+    return packed ? packedWorld.getSatiation(bird) : world.getBirds().get(bird).getSatiation();
+  }
+
+  /**
+   * Gets a bird's position.
+   *
+   * @param bird the bird's index
+   * @return a {@link io.jshorelark.simulation.physics.Vector2D} object
+   */
+  public Vector2D getPosition(int bird) {
+    return packed ? packedWorld.getPosition(bird) : world.getBirds().get(bird).getPosition();
+  }
+
+  /**
+   * Gets a bird's rotation in radians.
+   *
+   * @param bird the bird's index
+   * @return a float
+   */
+  public float getRotation(int bird) {
+    return packed ? packedWorld.getRotation(bird) : world.getBirds().get(bird).getRotation();
+  }
+
   /**
    * Gets an unmodifiable view of the food in this world.
    *
    * @return a {@link java.util.List} object
    */
   public List<Food> getFoods() {
+    unpack();
     return world.getFoods();
   }
 
@@ -67,55 +138,82 @@ public class Simulation {
    * Adds food items to the world.
    *
    * @param count a int
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    */
-  public void addFoods(int count, Random random) {
+  public void addFoods(int count, RandomGenerator random) {
+    unpack();
     for (int i = 0; i < count; i++) {
-      world.addFood(Food.random(random));
+      final var food = Food.random(random);
+      world.addFood(food);
+      foodGrid.add(food.getPosition());
     }
   }
 
   /**
    * Updates the simulation state.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    */
-  public void update(Random random) {
+  public void update(RandomGenerator random) {
+    if (packedWorld != null) {
+      if (!packed) {
+        packedWorld.load(world);
+        packed = true;
+      }
+      packedWorld.update(random, this::onCollision);
+      return;
+    }
     processCollisions(random);
     processBrains();
     processMovements();
   }
 
-  /** Processes collisions between birds and food. */
-  private void processCollisions(Random random) {
-    List<Food> newFoods = new ArrayList<>();
-    for (Food food : world.getFoods()) {
-      boolean wasConsumed = false;
-      for (Bird bird : world.getBirds()) {
-        float distance = bird.getPosition().distance(food.getPosition());
-        float collisionThreshold = config.getBirdSize() + config.getFoodSize();
-        if (distance <= collisionThreshold) {
-          bird.eat();
-          wasConsumed = true;
-          // Emit collision event
-          onCollision(CollisionEvent.create(bird, food, distance));
-          break;
-        }
-      }
-      if (wasConsumed) {
+  /**
+   * Processes collisions between birds and food. Each bird only checks the foods around it; a food
+   * within reach of several birds is eaten by the first of them.
+   */
+  private void processCollisions(RandomGenerator random) {
+    final List<Bird> birds = world.getBirds();
+    final List<Food> foods = world.getFoods();
+    final float collisionThreshold = config.getBirdSize() + config.getFoodSize();
+    final int[] eaters = new int[foods.size()];
+    final float[] distances = new float[foods.size()];
+    Arrays.fill(eaters, -1);
+    for (int b = 0; b < birds.size(); b++) {
+      final int eater = b;
+      final Vector2D position = birds.get(b).getPosition();
+      foodGrid.forEachNear(
+          position,
+          collisionThreshold,
+          f -> {
+            if (eaters[f] < 0) {
+              float distance = position.distance(foods.get(f).getPosition());
+              if (distance <= collisionThreshold) {
+                eaters[f] = eater;
+                distances[f] = distance;
+              }
+            }
+          });
+    }
+
+    for (int f = 0; f < eaters.length; f++) {
+      if (eaters[f] >= 0) {
+        final Bird bird = birds.get(eaters[f]);
+        bird.eat();
+        // Emit collision event
+        onCollision(CollisionEvent.create(bird, foods.get(f), distances[f]));
         // Replace consumed food with new food at random position
-        newFoods.add(Food.random(random));
-      } else {
-        newFoods.add(food);
+        final Food food = Food.random(random);
+        world.replaceFood(f, food);
+        foodGrid.move(f, food.getPosition());
       }
     }
-    world.setFoods(newFoods);
   }
 
   /** Processes bird brains. */
   private void processBrains() {
     for (Bird bird : world.getBirds()) {
-      bird.processBrain(world.getFoods(), config);
+      bird.processBrain(world.getFoods(), foodGrid, config);
     }
   }
 
@@ -128,12 +226,15 @@ public class Simulation {
 
   /** Clears all birds from the world. */
   public void clearBirds() {
+    unpack();
     world.clearBirds();
   }
 
   /** Clears all foods from the world. */
   public void clearFoods() {
+    unpack();
     world.clearFoods();
+    foodGrid.clear();
   }
 
   /**
@@ -142,14 +243,72 @@ public class Simulation {
    * @param bird a {@link io.jshorelark.simulation.bird.Bird} object
    */
   public void addBird(Bird bird) {
+    unpack();
     world.addBird(bird);
   }
 
-  /** Steps the simulation forward one tick. */
+  /**
+   * Writes the state of the world and of the {@link #step()} generator, for checkpoints.
+   *
+   * @param out the output
+   * @throws java.io.IOException if the state cannot be written
+   * @throws java.lang.IllegalArgumentException if the generator's state cannot be captured
+   */
+  public void writeState(DataOutput out) throws IOException {
+    unpack();
+    out.writeLong(RandomGenerators.state(random));
+    out.writeInt(world.getBirds().size());
+    for (final Bird bird : world.getBirds()) {
+      bird.writeTo(out);
+    }
+    out.writeInt(world.getFoods().size());
+    for (final Food food : world.getFoods()) {
+      out.writeFloat(food.getPosition().x());
+      out.writeFloat(food.getPosition().y());
+    }
+  }
+
+  /**
+   * Replaces the world and the {@link #step()} generator's state with ones written by {@link
+   * #writeState}. Birds and foods are put back exactly where they were rather than placed anew.
+   *
+   * @param in the input
+   * @throws java.io.IOException if the state cannot be read
+   * @throws java.lang.IllegalArgumentException if the generator's state cannot be restored
+   */
+  public void readState(DataInput in) throws IOException {
+    RandomGenerators.restore(random, in.readLong());
+    clearBirds();
+    final int birds = in.readInt();
+    for (int i = 0; i < birds; i++) {
+      world.addBird(Bird.readFrom(in, config));
+    }
+    clearFoods();
+    final int foods = in.readInt();
+    for (int i = 0; i < foods; i++) {
+      final var food = Food.at(new Vector2D(in.readFloat(), in.readFloat()));
+      world.addFood(food);
+      foodGrid.add(food.getPosition());
+    }
+  }
+
+  /**
+   * Steps the simulation forward one tick, using a generator split from the one the simulation was
+   * created with.
+   */
   public void step() {
-    processCollisions(new Random());
-    processBrains();
-    processMovements();
+    update(random);
+  }
+
+  /**
+   * Brings the world's birds and foods up to date with the packed world, if it is ahead. Callers
+   * may then read or change the objects, so the next update packs them again.
+   */
+  private void unpack() {
+    if (packed) {
+      packedWorld.store(world);
+      packed = false;
+    }
   }
 
   /** Handles a collision event. */
@@ -6,14 +6,18 @@
  */
 package io.jshorelark.simulation.bird;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import org.apache.commons.math3.util.FastMath;
 
 import io.jshorelark.genetic.Chromosome;
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.food.Food;
+import io.jshorelark.simulation.food.FoodGrid;
 import io.jshorelark.simulation.physics.Vector2D;
 
 import lombok.AccessLevel;
@@ -49,13 +53,16 @@ public class Bird implements Cloneable {
   @Getter private final BirdBrain brain;
 
   /** The bird's satiation level. */
-  @Getter private float satiation;
+  @Getter @Setter private float satiation;
 
   /** The bird's configuration. */
   @Getter private final Config config;
 
   /** The bird's previous position. */
-  @Getter private Vector2D previousPosition;
+  @Getter @Setter private Vector2D previousPosition;
+
+  /** Total distance the bird has flown. */
+  @Getter @Setter private float distanceTravelled;
 
   /** Creates a new bird with the given parameters. */
   private Bird(
@@ -100,10 +107,10 @@ public class Bird implements Cloneable {
    * Creates a new random bird.
    *
    * @param config a {@link io.jshorelark.simulation.Config} object
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.simulation.bird.Bird} object
    */
-  public static Bird random(Config config, Random random) {
+  public static Bird random(Config config, RandomGenerator random) {
     BirdBrain brain = BirdBrain.random(random, config);
     return new Bird(
         Vector2D.random(random),
@@ -119,11 +126,11 @@ public class Bird implements Cloneable {
    * Creates a new bird from a chromosome.
    *
    * @param config a {@link io.jshorelark.simulation.Config} object
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @param chromosome a {@link io.jshorelark.genetic.Chromosome} object
    * @return a {@link io.jshorelark.simulation.bird.Bird} object
    */
-  public static Bird fromChromosome(Config config, Random random, Chromosome chromosome) {
+  public static Bird fromChromosome(Config config, RandomGenerator random, Chromosome chromosome) {
     BirdBrain brain = BirdBrain.fromChromosome(chromosome, config);
     return new Bird(
         Vector2D.random(random),
@@ -146,6 +153,81 @@ public class Bird implements Cloneable {
     return new Bird(position, rotation, vision, speed, eye, newBrain, config);
   }
 
+  /**
+   * Creates a fresh bird at this bird's position that shares its brain, so nothing is rebuilt.
+   *
+   * @return a {@link io.jshorelark.simulation.bird.Bird} object
+   */
+  public Bird respawn() {
+    return new Bird(position, rotation, vision, speed, eye, brain, config);
+  }
+
+  /**
+   * Writes the bird's genes and everything it carries from tick to tick, for checkpoints.
+   *
+   * @param out the output
+   * @throws java.io.IOException if the bird cannot be written
+   */
+  public void writeTo(DataOutput out) throws IOException {
+    final var chromosome = toChromosome();
+    out.writeInt(chromosome.length());
+    for (int i = 0; i < chromosome.length(); i++) {
+      out.writeFloat(chromosome.get(i));
+    }
+    out.writeFloat(position.x());
+    out.writeFloat(position.y());
+    out.writeFloat(previousPosition.x());
+    out.writeFloat(previousPosition.y());
+    out.writeFloat(rotation);
+    out.writeFloat(speed);
+    out.writeFloat(satiation);
+    out.writeFloat(distanceTravelled);
+    out.writeInt(vision.length);
+    for (final float cell : vision) {
+      out.writeFloat(cell);
+    }
+  }
+
+  /**
+   * Reads a bird written by {@link #writeTo}. Nothing is drawn at random, so the bird is exactly
+   * the one that was written.
+   *
+   * @param in the input
+   * @param config a {@link io.jshorelark.simulation.Config} object
+   * @return a {@link io.jshorelark.simulation.bird.Bird} object
+   * @throws java.io.IOException if the bird cannot be read
+   */
+  public static Bird readFrom(DataInput in, Config config) throws IOException {
+    final float[] genes = new float[in.readInt()];
+    for (int i = 0; i < genes.length; i++) {
+      genes[i] = in.readFloat();
+    }
+    final var position = new Vector2D(in.readFloat(), in.readFloat());
+    final var previousPosition = new Vector2D(in.readFloat(), in.readFloat());
+    final float rotation = in.readFloat();
+    final float speed = in.readFloat();
+    final float satiation = in.readFloat();
+    final float distanceTravelled = in.readFloat();
+    final float[] vision = new float[in.readInt()];
+    for (int i = 0; i < vision.length; i++) {
+      vision[i] = in.readFloat();
+    }
+
+    final var bird =
+        new Bird(
+            position,
+            rotation,
+            vision,
+            speed,
+            new BirdEye(config),
+            BirdBrain.fromChromosome(Chromosome.of(genes), config),
+            config);
+    bird.previousPosition = previousPosition;
+    bird.satiation = satiation;
+    bird.distanceTravelled = distanceTravelled;
+    return bird;
+  }
+
   /**
    * Converts this bird to a chromosome.
    *
@@ -174,22 +256,61 @@ public class Bird implements Cloneable {
   public void processBrain(List<Food> foods, Config config) {
     // Update vision
     vision = eye.processVision(position, rotation, foods);
+    steer(config);
+  }
+
+  /**
+   * Process the bird's brain based on visual input, looking only at the foods the grid places near
+   * the bird.
+   *
+   * @param foods a {@link java.util.List} object
+   * @param grid a {@link io.jshorelark.simulation.food.FoodGrid} object indexing the foods
+   * @param config a {@link io.jshorelark.simulation.Config} object
+   */
+  public void processBrain(List<Food> foods, FoodGrid grid, Config config) {
+    vision = eye.processVision(position, rotation, foods, grid);
+    steer(config);
+  }
 
+  /** Updates speed and rotation from the brain's response to the current vision. */
+  private void steer(Config config) {
     // Process brain inputs to get outputs
     float[] outputs = brain.processInputs(vision);
 
-    // Update speed - clamp between min and max
-    speed =
-        Math.min(
-            config.getSimSpeedMax(),
-            Math.max(config.getSimSpeedMin(), speed + outputs[0] * config.getSimSpeedAccel()));
+    speed = accelerate(speed, outputs[0], config);
+    rotation = turn(rotation, outputs[1], config);
+  }
 
+  /**
+   * Applies the brain's speed output to a speed.
+   *
+   * @param speed the current speed
+   * @param output the brain's speed output
+   * @param config a {@link io.jshorelark.simulation.Config} object
+   * @return the new speed
+   */
+  public static float accelerate(float speed, float output, Config config) {
+    // Clamp between min and max
+    return Math.min(
+        config.getSimSpeedMax(),
+        Math.max(config.getSimSpeedMin(), speed + output * config.getSimSpeedAccel()));
+  }
+
+  /**
+   * Applies the brain's rotation output to a rotation.
+   *
+   * @param rotation the current rotation in radians
+   * @param output the brain's rotation output
+   * @param config a {@link io.jshorelark.simulation.Config} object
+   * @return the new rotation, within [0, 2π]
+   */
+  public static float turn(float rotation, float output, Config config) {
     // Update rotation - clamp change within acceleration limits
-    float rotationChange = outputs[1] * config.getSimRotationAccel();
+    float rotationChange = output * config.getSimRotationAccel();
     rotation += rotationChange;
 
     // Normalize rotation to stay within [0, 2π]
-    rotation = (float) ((rotation + 2 * Math.PI) % (2 * Math.PI));
+    return (float) ((rotation + 2 * Math.PI) % (2 * Math.PI));
   }
 
   /** Processes the bird's movement. */
@@ -206,12 +327,13 @@ public class Bird implements Cloneable {
     float dx = (float) FastMath.cos(mathAngle) * speed;
     float dy = (float) FastMath.sin(mathAngle) * speed;
     Vector2D moveVector = new Vector2D(dx, dy);
+    distanceTravelled += speed;
 
     // Add the movement vector to current position
     position = position.add(moveVector);
 
     // Wrap position around world boundaries
-    position = new Vector2D(wrap(position.x()), wrap(position.y()));
+    position = new Vector2D(wrapCoordinate(position.x()), wrapCoordinate(position.y()));
   }
 
   /**
@@ -229,8 +351,13 @@ public class Bird implements Cloneable {
     satiation++;
   }
 
-  /** Wraps a coordinate around world boundaries. */
-  private float wrap(float value) {
+  /**
+   * Wraps a coordinate around world boundaries.
+   *
+   * @param value a coordinate
+   * @return the coordinate within [0, 1]
+   */
+  public static float wrapCoordinate(float value) {
     if (value < 0) {
       return 1 + (value % 1);
     } else if (value > 1) {
@@ -6,7 +6,8 @@
  */
 package io.jshorelark.simulation.bird;
 
-import java.util.Random;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.genetic.Chromosome;
 import io.jshorelark.neural.LayeredNetwork;
@@ -20,29 +21,56 @@ import io.jshorelark.simulation.Config;
  * @version $Id: $Id
  */
 public final class BirdBrain {
+  private static final float[] NO_STRATEGY = new float[0];
+
   private final LayeredNetwork network;
   private final Config config;
 
+  /** Strategy parameters carried after the weights, such as a self-adaptive step size. */
+  private final float[] strategy;
+
   /** Creates a new bird brain with the given network and config. */
   private BirdBrain(LayeredNetwork network, Config config) {
+    this(network, config, NO_STRATEGY);
+  }
+
+  /** Creates a new bird brain with the given network, config and strategy parameters. */
+  private BirdBrain(LayeredNetwork network, Config config, float[] strategy) {
     this.network = network;
     this.config = config;
+    this.strategy = strategy;
+  }
+
+  /**
+   * Gets the number of network weights of a brain built for the given config.
+   *
+   * @param config a {@link io.jshorelark.simulation.Config} object
+   * @return a int
+   */
+  public static int weightCount(Config config) {
+    final int[] topology = config.getBrainTopology();
+    int count = 0;
+    for (int i = 0; i < topology.length - 1; i++) {
+      count += (topology[i] + 1) * topology[i + 1];
+    }
+    return count;
   }
 
   /**
    * Creates a new random bird brain.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @param config a {@link io.jshorelark.simulation.Config} object
    * @return a {@link io.jshorelark.simulation.bird.BirdBrain} object
    */
-  public static BirdBrain random(Random random, Config config) {
+  public static BirdBrain random(RandomGenerator random, Config config) {
     int[] topology = {config.getEyeCells(), config.getBrainNeurons(), 2};
     return new BirdBrain(NeuralNetwork.random(random, topology), config);
   }
 
   /**
-   * Creates a new bird brain from a chromosome.
+   * Creates a new bird brain from a chromosome. Genes past the network weights are kept as strategy
+   * parameters and handed back by {@link #toChromosome()}.
    *
    * @param chromosome a {@link io.jshorelark.genetic.Chromosome} object
    * @param config a {@link io.jshorelark.simulation.Config} object
@@ -50,7 +78,15 @@ public final class BirdBrain {
    */
   public static BirdBrain fromChromosome(Chromosome chromosome, Config config) {
     int[] topology = {config.getEyeCells(), config.getBrainNeurons(), 2};
-    return new BirdBrain(NeuralNetwork.fromWeights(topology, chromosome.getGenes()), config);
+    float[] genes = chromosome.getGenes();
+    int weights = weightCount(config);
+    if (genes.length <= weights) {
+      return new BirdBrain(NeuralNetwork.fromWeights(topology, genes), config);
+    }
+    return new BirdBrain(
+        NeuralNetwork.fromWeights(topology, Arrays.copyOf(genes, weights)),
+        config,
+        Arrays.copyOfRange(genes, weights, genes.length));
   }
 
   /**
@@ -96,6 +132,12 @@ public final class BirdBrain {
    * @return a {@link io.jshorelark.genetic.Chromosome} object
    */
   public Chromosome toChromosome() {
-    return Chromosome.of(network.weights());
+    float[] weights = network.weights();
+    if (strategy.length == 0) {
+      return Chromosome.of(weights);
+    }
+    float[] genes = Arrays.copyOf(weights, weights.length + strategy.length);
+    System.arraycopy(strategy, 0, genes, weights.length, strategy.length);
+    return Chromosome.of(genes);
   }
 }
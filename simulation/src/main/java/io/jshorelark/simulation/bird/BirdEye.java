@@ -6,12 +6,14 @@
  */
 package io.jshorelark.simulation.bird;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.commons.math3.util.FastMath;
 
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.food.Food;
+import io.jshorelark.simulation.food.FoodGrid;
 import io.jshorelark.simulation.physics.Vector2D;
 
 /**
@@ -53,40 +55,95 @@ public class BirdEye {
     float[] vision = new float[cells];
 
     for (Food food : foods) {
-      // Calculate vector to food
-      Vector2D vec = food.getPosition().subtract(position);
-      float dist = vec.length();
+      see(vision, position, rotation, food);
+    }
+
+    return vision;
+  }
+
+  /**
+   * Processes vision like {@link #processVision(Vector2D, float, List)}, but only looks at the
+   * foods that the grid places near the bird.
+   *
+   * @param position a {@link io.jshorelark.simulation.physics.Vector2D} object
+   * @param rotation a float
+   * @param foods a {@link java.util.List} object
+   * @param grid a {@link io.jshorelark.simulation.food.FoodGrid} object indexing the foods
+   * @return an array of {@link float} objects
+   */
+  public float[] processVision(Vector2D position, float rotation, List<Food> foods, FoodGrid grid) {
+    float[] vision = new float[cells];
 
-      // Skip if food is out of range
-      if (dist > fovRange) {
-        continue;
-      }
+    grid.forEachNear(
+        position, fovRange, index -> see(vision, position, rotation, foods.get(index)));
 
-      // Calculate angle to food relative to X axis (right)
-      // In Rust, atan2(y, x) gives angle from positive X axis, CCW
-      float angle = (float) FastMath.atan2(vec.x(), vec.y());
+    return vision;
+  }
 
-      // Adjust for bird's rotation (also CCW from X axis)
-      angle -= rotation;
+  /**
+   * Processes vision like {@link #processVision(Vector2D, float, List, FoodGrid)}, reading
+   * positions from coordinate arrays and writing into a caller-owned vision array.
+   *
+   * @param x the bird's x coordinate
+   * @param y the bird's y coordinate
+   * @param rotation the bird's rotation
+   * @param foodX x coordinate of each food
+   * @param foodY y coordinate of each food
+   * @param grid a {@link io.jshorelark.simulation.food.FoodGrid} object indexing the foods
+   * @param vision receives the vision; at least as long as the number of cells
+   */
+  public void processVision(
+      float x,
+      float y,
+      float rotation,
+      float[] foodX,
+      float[] foodY,
+      FoodGrid grid,
+      float[] vision) {
+    Arrays.fill(vision, 0, cells, 0.0f);
+
+    grid.forEachNear(
+        x, y, fovRange, index -> see(vision, foodX[index] - x, foodY[index] - y, rotation));
+  }
 
-      // Wrap to [-π, π]
-      angle = wrap(angle, -(float) FastMath.PI, (float) FastMath.PI);
+  /** Adds a food to the vision cell it falls in, if the bird can see it. */
+  private void see(float[] vision, Vector2D position, float rotation, Food food) {
+    // Calculate vector to food
+    Vector2D vec = food.getPosition().subtract(position);
+    see(vision, vec.x(), vec.y(), rotation);
+  }
 
-      // Skip if food is outside field of view
-      if (angle < -fovAngle / 2 || angle > fovAngle / 2) {
-        continue;
-      }
+  /** Adds a food at the given offset to the vision cell it falls in, if the bird can see it. */
+  private void see(float[] vision, float dx, float dy, float rotation) {
+    float dist = (float) Math.sqrt(dx * dx + dy * dy);
 
-      // Map angle to cell
-      angle += fovAngle / 2;
-      float cellF = angle / fovAngle * cells;
-      int cell = Math.min((int) cellF, cells - 1);
+    // Skip if food is out of range
+    if (dist > fovRange) {
+      return;
+    }
+
+    // Calculate angle to food relative to X axis (right)
+    // In Rust, atan2(y, x) gives angle from positive X axis, CCW
+    float angle = (float) FastMath.atan2(dx, dy);
+
+    // Adjust for bird's rotation (also CCW from X axis)
+    angle -= rotation;
 
-      // Add food strength to cell based on distance
-      vision[cell] += (fovRange - dist) / fovRange;
+    // Wrap to [-π, π]
+    angle = wrap(angle, -(float) FastMath.PI, (float) FastMath.PI);
+
+    // Skip if food is outside field of view
+    if (angle < -fovAngle / 2 || angle > fovAngle / 2) {
+      return;
     }
 
-    return vision;
+    // Map angle to cell
+    angle += fovAngle / 2;
+    float cellF = angle / fovAngle * cells;
+    int cell = Math.min((int) cellF, cells - 1);
+
+    // Add food strength to cell based on distance
+    vision[cell] += (fovRange - dist) / fovRange;
   }
 
   /** Wraps an angle to the range [min, max]. */
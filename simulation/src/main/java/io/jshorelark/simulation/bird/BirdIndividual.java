@@ -6,8 +6,16 @@
  */
 package io.jshorelark.simulation.bird;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.random.RandomGenerator;
+
 import io.jshorelark.genetic.Chromosome;
 import io.jshorelark.genetic.Individual;
+import io.jshorelark.genetic.checkpoint.IndividualCodec;
+import io.jshorelark.genetic.novelty.BehaviorCharacterization;
+import io.jshorelark.genetic.random.RandomGenerators;
 import io.jshorelark.simulation.Config;
 
 import lombok.Getter;
@@ -19,6 +27,13 @@ import lombok.Getter;
  * @version $Id: $Id
  */
 public class BirdIndividual implements Individual {
+  /** Describes a bird individual by where it ended the generation, for novelty search. */
+  public static final BehaviorCharacterization FINAL_POSITION =
+      individual -> {
+        final var position = ((BirdIndividual) individual).bird.getPosition();
+        return new float[] {position.x(), position.y()};
+      };
+
   /** The bird being wrapped. */
   private final Bird bird;
 
@@ -42,6 +57,16 @@ public class BirdIndividual implements Individual {
     return bird.getSatiation();
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Trades food eaten against the distance flown to find it.
+   */
+  @Override
+  public float[] getObjectives() {
+    return new float[] {bird.getSatiation(), -bird.getDistanceTravelled()};
+  }
+
   /** {@inheritDoc} */
   @Override
   public Chromosome getChromosome() {
@@ -49,15 +74,16 @@ public class BirdIndividual implements Individual {
   }
 
   /**
-   * Creates a new individual from a chromosome.
+   * Creates a new individual from a chromosome, placing its bird with the given generator.
    *
    * @param chromosome a {@link io.jshorelark.genetic.Chromosome} object
    * @param config a {@link io.jshorelark.simulation.Config} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.simulation.bird.BirdIndividual} object
    */
-  public static BirdIndividual fromChromosome(Chromosome chromosome, Config config) {
-    return new BirdIndividual(
-        Bird.fromChromosome(config, new java.util.Random(), chromosome), config);
+  public static BirdIndividual fromChromosome(
+      Chromosome chromosome, Config config, RandomGenerator random) {
+    return new BirdIndividual(Bird.fromChromosome(config, random, chromosome), config);
   }
 
   /**
@@ -71,25 +97,66 @@ public class BirdIndividual implements Individual {
   }
 
   /**
-   * Converts this individual back to a bird.
+   * Converts this individual back to a bird. The bird's brain already encodes the chromosome, so it
+   * is shared rather than rebuilt; this keeps elites carried over by reference free.
    *
    * @return a {@link io.jshorelark.simulation.bird.Bird} object
    */
   public Bird toBird() {
-    return bird.withChromosome(getChromosome());
+    return bird.respawn();
   }
 
-  /** Factory for creating BirdIndividuals from chromosomes. */
+  /**
+   * Writes and reads individuals with their whole bird, so restored ones resume where they were.
+   */
+  public static class Codec implements IndividualCodec<BirdIndividual> {
+    private final Config config;
+
+    /**
+     * Creates a new codec.
+     *
+     * @param config a {@link io.jshorelark.simulation.Config} object
+     */
+    public Codec(Config config) {
+      this.config = config;
+    }
+
+    @Override
+    public void write(DataOutput out, BirdIndividual individual) throws IOException {
+      individual.bird.writeTo(out);
+    }
+
+    @Override
+    public BirdIndividual read(DataInput in) throws IOException {
+      return new BirdIndividual(Bird.readFrom(in, config), config);
+    }
+  }
+
+  /**
+   * Factory for creating BirdIndividuals from chromosomes. Each bird is placed by a generator
+   * seeded from the factory's seed and the bird's genes, so placement doesn't depend on the order
+   * in which birds are created and the factory can be shared between threads.
+   */
   public static class Factory implements Individual.Factory<BirdIndividual> {
     private final Config config;
 
-    public Factory(Config config) {
+    private final long seed;
+
+    /**
+     * Creates a new factory.
+     *
+     * @param config a {@link io.jshorelark.simulation.Config} object
+     * @param random generator the placement seed is drawn from, usually the run's generator
+     */
+    public Factory(Config config, RandomGenerator random) {
       this.config = config;
+      this.seed = random.nextLong();
     }
 
     @Override
     public BirdIndividual create(Chromosome chromosome) {
-      return fromChromosome(chromosome, config);
+      return fromChromosome(
+          chromosome, config, RandomGenerators.fast(seed ^ chromosome.contentHash()));
     }
   }
 }
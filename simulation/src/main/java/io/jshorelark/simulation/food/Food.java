@@ -6,7 +6,7 @@
  */
 package io.jshorelark.simulation.food;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.simulation.physics.Vector2D;
 
@@ -44,7 +44,7 @@ public class Food {
    * @param random the random number generator
    * @return the food
    */
-  public static Food random(Random random) {
+  public static Food random(RandomGenerator random) {
     return at(Vector2D.random(random));
   }
 }
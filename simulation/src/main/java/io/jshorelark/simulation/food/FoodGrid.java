@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.simulation.food;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import io.jshorelark.simulation.Config;
+import io.jshorelark.simulation.physics.Vector2D;
+
+/**
+ * Uniform grid over the unit world that buckets foods by position, so a bird only has to look at
+ * the foods in the cells around it instead of at every food.
+ *
+ * <p>Foods are identified by their index in the world's food list and are added in that order. The
+ * grid wraps around the world's edges like birds do, so any position maps to a cell. Moving a food,
+ * as when it is eaten and respawns, only touches its old and new cells.
+ *
+ * <p>Each cell keeps its foods sorted by index, so the order in which a query visits foods depends
+ * only on where they are, not on how they got there. Summing what a bird sees in that order gives
+ * the same result however the grid was built.
+ *
+ * <p>Queries return candidates: every food within the radius, and possibly some just outside it.
+ * Callers keep their own exact distance check.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class FoodGrid {
+  /** Cells along each axis. */
+  private final int cells;
+
+  /** Sorted food indices in each cell; only the first {@link #counts} entries are used. */
+  private final int[][] members;
+
+  /** Number of foods in each cell. */
+  private final int[] counts;
+
+  /** Cell of each food. */
+  private int[] cellOf = new int[16];
+
+  /** Number of foods. */
+  private int size;
+
+  /** Private constructor - use {@link #create} instead. */
+  private FoodGrid(int cells) {
+    this.cells = cells;
+    this.members = new int[cells * cells][];
+    this.counts = new int[cells * cells];
+  }
+
+  /**
+   * Creates an empty grid with cells of at least the given size.
+   *
+   * @param cellSize minimum cell size, as a fraction of the world
+   * @return a new FoodGrid instance
+   * @throws java.lang.IllegalArgumentException if the cell size is not positive
+   */
+  public static FoodGrid create(float cellSize) {
+    if (!(cellSize > 0)) {
+      throw new IllegalArgumentException("Cell size must be positive");
+    }
+    return new FoodGrid(Math.max(1, (int) (1 / cellSize)));
+  }
+
+  /**
+   * Creates an empty grid sized for a configuration. Cells are half the eye's range, which keeps
+   * the area scanned by a vision query close to the circle it covers, but never smaller than the
+   * collision threshold.
+   *
+   * @param config the configuration
+   * @return a new FoodGrid instance
+   */
+  public static FoodGrid create(Config config) {
+    return create(
+        Math.max(config.getEyeFovRange() / 2, config.getBirdSize() + config.getFoodSize()));
+  }
+
+  /**
+   * Adds the next food.
+   *
+   * @param position the food's position
+   * @return the food's index
+   */
+  public int add(Vector2D position) {
+    return add(position.x(), position.y());
+  }
+
+  /**
+   * Adds the next food.
+   *
+   * @param x the food's x coordinate
+   * @param y the food's y coordinate
+   * @return the food's index
+   */
+  public int add(float x, float y) {
+    if (size == cellOf.length) {
+      cellOf = Arrays.copyOf(cellOf, size * 2);
+    }
+    insert(size, cellOf(x, y));
+    return size++;
+  }
+
+  /**
+   * Moves a food to a new position.
+   *
+   * @param index the food's index
+   * @param position the food's new position
+   * @throws java.lang.IllegalArgumentException if there is no such food
+   */
+  public void move(int index, Vector2D position) {
+    move(index, position.x(), position.y());
+  }
+
+  /**
+   * Moves a food to a new position.
+   *
+   * @param index the food's index
+   * @param x the food's new x coordinate
+   * @param y the food's new y coordinate
+   * @throws java.lang.IllegalArgumentException if there is no such food
+   */
+  public void move(int index, float x, float y) {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException("No such food: " + index);
+    }
+    final int cell = cellOf(x, y);
+    if (cell != cellOf[index]) {
+      remove(index);
+      insert(index, cell);
+    }
+  }
+
+  /** Removes every food. */
+  public void clear() {
+    Arrays.fill(counts, 0);
+    size = 0;
+  }
+
+  /**
+   * Gets the number of foods.
+   *
+   * @return a int
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Calls the action with the index of every food that may lie within a radius of a point.
+   *
+   * @param center the point
+   * @param radius the radius
+   * @param action receives each candidate once, cell by cell and by index within a cell
+   */
+  public void forEachNear(Vector2D center, float radius, IntConsumer action) {
+    forEachNear(center.x(), center.y(), radius, action);
+  }
+
+  /**
+   * Calls the action with the index of every food that may lie within a radius of a point.
+   *
+   * @param x the point's x coordinate
+   * @param y the point's y coordinate
+   * @param radius the radius
+   * @param action receives each candidate once, cell by cell and by index within a cell
+   */
+  public void forEachNear(float x, float y, float radius, IntConsumer action) {
+    int fromX = (int) Math.floor((x - radius) * cells);
+    int toX = (int) Math.floor((x + radius) * cells);
+    int fromY = (int) Math.floor((y - radius) * cells);
+    int toY = (int) Math.floor((y + radius) * cells);
+    // Spans covering the whole axis would visit cells twice once wrapped
+    if (toX - fromX + 1 >= cells) {
+      fromX = 0;
+      toX = cells - 1;
+    }
+    if (toY - fromY + 1 >= cells) {
+      fromY = 0;
+      toY = cells - 1;
+    }
+    for (int cellY = fromY; cellY <= toY; cellY++) {
+      final int row = Math.floorMod(cellY, cells) * cells;
+      for (int cellX = fromX; cellX <= toX; cellX++) {
+        final int cell = row + Math.floorMod(cellX, cells);
+        final int[] indices = members[cell];
+        for (int i = 0; i < counts[cell]; i++) {
+          action.accept(indices[i]);
+        }
+      }
+    }
+  }
+
+  /** Cell containing a position, wrapping around the world's edges. */
+  private int cellOf(float x, float y) {
+    final int cellX = Math.floorMod((int) Math.floor(x * cells), cells);
+    final int cellY = Math.floorMod((int) Math.floor(y * cells), cells);
+    return cellY * cells + cellX;
+  }
+
+  private void insert(int index, int cell) {
+    if (members[cell] == null) {
+      members[cell] = new int[4];
+    } else if (counts[cell] == members[cell].length) {
+      members[cell] = Arrays.copyOf(members[cell], counts[cell] * 2);
+    }
+    final int[] indices = members[cell];
+    int slot = counts[cell]++;
+    while (slot > 0 && indices[slot - 1] > index) {
+      indices[slot] = indices[slot - 1];
+      slot--;
+    }
+    indices[slot] = index;
+    cellOf[index] = cell;
+  }
+
+  /** Removes a food from its cell, closing the gap it leaves. */
+  private void remove(int index) {
+    final int cell = cellOf[index];
+    final int[] indices = members[cell];
+    final int slot = Arrays.binarySearch(indices, 0, counts[cell], index);
+    System.arraycopy(indices, slot + 1, indices, slot, --counts[cell] - slot);
+  }
+}
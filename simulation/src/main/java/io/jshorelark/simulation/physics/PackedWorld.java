@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.simulation.physics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
+
+import org.apache.commons.math3.util.FastMath;
+
+import io.jshorelark.simulation.Config;
+import io.jshorelark.simulation.bird.Bird;
+import io.jshorelark.simulation.events.CollisionEvent;
+import io.jshorelark.simulation.food.Food;
+import io.jshorelark.simulation.food.FoodGrid;
+
+/**
+ * A world's birds and foods packed into parallel primitive arrays, one per field, so a tick walks
+ * each field linearly instead of chasing a {@link Bird} and a {@link Vector2D} per bird.
+ *
+ * <p>The packed world is loaded from a {@link World} and stored back into it; in between, the
+ * world's birds and foods are stale. Each bird's brain and eye stay with its {@link Bird}, which
+ * the packed world only reads. A tick behaves exactly like updating the objects: collisions, then
+ * brains, then movement, with the same random draws.
+ *
+ * @author Jose
+ * @version $Id: $Id
+ */
+public final class PackedWorld {
+  /** The configuration. */
+  private final Config config;
+
+  /** Number of eye cells. */
+  private final int cells;
+
+  /** Birds whose brains and eyes are used. */
+  private Bird[] birds = new Bird[0];
+
+  /** Bird x coordinates. */
+  private float[] x = new float[0];
+
+  /** Bird y coordinates. */
+  private float[] y = new float[0];
+
+  /** Bird x coordinates before the last movement. */
+  private float[] previousX = new float[0];
+
+  /** Bird y coordinates before the last movement. */
+  private float[] previousY = new float[0];
+
+  /** Bird rotations in radians. */
+  private float[] rotation = new float[0];
+
+  /** Bird speeds. */
+  private float[] speed = new float[0];
+
+  /** Bird satiation levels. */
+  private float[] satiation = new float[0];
+
+  /** Total distance each bird has flown. */
+  private float[] distanceTravelled = new float[0];
+
+  /** Vision of every bird, {@link #cells} values per bird. */
+  private float[] vision = new float[0];
+
+  /** Number of birds. */
+  private int birdCount;
+
+  /** Food x coordinates. */
+  private float[] foodX = new float[0];
+
+  /** Food y coordinates. */
+  private float[] foodY = new float[0];
+
+  /** Foods that respawned since the world was loaded. */
+  private boolean[] respawned = new boolean[0];
+
+  /** Number of foods. */
+  private int foodCount;
+
+  /** Index of the foods by position. */
+  private final FoodGrid foodGrid;
+
+  /** Vision of the bird being processed. */
+  private final float[] sight;
+
+  /** Bird eating each food this tick, or -1. */
+  private int[] eaters = new int[0];
+
+  /** Distance between each food and the bird eating it this tick. */
+  private float[] distances = new float[0];
+
+  /** Distance within which a bird eats a food. */
+  private final float collisionThreshold;
+
+  /** Bird whose reach is being searched for food. */
+  private int eater;
+
+  /** Offers each food near {@link #eater} to it, without allocating per bird. */
+  private final IntConsumer offerFood = this::offerFood;
+
+  /** Private constructor - use {@link #create} instead. */
+  private PackedWorld(Config config) {
+    this.config = config;
+    this.cells = config.getEyeCells();
+    this.foodGrid = FoodGrid.create(config);
+    this.sight = new float[cells];
+    this.collisionThreshold = config.getBirdSize() + config.getFoodSize();
+  }
+
+  /**
+   * Creates an empty packed world.
+   *
+   * @param config the configuration
+   * @return a new PackedWorld instance
+   */
+  public static PackedWorld create(Config config) {
+    return new PackedWorld(config);
+  }
+
+  /**
+   * Loads the state of a world's birds and foods, reusing the arrays when they are large enough.
+   *
+   * @param world the world
+   */
+  public void load(World world) {
+    final List<Bird> worldBirds = world.getBirds();
+    birdCount = worldBirds.size();
+    if (birds.length < birdCount) {
+      birds = new Bird[birdCount];
+      x = new float[birdCount];
+      y = new float[birdCount];
+      previousX = new float[birdCount];
+      previousY = new float[birdCount];
+      rotation = new float[birdCount];
+      speed = new float[birdCount];
+      satiation = new float[birdCount];
+      distanceTravelled = new float[birdCount];
+      vision = new float[birdCount * cells];
+    }
+    for (int b = 0; b < birdCount; b++) {
+      final Bird bird = worldBirds.get(b);
+      birds[b] = bird;
+      x[b] = bird.getPosition().x();
+      y[b] = bird.getPosition().y();
+      previousX[b] = bird.getPreviousPosition().x();
+      previousY[b] = bird.getPreviousPosition().y();
+      rotation[b] = bird.getRotation();
+      speed[b] = bird.getSpeed();
+      satiation[b] = bird.getSatiation();
+      distanceTravelled[b] = bird.getDistanceTravelled();
+      System.arraycopy(bird.getVision(), 0, vision, b * cells, cells);
+    }
+
+    final List<Food> worldFoods = world.getFoods();
+    foodCount = worldFoods.size();
+    if (foodX.length < foodCount) {
+      foodX = new float[foodCount];
+      foodY = new float[foodCount];
+      respawned = new boolean[foodCount];
+      eaters = new int[foodCount];
+      distances = new float[foodCount];
+    }
+    Arrays.fill(respawned, false);
+    foodGrid.clear();
+    for (int f = 0; f < foodCount; f++) {
+      final Vector2D position = worldFoods.get(f).getPosition();
+      foodX[f] = position.x();
+      foodY[f] = position.y();
+      foodGrid.add(foodX[f], foodY[f]);
+    }
+  }
+
+  /**
+   * Stores the packed state back into the world it was loaded from, bringing its birds and foods up
+   * to date.
+   *
+   * @param world the world
+   * @throws java.lang.IllegalArgumentException if the world's birds or foods were added or removed
+   *     since it was loaded
+   */
+  public void store(World world) {
+    final List<Bird> worldBirds = world.getBirds();
+    if (worldBirds.size() != birdCount || world.getFoods().size() != foodCount) {
+      throw new IllegalArgumentException("World changed since it was packed");
+    }
+    for (int b = 0; b < birdCount; b++) {
+      final Bird bird = worldBirds.get(b);
+      bird.setPosition(new Vector2D(x[b], y[b]));
+      bird.setPreviousPosition(new Vector2D(previousX[b], previousY[b]));
+      bird.setRotation(rotation[b]);
+      bird.setSpeed(speed[b]);
+      bird.setSatiation(satiation[b]);
+      bird.setDistanceTravelled(distanceTravelled[b]);
+      bird.setVision(Arrays.copyOfRange(vision, b * cells, (b + 1) * cells));
+    }
+    for (int f = 0; f < foodCount; f++) {
+      if (respawned[f]) {
+        world.replaceFood(f, Food.at(new Vector2D(foodX[f], foodY[f])));
+        respawned[f] = false;
+      }
+    }
+  }
+
+  /**
+   * Gets the number of birds.
+   *
+   * @return a int
+   */
+  public int birdCount() {
+    return birdCount;
+  }
+
+  /**
+   * Gets the number of foods.
+   *
+   * @return a int
+   */
+  public int foodCount() {
+    return foodCount;
+  }
+
+  /**
+   * Gets a bird's satiation without storing the world.
+   *
+   * @param bird the bird's index
+   * @return a float
+   */
+  public float getSatiation(int bird) {
+    return satiation[checkBird(bird)];
+  }
+
+  /**
+   * Gets a bird's position without storing the world.
+   *
+   * @param bird the bird's index
+   * @return a {@link io.jshorelark.simulation.physics.Vector2D} object
+   */
+  public Vector2D getPosition(int bird) {
+    checkBird(bird);
+    return new Vector2D(x[bird], y[bird]);
+  }
+
+  /**
+   * Gets a bird's rotation without storing the world.
+   *
+   * @param bird the bird's index
+   * @return a float
+   */
+  public float getRotation(int bird) {
+    return rotation[checkBird(bird)];
+  }
+
+  private int checkBird(int bird) {
+    if (bird < 0 || bird >= birdCount) {
+      throw new IndexOutOfBoundsException("No such bird: " + bird);
+    }
+    return bird;
+  }
+
+  /**
+   * Advances the world one tick.
+   *
+   * @param random the random number generator used to respawn eaten food
+   * @param onCollision receives an event for every food eaten, in food order
+   */
+  public void update(RandomGenerator random, Consumer<CollisionEvent> onCollision) {
+    processCollisions(random, onCollision);
+    processBrains();
+    processMovements();
+  }
+
+  /** Lets each food be eaten by the first bird within reach, then respawns it. */
+  private void processCollisions(RandomGenerator random, Consumer<CollisionEvent> onCollision) {
+    Arrays.fill(eaters, 0, foodCount, -1);
+    for (eater = 0; eater < birdCount; eater++) {
+      foodGrid.forEachNear(x[eater], y[eater], collisionThreshold, offerFood);
+    }
+
+    for (int f = 0; f < foodCount; f++) {
+      final int b = eaters[f];
+      if (b >= 0) {
+        satiation[b]++;
+        onCollision.accept(
+            CollisionEvent.builder()
+                .birdPosition(new Vector2D(x[b], y[b]))
+                .birdRotation(rotation[b])
+                .birdSatiation(satiation[b])
+                .foodPosition(new Vector2D(foodX[f], foodY[f]))
+                .distance(distances[f])
+                .build());
+        foodX[f] = random.nextFloat();
+        foodY[f] = random.nextFloat();
+        respawned[f] = true;
+        foodGrid.move(f, foodX[f], foodY[f]);
+      }
+    }
+  }
+
+  /** Lets {@link #eater} eat a food unless an earlier bird already did. */
+  private void offerFood(int f) {
+    if (eaters[f] < 0) {
+      final float dx = x[eater] - foodX[f];
+      final float dy = y[eater] - foodY[f];
+      final float distance = (float) Math.sqrt(dx * dx + dy * dy);
+      if (distance <= collisionThreshold) {
+        eaters[f] = eater;
+        distances[f] = distance;
+      }
+    }
+  }
+
+  /** Feeds each bird's vision to its brain and steers it. */
+  private void processBrains() {
+    for (int b = 0; b < birdCount; b++) {
+      birds[b].getEye().processVision(x[b], y[b], rotation[b], foodX, foodY, foodGrid, sight);
+      System.arraycopy(sight, 0, vision, b * cells, cells);
+      final float[] outputs = birds[b].getBrain().processInputs(sight);
+      speed[b] = Bird.accelerate(speed[b], outputs[0], config);
+      rotation[b] = Bird.turn(rotation[b], outputs[1], config);
+    }
+  }
+
+  /** Moves each bird along its heading, wrapping around the world's edges. */
+  private void processMovements() {
+    System.arraycopy(x, 0, previousX, 0, birdCount);
+    System.arraycopy(y, 0, previousY, 0, birdCount);
+    for (int b = 0; b < birdCount; b++) {
+      // Standard math angle (CCW from X) of the model space rotation (CCW from Y)
+      final float mathAngle = (float) Math.PI / 2 - rotation[b];
+      x[b] = Bird.wrapCoordinate(x[b] + (float) FastMath.cos(mathAngle) * speed[b]);
+      y[b] = Bird.wrapCoordinate(y[b] + (float) FastMath.sin(mathAngle) * speed[b]);
+      distanceTravelled[b] += speed[b];
+    }
+  }
+}
@@ -6,7 +6,7 @@
  */
 package io.jshorelark.simulation.physics;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import lombok.Value;
 
@@ -48,10 +48,10 @@ public class Vector2D implements Cloneable {
   /**
    * Creates a new vector with random coordinates between 0 and 1.
    *
-   * @param random a {@link java.util.Random} object
+   * @param random a {@link java.util.random.RandomGenerator} object
    * @return a {@link io.jshorelark.simulation.physics.Vector2D} object
    */
-  public static Vector2D random(Random random) {
+  public static Vector2D random(RandomGenerator random) {
     return new Vector2D(random.nextFloat(), random.nextFloat());
   }
 
@@ -10,7 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.bird.Bird;
@@ -49,7 +49,7 @@ public class World {
    * @param random the random number generator
    * @return the world
    */
-  public static World random(Config config, Random random) {
+  public static World random(Config config, RandomGenerator random) {
     World world = builder().config(config).build();
 
     // Add initial birds
@@ -103,6 +103,16 @@ public class World {
     foods.add(food);
   }
 
+  /**
+   * Replaces a food item.
+   *
+   * @param index the index of the food to replace
+   * @param food the new food
+   */
+  public void replaceFood(int index, Food food) {
+    foods.set(index, food);
+  }
+
   /**
    * Gets an unmodifiable view of the birds in this world.
    *
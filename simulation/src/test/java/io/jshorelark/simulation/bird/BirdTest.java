@@ -6,6 +6,7 @@
  */
 package io.jshorelark.simulation.bird;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -16,6 +17,7 @@ import io.jshorelark.genetic.Chromosome;
 import io.jshorelark.neural.LayeredNetwork;
 import io.jshorelark.simulation.Config;
 import io.jshorelark.simulation.food.Food;
+import io.jshorelark.simulation.food.FoodGrid;
 import io.jshorelark.simulation.physics.Vector2D;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -95,6 +97,40 @@ class BirdTest {
     assertThat(brain.toChromosome().getGenes()).containsExactly(genes);
   }
 
+  @Test
+  void testBirdBrainKeepsStrategyGenes() {
+    // Given
+    float[] genes = new float[BirdBrain.weightCount(config) + 1];
+    for (int i = 0; i < genes.length; i++) {
+      genes[i] = i / 10.0f;
+    }
+
+    // When
+    BirdBrain brain = BirdBrain.fromChromosome(Chromosome.of(genes), config);
+
+    // Then
+    assertThat(BirdBrain.weightCount(config)).isEqualTo(14);
+    assertThat(brain.toChromosome().getGenes()).containsExactly(genes);
+  }
+
+  @Test
+  void testRespawnSharesBrain() {
+    // Given
+    BirdBrain brain = BirdBrain.random(random, config);
+    Bird bird = Bird.create(brain, new Vector2D(0.5f, 0.5f), config);
+    bird.processMovement();
+    bird.eat();
+
+    // When
+    Bird respawned = BirdIndividual.of(bird).toBird();
+
+    // Then
+    assertThat(respawned.getBrain()).isSameAs(brain);
+    assertThat(respawned.getPosition()).isEqualTo(bird.getPosition());
+    assertThat(respawned.getSatiation()).isZero();
+    assertThat(respawned.getDistanceTravelled()).isZero();
+  }
+
   @Test
   void testProcessInputs() {
     // Given
@@ -130,6 +166,49 @@ class BirdTest {
 
     // Then
     assertThat(bird.getPosition()).isNotEqualTo(position);
+    assertThat(bird.getDistanceTravelled()).isEqualTo(bird.getSpeed());
+  }
+
+  @Test
+  void testIndividualObjectives() {
+    // Given
+    BirdBrain brain = BirdBrain.random(random, config);
+    Bird bird = Bird.create(brain, new Vector2D(0.5f, 0.5f), config);
+    bird.processMovement();
+    bird.eat();
+
+    // When
+    float[] objectives = BirdIndividual.of(bird).getObjectives();
+
+    // Then
+    assertThat(objectives).containsExactly(1.0f, -bird.getDistanceTravelled());
+  }
+
+  @Test
+  void testGridVisionMatchesFullScan() {
+    // Given
+    Config defaults = Config.getDefault();
+    BirdEye eye = new BirdEye(defaults);
+    FoodGrid grid = FoodGrid.create(defaults);
+    List<Food> foods = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      Food food = Food.random(random);
+      foods.add(food);
+      grid.add(food.getPosition());
+    }
+
+    for (int i = 0; i < 50; i++) {
+      // When
+      Vector2D position = Vector2D.random(random);
+      float rotation = random.nextFloat() * (float) (2 * Math.PI);
+
+      // Then
+      float[] expected = eye.processVision(position, rotation, foods);
+      float[] actual = eye.processVision(position, rotation, foods, grid);
+      for (int cell = 0; cell < expected.length; cell++) {
+        assertThat(actual[cell]).isCloseTo(expected[cell], within(1e-5f));
+      }
+    }
   }
 
   @Test
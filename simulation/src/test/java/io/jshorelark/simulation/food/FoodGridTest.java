@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.simulation.food;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.simulation.Config;
+import io.jshorelark.simulation.physics.Vector2D;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FoodGrid")
+class FoodGridTest {
+  @Test
+  @DisplayName("returns every food within the radius, once")
+  void returnsFoodsWithinRadius() {
+    var random = new Random(42);
+    var grid = FoodGrid.create(Config.getDefault());
+    var foods = new ArrayList<Vector2D>();
+    for (int i = 0; i < 500; i++) {
+      foods.add(Vector2D.random(random));
+      assertThat(grid.add(foods.get(i))).isEqualTo(i);
+    }
+
+    for (int i = 0; i < 100; i++) {
+      // Include points on and just past the world's edges
+      var center = new Vector2D(random.nextFloat() * 1.2f - 0.1f, random.nextFloat() * 1.2f - 0.1f);
+      var candidates = candidates(grid, center, 0.25f);
+
+      assertThat(candidates).doesNotHaveDuplicates().containsAll(within(foods, center, 0.25f));
+      assertThat(candidates.size()).isLessThan(foods.size());
+    }
+  }
+
+  @Test
+  @DisplayName("finds foods at their new position once moved")
+  void movesFoods() {
+    var grid = FoodGrid.create(0.1f);
+    grid.add(new Vector2D(0.05f, 0.05f));
+    grid.add(new Vector2D(0.06f, 0.05f));
+    grid.add(new Vector2D(0.95f, 0.95f));
+
+    grid.move(0, new Vector2D(0.55f, 0.55f));
+
+    assertThat(candidates(grid, new Vector2D(0.55f, 0.55f), 0.01f)).containsExactly(0);
+    assertThat(candidates(grid, new Vector2D(0.05f, 0.05f), 0.01f)).containsExactly(1);
+    assertThat(grid.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("visits the foods of a cell by index, however they were added")
+  void visitsCellsByIndex() {
+    var grid = FoodGrid.create(0.5f);
+    for (int i = 0; i < 4; i++) {
+      grid.add(new Vector2D(0.9f, 0.9f));
+    }
+
+    grid.move(2, new Vector2D(0.1f, 0.1f));
+    grid.move(0, new Vector2D(0.1f, 0.1f));
+    grid.move(2, new Vector2D(0.9f, 0.9f));
+
+    assertThat(candidates(grid, new Vector2D(0.9f, 0.9f), 0.01f)).containsExactly(1, 2, 3);
+    assertThat(candidates(grid, new Vector2D(0.1f, 0.1f), 0.01f)).containsExactly(0);
+  }
+
+  @Test
+  @DisplayName("covers the whole world when the radius does")
+  void coversWholeWorld() {
+    var grid = FoodGrid.create(0.1f);
+    for (int i = 0; i < 10; i++) {
+      grid.add(new Vector2D(i / 10.0f, i / 10.0f));
+    }
+
+    assertThat(candidates(grid, new Vector2D(0.5f, 0.5f), 2.0f))
+        .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  @Test
+  @DisplayName("forgets every food when cleared")
+  void clears() {
+    var grid = FoodGrid.create(0.5f);
+    grid.add(new Vector2D(0.1f, 0.1f));
+
+    grid.clear();
+
+    assertThat(grid.size()).isZero();
+    assertThat(candidates(grid, new Vector2D(0.1f, 0.1f), 1.0f)).isEmpty();
+    assertThatThrownBy(() -> grid.move(0, Vector2D.zero()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("rejects cells that are not positive")
+  void rejectsInvalidCellSize() {
+    assertThatThrownBy(() -> FoodGrid.create(0.0f)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static List<Integer> candidates(FoodGrid grid, Vector2D center, float radius) {
+    var result = new ArrayList<Integer>();
+    grid.forEachNear(center, radius, result::add);
+    return result;
+  }
+
+  private static List<Integer> within(List<Vector2D> foods, Vector2D center, float radius) {
+    var result = new ArrayList<Integer>();
+    for (int i = 0; i < foods.size(); i++) {
+      if (foods.get(i).distance(center) <= radius) {
+        result.add(i);
+      }
+    }
+    return result;
+  }
+}
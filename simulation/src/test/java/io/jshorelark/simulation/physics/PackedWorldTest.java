@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025 JShorelark Contributors
+ *
+ * Licensed under the same terms as the original Shorelark project.
+ * See: https://github.com/patryk27/shorelark
+ */
+package io.jshorelark.simulation.physics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jshorelark.simulation.Config;
+import io.jshorelark.simulation.Simulation;
+import io.jshorelark.simulation.bird.Bird;
+import io.jshorelark.simulation.events.CollisionEvent;
+import io.jshorelark.simulation.food.Food;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PackedWorld")
+class PackedWorldTest {
+  private static final Config CONFIG = Config.builder().worldAnimals(20).worldFoods(200).build();
+
+  @Test
+  @DisplayName("simulates exactly like the object world")
+  void matchesObjectWorld() {
+    var objects = new Simulation(CONFIG, new Random(42));
+    var packed = new Simulation(CONFIG.withWorldPacked(true), new Random(42));
+    var objectEvents = new ArrayList<CollisionEvent>();
+    var packedEvents = new ArrayList<CollisionEvent>();
+    objects.getCollisionEvents().subscribe(objectEvents::add);
+    packed.getCollisionEvents().subscribe(packedEvents::add);
+    var objectRandom = new Random(7);
+    var packedRandom = new Random(7);
+
+    for (int tick = 0; tick < 300; tick++) {
+      objects.update(objectRandom);
+      packed.update(packedRandom);
+      if (tick % 100 == 99) {
+        // Reading the views in between must not disturb the packed world
+        assertSameWorld(packed, objects);
+      }
+    }
+
+    assertThat(packedEvents).isNotEmpty().isEqualTo(objectEvents);
+  }
+
+  @Test
+  @DisplayName("reads birds by index without storing the world")
+  void readsBirdsByIndex() {
+    var objects = new Simulation(CONFIG, new Random(42));
+    var packed = new Simulation(CONFIG.withWorldPacked(true), new Random(42));
+    var objectRandom = new Random(7);
+    var packedRandom = new Random(7);
+    var stale = packed.getBirds().get(0);
+    var start = stale.getPosition();
+
+    for (int tick = 0; tick < 50; tick++) {
+      objects.update(objectRandom);
+      packed.update(packedRandom);
+      assertThat(packed.getBirdCount()).isEqualTo(objects.getBirdCount());
+      for (int b = 0; b < objects.getBirdCount(); b++) {
+        assertThat(packed.getPosition(b)).isEqualTo(objects.getPosition(b));
+        assertThat(packed.getRotation(b)).isEqualTo(objects.getRotation(b));
+        assertThat(packed.getSatiation(b)).isEqualTo(objects.getSatiation(b));
+      }
+    }
+
+    assertThat(stale.getPosition()).isEqualTo(start);
+    assertThatThrownBy(() -> packed.getSatiation(CONFIG.getWorldAnimals()))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  @DisplayName("picks up changes made to the objects")
+  void picksUpObjectChanges() {
+    var objects = new Simulation(CONFIG, new Random(42));
+    var packed = new Simulation(CONFIG.withWorldPacked(true), new Random(42));
+    var random = new Random(7);
+    packed.update(new Random(7));
+    objects.update(new Random(7));
+
+    for (var simulation : List.of(objects, packed)) {
+      simulation.getBirds().get(0).setPosition(new Vector2D(0.5f, 0.5f));
+      simulation.clearFoods();
+      simulation.addFoods(10, new Random(3));
+      simulation.update(random);
+      random = new Random(7);
+    }
+
+    assertSameWorld(packed, objects);
+  }
+
+  @Test
+  @DisplayName("refuses to store into a world that changed shape")
+  void rejectsChangedWorld() {
+    var random = new Random(42);
+    var world = World.random(CONFIG, random);
+    var packed = PackedWorld.create(CONFIG);
+    packed.load(world);
+
+    world.addFood(Food.random(random));
+
+    assertThat(packed.birdCount()).isEqualTo(CONFIG.getWorldAnimals());
+    assertThat(packed.foodCount()).isEqualTo(CONFIG.getWorldFoods());
+    assertThatThrownBy(() -> packed.store(world)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void assertSameWorld(Simulation actual, Simulation expected) {
+    assertThat(actual.getFoods()).isEqualTo(expected.getFoods());
+    assertThat(actual.getBirds()).hasSameSizeAs(expected.getBirds());
+    for (int b = 0; b < expected.getBirds().size(); b++) {
+      Bird actualBird = actual.getBirds().get(b);
+      Bird expectedBird = expected.getBirds().get(b);
+      assertThat(actualBird.getPosition()).isEqualTo(expectedBird.getPosition());
+      assertThat(actualBird.getPreviousPosition()).isEqualTo(expectedBird.getPreviousPosition());
+      assertThat(actualBird.getRotation()).isEqualTo(expectedBird.getRotation());
+      assertThat(actualBird.getSpeed()).isEqualTo(expectedBird.getSpeed());
+      assertThat(actualBird.getSatiation()).isEqualTo(expectedBird.getSatiation());
+      assertThat(actualBird.getDistanceTravelled()).isEqualTo(expectedBird.getDistanceTravelled());
+      assertThat(actualBird.getVision()).isEqualTo(expectedBird.getVision());
+    }
+  }
+}